@@ -5,6 +5,8 @@
  */
 package io.debezium.connector.oracle;
 
+import java.util.List;
+
 import io.debezium.data.Envelope.Operation;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.relational.RelationalChangeRecordEmitter;
@@ -17,10 +19,19 @@ import io.debezium.util.Clock;
 public abstract class BaseChangeRecordEmitter<T> extends RelationalChangeRecordEmitter {
 
     protected final Table table;
+    private final ColumnPositionIndex columnPositionIndex;
 
     protected BaseChangeRecordEmitter(OffsetContext offset, Table table, Clock clock) {
+        this(offset, table, null, clock);
+    }
+
+    /**
+     * @param columnPositionIndex the column positions of the table, {@code null} to look up columns by name
+     */
+    protected BaseChangeRecordEmitter(OffsetContext offset, Table table, ColumnPositionIndex columnPositionIndex, Clock clock) {
         super(offset, clock);
         this.table = table;
+        this.columnPositionIndex = columnPositionIndex;
     }
 
     abstract protected Operation getOperation();
@@ -33,10 +44,30 @@ public abstract class BaseChangeRecordEmitter<T> extends RelationalChangeRecordE
         Object[] values = new Object[table.columns().size()];
 
         for (T columnValue : columnValues) {
-            int index = table.columnWithName(getColumnName(columnValue)).position() - 1;
-            values[index] = getColumnData(columnValue);
+            values[getPosition(getColumnName(columnValue))] = getColumnData(columnValue);
         }
 
         return values;
     }
+
+    protected Object[] getColumnValues(List<T> columnValues) {
+        Object[] values = new Object[table.columns().size()];
+
+        for (int i = 0; i < columnValues.size(); i++) {
+            T columnValue = columnValues.get(i);
+            values[getPosition(getColumnName(columnValue))] = getColumnData(columnValue);
+        }
+
+        return values;
+    }
+
+    private int getPosition(String columnName) {
+        if (columnPositionIndex != null) {
+            int position = columnPositionIndex.positionOf(columnName);
+            if (position >= 0) {
+                return position;
+            }
+        }
+        return table.columnWithName(columnName).position() - 1;
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle;
+
+import java.util.List;
+
+import io.debezium.annotation.Immutable;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+
+/**
+ * Resolves the names of the columns of a single version of a {@link Table} to their zero-based positions.
+ *
+ * Names are kept in an open-addressing hash table of parallel arrays, so that a lookup only compares
+ * the name with the few candidates sharing its slot, and names handed out by the parsers, which are usually
+ * the very instances the index was built from or share their cached hash, rarely need a full comparison.
+ * Names that are not found as given, e.g. because they differ in case, are resolved through the table.
+ * Parsers may also look up a name directly from its region of a statement, without copying it first.
+ */
+@Immutable
+public final class ColumnPositionIndex {
+
+    private final Table table;
+    private final String[] columnNames;
+    private final String[] names;
+    private final int[] positions;
+    private final int mask;
+
+    public ColumnPositionIndex(Table table) {
+        this.table = table;
+
+        final List<Column> columns = table.columns();
+        this.columnNames = new String[columns.size()];
+        int capacity = Integer.highestOneBit(Math.max(columns.size(), 1) * 2 - 1) << 1;
+        this.names = new String[capacity];
+        this.positions = new int[capacity];
+        this.mask = capacity - 1;
+
+        for (Column column : columns) {
+            int slot = column.name().hashCode() & mask;
+            while (names[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            names[slot] = column.name();
+            positions[slot] = column.position() - 1;
+            columnNames[column.position() - 1] = column.name();
+        }
+    }
+
+    /**
+     * @return the table version this index was built for
+     */
+    public Table getTable() {
+        return table;
+    }
+
+    /**
+     * @return the number of columns of the table
+     */
+    public int size() {
+        return columnNames.length;
+    }
+
+    /**
+     * @param position the zero-based position of a column
+     * @return the name of the column
+     */
+    public String nameAt(int position) {
+        return columnNames[position];
+    }
+
+    /**
+     * Returns the zero-based position of a column.
+     *
+     * @param columnName the column name
+     * @return the position of the column, or {@code -1} if the table has no such column
+     */
+    public int positionOf(String columnName) {
+        int slot = columnName.hashCode() & mask;
+        String name;
+        while ((name = names[slot]) != null) {
+            if (name == columnName || name.equals(columnName)) {
+                return positions[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        final Column column = table.columnWithName(columnName);
+        return column != null ? column.position() - 1 : -1;
+    }
+
+    /**
+     * Returns the zero-based position of the column whose name is the given region of a string.
+     *
+     * @param source the string containing the column name, e.g. a SQL statement
+     * @param start the start index of the name, inclusive
+     * @param end the end index of the name, exclusive
+     * @return the position of the column, or {@code -1} if the table has no such column
+     */
+    public int positionOf(String source, int start, int end) {
+        // the same hash as String#hashCode of the region
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+
+        int slot = hash & mask;
+        String name;
+        while ((name = names[slot]) != null) {
+            if (name.length() == end - start && source.startsWith(name, start)) {
+                return positions[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        final Column column = table.columnWithName(source.substring(start, end));
+        return column != null ? column.position() - 1 : -1;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+
+/**
+ * Keeps the {@link ColumnPositionIndex} of each table. An index is only reused for the very table version
+ * it was built for, so a changed table never sees stale positions, even if the cache is not told about the change.
+ */
+@ThreadSafe
+public final class ColumnPositionIndexCache {
+
+    private final ConcurrentMap<TableId, ColumnPositionIndex> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the index of the column positions of the given table, building it on first use.
+     *
+     * @param table the table, may be {@code null}
+     * @return the column position index, {@code null} if the table is {@code null}
+     */
+    public ColumnPositionIndex get(Table table) {
+        if (table == null) {
+            return null;
+        }
+        ColumnPositionIndex index = indexes.get(table.id());
+        if (index == null || index.getTable() != table) {
+            index = new ColumnPositionIndex(table);
+            indexes.put(table.id(), index);
+        }
+        return index;
+    }
+
+    /**
+     * Drops the index of the given table.
+     *
+     * @param tableId the table identifier
+     */
+    public void remove(TableId tableId) {
+        indexes.remove(tableId);
+    }
+}
@@ -6,6 +6,7 @@
 package io.debezium.connector.oracle;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -19,7 +20,10 @@ import org.slf4j.LoggerFactory;
 
 import io.debezium.config.Configuration;
 import io.debezium.connector.common.RelationalBaseSourceConnector;
+import io.debezium.connector.oracle.logminer.TableIncludeListPartitioner;
 import io.debezium.relational.RelationalDatabaseConnectorConfig;
+import io.debezium.relational.history.FileDatabaseHistory;
+import io.debezium.relational.history.KafkaDatabaseHistory;
 
 public class OracleConnector extends RelationalBaseSourceConnector {
 
@@ -42,13 +46,54 @@ public class OracleConnector extends RelationalBaseSourceConnector {
         return OracleConnectorTask.class;
     }
 
+    /**
+     * Returns the configuration of a single task, unless multiple tasks are allowed and the connector uses LogMiner:
+     * the tables are then assigned to as many partitions as tasks are allowed, see {@link TableIncludeListPartitioner},
+     * and a task is started for each partition with tables.
+     *
+     * Each task runs its own LogMiner session over the tables of its partition and keeps its own offsets and schema
+     * history. A transaction spanning tables of several partitions is emitted by each of their tasks, each with the
+     * changes of its own tables and the same transaction id and commit SCN; the changes of different partitions are
+     * neither ordered nor committed atomically with respect to each other.
+     *
+     * The number of partitions is kept with the offsets, a task fails on start if it changed, as the tables would have
+     * moved to other partitions than their offsets and schema history. Likewise, a task fails on start if its
+     * partition has no offsets yet while offsets of the connector running as a single task exist: the partitions
+     * neither resume from those offsets nor from the schema history of the single task. Changing the number of tasks
+     * therefore requires a new snapshot, e.g. under another logical server name.
+     */
     @Override
     public List<Map<String, String>> taskConfigs(int maxTasks) {
-        if (maxTasks > 1) {
-            throw new IllegalArgumentException("Only a single connector task may be started");
+        if (maxTasks == 1) {
+            return Collections.singletonList(properties);
         }
 
-        return Collections.singletonList(properties);
+        final OracleConnectorConfig connectorConfig = new OracleConnectorConfig(Configuration.from(properties));
+        if (connectorConfig.getAdapter() != OracleConnectorConfig.ConnectorAdapter.LOG_MINER) {
+            throw new IllegalArgumentException("Only a single connector task may be started with the " + connectorConfig.getAdapter().getValue()
+                    + " adapter");
+        }
+
+        final Map<Integer, String> includeLists = TableIncludeListPartitioner.partition(connectorConfig.tableIncludeList(), maxTasks);
+        LOGGER.info("Partitioning the table include list into {} partitions, {} of which have tables: {}", maxTasks, includeLists.size(),
+                includeLists);
+
+        final List<Map<String, String>> taskConfigs = new ArrayList<>(includeLists.size());
+        for (Map.Entry<Integer, String> includeList : includeLists.entrySet()) {
+            final int partition = includeList.getKey();
+            final Map<String, String> taskConfig = new HashMap<>(properties);
+            taskConfig.remove(RelationalDatabaseConnectorConfig.TABLE_WHITELIST.name());
+            taskConfig.put(RelationalDatabaseConnectorConfig.TABLE_INCLUDE_LIST.name(), includeList.getValue());
+            taskConfig.put(OracleConnectorConfig.LOG_MINING_TABLE_PARTITION.name(), String.valueOf(partition));
+            taskConfig.put(OracleConnectorConfig.LOG_MINING_TABLE_PARTITIONS.name(), String.valueOf(maxTasks));
+            // the schema history of a task only is consistent with its own offsets, and files are written by one task only
+            taskConfig.computeIfPresent(KafkaDatabaseHistory.TOPIC.name(), (key, topic) -> topic + "-" + partition);
+            taskConfig.computeIfPresent(FileDatabaseHistory.FILE_PATH.name(), (key, path) -> path + "-" + partition);
+            taskConfig.computeIfPresent(OracleConnectorConfig.LOG_MINING_HISTORY_RECORDER_FILE_DIRECTORY.name(), (key, path) -> path + "-" + partition);
+            taskConfig.computeIfPresent(OracleConnectorConfig.LOG_MINING_RESULT_CAPTURE_FILE.name(), (key, path) -> path + "-" + partition);
+            taskConfigs.add(Collections.unmodifiableMap(taskConfig));
+        }
+        return taskConfigs;
     }
 
     @Override
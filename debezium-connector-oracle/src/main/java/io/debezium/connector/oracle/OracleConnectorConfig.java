@@ -62,8 +62,27 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
     protected final static Duration MIN_SLEEP_TIME = Duration.ZERO;
     protected final static Duration SLEEP_TIME_INCREMENT = Duration.ofMillis(200);
 
+    protected final static Duration DEFAULT_BATCH_TARGET_DURATION = Duration.ofMillis(1_000);
+    protected final static int DEFAULT_BATCH_TARGET_ROWS = 10_000;
+
+    protected final static long DEFAULT_SESSION_MAX_PGA = 1024L * 1024 * 1024;
+
+    protected final static int DEFAULT_HISTORY_RECORDER_QUEUE_SIZE = 100_000;
+    protected final static int DEFAULT_HISTORY_RECORDER_BATCH_SIZE = 1_000;
+    protected final static Duration DEFAULT_HISTORY_RECORDER_OVERFLOW_WAIT = Duration.ofMillis(100);
+    protected final static Duration DEFAULT_RAC_FLUSH_TIMEOUT = Duration.ofSeconds(3);
+    protected final static int DEFAULT_HISTORY_RECORDER_FILE_SEGMENT_SIZE = 64 * 1024 * 1024;
+
     protected final static Duration DEFAULT_TRANSACTION_RETENTION = Duration.ofHours(4);
 
+    protected final static long DEFAULT_BUFFER_TRANSACTION_MEMORY_THRESHOLD = 64L * 1024 * 1024;
+    protected final static long DEFAULT_BUFFER_MEMORY_THRESHOLD = 256L * 1024 * 1024;
+
+    protected final static int DEFAULT_PIPELINE_QUEUE_SIZE = 1024;
+
+    protected final static long DEFAULT_REDO_SQL_MAX_SIZE = 16L * 1024 * 1024;
+    protected final static int DEFAULT_DML_PARSER_THREADS = 1;
+
     public static final Field PORT = RelationalDatabaseConnectorConfig.PORT
             .withDefault(DEFAULT_PORT);
 
@@ -160,6 +179,63 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withDefault(0)
             .withDescription("Hours to keep Log Mining history.  By default, no history is retained.");
 
+    public static final Field LOG_MINING_HISTORY_RECORDER_QUEUE_SIZE = Field.create("log.mining.history.recorder.queue.size")
+            .withDisplayName("Log Mining history recorder queue size")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_HISTORY_RECORDER_QUEUE_SIZE)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of LogMiner entries a buffered history recorder holds while they are waiting to be written. "
+                    + "When the queue is full, the overflow policy applies.");
+
+    public static final Field LOG_MINING_HISTORY_RECORDER_BATCH_SIZE = Field.create("log.mining.history.recorder.batch.size")
+            .withDisplayName("Log Mining history recorder batch size")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_HISTORY_RECORDER_BATCH_SIZE)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of LogMiner entries a buffered history recorder writes to the history tables in a single JDBC batch.");
+
+    public static final Field LOG_MINING_HISTORY_RECORDER_OVERFLOW_POLICY = Field.create("log.mining.history.recorder.overflow.policy")
+            .withDisplayName("Log Mining history recorder overflow policy")
+            .withEnum(LogMiningHistoryOverflowPolicy.class, LogMiningHistoryOverflowPolicy.DROP_NEWEST)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("What a buffered history recorder does with a LogMiner entry when its queue is full. "
+                    + "Options include: "
+                    + "'drop_newest' (the default) to discard the new entry; "
+                    + "'drop_oldest' to discard the oldest queued entry in favor of the new one; "
+                    + "'wait' to wait up to 'log.mining.history.recorder.overflow.wait.ms' for the queue to drain before discarding the new entry.");
+
+    public static final Field LOG_MINING_HISTORY_RECORDER_OVERFLOW_WAIT_MS = Field.create("log.mining.history.recorder.overflow.wait.ms")
+            .withDisplayName("Log Mining history recorder overflow wait in milliseconds")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_HISTORY_RECORDER_OVERFLOW_WAIT.toMillis())
+            .withValidation(Field::isNonNegativeInteger)
+            .withDescription("The maximum time in milliseconds the 'wait' overflow policy delays the mining loop for a single LogMiner entry.");
+
+    public static final Field LOG_MINING_HISTORY_RECORDER_FILE_DIRECTORY = Field.create("log.mining.history.recorder.file.directory")
+            .withDisplayName("Log Mining history recorder file directory")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("The directory on the connector host the file history recorder writes the LogMiner history segments to. "
+                    + "Required when 'log.mining.history.recorder.class' is the file history recorder.");
+
+    public static final Field LOG_MINING_HISTORY_RECORDER_FILE_SEGMENT_SIZE = Field.create("log.mining.history.recorder.file.segment.size.bytes")
+            .withDisplayName("Log Mining history recorder file segment size in bytes")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_HISTORY_RECORDER_FILE_SEGMENT_SIZE)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The size in bytes of each LogMiner history segment file written by the file history recorder. "
+                    + "A new segment is started when the current one is full.");
+
     public static final Field LOG_MINING_TRANSACTION_RETENTION = Field.create("log.mining.transaction.retention.hours")
             .withDisplayName("Log Mining long running transaction retention")
             .withType(Type.LONG)
@@ -184,6 +260,16 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withImportance(Importance.HIGH)
             .withDescription("A comma-separated list of RAC node hostnames or ip addresses");
 
+    public static final Field RAC_FLUSH_TIMEOUT_MS = Field.create("rac.flush.timeout.ms")
+            .withDisplayName("Oracle RAC log writer flush timeout in milliseconds")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_RAC_FLUSH_TIMEOUT.toMillis())
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The maximum time in milliseconds the log writer buffer of a single RAC node may take to flush. "
+                    + "A node not flushed within this time is reconnected in the background.");
+
     public static final Field URL = Field.create(DATABASE_CONFIG_PREFIX + "url")
             .withDisplayName("Complete JDBC URL")
             .withType(Type.STRING)
@@ -193,6 +279,37 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withDescription("Complete JDBC URL as an alternative to specifying hostname, port and database provided "
                     + "as a way to support alternative connection scenarios.");
 
+    public static final Field LOG_MINING_REDO_SQL_MAX_SIZE = Field.create("log.mining.redo.sql.max.size.bytes")
+            .withDisplayName("Maximum size of the redo SQL of a single operation")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_REDO_SQL_MAX_SIZE)
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The maximum memory in bytes the redo SQL of a single operation may take when it is assembled from " +
+                    "several LogMiner rows, e.g. for large LOB values. Longer redo SQL is truncated and a warning is logged.");
+
+    public static final Field LOG_MINING_QUERY_MODE = Field.create("log.mining.query.mode")
+            .withDisplayName("Log Mining query mode")
+            .withEnum(LogMiningQueryMode.class, LogMiningQueryMode.FULL)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The columns the LogMiner query fetches:" +
+                    "'full': all columns of the LogMiner rows; " +
+                    "'minimal': only the columns used for processing, the redo SQL of rows other than DML and DDL and the " +
+                    "operation and user name, which are only logged, are not fetched. This reduces the data transferred from the database.");
+
+    public static final Field LOG_MINING_FLUSH_STRATEGY = Field.create("log.mining.flush.strategy")
+            .withDisplayName("Log Mining log writer flush strategy")
+            .withEnum(LogMiningFlushStrategy.class, LogMiningFlushStrategy.ALWAYS)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("How the log writer buffer is flushed before each LogMiner query: " +
+                    "'always': the current SCN is read and the buffer is flushed before each query; " +
+                    "'adaptive': the current SCN is read and the buffer is flushed in a single round trip, and the flush is skipped " +
+                    "when the previous query returned no changes other than the commit of the flush itself and no SCN was allocated " +
+                    "since the last flush. Not skipped on RAC.");
+
     public static final Field LOG_MINING_DML_PARSER = Field.createInternal("log.mining.dml.parser")
             .withDisplayName("Log Mining DML parser implementation")
             .withEnum(LogMiningDmlParser.class, LogMiningDmlParser.FAST)
@@ -200,7 +317,8 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withImportance(Importance.LOW)
             .withDescription("The parser implementation to use when parsing DML operations:" +
                     "'legacy': the legacy parser implementation based on JSqlParser; " +
-                    "'fast': the robust parser implementation that is streamlined specifically for LogMiner redo format");
+                    "'fast': the robust parser implementation that is streamlined specifically for LogMiner redo format; " +
+                    "'lazy': a variant of the fast parser that records offsets into the redo SQL and only copies values when they are used");
 
     public static final Field LOG_MINING_ARCHIVE_LOG_HOURS = Field.create("log.mining.archive.log.hours")
             .withDisplayName("Log Mining Archive Log Hours")
@@ -279,6 +397,171 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
             .withDescription(
                     "The maximum amount of time that the connector will use to tune the optimal sleep time when reading data from LogMiner. Value is in milliseconds.");
 
+    public static final Field LOG_MINING_BATCH_SIZE_ADAPTIVE = Field.create("log.mining.batch.size.adaptive")
+            .withDisplayName("Size the mining window from observed load")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("When enabled, the SCN interval and the sleep time of each mining query are derived from the rows per SCN " +
+                    "and the time per row observed in previous queries, so that each query returns about the target number of rows " +
+                    "within the target duration, rather than being changed by fixed increments.");
+
+    public static final Field LOG_MINING_BATCH_TARGET_DURATION_MS = Field.create("log.mining.batch.target.duration.ms")
+            .withDisplayName("Target duration of a mining query in milliseconds")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_BATCH_TARGET_DURATION.toMillis())
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The time fetching and processing the results of a single mining query should take, and the interval " +
+                    "between queries once the connector has caught up. Only used when the batch size is adaptive.");
+
+    public static final Field LOG_MINING_BATCH_TARGET_ROWS = Field.create("log.mining.batch.target.rows")
+            .withDisplayName("Target number of rows of a mining query")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_BATCH_TARGET_ROWS)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of rows a single mining query should return. Only used when the batch size is adaptive.");
+
+    public static final Field LOG_MINING_SESSION_REUSE = Field.create("log.mining.session.reuse")
+            .withDisplayName("Reuse the LogMiner session across mining queries")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("When enabled, a LogMiner session is started up to the SCN last flushed to the redo logs and is " +
+                    "reused by the mining queries within that SCN, rather than being started for each mining query. The session is " +
+                    "restarted once a query passes its end SCN, a log switch occurs or its PGA memory exceeds the limit. " +
+                    "This only saves session starts while the connector catches up with redo written before the session was " +
+                    "started, e.g. after a restart or a burst of changes larger than the batch size; once caught up, each query " +
+                    "passes the end SCN of the previous session and a session is started for each query as without reuse. " +
+                    "Not used with continuous mining.");
+
+    public static final Field LOG_MINING_SESSION_MAX_PGA = Field.create("log.mining.session.max.pga.bytes")
+            .withDisplayName("PGA memory limit of a reused LogMiner session")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_SESSION_MAX_PGA)
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The number of bytes of PGA memory the connector's database session may use before a reused LogMiner " +
+                    "session is restarted. Only used when LogMiner sessions are reused or kept across log switches.");
+
+    public static final Field LOG_MINING_LOG_FILES_INCREMENTAL = Field.create("log.mining.log.files.incremental")
+            .withDisplayName("Update the LogMiner log files incrementally on log switches")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("When enabled, the LogMiner session is kept on a log switch and only the log files that changed are " +
+                    "added to or removed from it, rather than ending the session and adding all log files again. The session is " +
+                    "then restarted when its PGA memory exceeds 'log.mining.session.max.pga.bytes'. Not used with continuous mining.");
+
+    public static final Field LOG_MINING_BUFFER_SPILL_ENABLED = Field.create("log.mining.buffer.spill.enabled")
+            .withDisplayName("Spill large transactions to disk")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("When enabled, the DML events of uncommitted transactions are written to local segment files once a single " +
+                    "transaction or the whole transactional buffer exceeds its memory threshold, so that very large transactions " +
+                    "do not exhaust the heap. Not supported with the legacy DML parser. Segment files left behind by a previous run " +
+                    "of the connector are deleted when it starts.");
+
+    public static final Field LOG_MINING_BUFFER_SPILL_DIRECTORY = Field.create("log.mining.buffer.spill.directory")
+            .withDisplayName("Directory for spilled transactions")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("The local directory where spilled transaction segment files are written. " +
+                    "Defaults to the JVM temporary directory.");
+
+    public static final Field LOG_MINING_BUFFER_TRANSACTION_MEMORY_THRESHOLD = Field.create("log.mining.buffer.transaction.memory.threshold.bytes")
+            .withDisplayName("Memory threshold of a single buffered transaction")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_BUFFER_TRANSACTION_MEMORY_THRESHOLD)
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The number of bytes the encoded events of a single transaction may occupy in the transactional buffer " +
+                    "before they are spilled to disk. Only used when spilling is enabled.");
+
+    public static final Field LOG_MINING_BUFFER_MEMORY_THRESHOLD = Field.create("log.mining.buffer.memory.threshold.bytes")
+            .withDisplayName("Memory threshold of the transactional buffer")
+            .withType(Type.LONG)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_BUFFER_MEMORY_THRESHOLD)
+            .withValidation(Field::isPositiveLong)
+            .withDescription("The number of bytes the encoded events of all buffered transactions may occupy before the largest " +
+                    "transactions are spilled to disk. Only used when spilling is enabled.");
+
+    public static final Field LOG_MINING_PIPELINE_ENABLED = Field.create("log.mining.pipeline.enabled")
+            .withDisplayName("Pipeline LogMiner result processing")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("When enabled, fetching rows from the LogMiner view and parsing their redo SQL run on dedicated threads, " +
+                    "overlapping with the buffering and dispatching of events. Rows are still processed in the order they are fetched.");
+
+    public static final Field LOG_MINING_PIPELINE_QUEUE_SIZE = Field.create("log.mining.pipeline.queue.size")
+            .withDisplayName("Queue size between LogMiner pipeline stages")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_PIPELINE_QUEUE_SIZE)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The maximum number of rows each stage of the LogMiner pipeline may hold before waiting for the next stage. " +
+                    "Only used when the pipeline is enabled.");
+
+    public static final Field LOG_MINING_DML_PARSER_THREADS = Field.create("log.mining.dml.parser.threads")
+            .withDisplayName("Number of DML parser threads")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(DEFAULT_DML_PARSER_THREADS)
+            .withValidation(Field::isPositiveInteger)
+            .withDescription("The number of threads parsing the redo SQL of DML operations. With more than one thread, LogMiner " +
+                    "results are processed by the pipeline and parsed operations are reassembled in their original order before " +
+                    "they are buffered.");
+
+    public static final Field LOG_MINING_DML_PARSER_DEFERRED = Field.create("log.mining.dml.parser.deferred")
+            .withDisplayName("Defer parsing of DML until commit")
+            .withType(Type.BOOLEAN)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDefault(false)
+            .withDescription("When enabled, the redo SQL of DML operations is buffered unparsed and only parsed when its transaction " +
+                    "commits, so that no parsing is spent on transactions that are rolled back or abandoned.");
+
+    public static final Field LOG_MINING_RESULT_CAPTURE_FILE = Field.createInternal("log.mining.result.capture.file")
+            .withDisplayName("File capturing LogMiner results")
+            .withType(Type.STRING)
+            .withWidth(Width.LONG)
+            .withImportance(Importance.LOW)
+            .withDescription("When set, every row read from the LogMiner view is also written to this local file, which is " +
+                    "overwritten on start. The capture can be replayed without a database, e.g. to reproduce a slowdown in a benchmark.");
+
+    public static final Field LOG_MINING_TABLE_PARTITION = Field.createInternal("log.mining.table.partition")
+            .withDisplayName("Table partition of the task")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The index of the partition of the table include list captured by the task, set by the connector " +
+                    "when the tables are partitioned across multiple tasks. Each partition keeps its own offsets and schema history.");
+
+    public static final Field LOG_MINING_TABLE_PARTITIONS = Field.createInternal("log.mining.table.partitions")
+            .withDisplayName("Number of table partitions")
+            .withType(Type.INT)
+            .withWidth(Width.SHORT)
+            .withImportance(Importance.LOW)
+            .withDescription("The number of partitions the tables are assigned to by the hash of their names, set by the " +
+                    "connector when the tables are partitioned across multiple tasks. It is kept with the offsets of each partition.");
+
     private static final ConfigDefinition CONFIG_DEFINITION = HistorizedRelationalDatabaseConnectorConfig.CONFIG_DEFINITION.edit()
             .name("Oracle")
             .excluding(
@@ -307,8 +590,15 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     SNAPSHOT_ENHANCEMENT_TOKEN,
                     RAC_SYSTEM,
                     RAC_NODES,
+                    RAC_FLUSH_TIMEOUT_MS,
                     LOG_MINING_HISTORY_RECORDER_CLASS,
                     LOG_MINING_HISTORY_RETENTION,
+                    LOG_MINING_HISTORY_RECORDER_QUEUE_SIZE,
+                    LOG_MINING_HISTORY_RECORDER_BATCH_SIZE,
+                    LOG_MINING_HISTORY_RECORDER_OVERFLOW_POLICY,
+                    LOG_MINING_HISTORY_RECORDER_OVERFLOW_WAIT_MS,
+                    LOG_MINING_HISTORY_RECORDER_FILE_DIRECTORY,
+                    LOG_MINING_HISTORY_RECORDER_FILE_SEGMENT_SIZE,
                     LOG_MINING_ARCHIVE_LOG_HOURS,
                     LOG_MINING_BATCH_SIZE_DEFAULT,
                     LOG_MINING_BATCH_SIZE_MIN,
@@ -317,8 +607,28 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
                     LOG_MINING_SLEEP_TIME_MIN_MS,
                     LOG_MINING_SLEEP_TIME_MAX_MS,
                     LOG_MINING_SLEEP_TIME_INCREMENT_MS,
+                    LOG_MINING_BATCH_SIZE_ADAPTIVE,
+                    LOG_MINING_BATCH_TARGET_DURATION_MS,
+                    LOG_MINING_BATCH_TARGET_ROWS,
                     LOG_MINING_TRANSACTION_RETENTION,
-                    LOG_MINING_DML_PARSER)
+                    LOG_MINING_SESSION_REUSE,
+                    LOG_MINING_SESSION_MAX_PGA,
+                    LOG_MINING_LOG_FILES_INCREMENTAL,
+                    LOG_MINING_REDO_SQL_MAX_SIZE,
+                    LOG_MINING_QUERY_MODE,
+                    LOG_MINING_FLUSH_STRATEGY,
+                    LOG_MINING_DML_PARSER,
+                    LOG_MINING_BUFFER_SPILL_ENABLED,
+                    LOG_MINING_BUFFER_SPILL_DIRECTORY,
+                    LOG_MINING_BUFFER_TRANSACTION_MEMORY_THRESHOLD,
+                    LOG_MINING_BUFFER_MEMORY_THRESHOLD,
+                    LOG_MINING_PIPELINE_ENABLED,
+                    LOG_MINING_PIPELINE_QUEUE_SIZE,
+                    LOG_MINING_DML_PARSER_THREADS,
+                    LOG_MINING_DML_PARSER_DEFERRED,
+                    LOG_MINING_RESULT_CAPTURE_FILE,
+                    LOG_MINING_TABLE_PARTITION,
+                    LOG_MINING_TABLE_PARTITIONS)
             .create();
 
     /**
@@ -349,7 +659,14 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
     // LogMiner options
     private final LogMiningStrategy logMiningStrategy;
     private final long logMiningHistoryRetentionHours;
+    private final int logMiningHistoryRecorderQueueSize;
+    private final int logMiningHistoryRecorderBatchSize;
+    private final LogMiningHistoryOverflowPolicy logMiningHistoryRecorderOverflowPolicy;
+    private final Duration logMiningHistoryRecorderOverflowWait;
+    private final String logMiningHistoryRecorderFileDirectory;
+    private final int logMiningHistoryRecorderFileSegmentSize;
     private final Set<String> racNodes;
+    private final Duration racFlushTimeout;
     private final boolean logMiningContinuousMine;
     private final Duration logMiningArchiveLogRetention;
     private final int logMiningBatchSizeMin;
@@ -360,8 +677,28 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
     private final Duration logMiningSleepTimeMax;
     private final Duration logMiningSleepTimeDefault;
     private final Duration logMiningSleepTimeIncrement;
+    private final boolean logMiningBatchSizeAdaptive;
+    private final Duration logMiningBatchTargetDuration;
+    private final int logMiningBatchTargetRows;
     private final Duration logMiningTransactionRetention;
+    private final boolean logMiningSessionReuse;
+    private final long logMiningSessionMaxPga;
+    private final boolean logMiningLogFilesIncremental;
     private final LogMiningDmlParser dmlParser;
+    private final boolean logMiningBufferSpillEnabled;
+    private final String logMiningBufferSpillDirectory;
+    private final long logMiningBufferTransactionMemoryThreshold;
+    private final long logMiningBufferMemoryThreshold;
+    private final boolean logMiningPipelineEnabled;
+    private final int logMiningPipelineQueueSize;
+    private final long logMiningRedoSqlMaxSize;
+    private final LogMiningQueryMode logMiningQueryMode;
+    private final LogMiningFlushStrategy logMiningFlushStrategy;
+    private final int logMiningDmlParserThreads;
+    private final boolean logMiningDmlParserDeferred;
+    private final String logMiningResultCaptureFile;
+    private final Integer logMiningTablePartition;
+    private final Integer logMiningTablePartitions;
 
     public OracleConnectorConfig(Configuration config) {
         super(OracleConnector.class, config, config.getString(SERVER_NAME), new SystemTablesPredicate(config), x -> x.schema() + "." + x.table(), true);
@@ -380,7 +717,14 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
         this.connectorAdapter = ConnectorAdapter.parse(config.getString(CONNECTOR_ADAPTER));
         this.logMiningStrategy = LogMiningStrategy.parse(config.getString(LOG_MINING_STRATEGY));
         this.logMiningHistoryRetentionHours = config.getLong(LOG_MINING_HISTORY_RETENTION);
+        this.logMiningHistoryRecorderQueueSize = config.getInteger(LOG_MINING_HISTORY_RECORDER_QUEUE_SIZE);
+        this.logMiningHistoryRecorderBatchSize = config.getInteger(LOG_MINING_HISTORY_RECORDER_BATCH_SIZE);
+        this.logMiningHistoryRecorderOverflowPolicy = LogMiningHistoryOverflowPolicy.parse(config.getString(LOG_MINING_HISTORY_RECORDER_OVERFLOW_POLICY));
+        this.logMiningHistoryRecorderOverflowWait = Duration.ofMillis(config.getLong(LOG_MINING_HISTORY_RECORDER_OVERFLOW_WAIT_MS));
+        this.logMiningHistoryRecorderFileDirectory = config.getString(LOG_MINING_HISTORY_RECORDER_FILE_DIRECTORY);
+        this.logMiningHistoryRecorderFileSegmentSize = config.getInteger(LOG_MINING_HISTORY_RECORDER_FILE_SEGMENT_SIZE);
         this.racNodes = Strings.setOf(config.getString(RAC_NODES), String::new);
+        this.racFlushTimeout = Duration.ofMillis(config.getLong(RAC_FLUSH_TIMEOUT_MS));
         this.logMiningContinuousMine = config.getBoolean(CONTINUOUS_MINE);
         this.logMiningArchiveLogRetention = Duration.ofHours(config.getLong(LOG_MINING_ARCHIVE_LOG_HOURS));
         this.logMiningBatchSizeMin = config.getInteger(LOG_MINING_BATCH_SIZE_MIN);
@@ -391,8 +735,28 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
         this.logMiningSleepTimeMax = Duration.ofMillis(config.getInteger(LOG_MINING_SLEEP_TIME_MAX_MS));
         this.logMiningSleepTimeDefault = Duration.ofMillis(config.getInteger(LOG_MINING_SLEEP_TIME_DEFAULT_MS));
         this.logMiningSleepTimeIncrement = Duration.ofMillis(config.getInteger(LOG_MINING_SLEEP_TIME_INCREMENT_MS));
+        this.logMiningBatchSizeAdaptive = config.getBoolean(LOG_MINING_BATCH_SIZE_ADAPTIVE);
+        this.logMiningBatchTargetDuration = Duration.ofMillis(config.getLong(LOG_MINING_BATCH_TARGET_DURATION_MS));
+        this.logMiningBatchTargetRows = config.getInteger(LOG_MINING_BATCH_TARGET_ROWS);
         this.logMiningTransactionRetention = Duration.ofHours(config.getInteger(LOG_MINING_TRANSACTION_RETENTION));
+        this.logMiningSessionReuse = config.getBoolean(LOG_MINING_SESSION_REUSE);
+        this.logMiningSessionMaxPga = config.getLong(LOG_MINING_SESSION_MAX_PGA);
+        this.logMiningLogFilesIncremental = config.getBoolean(LOG_MINING_LOG_FILES_INCREMENTAL);
         this.dmlParser = LogMiningDmlParser.parse(config.getString(LOG_MINING_DML_PARSER));
+        this.logMiningBufferSpillEnabled = config.getBoolean(LOG_MINING_BUFFER_SPILL_ENABLED);
+        this.logMiningBufferSpillDirectory = config.getString(LOG_MINING_BUFFER_SPILL_DIRECTORY, System.getProperty("java.io.tmpdir"));
+        this.logMiningBufferTransactionMemoryThreshold = config.getLong(LOG_MINING_BUFFER_TRANSACTION_MEMORY_THRESHOLD);
+        this.logMiningBufferMemoryThreshold = config.getLong(LOG_MINING_BUFFER_MEMORY_THRESHOLD);
+        this.logMiningPipelineEnabled = config.getBoolean(LOG_MINING_PIPELINE_ENABLED);
+        this.logMiningPipelineQueueSize = config.getInteger(LOG_MINING_PIPELINE_QUEUE_SIZE);
+        this.logMiningRedoSqlMaxSize = config.getLong(LOG_MINING_REDO_SQL_MAX_SIZE);
+        this.logMiningQueryMode = LogMiningQueryMode.parse(config.getString(LOG_MINING_QUERY_MODE));
+        this.logMiningFlushStrategy = LogMiningFlushStrategy.parse(config.getString(LOG_MINING_FLUSH_STRATEGY));
+        this.logMiningDmlParserThreads = config.getInteger(LOG_MINING_DML_PARSER_THREADS);
+        this.logMiningDmlParserDeferred = config.getBoolean(LOG_MINING_DML_PARSER_DEFERRED);
+        this.logMiningResultCaptureFile = config.getString(LOG_MINING_RESULT_CAPTURE_FILE);
+        this.logMiningTablePartition = config.getInteger(LOG_MINING_TABLE_PARTITION.name());
+        this.logMiningTablePartitions = config.getInteger(LOG_MINING_TABLE_PARTITIONS.name());
     }
 
     private static String toUpperCase(String property) {
@@ -673,7 +1037,8 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
 
     public enum LogMiningDmlParser implements EnumeratedValue {
         LEGACY("legacy"),
-        FAST("fast");
+        FAST("fast"),
+        LAZY("lazy");
 
         private final String value;
 
@@ -708,6 +1073,153 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
         }
     }
 
+    /**
+     * The columns the LogMiner query fetches.
+     */
+    public enum LogMiningQueryMode implements EnumeratedValue {
+        /**
+         * Fetch all columns of the LogMiner rows.
+         */
+        FULL("full"),
+
+        /**
+         * Fetch only the columns used for processing; the redo SQL of rows other than DML and DDL, the operation and
+         * the user name are fetched as {@code NULL}.
+         */
+        MINIMAL("minimal");
+
+        private final String value;
+
+        LogMiningQueryMode(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        public static LogMiningQueryMode parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (LogMiningQueryMode mode : LogMiningQueryMode.values()) {
+                if (mode.getValue().equalsIgnoreCase(value)) {
+                    return mode;
+                }
+            }
+            return null;
+        }
+
+        public static LogMiningQueryMode parse(String value, String defaultValue) {
+            LogMiningQueryMode mode = parse(value);
+            if (mode == null && defaultValue != null) {
+                mode = parse(defaultValue);
+            }
+            return mode;
+        }
+    }
+
+    /**
+     * How the log writer buffer is flushed before each LogMiner query.
+     */
+    public enum LogMiningFlushStrategy implements EnumeratedValue {
+        /**
+         * Read the current SCN and flush the buffer before each query.
+         */
+        ALWAYS("always"),
+
+        /**
+         * Read the current SCN and flush the buffer in a single round trip, skipping the flush while the database is idle.
+         */
+        ADAPTIVE("adaptive");
+
+        private final String value;
+
+        LogMiningFlushStrategy(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        public static LogMiningFlushStrategy parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (LogMiningFlushStrategy strategy : LogMiningFlushStrategy.values()) {
+                if (strategy.getValue().equalsIgnoreCase(value)) {
+                    return strategy;
+                }
+            }
+            return null;
+        }
+
+        public static LogMiningFlushStrategy parse(String value, String defaultValue) {
+            LogMiningFlushStrategy strategy = parse(value);
+            if (strategy == null && defaultValue != null) {
+                strategy = parse(defaultValue);
+            }
+            return strategy;
+        }
+    }
+
+    /**
+     * What a buffered {@link HistoryRecorder} does with a LogMiner entry when its queue is full.
+     */
+    public enum LogMiningHistoryOverflowPolicy implements EnumeratedValue {
+        /**
+         * Discard the new entry.
+         */
+        DROP_NEWEST("drop_newest"),
+
+        /**
+         * Discard the oldest queued entry in favor of the new one.
+         */
+        DROP_OLDEST("drop_oldest"),
+
+        /**
+         * Wait for a bounded time for the queue to drain, then discard the new entry.
+         */
+        WAIT("wait");
+
+        private final String value;
+
+        LogMiningHistoryOverflowPolicy(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        public static LogMiningHistoryOverflowPolicy parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            value = value.trim();
+            for (LogMiningHistoryOverflowPolicy policy : LogMiningHistoryOverflowPolicy.values()) {
+                if (policy.getValue().equalsIgnoreCase(value)) {
+                    return policy;
+                }
+            }
+            return null;
+        }
+
+        public static LogMiningHistoryOverflowPolicy parse(String value, String defaultValue) {
+            LogMiningHistoryOverflowPolicy policy = parse(value);
+            if (policy == null && defaultValue != null) {
+                policy = parse(defaultValue);
+            }
+            return policy;
+        }
+    }
+
     /**
      * A {@link TableFilter} that excludes all Oracle system tables.
      *
@@ -781,6 +1293,48 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
         return logMiningHistoryRetentionHours;
     }
 
+    /**
+     * @return the maximum number of entries a buffered history recorder queues for writing
+     */
+    public int getLogMiningHistoryRecorderQueueSize() {
+        return logMiningHistoryRecorderQueueSize;
+    }
+
+    /**
+     * @return the maximum number of entries a buffered history recorder writes in a single batch
+     */
+    public int getLogMiningHistoryRecorderBatchSize() {
+        return logMiningHistoryRecorderBatchSize;
+    }
+
+    /**
+     * @return what a buffered history recorder does with an entry when its queue is full
+     */
+    public LogMiningHistoryOverflowPolicy getLogMiningHistoryRecorderOverflowPolicy() {
+        return logMiningHistoryRecorderOverflowPolicy;
+    }
+
+    /**
+     * @return the maximum time the {@link LogMiningHistoryOverflowPolicy#WAIT} policy waits for a single entry
+     */
+    public Duration getLogMiningHistoryRecorderOverflowWait() {
+        return logMiningHistoryRecorderOverflowWait;
+    }
+
+    /**
+     * @return the directory the file history recorder writes to, may be null
+     */
+    public String getLogMiningHistoryRecorderFileDirectory() {
+        return logMiningHistoryRecorderFileDirectory;
+    }
+
+    /**
+     * @return the size in bytes of the segment files written by the file history recorder
+     */
+    public int getLogMiningHistoryRecorderFileSegmentSize() {
+        return logMiningHistoryRecorderFileSegmentSize;
+    }
+
     /**
      * @return whether Oracle is using RAC
      */
@@ -795,6 +1349,13 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
         return racNodes;
     }
 
+    /**
+     * @return the maximum time the log writer buffer of a single RAC node may take to flush
+     */
+    public Duration getRacFlushTimeout() {
+        return racFlushTimeout;
+    }
+
     /**
      * @return String token to replace
      */
@@ -880,6 +1441,27 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
         return logMiningSleepTimeIncrement;
     }
 
+    /**
+     * @return whether the mining window is sized from the observed rows per SCN and time per row
+     */
+    public boolean isLogMiningBatchSizeAdaptive() {
+        return logMiningBatchSizeAdaptive;
+    }
+
+    /**
+     * @return the time fetching and processing the results of a single mining query should take
+     */
+    public Duration getLogMiningBatchTargetDuration() {
+        return logMiningBatchTargetDuration;
+    }
+
+    /**
+     * @return the maximum number of rows a single mining query should return
+     */
+    public int getLogMiningBatchTargetRows() {
+        return logMiningBatchTargetRows;
+    }
+
     /**
      * @return the duration for which long running transactions are permitted in the transaction buffer between log switches
      */
@@ -894,6 +1476,136 @@ public class OracleConnectorConfig extends HistorizedRelationalDatabaseConnector
         return dmlParser;
     }
 
+    /**
+     * @return whether a LogMiner session is reused by the mining queries within the SCN flushed when it was started,
+     *         which saves session starts while the connector catches up
+     */
+    public boolean isLogMiningSessionReuse() {
+        return logMiningSessionReuse;
+    }
+
+    /**
+     * @return the number of bytes of PGA memory after which a reused LogMiner session is restarted
+     */
+    public long getLogMiningSessionMaxPga() {
+        return logMiningSessionMaxPga;
+    }
+
+    /**
+     * @return whether only the changed log files are added to or removed from the LogMiner session on a log switch
+     */
+    public boolean isLogMiningLogFilesIncremental() {
+        return logMiningLogFilesIncremental;
+    }
+
+    /**
+     * @return whether transactions exceeding the buffer memory thresholds are spilled to disk
+     */
+    public boolean isLogMiningBufferSpillEnabled() {
+        return logMiningBufferSpillEnabled;
+    }
+
+    /**
+     * @return the directory where spilled transaction segment files are written
+     */
+    public String getLogMiningBufferSpillDirectory() {
+        return logMiningBufferSpillDirectory;
+    }
+
+    /**
+     * @return the number of bytes the events of a single transaction may use before it is spilled
+     */
+    public long getLogMiningBufferTransactionMemoryThreshold() {
+        return logMiningBufferTransactionMemoryThreshold;
+    }
+
+    /**
+     * @return the number of bytes the events of all buffered transactions may use before spilling starts
+     */
+    public long getLogMiningBufferMemoryThreshold() {
+        return logMiningBufferMemoryThreshold;
+    }
+
+    /**
+     * @return whether fetching and parsing LogMiner rows run on dedicated threads
+     */
+    public boolean isLogMiningPipelineEnabled() {
+        return logMiningPipelineEnabled;
+    }
+
+    /**
+     * @return the maximum number of rows held between two stages of the LogMiner pipeline
+     */
+    public int getLogMiningPipelineQueueSize() {
+        return logMiningPipelineQueueSize;
+    }
+
+    /**
+     * @return the maximum memory in bytes the redo SQL of a single operation may take
+     */
+    public long getLogMiningRedoSqlMaxSize() {
+        return logMiningRedoSqlMaxSize;
+    }
+
+    /**
+     * @return the columns the LogMiner query fetches
+     */
+    public LogMiningQueryMode getLogMiningQueryMode() {
+        return logMiningQueryMode;
+    }
+
+    /**
+     * @return how the log writer buffer is flushed before each LogMiner query
+     */
+    public LogMiningFlushStrategy getLogMiningFlushStrategy() {
+        return logMiningFlushStrategy;
+    }
+
+    /**
+     * @return the number of threads parsing the redo SQL of DML operations
+     */
+    public int getLogMiningDmlParserThreads() {
+        return logMiningDmlParserThreads;
+    }
+
+    /**
+     * @return whether the redo SQL of DML operations is parsed only when its transaction commits
+     */
+    public boolean isLogMiningDmlParserDeferred() {
+        return logMiningDmlParserDeferred;
+    }
+
+    /**
+     * @return the file capturing the rows read from the LogMiner view, {@code null} if rows are not captured
+     */
+    public String getLogMiningResultCaptureFile() {
+        return logMiningResultCaptureFile;
+    }
+
+    /**
+     * @return the partition of the table include list captured by this task, {@code null} if the tables are not
+     * partitioned across multiple tasks
+     */
+    public Integer getLogMiningTablePartition() {
+        return logMiningTablePartition;
+    }
+
+    /**
+     * @return the number of partitions the tables are assigned to, {@code null} if the tables are not partitioned
+     * across multiple tasks
+     */
+    public Integer getLogMiningTablePartitions() {
+        return logMiningTablePartitions;
+    }
+
+    /**
+     * @return the logical name of the server, suffixed with the table partition captured by this task if the tables are
+     * partitioned across multiple tasks
+     */
+    public String getTaskName() {
+        return logMiningTablePartition == null ? getLogicalName() : getLogicalName() + "-" + logMiningTablePartition;
+    }
+
     public Configuration jdbcConfig() {
         return jdbcConfig;
     }
@@ -13,6 +13,7 @@ import org.apache.kafka.connect.source.SourceRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.DebeziumException;
 import io.debezium.config.Configuration;
 import io.debezium.config.Field;
 import io.debezium.connector.base.ChangeEventQueue;
@@ -58,7 +59,16 @@ public class OracleConnectorTask extends BaseSourceTask {
 
         String adapterString = config.getString(OracleConnectorConfig.CONNECTOR_ADAPTER);
         OracleConnectorConfig.ConnectorAdapter adapter = OracleConnectorConfig.ConnectorAdapter.parse(adapterString);
-        OffsetContext previousOffset = getPreviousOffset(new OracleOffsetContext.Loader(connectorConfig, adapter));
+        OracleOffsetContext.Loader loader = new OracleOffsetContext.Loader(connectorConfig, adapter);
+        OffsetContext previousOffset = getPreviousOffset(loader);
+        if (previousOffset == null && connectorConfig.getLogMiningTablePartition() != null) {
+            // the partitions of the tables neither resume from the offsets nor the schema history of a single task
+            if (context.offsetStorageReader().offset(loader.getServerPartition()) != null) {
+                throw new DebeziumException("Offsets of the connector running as a single task exist, but none of table partition " +
+                        connectorConfig.getLogMiningTablePartition() + ". Partitioning the tables across multiple tasks requires " +
+                        "a new snapshot, e.g. under another logical server name, or the connector has to run with a single task.");
+            }
+        }
 
         if (previousOffset != null) {
             schema.recover(previousOffset);
@@ -30,6 +30,8 @@ public class OracleDatabaseSchema extends HistorizedRelationalDatabaseSchema {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OracleDatabaseSchema.class);
 
+    private final ColumnPositionIndexCache columnPositionIndexes = new ColumnPositionIndexCache();
+
     public OracleDatabaseSchema(OracleConnectorConfig connectorConfig, SchemaNameAdjuster schemaNameAdjuster, TopicSelector<TableId> topicSelector,
                                 OracleConnection connection) {
         super(connectorConfig, topicSelector, connectorConfig.getTableFilters().dataCollectionFilter(), null,
@@ -47,6 +49,16 @@ public class OracleDatabaseSchema extends HistorizedRelationalDatabaseSchema {
         return tables();
     }
 
+    /**
+     * Returns the index of the column positions of the given table, building it on first use.
+     *
+     * @param table the table, may be {@code null}
+     * @return the column position index, {@code null} if the table is {@code null}
+     */
+    public ColumnPositionIndex getColumnPositionIndex(Table table) {
+        return columnPositionIndexes.get(table);
+    }
+
     @Override
     protected DdlParser getDdlParser() {
         return new OracleDdlParser();
@@ -60,6 +72,7 @@ public class OracleDatabaseSchema extends HistorizedRelationalDatabaseSchema {
         Table table = schemaChange.getTables().iterator().next();
         buildAndRegisterSchema(table);
         tables().overwriteTable(table);
+        columnPositionIndexes.remove(table.id());
 
         TableChanges tableChanges = null;
         if (schemaChange.getType() == SchemaChangeEventType.CREATE && schemaChange.isFromSnapshot()) {
@@ -13,6 +13,7 @@ import java.util.Map;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.Struct;
 
+import io.debezium.DebeziumException;
 import io.debezium.connector.SnapshotRecord;
 import io.debezium.connector.oracle.xstream.LcrPosition;
 import io.debezium.pipeline.spi.OffsetContext;
@@ -23,10 +24,13 @@ import io.debezium.schema.DataCollectionId;
 public class OracleOffsetContext implements OffsetContext {
 
     private static final String SERVER_PARTITION_KEY = "server";
+    private static final String TABLE_PARTITION_KEY = "table_partition";
+    private static final String TABLE_PARTITIONS_KEY = "table_partitions";
     private static final String SNAPSHOT_COMPLETED_KEY = "snapshot_completed";
 
     private final Schema sourceInfoSchema;
     private final Map<String, String> partition;
+    private final Integer tablePartitions;
 
     private final SourceInfo sourceInfo;
     private final TransactionContext transactionContext;
@@ -44,7 +48,8 @@ public class OracleOffsetContext implements OffsetContext {
 
     private OracleOffsetContext(OracleConnectorConfig connectorConfig, long scn, LcrPosition lcrPosition,
                                 boolean snapshot, boolean snapshotCompleted, TransactionContext transactionContext) {
-        partition = Collections.singletonMap(SERVER_PARTITION_KEY, connectorConfig.getLogicalName());
+        partition = partition(connectorConfig);
+        tablePartitions = connectorConfig.getLogMiningTablePartitions();
 
         sourceInfo = new SourceInfo(connectorConfig);
         sourceInfo.setScn(scn);
@@ -123,6 +128,9 @@ public class OracleOffsetContext implements OffsetContext {
             offset.put(SourceInfo.SCN_KEY, sourceInfo.getScn());
             offset.put(SourceInfo.SNAPSHOT_KEY, true);
             offset.put(SNAPSHOT_COMPLETED_KEY, snapshotCompleted);
+            if (tablePartitions != null) {
+                offset.put(TABLE_PARTITIONS_KEY, tablePartitions);
+            }
 
             return offset;
         }
@@ -135,6 +143,9 @@ public class OracleOffsetContext implements OffsetContext {
                 offset.put(SourceInfo.SCN_KEY, sourceInfo.getScn());
                 offset.put(SourceInfo.COMMIT_SCN_KEY, sourceInfo.getCommitScn());
             }
+            if (tablePartitions != null) {
+                offset.put(TABLE_PARTITIONS_KEY, tablePartitions);
+            }
             return transactionContext.store(offset);
         }
     }
@@ -236,6 +247,21 @@ public class OracleOffsetContext implements OffsetContext {
         return transactionContext;
     }
 
+    /**
+     * Returns the source partition of the offsets: the logical name of the server, and the table partition captured by
+     * the task if the tables are partitioned across multiple tasks.
+     */
+    private static Map<String, String> partition(OracleConnectorConfig connectorConfig) {
+        final Integer tablePartition = connectorConfig.getLogMiningTablePartition();
+        if (tablePartition == null) {
+            return Collections.singletonMap(SERVER_PARTITION_KEY, connectorConfig.getLogicalName());
+        }
+        final Map<String, String> partition = new HashMap<>();
+        partition.put(SERVER_PARTITION_KEY, connectorConfig.getLogicalName());
+        partition.put(TABLE_PARTITION_KEY, String.valueOf(tablePartition));
+        return Collections.unmodifiableMap(partition);
+    }
+
     public static class Loader implements OffsetContext.Loader {
 
         private final OracleConnectorConfig connectorConfig;
@@ -249,11 +275,25 @@ public class OracleOffsetContext implements OffsetContext {
 
         @Override
         public Map<String, ?> getPartition() {
+            return partition(connectorConfig);
+        }
+
+        /**
+         * @return the source partition of the offsets of the connector running as a single task
+         */
+        public Map<String, ?> getServerPartition() {
             return Collections.singletonMap(SERVER_PARTITION_KEY, connectorConfig.getLogicalName());
         }
 
         @Override
         public OffsetContext load(Map<String, ?> offset) {
+            final Integer tablePartitions = connectorConfig.getLogMiningTablePartitions();
+            final Number previousTablePartitions = (Number) offset.get(TABLE_PARTITIONS_KEY);
+            if (tablePartitions != null && previousTablePartitions != null && previousTablePartitions.intValue() != tablePartitions) {
+                throw new DebeziumException("The tables were assigned to " + previousTablePartitions + " partitions, rather than to " +
+                        tablePartitions + " partitions for as many tasks now. Changing the number of tasks moves tables into " +
+                        "partitions other than the ones of their offsets and schema history, which requires a new snapshot.");
+            }
             boolean snapshot = Boolean.TRUE.equals(offset.get(SourceInfo.SNAPSHOT_KEY));
             boolean snapshotCompleted = Boolean.TRUE.equals(offset.get(SNAPSHOT_COMPLETED_KEY));
             Long scn;
@@ -0,0 +1,197 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.connector.oracle.OracleConnector;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleConnectorConfig.LogMiningHistoryOverflowPolicy;
+import io.debezium.jdbc.JdbcConfiguration;
+import io.debezium.util.Threads;
+
+/**
+ * Base class for history recorders that write the LogMiner entries asynchronously, in batches.
+ *
+ * Recording an entry only adds it to a bounded, lock-free {@link HistoryBuffer}, so that the mining loop never waits
+ * for the storage of the history. A background thread drains the buffer and hands the entries to
+ * {@link #write(List)} in batches of {@link OracleConnectorConfig#LOG_MINING_HISTORY_RECORDER_BATCH_SIZE} entries.
+ * When the writer falls behind and the buffer is full, the configured {@link LogMiningHistoryOverflowPolicy} decides
+ * which entries are dropped; the number of written and dropped entries is reported by the {@link LogMinerMetrics}.
+ *
+ * @see OracleConnectorConfig#LOG_MINING_HISTORY_RECORDER_QUEUE_SIZE
+ * @see OracleConnectorConfig#LOG_MINING_HISTORY_RECORDER_OVERFLOW_POLICY
+ */
+@ThreadSafe
+public abstract class AbstractBufferedHistoryRecorder implements HistoryRecorder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractBufferedHistoryRecorder.class);
+
+    private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private String logicalName;
+    private int queueSize;
+    private int batchSize;
+    private LogMiningHistoryOverflowPolicy overflowPolicy;
+    private Duration overflowWait;
+
+    private LogMinerMetrics metrics;
+    private ExecutorService executor;
+    private volatile HistoryBuffer<HistoryEntry> buffer;
+    private volatile boolean running;
+    private volatile Thread writerThread;
+
+    @Override
+    public void configure(OracleConnectorConfig connectorConfig) {
+        this.logicalName = connectorConfig.getLogicalName();
+        this.queueSize = connectorConfig.getLogMiningHistoryRecorderQueueSize();
+        this.batchSize = connectorConfig.getLogMiningHistoryRecorderBatchSize();
+        this.overflowPolicy = connectorConfig.getLogMiningHistoryRecorderOverflowPolicy();
+        this.overflowWait = connectorConfig.getLogMiningHistoryRecorderOverflowWait();
+    }
+
+    @Override
+    public void prepare(LogMinerMetrics metrics, JdbcConfiguration jdbcConfiguration, long retentionHours) {
+        if (overflowPolicy == null) {
+            throw new DebeziumException("The history recorder must be configured before it is prepared");
+        }
+        this.metrics = metrics;
+        open(jdbcConfiguration, retentionHours);
+
+        buffer = new HistoryBuffer<>(queueSize, overflowPolicy, overflowWait);
+        running = true;
+        executor = Threads.newFixedThreadPool(OracleConnector.class, logicalName, "logminer-history-recorder", 1);
+        final HistoryBuffer<HistoryEntry> entries = buffer;
+        executor.submit(() -> drain(entries));
+    }
+
+    @Override
+    public void record(Scn scn, String tableName, String segOwner, int operationCode, Timestamp changeTime,
+                       String transactionId, int csf, String redoSql) {
+        final HistoryBuffer<HistoryEntry> buffer = this.buffer;
+        if (buffer == null) {
+            return;
+        }
+        if (!running) {
+            // the writer failed, do not let the overflow policy delay the mining loop
+            metrics.addHistoryRecordsDropped(1);
+            return;
+        }
+        final int dropped = buffer.add(new HistoryEntry(scn, tableName, segOwner, operationCode, changeTime, transactionId, csf, redoSql));
+        if (dropped > 0) {
+            metrics.addHistoryRecordsDropped(dropped);
+        }
+    }
+
+    /**
+     * Wakes up the writer thread; the recorded entries are written asynchronously, so this never waits for them.
+     */
+    @Override
+    public void flush() {
+        final Thread writer = writerThread;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Stops recording, waiting for a bounded time for the writer thread to write the entries that are still buffered.
+     */
+    @Override
+    public void close() {
+        if (executor == null) {
+            return;
+        }
+        running = false;
+        flush();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("LogMiner history recorder did not write the buffered entries within {}", CLOSE_TIMEOUT);
+                executor.shutdownNow();
+            }
+        }
+        catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            final int discarded = buffer.size();
+            if (discarded > 0) {
+                metrics.addHistoryRecordsDropped(discarded);
+            }
+            buffer = null;
+            executor = null;
+            release();
+        }
+    }
+
+    /**
+     * Prepares the storage of the history, called before any entry is written.
+     *
+     * @param jdbcConfiguration the jdbc configuration
+     * @param retentionHours the history retention hours
+     */
+    protected abstract void open(JdbcConfiguration jdbcConfiguration, long retentionHours);
+
+    /**
+     * Writes a batch of entries, called by the writer thread only.
+     *
+     * @param entries the entries in the order they were recorded, never empty
+     * @throws Exception if the entries could not be written; they are counted as dropped
+     */
+    protected abstract void write(List<HistoryEntry> entries) throws Exception;
+
+    /**
+     * Releases the storage of the history, once the writer thread has stopped or did not stop in time.
+     */
+    protected abstract void release();
+
+    private void drain(HistoryBuffer<HistoryEntry> buffer) {
+        writerThread = Thread.currentThread();
+        final List<HistoryEntry> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || buffer.size() > 0) {
+                if (buffer.drain(batch, batchSize) > 0) {
+                    try {
+                        write(batch);
+                        metrics.addHistoryRecordsWritten(batch.size());
+                    }
+                    catch (Exception e) {
+                        LOGGER.warn("Failed to write {} LogMiner history entries", batch.size(), e);
+                        metrics.addHistoryRecordsDropped(batch.size());
+                    }
+                    batch.clear();
+                }
+                else if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                else if (running) {
+                    LockSupport.parkNanos(POLL_INTERVAL_NANOS);
+                }
+                else {
+                    // an entry has reserved its slot but was not added yet
+                    Thread.yield();
+                }
+            }
+        }
+        finally {
+            writerThread = null;
+        }
+    }
+}
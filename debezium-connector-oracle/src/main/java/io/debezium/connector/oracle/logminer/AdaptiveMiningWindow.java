@@ -0,0 +1,109 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.time.Duration;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+
+/**
+ * Sizes the SCN interval of each mining query from the load observed in previous queries.
+ *
+ * After each query, the number of rows per SCN and the time to fetch and process a single row are measured and
+ * smoothed. The next interval is sized so that it is expected to return the target number of rows, or fewer rows
+ * if processing those would take longer than the target duration. The interval may shrink at once when the load
+ * increases, but at most doubles per query when the load decreases, so that a single quiet query does not lead to a
+ * huge query when the load returns.
+ *
+ * While the connector is caught up with the database, it sleeps for the remainder of the target duration between
+ * queries; while it lags behind, it does not sleep beyond the minimum sleep time. The decisions are published to the
+ * {@link LogMinerMetrics}, which also hold the batch size and sleep time used by the streaming loop.
+ */
+@NotThreadSafe
+class AdaptiveMiningWindow {
+
+    /**
+     * The weight of the most recent observation when smoothing the observed load.
+     */
+    private static final double SMOOTHING_FACTOR = 0.5;
+
+    private final LogMinerMetrics metrics;
+    private final int batchSizeMin;
+    private final int batchSizeMax;
+    private final long sleepTimeMin;
+    private final long sleepTimeMax;
+    private final long targetDurationNanos;
+    private final int targetRows;
+
+    private double rowsPerScn;
+    private double rowProcessingNanos;
+    private boolean caughtUp;
+
+    AdaptiveMiningWindow(OracleConnectorConfig connectorConfig, LogMinerMetrics metrics) {
+        this.metrics = metrics;
+        this.batchSizeMin = connectorConfig.getLogMiningBatchSizeMin();
+        this.batchSizeMax = connectorConfig.getLogMiningBatchSizeMax();
+        this.sleepTimeMin = connectorConfig.getLogMiningSleepTimeMin().toMillis();
+        this.sleepTimeMax = connectorConfig.getLogMiningSleepTimeMax().toMillis();
+        this.targetDurationNanos = connectorConfig.getLogMiningBatchTargetDuration().toNanos();
+        this.targetRows = connectorConfig.getLogMiningBatchTargetRows();
+    }
+
+    /**
+     * Returns the end of the SCN interval of the next mining query.
+     *
+     * @param startScn the SCN the next query starts after
+     * @param currentScn the current SCN of the database
+     * @return the SCN the next query mines up to
+     */
+    long getEndScn(long startScn, long currentScn) {
+        final long topScnToMine = startScn + metrics.getBatchSize();
+        caughtUp = currentScn <= topScnToMine;
+        return caughtUp ? currentScn : topScnToMine;
+    }
+
+    /**
+     * Records the load observed by a mining query and sizes the next one.
+     *
+     * @param startScn the SCN the query started after
+     * @param endScn the SCN the query mined up to
+     * @param rows the number of rows returned by the query
+     * @param fetchDuration the time taken to execute the query
+     * @param processingDuration the time taken to process the rows returned by the query
+     */
+    void update(long startScn, long endScn, long rows, Duration fetchDuration, Duration processingDuration) {
+        final long scns = endScn - startScn;
+        if (scns > 0) {
+            rowsPerScn = smooth(rowsPerScn, (double) rows / scns);
+        }
+        final long batchNanos = fetchDuration.toNanos() + processingDuration.toNanos();
+        if (rows > 0) {
+            rowProcessingNanos = smooth(rowProcessingNanos, (double) batchNanos / rows);
+        }
+
+        long rowsForTarget = targetRows;
+        if (rowProcessingNanos > 0) {
+            rowsForTarget = Math.min(rowsForTarget, Math.max(1, (long) (targetDurationNanos / rowProcessingNanos)));
+        }
+
+        final int currentBatchSize = metrics.getBatchSize();
+        long batchSize = rowsPerScn > 0 ? (long) (rowsForTarget / rowsPerScn) : batchSizeMax;
+        batchSize = Math.min(batchSize, 2L * currentBatchSize);
+        batchSize = Math.max(batchSizeMin, Math.min(batchSizeMax, batchSize));
+
+        long sleepTime = sleepTimeMin;
+        if (caughtUp) {
+            sleepTime = Math.max(sleepTimeMin, Math.min(sleepTimeMax, Duration.ofNanos(targetDurationNanos - batchNanos).toMillis()));
+        }
+
+        metrics.setMiningWindow((int) batchSize, sleepTime, rowsPerScn, (long) rowProcessingNanos, rowsForTarget);
+    }
+
+    private static double smooth(double previous, double observed) {
+        return previous == 0 ? observed : SMOOTHING_FACTOR * observed + (1 - SMOOTHING_FACTOR) * previous;
+    }
+}
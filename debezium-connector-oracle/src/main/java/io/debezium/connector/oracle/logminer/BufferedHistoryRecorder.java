@@ -0,0 +1,114 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.jdbc.JdbcConfiguration;
+
+/**
+ * A history recorder that writes the LogMiner entries to the history tables asynchronously, in JDBC batches.
+ *
+ * The writer thread inserts each batch of entries into the temporary history table with a JDBC batch, and then moves
+ * the batch to the current history table.
+ */
+@ThreadSafe
+public class BufferedHistoryRecorder extends AbstractBufferedHistoryRecorder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BufferedHistoryRecorder.class);
+
+    /**
+     * The maximum length of the redo SQL column of the history tables.
+     */
+    private static final int MAX_REDO_SQL_LENGTH = 4000;
+
+    private OracleConnection connection;
+    private String historyTableName;
+    private PreparedStatement insert;
+
+    @Override
+    protected void open(JdbcConfiguration jdbcConfiguration, long retentionHours) {
+        this.historyTableName = SqlUtils.buildHistoryTableName(LocalDateTime.now());
+        try {
+            connection = new OracleConnection(jdbcConfiguration, () -> getClass().getClassLoader());
+            connection.setAutoCommit(false);
+            LogMinerHelper.createLogMiningHistoryObjects(connection, historyTableName);
+            if (retentionHours > 0) {
+                LogMinerHelper.deleteOutdatedHistory(connection, retentionHours);
+            }
+            insert = connection.connection().prepareStatement(SqlUtils.INSERT_INTO_TEMP_HISTORY_TABLE_STMT);
+        }
+        catch (SQLException e) {
+            throw new DebeziumException("Failed to prepare the LogMiner history tables", e);
+        }
+        LOGGER.info("Recording LogMiner history to table {}", historyTableName);
+    }
+
+    @Override
+    protected void write(List<HistoryEntry> entries) throws SQLException {
+        try {
+            for (HistoryEntry entry : entries) {
+                bind(entry);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+            try (Statement statement = connection.connection().createStatement()) {
+                statement.executeUpdate(SqlUtils.bulkHistoryInsertStmt(historyTableName));
+                connection.commit();
+                statement.execute(SqlUtils.truncateTableStatement(SqlUtils.LOGMNR_HISTORY_TEMP_TABLE));
+            }
+        }
+        catch (SQLException e) {
+            try {
+                insert.clearBatch();
+                connection.connection().rollback();
+            }
+            catch (SQLException rollbackException) {
+                e.addSuppressed(rollbackException);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    protected void release() {
+        try {
+            insert.close();
+            connection.close();
+        }
+        catch (SQLException e) {
+            LOGGER.warn("Failed to close the LogMiner history recorder connection", e);
+        }
+    }
+
+    private void bind(HistoryEntry entry) throws SQLException {
+        if (entry.getScn() != null) {
+            insert.setLong(1, entry.getScn().longValue());
+        }
+        else {
+            insert.setNull(1, Types.NUMERIC);
+        }
+        insert.setString(2, entry.getTableName());
+        insert.setString(3, entry.getSegOwner());
+        insert.setInt(4, entry.getOperationCode());
+        insert.setTimestamp(5, entry.getChangeTime());
+        insert.setString(6, entry.getTransactionId());
+        insert.setInt(7, entry.getCsf());
+        final String redoSql = entry.getRedoSql();
+        insert.setString(8, redoSql != null && redoSql.length() > MAX_REDO_SQL_LENGTH ? redoSql.substring(0, MAX_REDO_SQL_LENGTH) : redoSql);
+    }
+}
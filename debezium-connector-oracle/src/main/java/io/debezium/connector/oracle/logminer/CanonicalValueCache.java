@@ -0,0 +1,109 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.relational.TableId;
+import io.debezium.util.HexConverter;
+
+/**
+ * A bounded cache of the values that repeat across the rows of the LogMiner contents view, such as transaction
+ * identifiers, owners, table names and table identifiers.
+ *
+ * Repeated values are replaced by a single canonical instance, so that the rows of a transaction or a table share their
+ * keys. This reduces the memory held by the transactional buffer, and the lookups by these keys profit from the hash
+ * code cached by the instance and from the identity check preceding the equality check. Each cache retains the most
+ * recently used values only, the least recently used values are evicted once a cache is full.
+ */
+@NotThreadSafe
+class CanonicalValueCache {
+
+    static final int DEFAULT_TRANSACTION_ID_CACHE_SIZE = 16_384;
+    static final int DEFAULT_STRING_CACHE_SIZE = 4_096;
+    static final int DEFAULT_TABLE_ID_CACHE_SIZE = 4_096;
+
+    private final String catalogName;
+    private final Map<ByteBuffer, String> transactionIds;
+    private final Map<String, String> strings;
+    private final Map<String, Map<String, TableId>> tableIdsByOwner = new HashMap<>();
+    private final int tableIdCacheSize;
+
+    /**
+     * @param catalogName the catalog name of the table identifiers
+     */
+    CanonicalValueCache(String catalogName) {
+        this(catalogName, DEFAULT_TRANSACTION_ID_CACHE_SIZE, DEFAULT_STRING_CACHE_SIZE, DEFAULT_TABLE_ID_CACHE_SIZE);
+    }
+
+    CanonicalValueCache(String catalogName, int transactionIdCacheSize, int stringCacheSize, int tableIdCacheSize) {
+        this.catalogName = catalogName;
+        this.transactionIds = boundedMap(transactionIdCacheSize);
+        this.strings = boundedMap(stringCacheSize);
+        this.tableIdCacheSize = tableIdCacheSize;
+    }
+
+    /**
+     * Returns the transaction identifier of a raw transaction identifier, converting it only if it is not cached.
+     *
+     * @param xid the raw transaction identifier, may be null
+     * @return the canonical hexadecimal transaction identifier
+     */
+    String transactionId(byte[] xid) {
+        if (xid == null) {
+            return HexConverter.convertToHexString(xid);
+        }
+        // the array is not modified after being read, so it can be the key of the cache
+        final ByteBuffer key = ByteBuffer.wrap(xid);
+        String transactionId = transactionIds.get(key);
+        if (transactionId == null) {
+            transactionId = HexConverter.convertToHexString(xid);
+            transactionIds.put(key, transactionId);
+        }
+        return transactionId;
+    }
+
+    /**
+     * @param value the value, may be null
+     * @return the canonical instance of the value
+     */
+    String string(String value) {
+        if (value == null) {
+            return null;
+        }
+        final String canonical = strings.putIfAbsent(value, value);
+        return canonical != null ? canonical : value;
+    }
+
+    /**
+     * @param owner the owner of the table, may be null
+     * @param tableName the table name, may be null
+     * @return the canonical table identifier
+     */
+    TableId tableId(String owner, String tableName) {
+        final Map<String, TableId> tableIds = tableIdsByOwner.computeIfAbsent(owner == null ? "" : owner, o -> boundedMap(tableIdCacheSize));
+        final String key = tableName == null ? "" : tableName;
+        TableId tableId = tableIds.get(key);
+        if (tableId == null) {
+            tableId = new TableId(catalogName, owner, tableName);
+            tableIds.put(key, tableId);
+        }
+        return tableId;
+    }
+
+    private static <K, V> Map<K, V> boundedMap(int maxSize) {
+        return new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+}
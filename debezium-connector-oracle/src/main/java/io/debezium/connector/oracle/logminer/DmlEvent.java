@@ -0,0 +1,91 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.Timestamp;
+
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
+import io.debezium.relational.TableId;
+
+/**
+ * A DML operation held by the {@link TransactionalBuffer} until its transaction commits. The operation is
+ * either already parsed or, when parsing is deferred, still carries its redo SQL.
+ */
+final class DmlEvent {
+
+    private final TableId tableId;
+    private final LogMinerDmlEntry entry;
+    private final Scn scn;
+    private final Timestamp changeTime;
+    private final String redoSql;
+
+    DmlEvent(TableId tableId, LogMinerDmlEntry entry) {
+        this.tableId = tableId;
+        this.entry = entry;
+        this.scn = entry.getScn();
+        this.changeTime = entry.getSourceTime();
+        this.redoSql = null;
+    }
+
+    DmlEvent(TableId tableId, Scn scn, Timestamp changeTime, String redoSql) {
+        this.tableId = tableId;
+        this.entry = null;
+        this.scn = scn;
+        this.changeTime = changeTime;
+        this.redoSql = redoSql;
+    }
+
+    /**
+     * @return the table the operation was applied to
+     */
+    TableId getTableId() {
+        return tableId;
+    }
+
+    /**
+     * @return the parsed DML entry, {@code null} if parsing was deferred
+     */
+    LogMinerDmlEntry getEntry() {
+        return entry;
+    }
+
+    /**
+     * @return whether the redo SQL of this operation still has to be parsed
+     */
+    boolean isDeferred() {
+        return entry == null;
+    }
+
+    /**
+     * @return the SCN of the operation
+     */
+    Scn getScn() {
+        return scn;
+    }
+
+    /**
+     * @return the time the operation was applied to the database
+     */
+    Timestamp getChangeTime() {
+        return changeTime;
+    }
+
+    /**
+     * @return the unparsed redo SQL, {@code null} unless parsing was deferred
+     */
+    String getRedoSql() {
+        return redoSql;
+    }
+
+    @Override
+    public String toString() {
+        return "DmlEvent{" +
+                "tableId=" + tableId +
+                ", entry=" + entry +
+                ", redoSql=" + redoSql +
+                '}';
+    }
+}
@@ -0,0 +1,503 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.oracle.logminer.valueholder.LazyLogMinerColumnValue;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerColumnValue;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerColumnValueImpl;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntryImpl;
+import io.debezium.data.Envelope;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+
+/**
+ * Compact binary encoding of the DML events held by the {@link TransactionalBuffer}. Each event is
+ * written as an operation byte, the SCN, an index into a dictionary of tables, the change time and
+ * the old and new column values, where column names are again replaced by dictionary indexes.
+ * Values the parser placed by the position of their column are instead written with their position, together
+ * with an index into a dictionary of the table versions they were placed for; that dictionary only grows when
+ * the schema of a table changes.
+ * Values that are not part of the record itself, such as the transaction id, owner and table name,
+ * are restored from the transaction and the table dictionary when the event is read back. The column type of a
+ * value is not written either: values are read back with type {@code 0}, as set by the LogMiner DML parsers,
+ * the type set by the legacy parser is not restored.
+ *
+ * The dictionaries are held by a {@link Dictionary}, which each transaction obtains from {@link #dictionary()} when
+ * it is started and passes to every write and read of its events. Once a table version was superseded, or the
+ * dictionaries grew beyond {@link #MAX_DICTIONARY_ENTRIES}, new transactions obtain a new dictionary: the previous one,
+ * including the table versions it pins, is released with the last transaction that still refers to it.
+ *
+ * The same encoding is used for events kept in memory and for events spilled to disk. It is only ever
+ * read back by the serializer instance that wrote it and is therefore not versioned.
+ *
+ * When parsing is deferred until commit, an event is instead written as a marker byte, the SCN, the table index,
+ * the change time and the redo SQL.
+ *
+ * Column data produced by the LogMiner DML parser is always textual; the legacy parser may produce
+ * other value types. Values without a dedicated encoding are not written, instead they are stored in a
+ * per-transaction list of references and only their index is encoded. These references stay on the heap,
+ * which is why the {@link TransactionalBuffer} does not spill transactions when the legacy parser is used.
+ *
+ * Strings are encoded as UTF-8 directly from their characters. Values of a {@link LazyLogMinerColumnValue}
+ * that have not been materialized yet are encoded straight from their region of the redo SQL, without
+ * being copied into a string first.
+ */
+@NotThreadSafe
+final class DmlEventSerializer {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte SHORT = 4;
+    private static final byte BYTE = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte FLOAT = 7;
+    private static final byte BOOLEAN = 8;
+    private static final byte BIG_DECIMAL = 9;
+    private static final byte BYTES = 10;
+    private static final byte REFERENCE = 11;
+
+    private static final byte DEFERRED = -1;
+
+    private static final int MAX_SCRATCH_SIZE = 64 * 1024;
+    private static final int MAX_DICTIONARY_ENTRIES = 16 * 1024;
+
+    private static final Envelope.Operation[] OPERATIONS = Envelope.Operation.values();
+
+    private Dictionary dictionary = new Dictionary();
+    private byte[] scratch = new byte[256];
+
+    /**
+     * Returns the dictionary a new transaction encodes its events with.
+     *
+     * @return the current dictionary, or a new one if the current one holds a superseded table version or too many entries
+     */
+    Dictionary dictionary() {
+        if (dictionary.superseded || dictionary.size() > MAX_DICTIONARY_ENTRIES) {
+            dictionary = new Dictionary();
+        }
+        return dictionary;
+    }
+
+    /**
+     * Writes the given event.
+     *
+     * @param out the output to write to
+     * @param dictionary the dictionary of the transaction
+     * @param tableId the table the operation was applied to
+     * @param entry the parsed DML operation
+     * @param references the transaction's references, receiving values without a dedicated encoding
+     * @throws IOException if the output cannot be written
+     */
+    void write(DataOutput out, Dictionary dictionary, TableId tableId, LogMinerDmlEntry entry, List<Object> references) throws IOException {
+        out.writeByte(entry.getCommandType().ordinal());
+        out.writeLong(entry.getScn() == null ? -1 : entry.getScn().longValue());
+        writeVarInt(out, dictionary.indexOf(tableId));
+        writeTimestamp(out, entry.getSourceTime());
+        if (entry.getTable() == null) {
+            writeVarInt(out, 0);
+            writeColumnValues(out, dictionary, entry.getNewValues(), references);
+            writeColumnValues(out, dictionary, entry.getOldValues(), references);
+        }
+        else {
+            writeVarInt(out, dictionary.indexOf(entry.getTable()) + 1);
+            writeColumnValuesByPosition(out, entry.getNewValuesByPosition(), references);
+            writeColumnValuesByPosition(out, entry.getOldValuesByPosition(), references);
+        }
+    }
+
+    /**
+     * Writes an event whose redo SQL is parsed only when it is read back.
+     *
+     * @param out the output to write to
+     * @param dictionary the dictionary of the transaction
+     * @param tableId the table the operation was applied to
+     * @param scn the SCN of the operation
+     * @param changeTime the time the operation was applied
+     * @param redoSql the unparsed redo SQL
+     * @throws IOException if the output cannot be written
+     */
+    void writeDeferred(DataOutput out, Dictionary dictionary, TableId tableId, Scn scn, Timestamp changeTime, String redoSql) throws IOException {
+        out.writeByte(DEFERRED);
+        out.writeLong(scn == null ? -1 : scn.longValue());
+        writeVarInt(out, dictionary.indexOf(tableId));
+        writeTimestamp(out, changeTime);
+        writeString(out, redoSql, 0, redoSql.length());
+    }
+
+    /**
+     * Reads an event previously written by {@link #write(DataOutput, Dictionary, TableId, LogMinerDmlEntry, List)} or
+     * {@link #writeDeferred(DataOutput, Dictionary, TableId, Scn, Timestamp, String)}.
+     *
+     * @param in the input to read from
+     * @param dictionary the dictionary the event was written with
+     * @param transactionId the identifier of the transaction the event belongs to
+     * @param references the transaction's references
+     * @return the event
+     * @throws IOException if the input cannot be read
+     */
+    DmlEvent read(DataInput in, Dictionary dictionary, String transactionId, List<Object> references) throws IOException {
+        final byte type = in.readByte();
+        final long scn = in.readLong();
+        final TableId tableId = dictionary.tableIds.get(readVarInt(in));
+        final Timestamp sourceTime = readTimestamp(in);
+        if (type == DEFERRED) {
+            return new DmlEvent(tableId, scn == -1 ? null : Scn.fromLong(scn), sourceTime, readString(in));
+        }
+
+        final Envelope.Operation operation = OPERATIONS[type];
+        final int tableVersion = readVarInt(in);
+        final LogMinerDmlEntry entry;
+        if (tableVersion == 0) {
+            final List<LogMinerColumnValue> newValues = readColumnValues(in, dictionary, references);
+            final List<LogMinerColumnValue> oldValues = readColumnValues(in, dictionary, references);
+            entry = new LogMinerDmlEntryImpl(operation, newValues, oldValues);
+        }
+        else {
+            final Table table = dictionary.tableVersions.get(tableVersion - 1);
+            final LogMinerColumnValue[] newValues = readColumnValuesByPosition(in, table, references);
+            final LogMinerColumnValue[] oldValues = readColumnValuesByPosition(in, table, references);
+            entry = new LogMinerDmlEntryImpl(operation, table, newValues, oldValues);
+        }
+        entry.setScn(scn == -1 ? null : Scn.fromLong(scn));
+        entry.setTransactionId(transactionId);
+        entry.setObjectOwner(tableId.schema());
+        entry.setObjectName(tableId.table());
+        entry.setSourceTime(sourceTime);
+        return new DmlEvent(tableId, entry);
+    }
+
+    private void writeColumnValues(DataOutput out, Dictionary dictionary, List<LogMinerColumnValue> values, List<Object> references)
+            throws IOException {
+        if (values == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, values.size() + 1);
+        for (LogMinerColumnValue value : values) {
+            writeVarInt(out, dictionary.indexOf(value.getColumnName()));
+            writeColumnValue(out, value, references);
+        }
+    }
+
+    private void writeColumnValuesByPosition(DataOutput out, LogMinerColumnValue[] values, List<Object> references) throws IOException {
+        if (values == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        int count = 0;
+        for (LogMinerColumnValue value : values) {
+            if (value != null) {
+                count++;
+            }
+        }
+        writeVarInt(out, count + 1);
+        for (int position = 0; position < values.length; position++) {
+            if (values[position] != null) {
+                writeVarInt(out, position);
+                writeColumnValue(out, values[position], references);
+            }
+        }
+    }
+
+    private void writeColumnValue(DataOutput out, LogMinerColumnValue value, List<Object> references) throws IOException {
+        if (value instanceof LazyLogMinerColumnValue && ((LazyLogMinerColumnValue) value).isVerbatim()) {
+            final LazyLogMinerColumnValue lazyValue = (LazyLogMinerColumnValue) value;
+            out.writeByte(STRING);
+            writeString(out, lazyValue.getSource(), lazyValue.getStart(), lazyValue.getEnd());
+        }
+        else {
+            writeValue(out, value.getColumnData(), references);
+        }
+    }
+
+    private static List<LogMinerColumnValue> readColumnValues(DataInput in, Dictionary dictionary, List<Object> references) throws IOException {
+        final int size = readVarInt(in) - 1;
+        if (size == -1) {
+            return null;
+        }
+        final List<LogMinerColumnValue> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final String columnName = dictionary.columnNames.get(readVarInt(in));
+            values.add(new LogMinerColumnValueImpl(columnName, readValue(in, references), 0));
+        }
+        return values;
+    }
+
+    private static LogMinerColumnValue[] readColumnValuesByPosition(DataInput in, Table table, List<Object> references) throws IOException {
+        final int count = readVarInt(in) - 1;
+        if (count == -1) {
+            return null;
+        }
+        final List<Column> columns = table.columns();
+        final LogMinerColumnValue[] values = new LogMinerColumnValue[columns.size()];
+        for (int i = 0; i < count; i++) {
+            final int position = readVarInt(in);
+            values[position] = new LogMinerColumnValueImpl(columns.get(position).name(), readValue(in, references), 0);
+        }
+        return values;
+    }
+
+    private void writeValue(DataOutput out, Object value, List<Object> references) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        }
+        else if (value instanceof String) {
+            final String string = (String) value;
+            out.writeByte(STRING);
+            writeString(out, string, 0, string.length());
+        }
+        else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        }
+        else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        }
+        else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        }
+        else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        }
+        else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        }
+        else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        }
+        else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        }
+        else if (value instanceof BigDecimal) {
+            final BigDecimal decimal = (BigDecimal) value;
+            out.writeByte(BIG_DECIMAL);
+            out.writeInt(decimal.scale());
+            writeBytes(out, decimal.unscaledValue().toByteArray());
+        }
+        else if (value instanceof byte[]) {
+            out.writeByte(BYTES);
+            writeBytes(out, (byte[]) value);
+        }
+        else {
+            out.writeByte(REFERENCE);
+            writeVarInt(out, references.size());
+            references.add(value);
+        }
+    }
+
+    private static Object readValue(DataInput in, List<Object> references) throws IOException {
+        final byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case BOOLEAN:
+                return in.readBoolean();
+            case BIG_DECIMAL:
+                final int scale = in.readInt();
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case BYTES:
+                return readBytes(in);
+            case REFERENCE:
+                return references.get(readVarInt(in));
+            default:
+                throw new IOException("Unknown buffered column value type " + type);
+        }
+    }
+
+    private static void writeTimestamp(DataOutput out, Timestamp timestamp) throws IOException {
+        out.writeBoolean(timestamp != null);
+        if (timestamp != null) {
+            out.writeLong(timestamp.getTime());
+            out.writeInt(timestamp.getNanos());
+        }
+    }
+
+    private static Timestamp readTimestamp(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        final Timestamp timestamp = new Timestamp(in.readLong());
+        timestamp.setNanos(in.readInt());
+        return timestamp;
+    }
+
+    /**
+     * Writes the given region of a string as UTF-8, encoding the same way as {@link String#getBytes(java.nio.charset.Charset)}
+     * but without allocating an intermediate array for every value.
+     */
+    private void writeString(DataOutput out, String value, int start, int end) throws IOException {
+        // DataOutput#writeUTF is limited to 64KB which redo SQL values may exceed
+        final int maxLength = (end - start) * 3;
+        if (maxLength > MAX_SCRATCH_SIZE) {
+            // rare large values are not worth keeping a buffer of their size
+            writeBytes(out, value.substring(start, end).getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        if (scratch.length < maxLength) {
+            scratch = new byte[maxLength];
+        }
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                scratch[length++] = (byte) c;
+            }
+            else if (c < 0x800) {
+                scratch[length++] = (byte) (0xC0 | (c >> 6));
+                scratch[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+            else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    scratch[length++] = (byte) (0xF0 | (codePoint >> 18));
+                    scratch[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    scratch[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    scratch[length++] = (byte) (0x80 | (codePoint & 0x3F));
+                }
+                else {
+                    // unpaired surrogates are replaced the same way as by String#getBytes
+                    scratch[length++] = '?';
+                }
+            }
+            else {
+                scratch[length++] = (byte) (0xE0 | (c >> 12));
+                scratch[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                scratch[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        writeVarInt(out, length);
+        out.write(scratch, 0, length);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        final byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Writes a non-negative int using 7 bits per byte, so that small values such as dictionary indexes
+     * and lengths of short values take a single byte.
+     */
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * The dictionaries of table ids, column names and table versions the events of a transaction refer to by index.
+     */
+    @NotThreadSafe
+    static final class Dictionary {
+
+        private final List<TableId> tableIds = new ArrayList<>();
+        private final Map<TableId, Integer> tableIndexes = new HashMap<>();
+        private final List<String> columnNames = new ArrayList<>();
+        private final Map<String, Integer> columnNameIndexes = new HashMap<>();
+        private final List<Table> tableVersions = new ArrayList<>();
+        private final Map<Table, Integer> tableVersionIndexes = new IdentityHashMap<>();
+        private final Set<TableId> versionedTables = new HashSet<>();
+        private boolean superseded;
+
+        private int indexOf(TableId tableId) {
+            return indexOf(tableId, tableIds, tableIndexes);
+        }
+
+        private int indexOf(String columnName) {
+            return indexOf(columnName, columnNames, columnNameIndexes);
+        }
+
+        private int indexOf(Table table) {
+            Integer index = tableVersionIndexes.get(table);
+            if (index == null) {
+                if (!versionedTables.add(table.id())) {
+                    // the schema of the table changed, the previous version is only needed by the open transactions
+                    superseded = true;
+                }
+                index = indexOf(table, tableVersions, tableVersionIndexes);
+            }
+            return index;
+        }
+
+        private int size() {
+            return tableIds.size() + columnNames.size() + tableVersions.size();
+        }
+
+        private static <T> int indexOf(T value, List<T> values, Map<T, Integer> indexes) {
+            Integer index = indexes.get(value);
+            if (index == null) {
+                index = values.size();
+                values.add(value);
+                indexes.put(value, index);
+            }
+            return index;
+        }
+    }
+}
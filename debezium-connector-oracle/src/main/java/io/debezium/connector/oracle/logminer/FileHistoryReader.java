@@ -0,0 +1,91 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+import io.debezium.annotation.ThreadSafe;
+
+/**
+ * Replays the LogMiner history written by a {@link FileHistoryRecorder}.
+ *
+ * The entries are passed to the consumer in the order they were recorded. Segments that cannot contain matching
+ * entries are skipped based on their index header, and only the matching entries of the other segments are decoded.
+ * The history may be replayed while it is being recorded; entries recorded during a replay may or may not be included.
+ */
+@ThreadSafe
+public class FileHistoryReader {
+
+    private final Path directory;
+
+    /**
+     * @param directory the directory the history was recorded to
+     */
+    public FileHistoryReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Replays the entries with a change time in the given range.
+     *
+     * @param from the earliest change time, inclusive
+     * @param to the latest change time, inclusive
+     * @param consumer the consumer of the entries
+     * @throws IOException if the history cannot be read
+     */
+    public void readTimeRange(Instant from, Instant to, Consumer<HistoryEntry> consumer) throws IOException {
+        final long fromMillis = from.toEpochMilli();
+        // the index holds the change times in milliseconds, the nanoseconds are compared once an entry is decoded
+        final long toMillis = to.toEpochMilli();
+        read(segment -> segment.readTimeRange(fromMillis, toMillis, entry -> {
+            final Instant changeTime = entry.getChangeTime().toInstant();
+            if (!changeTime.isBefore(from) && !changeTime.isAfter(to)) {
+                consumer.accept(entry);
+            }
+        }));
+    }
+
+    /**
+     * Replays the entries with an SCN in the given range.
+     *
+     * @param from the lowest SCN, inclusive
+     * @param to the highest SCN, inclusive
+     * @param consumer the consumer of the entries
+     * @throws IOException if the history cannot be read
+     */
+    public void readScnRange(Scn from, Scn to, Consumer<HistoryEntry> consumer) throws IOException {
+        read(segment -> segment.readScnRange(from.longValue(), to.longValue(), consumer));
+    }
+
+    /**
+     * Replays the entries of a transaction.
+     *
+     * @param transactionId the transaction identifier
+     * @param consumer the consumer of the entries
+     * @throws IOException if the history cannot be read
+     */
+    public void readTransaction(String transactionId, Consumer<HistoryEntry> consumer) throws IOException {
+        read(segment -> segment.readTransaction(transactionId, consumer));
+    }
+
+    private void read(Consumer<HistorySegment> reader) throws IOException {
+        for (Path dataFile : HistorySegment.list(directory)) {
+            final HistorySegment segment;
+            try {
+                segment = HistorySegment.open(dataFile);
+            }
+            catch (NoSuchFileException e) {
+                // deleted by the retention of the recorder in the meantime
+                continue;
+            }
+            reader.accept(segment);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.jdbc.JdbcConfiguration;
+
+/**
+ * A history recorder that writes the LogMiner entries to rolling, memory-mapped segment files on the connector host,
+ * rather than to the database.
+ *
+ * The entries are written asynchronously by the writer thread, so that recording an entry costs the mining loop no
+ * more than adding it to a queue. Each {@link HistorySegment} is indexed by SCN, change time and transaction, so that a
+ * {@link FileHistoryReader} can replay a range or a transaction quickly. When a segment is full, a new one is started,
+ * and the segments created more than {@link OracleConnectorConfig#getLogMinerHistoryRetentionHours()} ago are deleted.
+ *
+ * @see OracleConnectorConfig#LOG_MINING_HISTORY_RECORDER_FILE_DIRECTORY
+ * @see OracleConnectorConfig#LOG_MINING_HISTORY_RECORDER_FILE_SEGMENT_SIZE
+ */
+@ThreadSafe
+public class FileHistoryRecorder extends AbstractBufferedHistoryRecorder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileHistoryRecorder.class);
+
+    private String directoryName;
+    private int segmentSize;
+
+    private Path directory;
+    private Duration retention;
+    private HistorySegment segment;
+
+    @Override
+    public void configure(OracleConnectorConfig connectorConfig) {
+        super.configure(connectorConfig);
+        this.directoryName = connectorConfig.getLogMiningHistoryRecorderFileDirectory();
+        this.segmentSize = connectorConfig.getLogMiningHistoryRecorderFileSegmentSize();
+    }
+
+    @Override
+    protected void open(JdbcConfiguration jdbcConfiguration, long retentionHours) {
+        if (directoryName == null) {
+            throw new DebeziumException("The file history recorder requires '" + OracleConnectorConfig.LOG_MINING_HISTORY_RECORDER_FILE_DIRECTORY.name()
+                    + "' to be set");
+        }
+        directory = Paths.get(directoryName);
+        retention = retentionHours > 0 ? Duration.ofHours(retentionHours) : null;
+        try {
+            Files.createDirectories(directory);
+            deleteOutdatedSegments();
+            segment = newSegment();
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to prepare the LogMiner history directory " + directory, e);
+        }
+        LOGGER.info("Recording LogMiner history to directory {}", directory);
+    }
+
+    @Override
+    protected void write(List<HistoryEntry> entries) throws IOException {
+        for (HistoryEntry entry : entries) {
+            if (!segment.append(entry)) {
+                roll();
+                if (!segment.append(entry)) {
+                    LOGGER.warn("LogMiner history entry with SCN {} does not fit into a segment of {} bytes, skipped", entry.getScn(), segmentSize);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void release() {
+        if (segment != null) {
+            segment.close();
+            segment = null;
+        }
+    }
+
+    private void roll() throws IOException {
+        if (segment.isEmpty()) {
+            return;
+        }
+        segment.close();
+        segment = newSegment();
+        deleteOutdatedSegments();
+    }
+
+    private HistorySegment newSegment() throws IOException {
+        final List<Path> segments = HistorySegment.list(directory);
+        final long sequence = segments.isEmpty() ? 0 : HistorySegment.sequenceOf(segments.get(segments.size() - 1)) + 1;
+        final HistorySegment newSegment = HistorySegment.create(directory, sequence, segmentSize, System.currentTimeMillis());
+        LOGGER.debug("Started LogMiner history segment {}", newSegment.getDataFile());
+        return newSegment;
+    }
+
+    private void deleteOutdatedSegments() throws IOException {
+        if (retention == null) {
+            return;
+        }
+        final long oldestRetained = System.currentTimeMillis() - retention.toMillis();
+        for (Path dataFile : HistorySegment.list(directory)) {
+            if (segment != null && dataFile.equals(segment.getDataFile())) {
+                continue;
+            }
+            if (HistorySegment.createdMillisOf(dataFile) < oldestRetained) {
+                LOGGER.info("Deleting LogMiner history segment {}", dataFile);
+                HistorySegment.delete(dataFile);
+            }
+        }
+    }
+}
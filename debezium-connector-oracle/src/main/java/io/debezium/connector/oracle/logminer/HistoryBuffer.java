@@ -0,0 +1,127 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.connector.oracle.OracleConnectorConfig.LogMiningHistoryOverflowPolicy;
+
+/**
+ * A bounded, lock-free buffer handing LogMiner history entries from the mining loop to the thread writing them.
+ *
+ * The elements are held by a {@link ConcurrentLinkedQueue}, and the capacity is enforced by reserving a slot with a
+ * compare-and-set on a separate counter before an element is added, so that neither adding nor draining elements
+ * ever takes a lock. When the buffer is full, the {@link LogMiningHistoryOverflowPolicy} decides which element is
+ * dropped, if any.
+ *
+ * @param <T> the type of the buffered elements
+ */
+@ThreadSafe
+class HistoryBuffer<T> {
+
+    /**
+     * How long the {@link LogMiningHistoryOverflowPolicy#WAIT} policy parks between attempts to add an element.
+     */
+    private static final long WAIT_INTERVAL_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final Queue<T> elements = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int capacity;
+    private final LogMiningHistoryOverflowPolicy overflowPolicy;
+    private final long overflowWaitNanos;
+
+    HistoryBuffer(int capacity, LogMiningHistoryOverflowPolicy overflowPolicy, Duration overflowWait) {
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.overflowWaitNanos = overflowWait.toNanos();
+    }
+
+    /**
+     * Adds an element to the buffer, applying the overflow policy if the buffer is full.
+     *
+     * @param element the element to add
+     * @return the number of elements dropped to honor the capacity, either the new or the oldest element
+     */
+    int add(T element) {
+        if (reserve()) {
+            elements.offer(element);
+            return 0;
+        }
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                // the new element takes over the slot of the oldest one
+                if (elements.poll() != null) {
+                    elements.offer(element);
+                    return 1;
+                }
+                // the buffer was drained in the meantime
+                if (reserve()) {
+                    elements.offer(element);
+                    return 0;
+                }
+                return 1;
+            case WAIT:
+                final long deadline = System.nanoTime() + overflowWaitNanos;
+                while (deadline - System.nanoTime() > 0) {
+                    LockSupport.parkNanos(WAIT_INTERVAL_NANOS);
+                    if (reserve()) {
+                        elements.offer(element);
+                        return 0;
+                    }
+                }
+                return 1;
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * Removes up to the given number of elements from the buffer, oldest first.
+     *
+     * @param target the collection the removed elements are added to
+     * @param maxElements the maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    int drain(Collection<? super T> target, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            final T element = elements.poll();
+            if (element == null) {
+                break;
+            }
+            size.decrementAndGet();
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * @return the number of elements in the buffer, including those that are about to be added
+     */
+    int size() {
+        return size.get();
+    }
+
+    private boolean reserve() {
+        while (true) {
+            final int current = size.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+}
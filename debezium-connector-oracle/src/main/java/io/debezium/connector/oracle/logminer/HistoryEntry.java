@@ -0,0 +1,109 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.Timestamp;
+import java.util.Objects;
+
+import io.debezium.annotation.Immutable;
+
+/**
+ * A LogMiner entry recorded by a {@link HistoryRecorder}.
+ */
+@Immutable
+public final class HistoryEntry {
+
+    private final Scn scn;
+    private final String tableName;
+    private final String segOwner;
+    private final int operationCode;
+    private final Timestamp changeTime;
+    private final String transactionId;
+    private final int csf;
+    private final String redoSql;
+
+    public HistoryEntry(Scn scn, String tableName, String segOwner, int operationCode, Timestamp changeTime, String transactionId,
+                        int csf, String redoSql) {
+        this.scn = scn;
+        this.tableName = tableName;
+        this.segOwner = segOwner;
+        this.operationCode = operationCode;
+        this.changeTime = changeTime;
+        this.transactionId = transactionId;
+        this.csf = csf;
+        this.redoSql = redoSql;
+    }
+
+    public Scn getScn() {
+        return scn;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getSegOwner() {
+        return segOwner;
+    }
+
+    public int getOperationCode() {
+        return operationCode;
+    }
+
+    public Timestamp getChangeTime() {
+        return changeTime;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public int getCsf() {
+        return csf;
+    }
+
+    public String getRedoSql() {
+        return redoSql;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        HistoryEntry that = (HistoryEntry) o;
+        return operationCode == that.operationCode &&
+                csf == that.csf &&
+                Objects.equals(scn, that.scn) &&
+                Objects.equals(tableName, that.tableName) &&
+                Objects.equals(segOwner, that.segOwner) &&
+                Objects.equals(changeTime, that.changeTime) &&
+                Objects.equals(transactionId, that.transactionId) &&
+                Objects.equals(redoSql, that.redoSql);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(scn, tableName, segOwner, operationCode, changeTime, transactionId, csf, redoSql);
+    }
+
+    @Override
+    public String toString() {
+        return "HistoryEntry{" +
+                "scn=" + scn +
+                ", tableName='" + tableName + '\'' +
+                ", segOwner='" + segOwner + '\'' +
+                ", operationCode=" + operationCode +
+                ", changeTime=" + changeTime +
+                ", transactionId='" + transactionId + '\'' +
+                ", csf=" + csf +
+                ", redoSql='" + redoSql + '\'' +
+                '}';
+    }
+}
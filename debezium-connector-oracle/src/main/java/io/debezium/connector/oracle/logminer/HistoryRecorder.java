@@ -8,6 +8,7 @@ package io.debezium.connector.oracle.logminer;
 import java.sql.Timestamp;
 
 import io.debezium.common.annotation.Incubating;
+import io.debezium.connector.oracle.OracleConnectorConfig;
 import io.debezium.jdbc.JdbcConfiguration;
 
 /**
@@ -15,6 +16,15 @@ import io.debezium.jdbc.JdbcConfiguration;
  */
 @Incubating
 public interface HistoryRecorder extends AutoCloseable {
+    /**
+     * Configures the history recorder from the connector configuration, before it is prepared.
+     * By default, the connector configuration is ignored.
+     *
+     * @param connectorConfig the connector configuration
+     */
+    default void configure(OracleConnectorConfig connectorConfig) {
+    }
+
     /**
      * Prepares the history recorder
      *
@@ -0,0 +1,414 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * A segment of the LogMiner history written by a {@link FileHistoryRecorder}.
+ *
+ * A segment consists of a data file holding the entries and an index file holding the SCN, the change time, the
+ * position in the data file and the hash of the transaction identifier of each entry, both of a fixed size and mapped
+ * into memory. The index header also holds the number of entries and their SCN and change time ranges, so that readers
+ * can skip whole segments, and find the entries of a range or a transaction without decoding the others. The number of
+ * entries is updated after an entry has been written completely, so that readers never see partially written entries.
+ *
+ * Segments are named after a sequence number, so that their names sort in the order they were written.
+ */
+@NotThreadSafe
+final class HistorySegment implements AutoCloseable {
+
+    static final int DATA_MAGIC = 0x444C4D48;
+    static final int INDEX_MAGIC = 0x444C4D49;
+    static final int VERSION = 1;
+
+    static final String FILE_PREFIX = "logminer-history-";
+    static final String DATA_SUFFIX = ".dat";
+    static final String INDEX_SUFFIX = ".idx";
+
+    /**
+     * Magic, version and creation time.
+     */
+    private static final int DATA_HEADER_SIZE = 16;
+
+    /**
+     * Magic, version, number of entries, padding, and the minimum and maximum SCN and change time.
+     */
+    private static final int INDEX_HEADER_SIZE = 48;
+    private static final int INDEX_COUNT_POSITION = 8;
+    private static final int INDEX_RANGE_POSITION = 16;
+
+    /**
+     * SCN, change time, position in the data file and hash of the transaction identifier.
+     */
+    private static final int INDEX_ENTRY_SIZE = 24;
+
+    /**
+     * Length, SCN, change time, nanoseconds, operation code, continuation flag, and the lengths of four strings.
+     */
+    private static final int MIN_ENTRY_SIZE = 48;
+
+    private static final long NULL_SCN = -1;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    private final Path dataFile;
+    private final Path indexFile;
+    private final MappedByteBuffer data;
+    private final MappedByteBuffer index;
+    private final long createdMillis;
+    private int count;
+    private long minScn;
+    private long maxScn;
+    private long minTime;
+    private long maxTime;
+
+    private HistorySegment(Path dataFile, Path indexFile, MappedByteBuffer data, MappedByteBuffer index) {
+        this.dataFile = dataFile;
+        this.indexFile = indexFile;
+        this.data = data;
+        this.index = index;
+        this.createdMillis = data.getLong(8);
+        this.count = index.getInt(INDEX_COUNT_POSITION);
+        this.minScn = index.getLong(INDEX_RANGE_POSITION);
+        this.maxScn = index.getLong(INDEX_RANGE_POSITION + 8);
+        this.minTime = index.getLong(INDEX_RANGE_POSITION + 16);
+        this.maxTime = index.getLong(INDEX_RANGE_POSITION + 24);
+    }
+
+    /**
+     * Creates a new, empty segment.
+     *
+     * @param directory the directory of the segment files
+     * @param sequence the sequence number of the segment
+     * @param size the size of the data file in bytes
+     * @param createdMillis the creation time of the segment
+     * @return the segment, positioned to append entries
+     * @throws IOException if the segment files cannot be created
+     */
+    static HistorySegment create(Path directory, long sequence, int size, long createdMillis) throws IOException {
+        final String name = FILE_PREFIX + String.format("%020d", sequence);
+        final Path dataFile = directory.resolve(name + DATA_SUFFIX);
+        final Path indexFile = directory.resolve(name + INDEX_SUFFIX);
+
+        final MappedByteBuffer data = map(dataFile, Math.max(size, DATA_HEADER_SIZE + MIN_ENTRY_SIZE), true);
+        data.putInt(DATA_MAGIC).putInt(VERSION).putLong(createdMillis);
+
+        // an entry takes at least twice the size of its index entry
+        final MappedByteBuffer index = map(indexFile, INDEX_HEADER_SIZE + data.capacity() / 2, true);
+        index.putInt(INDEX_MAGIC).putInt(VERSION).putInt(0).putInt(0);
+        index.putLong(Long.MAX_VALUE).putLong(Long.MIN_VALUE).putLong(Long.MAX_VALUE).putLong(Long.MIN_VALUE);
+
+        return new HistorySegment(dataFile, indexFile, data, index);
+    }
+
+    /**
+     * Opens an existing segment for reading.
+     *
+     * @param dataFile the data file of the segment
+     * @return the segment
+     * @throws IOException if the segment files cannot be read
+     * @throws DebeziumException if the files are not a LogMiner history segment
+     */
+    static HistorySegment open(Path dataFile) throws IOException {
+        final Path indexFile = indexFileOf(dataFile);
+        final MappedByteBuffer data = map(dataFile, -1, false);
+        final MappedByteBuffer index = map(indexFile, -1, false);
+        if (data.capacity() < DATA_HEADER_SIZE || data.getInt(0) != DATA_MAGIC || index.capacity() < INDEX_HEADER_SIZE
+                || index.getInt(0) != INDEX_MAGIC) {
+            throw new DebeziumException("File " + dataFile + " is not a LogMiner history segment");
+        }
+        if (data.getInt(4) != VERSION || index.getInt(4) != VERSION) {
+            throw new DebeziumException("Unsupported version of LogMiner history segment " + dataFile);
+        }
+        return new HistorySegment(dataFile, indexFile, data, index);
+    }
+
+    /**
+     * Returns the data files of the segments in a directory, in the order they were written.
+     *
+     * @param directory the directory of the segment files
+     * @return the data files of the segments
+     * @throws IOException if the directory cannot be read
+     */
+    static List<Path> list(Path directory) throws IOException {
+        final List<Path> dataFiles = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + DATA_SUFFIX)) {
+            for (Path dataFile : stream) {
+                dataFiles.add(dataFile);
+            }
+        }
+        Collections.sort(dataFiles);
+        return dataFiles;
+    }
+
+    /**
+     * Returns the sequence number of a segment.
+     *
+     * @param dataFile the data file of the segment
+     * @return the sequence number
+     */
+    static long sequenceOf(Path dataFile) {
+        final String name = dataFile.getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - DATA_SUFFIX.length()));
+    }
+
+    static Path indexFileOf(Path dataFile) {
+        final String name = dataFile.getFileName().toString();
+        return dataFile.resolveSibling(name.substring(0, name.length() - DATA_SUFFIX.length()) + INDEX_SUFFIX);
+    }
+
+    /**
+     * Deletes the files of a segment.
+     *
+     * @param dataFile the data file of the segment
+     * @throws IOException if the files cannot be deleted
+     */
+    static void delete(Path dataFile) throws IOException {
+        Files.deleteIfExists(indexFileOf(dataFile));
+        Files.deleteIfExists(dataFile);
+    }
+
+    /**
+     * Reads the creation time of a segment, without mapping it.
+     *
+     * @param dataFile the data file of the segment
+     * @return the creation time in milliseconds since the epoch
+     * @throws IOException if the data file cannot be read
+     */
+    static long createdMillisOf(Path dataFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(DATA_HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // read the whole header
+            }
+            if (header.hasRemaining() || header.getInt(0) != DATA_MAGIC) {
+                throw new DebeziumException("File " + dataFile + " is not a LogMiner history segment");
+            }
+            return header.getLong(8);
+        }
+    }
+
+    /**
+     * Appends an entry to the segment.
+     *
+     * @param entry the entry
+     * @return {@code true} if the entry was appended, {@code false} if the segment has no room for it
+     */
+    boolean append(HistoryEntry entry) {
+        final byte[] tableName = encode(entry.getTableName());
+        final byte[] segOwner = encode(entry.getSegOwner());
+        final byte[] transactionId = encode(entry.getTransactionId());
+        final byte[] redoSql = encode(entry.getRedoSql());
+        final int length = MIN_ENTRY_SIZE + sizeOf(tableName) + sizeOf(segOwner) + sizeOf(transactionId) + sizeOf(redoSql);
+        if (data.remaining() < length || index.remaining() < INDEX_ENTRY_SIZE) {
+            return false;
+        }
+
+        final long scn = entry.getScn() != null ? entry.getScn().longValue() : NULL_SCN;
+        final Timestamp changeTime = entry.getChangeTime();
+        final long time = changeTime != null ? changeTime.getTime() : NULL_TIME;
+
+        final int position = data.position();
+        data.putInt(length);
+        data.putLong(scn);
+        data.putLong(time);
+        data.putInt(changeTime != null ? changeTime.getNanos() : 0);
+        data.putInt(entry.getOperationCode());
+        data.putInt(entry.getCsf());
+        put(tableName);
+        put(segOwner);
+        put(transactionId);
+        put(redoSql);
+
+        index.putLong(scn);
+        index.putLong(time);
+        index.putInt(position);
+        index.putInt(hash(entry.getTransactionId()));
+
+        minScn = Math.min(minScn, scn);
+        maxScn = Math.max(maxScn, scn);
+        if (time != NULL_TIME) {
+            minTime = Math.min(minTime, time);
+            maxTime = Math.max(maxTime, time);
+        }
+        index.putLong(INDEX_RANGE_POSITION, minScn);
+        index.putLong(INDEX_RANGE_POSITION + 8, maxScn);
+        index.putLong(INDEX_RANGE_POSITION + 16, minTime);
+        index.putLong(INDEX_RANGE_POSITION + 24, maxTime);
+        // publishes the entry to readers
+        index.putInt(INDEX_COUNT_POSITION, ++count);
+        return true;
+    }
+
+    /**
+     * @return whether no entry was appended to the segment yet
+     */
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @return the creation time of the segment in milliseconds since the epoch
+     */
+    long getCreatedMillis() {
+        return createdMillis;
+    }
+
+    Path getDataFile() {
+        return dataFile;
+    }
+
+    /**
+     * Passes the entries with an SCN in the given range to a consumer, in the order they were written.
+     *
+     * @param fromScn the lowest SCN, inclusive
+     * @param toScn the highest SCN, inclusive
+     * @param consumer the consumer of the entries
+     */
+    void readScnRange(long fromScn, long toScn, Consumer<HistoryEntry> consumer) {
+        final int entries = index.getInt(INDEX_COUNT_POSITION);
+        if (entries == 0 || index.getLong(INDEX_RANGE_POSITION) > toScn || index.getLong(INDEX_RANGE_POSITION + 8) < fromScn) {
+            return;
+        }
+        for (int i = 0; i < entries; i++) {
+            final long scn = index.getLong(INDEX_HEADER_SIZE + i * INDEX_ENTRY_SIZE);
+            if (scn >= fromScn && scn <= toScn) {
+                consumer.accept(read(i));
+            }
+        }
+    }
+
+    /**
+     * Passes the entries with a change time in the given range to a consumer, in the order they were written.
+     *
+     * @param fromMillis the lowest change time in milliseconds since the epoch, inclusive
+     * @param toMillis the highest change time in milliseconds since the epoch, inclusive
+     * @param consumer the consumer of the entries
+     */
+    void readTimeRange(long fromMillis, long toMillis, Consumer<HistoryEntry> consumer) {
+        final int entries = index.getInt(INDEX_COUNT_POSITION);
+        if (entries == 0 || index.getLong(INDEX_RANGE_POSITION + 16) > toMillis || index.getLong(INDEX_RANGE_POSITION + 24) < fromMillis) {
+            return;
+        }
+        for (int i = 0; i < entries; i++) {
+            final long time = index.getLong(INDEX_HEADER_SIZE + i * INDEX_ENTRY_SIZE + 8);
+            if (time != NULL_TIME && time >= fromMillis && time <= toMillis) {
+                consumer.accept(read(i));
+            }
+        }
+    }
+
+    /**
+     * Passes the entries of a transaction to a consumer, in the order they were written.
+     *
+     * @param transactionId the transaction identifier
+     * @param consumer the consumer of the entries
+     */
+    void readTransaction(String transactionId, Consumer<HistoryEntry> consumer) {
+        final int hash = hash(transactionId);
+        final int entries = index.getInt(INDEX_COUNT_POSITION);
+        for (int i = 0; i < entries; i++) {
+            if (index.getInt(INDEX_HEADER_SIZE + i * INDEX_ENTRY_SIZE + 20) == hash) {
+                final HistoryEntry entry = read(i);
+                if (transactionId.equals(entry.getTransactionId())) {
+                    consumer.accept(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the changes of the segment to the storage device.
+     */
+    @Override
+    public void close() {
+        data.force();
+        index.force();
+    }
+
+    @Override
+    public String toString() {
+        return "HistorySegment{dataFile=" + dataFile + ", indexFile=" + indexFile + ", entries=" + count + "}";
+    }
+
+    private HistoryEntry read(int entry) {
+        final ByteBuffer buffer = data.duplicate();
+        buffer.position(index.getInt(INDEX_HEADER_SIZE + entry * INDEX_ENTRY_SIZE + 16) + 4);
+        final long scn = buffer.getLong();
+        final long time = buffer.getLong();
+        final int nanos = buffer.getInt();
+        final int operationCode = buffer.getInt();
+        final int csf = buffer.getInt();
+        Timestamp changeTime = null;
+        if (time != NULL_TIME) {
+            changeTime = new Timestamp(time);
+            changeTime.setNanos(nanos);
+        }
+        return new HistoryEntry(scn != NULL_SCN ? new Scn(BigDecimal.valueOf(scn)) : null, get(buffer), get(buffer), operationCode,
+                changeTime, get(buffer), csf, get(buffer));
+    }
+
+    private void put(byte[] value) {
+        if (value == null) {
+            data.putInt(-1);
+        }
+        else {
+            data.putInt(value.length);
+            data.put(value);
+        }
+    }
+
+    private static String get(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] encode(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int sizeOf(byte[] value) {
+        return value != null ? value.length : 0;
+    }
+
+    private static int hash(String transactionId) {
+        return transactionId != null ? transactionId.hashCode() : 0;
+    }
+
+    private static MappedByteBuffer map(Path file, int size, boolean create) throws IOException {
+        if (create) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return channel.map(MapMode.READ_WRITE, 0, size);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
@@ -5,10 +5,8 @@
  */
 package io.debezium.connector.oracle.logminer;
 
-import java.util.Arrays;
-import java.util.List;
-
 import io.debezium.connector.oracle.BaseChangeRecordEmitter;
+import io.debezium.connector.oracle.ColumnPositionIndex;
 import io.debezium.connector.oracle.logminer.valueholder.LogMinerColumnValue;
 import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
 import io.debezium.data.Envelope.Operation;
@@ -25,7 +23,12 @@ public class LogMinerChangeRecordEmitter extends BaseChangeRecordEmitter<LogMine
     protected final Table table;
 
     public LogMinerChangeRecordEmitter(OffsetContext offset, LogMinerDmlEntry dmlEntry, Table table, Clock clock) {
-        super(offset, table, clock);
+        this(offset, dmlEntry, table, null, clock);
+    }
+
+    public LogMinerChangeRecordEmitter(OffsetContext offset, LogMinerDmlEntry dmlEntry, Table table, ColumnPositionIndex columnPositionIndex,
+                                       Clock clock) {
+        super(offset, table, columnPositionIndex, clock);
         this.dmlEntry = dmlEntry;
         this.table = table;
     }
@@ -37,16 +40,34 @@ public class LogMinerChangeRecordEmitter extends BaseChangeRecordEmitter<LogMine
 
     @Override
     protected Object[] getOldColumnValues() {
-        List<LogMinerColumnValue> valueList = dmlEntry.getOldValues();
-        LogMinerColumnValue[] result = Arrays.copyOf(valueList.toArray(), valueList.size(), LogMinerColumnValue[].class);
-        return getColumnValues(result);
+        if (table != null && dmlEntry.getTable() == table) {
+            return getColumnValuesByPosition(dmlEntry.getOldValuesByPosition());
+        }
+        return getColumnValues(dmlEntry.getOldValues());
     }
 
     @Override
     protected Object[] getNewColumnValues() {
-        List<LogMinerColumnValue> valueList = dmlEntry.getNewValues();
-        LogMinerColumnValue[] result = Arrays.copyOf(valueList.toArray(), valueList.size(), LogMinerColumnValue[].class);
-        return getColumnValues(result);
+        if (table != null && dmlEntry.getTable() == table) {
+            return getColumnValuesByPosition(dmlEntry.getNewValuesByPosition());
+        }
+        return getColumnValues(dmlEntry.getNewValues());
+    }
+
+    /**
+     * Returns the data of values the parser already placed by position, which is only done for the
+     * very table version that is being emitted.
+     */
+    private Object[] getColumnValuesByPosition(LogMinerColumnValue[] valuesByPosition) {
+        Object[] values = new Object[table.columns().size()];
+        if (valuesByPosition != null) {
+            for (int i = 0; i < valuesByPosition.length; i++) {
+                if (valuesByPosition[i] != null) {
+                    values[i] = valuesByPosition[i].getColumnData();
+                }
+            }
+        }
+        return values;
     }
 
     @Override
@@ -0,0 +1,120 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.Timestamp;
+
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
+import io.debezium.relational.TableId;
+
+/**
+ * A single row read from the LogMiner contents view, with continuation rows of the redo SQL
+ * already assembled. For DML rows, the parsed entry is attached once the redo SQL has been parsed.
+ */
+class LogMinerEventRow {
+
+    private final Scn scn;
+    private final String tableName;
+    private final String segOwner;
+    private final int operationCode;
+    private final Timestamp changeTime;
+    private final String transactionId;
+    private final String operation;
+    private final String userName;
+    private final String redoSql;
+    private final TableId tableId;
+    private LogMinerDmlEntry dmlEntry;
+
+    LogMinerEventRow(Scn scn, String tableName, String segOwner, int operationCode, Timestamp changeTime,
+                     String transactionId, String operation, String userName, String redoSql, TableId tableId) {
+        this.scn = scn;
+        this.tableName = tableName;
+        this.segOwner = segOwner;
+        this.operationCode = operationCode;
+        this.changeTime = changeTime;
+        this.transactionId = transactionId;
+        this.operation = operation;
+        this.userName = userName;
+        this.redoSql = redoSql;
+        this.tableId = tableId;
+    }
+
+    Scn getScn() {
+        return scn;
+    }
+
+    String getTableName() {
+        return tableName;
+    }
+
+    String getSegOwner() {
+        return segOwner;
+    }
+
+    int getOperationCode() {
+        return operationCode;
+    }
+
+    Timestamp getChangeTime() {
+        return changeTime;
+    }
+
+    String getTransactionId() {
+        return transactionId;
+    }
+
+    String getOperation() {
+        return operation;
+    }
+
+    String getUserName() {
+        return userName;
+    }
+
+    String getRedoSql() {
+        return redoSql;
+    }
+
+    /**
+     * @return the table of a DML row, {@code null} for all other rows
+     */
+    TableId getTableId() {
+        return tableId;
+    }
+
+    /**
+     * @return whether this row is an insert, update or delete
+     */
+    boolean isDml() {
+        return isDml(operationCode);
+    }
+
+    /**
+     * @return the parsed DML entry, {@code null} until the redo SQL of a DML row has been parsed
+     */
+    LogMinerDmlEntry getDmlEntry() {
+        return dmlEntry;
+    }
+
+    void setDmlEntry(LogMinerDmlEntry dmlEntry) {
+        this.dmlEntry = dmlEntry;
+    }
+
+    static boolean isDml(int operationCode) {
+        return operationCode == RowMapper.INSERT || operationCode == RowMapper.UPDATE || operationCode == RowMapper.DELETE;
+    }
+
+    @Override
+    public String toString() {
+        return "LogMinerEventRow{" +
+                "scn=" + scn +
+                ", operationCode=" + operationCode +
+                ", transactionId=" + transactionId +
+                ", segOwner=" + segOwner +
+                ", tableName=" + tableName +
+                '}';
+    }
+}
@@ -15,8 +15,6 @@ import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,11 +31,8 @@ import io.debezium.connector.oracle.OracleConnection;
 import io.debezium.connector.oracle.OracleConnectorConfig;
 import io.debezium.connector.oracle.OracleDatabaseSchema;
 import io.debezium.connector.oracle.OracleDatabaseVersion;
-import io.debezium.jdbc.JdbcConfiguration;
 import io.debezium.jdbc.JdbcConnection;
 import io.debezium.relational.TableId;
-import io.debezium.util.Clock;
-import io.debezium.util.Metronome;
 
 /**
  * This class contains methods to configure and manage LogMiner utility
@@ -59,30 +54,6 @@ public class LogMinerHelper {
         FLOAT
     }
 
-    private static Map<String, OracleConnection> racFlushConnections = new HashMap<>();
-
-    static void instantiateFlushConnections(JdbcConfiguration config, Set<String> hosts) {
-        for (OracleConnection conn : racFlushConnections.values()) {
-            if (conn != null) {
-                try {
-                    conn.close();
-                }
-                catch (SQLException e) {
-                    LOGGER.warn("Cannot close existing RAC flush connection", e);
-                }
-            }
-        }
-        racFlushConnections = new HashMap<>();
-        for (String host : hosts) {
-            try {
-                racFlushConnections.put(host, createFlushConnection(config, host));
-            }
-            catch (SQLException e) {
-                LOGGER.error("Cannot connect to RAC node {}", host, e);
-            }
-        }
-    }
-
     /**
      * This builds data dictionary objects in redo log files.
      * During this build, Oracle does an additional REDO LOG switch.
@@ -119,7 +90,7 @@ public class LogMinerHelper {
     static void createFlushTable(OracleConnection connection) throws SQLException {
         String tableExists = (String) getSingleResult(connection, SqlUtils.tableExistsQuery(SqlUtils.LOGMNR_FLUSH_TABLE), DATATYPE.STRING);
         if (tableExists == null) {
-            executeCallableStatement(connection, SqlUtils.CREATE_FLUSH_TABLE);
+            createTable(connection, SqlUtils.CREATE_FLUSH_TABLE);
         }
 
         String recordExists = (String) getSingleResult(connection, SqlUtils.FLUSH_TABLE_NOT_EMPTY, DATATYPE.STRING);
@@ -129,6 +100,53 @@ public class LogMinerHelper {
         }
     }
 
+    /**
+     * Fills the session-private filter table the mining query compares large table lists against, creating the table if
+     * needed. It must be called on the connection that runs the mining query.
+     *
+     * @param connection the connection of the mining query
+     * @param connectorConfig the connector configuration
+     * @throws SQLException if anything unexpected happens
+     */
+    static void populateFilterTable(OracleConnection connection, OracleConnectorConfig connectorConfig) throws SQLException {
+        List<TableId> tables = SqlUtils.logMinerFilterTableEntries(connectorConfig);
+        if (tables.isEmpty()) {
+            return;
+        }
+        String tableExists = (String) getSingleResult(connection, SqlUtils.tableExistsQuery(SqlUtils.LOGMNR_FILTER_TABLE), DATATYPE.STRING);
+        if (tableExists == null) {
+            createTable(connection, SqlUtils.CREATE_FILTER_TABLE);
+        }
+
+        executeCallableStatement(connection, SqlUtils.DELETE_FILTER_TABLE);
+        try (PreparedStatement statement = connection.connection(false).prepareStatement(SqlUtils.INSERT_FILTER_TABLE)) {
+            for (TableId table : tables) {
+                statement.setString(1, table.schema());
+                statement.setString(2, table.table());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        LOGGER.debug("Filtering the mining query by the {} tables of {}", tables.size(), SqlUtils.LOGMNR_FILTER_TABLE);
+    }
+
+    /**
+     * Creates a table, tolerating that another connector task created it since its existence was checked.
+     */
+    private static void createTable(OracleConnection connection, String createTableStatement) throws SQLException {
+        try {
+            executeCallableStatement(connection, createTableStatement);
+        }
+        catch (SQLException e) {
+            // ORA-00955: name is already used by an existing object
+            if (e.getErrorCode() != 955) {
+                throw e;
+            }
+            LOGGER.debug("The table was created concurrently: {}", createTableStatement);
+        }
+    }
+
     static void createLogMiningHistoryObjects(OracleConnection connection, String historyTableName) throws SQLException {
 
         String tableExists = (String) getSingleResult(connection, SqlUtils.tableExistsQuery(SqlUtils.LOGMNR_HISTORY_TEMP_TABLE), DATATYPE.STRING);
@@ -162,14 +180,12 @@ public class LogMinerHelper {
      * In addition capturing unlimited number of changes can blow up Java heap.
      * Gradual querying helps to catch up faster after long delays in mining.
      *
-     * @param connection container level database connection
+     * @param currentScn current SCN, as read when flushing the log writer
      * @param startScn start SCN
      * @param metrics MBean accessible metrics
      * @return next SCN to mine up to
-     * @throws SQLException if anything unexpected happens
      */
-    static long getEndScn(OracleConnection connection, long startScn, LogMinerMetrics metrics, int defaultBatchSize) throws SQLException {
-        long currentScn = getCurrentScn(connection);
+    static long getEndScn(long currentScn, long startScn, LogMinerMetrics metrics, int defaultBatchSize) {
         metrics.setCurrentScn(currentScn);
 
         long topScnToMine = startScn + metrics.getBatchSize();
@@ -197,21 +213,31 @@ public class LogMinerHelper {
         }
     }
 
+    /**
+     * This method returns next SCN for mining as sized by the adaptive mining window and also updates MBean metrics.
+     *
+     * @param currentScn current SCN, as read when flushing the log writer
+     * @param startScn start SCN
+     * @param metrics MBean accessible metrics
+     * @param miningWindow the adaptive mining window
+     * @return next SCN to mine up to
+     */
+    static long getEndScn(long currentScn, long startScn, LogMinerMetrics metrics, AdaptiveMiningWindow miningWindow) {
+        metrics.setCurrentScn(currentScn);
+        return miningWindow.getEndScn(startScn, currentScn);
+    }
+
     /**
      * It is critical to flush LogWriter(s) buffer
      *
      * @param connection container level database connection
-     * @param config configuration
-     * @param isRac true if this is the RAC system
-     * @param racHosts set of RAC host
+     * @param racFlusher flusher of the RAC nodes, null if this is not a RAC system
      * @throws SQLException exception
      */
-    static void flushLogWriter(OracleConnection connection, JdbcConfiguration config,
-                               boolean isRac, Set<String> racHosts)
-            throws SQLException {
+    static void flushLogWriter(OracleConnection connection, RacLogWriterFlusher racFlusher) throws SQLException {
         long currentScn = getCurrentScn(connection);
-        if (isRac) {
-            flushRacLogWriters(currentScn, config, racHosts);
+        if (racFlusher != null) {
+            racFlusher.flush(currentScn);
         }
         else {
             LOGGER.trace("Updating {} with SCN {}", SqlUtils.LOGMNR_FLUSH_TABLE, currentScn);
@@ -244,7 +270,7 @@ public class LogMinerHelper {
      *
      * @param connection container level database connection
      * @param startScn   the SCN to mine from
-     * @param endScn     the SCN to mine to
+     * @param endScn     the SCN to mine to, {@code null} to mine to the end of the added logs
      * @param strategy this is about dictionary location
      * @param isContinuousMining works < 19 version only
      * @param metrics log miner metrics
@@ -270,23 +296,15 @@ public class LogMinerHelper {
     }
 
     /**
-     * This method query the database to get CURRENT online redo log file(s). Multiple is applicable for RAC systems.
-     * @param connection connection to reuse
-     * @param metrics MBean accessible metrics
-     * @return full redo log file name(s), including path
+     * This method returns the PGA memory used by the session of the connection, which includes the memory of its LogMiner session.
+     *
+     * @param connection container level database connection
+     * @return the PGA memory of the session in bytes
      * @throws SQLException if anything unexpected happens
      */
-    static Set<String> getCurrentRedoLogFiles(OracleConnection connection, LogMinerMetrics metrics) throws SQLException {
-        Set<String> fileNames = new HashSet<>();
-        try (PreparedStatement st = connection.connection(false).prepareStatement(SqlUtils.currentRedoNameQuery()); ResultSet result = st.executeQuery()) {
-            while (result.next()) {
-                fileNames.add(result.getString(1));
-            }
-            LOGGER.trace(" Current Redo log fileNames: {} ", fileNames);
-        }
-
-        updateRedoLogMetrics(connection, metrics, fileNames);
-        return fileNames;
+    static long getSessionPgaMemory(OracleConnection connection) throws SQLException {
+        Long pgaMemory = (Long) getSingleResult(connection, SqlUtils.SESSION_PGA_MEMORY, DATATYPE.LONG);
+        return pgaMemory != null ? pgaMemory : 0L;
     }
 
     /**
@@ -319,43 +337,12 @@ public class LogMinerHelper {
         connection.executeWithoutCommitting(SqlUtils.NLS_SESSION_PARAMETERS);
     }
 
-    /**
-     * This is to update MBean metrics associated with REDO LOG groups
-     * @param connection connection
-     * @param fileNames name of current REDO LOG files
-     * @param metrics current metrics
-     */
-    private static void updateRedoLogMetrics(OracleConnection connection, LogMinerMetrics metrics, Set<String> fileNames) {
-        try {
-            // update metrics
-            Map<String, String> logStatuses = getRedoLogStatus(connection);
-            metrics.setRedoLogStatus(logStatuses);
-
-            int counter = getSwitchCount(connection);
-            metrics.setSwitchCount(counter);
-            metrics.setCurrentLogFileName(fileNames);
-        }
-        catch (SQLException e) {
-            LOGGER.error("Cannot update metrics");
-        }
-    }
-
-    /**
-     * This fetches online redo log statuses
-     * @param connection privileged connection
-     * @return REDO LOG statuses Map, where key is the REDO name and value is the status
-     * @throws SQLException if anything unexpected happens
-     */
-    private static Map<String, String> getRedoLogStatus(OracleConnection connection) throws SQLException {
-        return getMap(connection, SqlUtils.redoLogStatusQuery(), UNKNOWN);
-    }
-
     /**
      * This fetches REDO LOG switch count for the last day
      * @param connection privileged connection
      * @return counter
      */
-    private static int getSwitchCount(OracleConnection connection) {
+    static int getSwitchCount(OracleConnection connection) {
         try {
             Map<String, String> total = getMap(connection, SqlUtils.switchHistoryQuery(), UNKNOWN);
             if (total != null && total.get(TOTAL) != null) {
@@ -368,61 +355,6 @@ public class LogMinerHelper {
         return 0;
     }
 
-    /**
-     * Oracle RAC has one LogWriter per node (instance), we have to flush them all
-     * We cannot use a query like from gv_instance view to get all the nodes, because not all nodes could be load balanced.
-     * We also cannot rely on connection factory, because it may return connection to the same instance multiple times
-     * Instead we are asking node ip list from configuration
-     */
-    private static void flushRacLogWriters(long currentScn, JdbcConfiguration config, Set<String> racHosts) {
-        Instant startTime = Instant.now();
-        if (racHosts.isEmpty()) {
-            throw new RuntimeException("No RAC node ip addresses were supplied in the configuration");
-        }
-
-        // todo: Ugly, but, using one factory.connect() in the loop, it may always connect the same node with badly configured load balancer
-        boolean errors = false;
-        for (String host : racHosts) {
-            try {
-                OracleConnection conn = racFlushConnections.get(host);
-                if (conn == null) {
-                    LOGGER.warn("Connection to the node {} was not instantiated", host);
-                    errors = true;
-                    continue;
-                }
-                LOGGER.trace("Flushing Log Writer buffer of node {}", host);
-                executeCallableStatement(conn, SqlUtils.UPDATE_FLUSH_TABLE + currentScn);
-                conn.commit();
-            }
-            catch (Exception e) {
-                LOGGER.warn("Cannot flush Log Writer buffer of the node {} due to {}", host, e);
-                errors = true;
-            }
-        }
-
-        if (errors) {
-            instantiateFlushConnections(config, racHosts);
-            LOGGER.warn("Not all LogWriter buffers were flushed. Sleeping for 3 seconds to let Oracle do the flush.", racHosts);
-            Metronome metronome = Metronome.sleeper(Duration.ofMillis(3000), Clock.system());
-            try {
-                metronome.pause();
-            }
-            catch (InterruptedException e) {
-                LOGGER.warn("Metronome was interrupted");
-            }
-        }
-
-        LOGGER.trace("Flushing RAC Log Writers took {} ", Duration.between(startTime, Instant.now()));
-    }
-
-    // todo use pool
-    private static OracleConnection createFlushConnection(JdbcConfiguration config, String host) throws SQLException {
-        JdbcConfiguration hostConfig = JdbcConfiguration.adapt(config.edit().with(JdbcConfiguration.DATABASE, host).build());
-        OracleConnection connection = new OracleConnection(hostConfig, () -> LogMinerHelper.class.getClassLoader());
-        connection.setAutoCommit(false);
-        return connection;
-    }
-
     /**
      * This method validates the supplemental logging configuration for the source database.
      *
@@ -503,29 +435,94 @@ public class LogMinerHelper {
      */
     // todo: check RAC resiliency
     public static void setRedoLogFilesForMining(OracleConnection connection, Long lastProcessedScn, Duration archiveLogRetention) throws SQLException {
+        addLogFilesForMining(connection, lastProcessedScn, getOnlineLogFilesForOffsetScn(connection, lastProcessedScn),
+                getArchivedLogFilesForOffsetScn(connection, lastProcessedScn, archiveLogRetention));
+    }
 
-        removeLogFilesFromMining(connection);
-
-        Map<String, BigInteger> onlineLogFilesForMining = getOnlineLogFilesForOffsetScn(connection, lastProcessedScn);
-        Map<String, BigInteger> archivedLogFilesForMining = getArchivedLogFilesForOffsetScn(connection, lastProcessedScn, archiveLogRetention);
-
-        if (onlineLogFilesForMining.size() + archivedLogFilesForMining.size() == 0) {
-            throw new IllegalStateException("None of log files contains offset SCN: " + lastProcessedScn + ", re-snapshot is required.");
+    /**
+     * This method substitutes CONTINUOUS_MINE functionality, taking the log files from the redo log catalog.
+     * If log files are registered with the LogMiner session already, only the files that changed are removed and added.
+     * If a cached log file cannot be added, e.g. because the archive log was deleted since, the catalog is reloaded.
+     *
+     * @param connection connection
+     * @param catalog redo log catalog
+     * @param registeredFiles the log files registered with the LogMiner session
+     * @param lastProcessedScn current offset
+     * @param archiveLogRetention the duration that archive logs will be mined
+     * @throws SQLException if anything unexpected happens
+     */
+    static void setRedoLogFilesForMining(OracleConnection connection, RedoLogCatalog catalog, RegisteredLogFiles registeredFiles,
+                                         Long lastProcessedScn, Duration archiveLogRetention)
+            throws SQLException {
+        catalog.refresh(connection);
+        try {
+            registerLogFilesForMining(connection, registeredFiles, lastProcessedScn, selectLogFilesForMining(lastProcessedScn,
+                    catalog.getOnlineLogFilesForOffsetScn(lastProcessedScn), catalog.getArchivedLogFilesForOffsetScn(lastProcessedScn, archiveLogRetention)));
+        }
+        catch (SQLException e) {
+            LOGGER.debug("Cannot add the cached log files for mining, reloading the redo log catalog", e);
+            catalog.invalidate();
+            catalog.refresh(connection);
+            registeredFiles.clear();
+            registerLogFilesForMining(connection, registeredFiles, lastProcessedScn, selectLogFilesForMining(lastProcessedScn,
+                    catalog.getOnlineLogFilesForOffsetScn(lastProcessedScn), catalog.getArchivedLogFilesForOffsetScn(lastProcessedScn, archiveLogRetention)));
         }
+    }
 
-        List<String> logFilesNames = onlineLogFilesForMining.entrySet().stream().map(Map.Entry::getKey).collect(Collectors.toList());
-        // remove duplications
-        List<String> archivedLogFiles = archivedLogFilesForMining.entrySet().stream()
-                .filter(e -> !onlineLogFilesForMining.values().contains(e.getValue())).map(Map.Entry::getKey).collect(Collectors.toList());
-        logFilesNames.addAll(archivedLogFiles);
+    private static void addLogFilesForMining(OracleConnection connection, Long lastProcessedScn, Map<String, BigInteger> onlineLogFilesForMining,
+                                             Map<String, BigInteger> archivedLogFilesForMining)
+            throws SQLException {
 
-        for (String file : logFilesNames) {
+        removeLogFilesFromMining(connection);
+
+        Map<String, BigInteger> logFiles = selectLogFilesForMining(lastProcessedScn, onlineLogFilesForMining, archivedLogFilesForMining);
+        for (String file : logFiles.keySet()) {
             LOGGER.trace("Adding log file {} to mining session", file);
             String addLogFileStatement = SqlUtils.addLogFileStatement("DBMS_LOGMNR.ADDFILE", file);
             executeCallableStatement(connection, addLogFileStatement);
         }
 
-        LOGGER.debug("Last mined SCN: {}, Log file list to mine: {}\n", lastProcessedScn, logFilesNames);
+        LOGGER.debug("Last mined SCN: {}, Log file list to mine: {}\n", lastProcessedScn, logFiles.keySet());
+    }
+
+    private static void registerLogFilesForMining(OracleConnection connection, RegisteredLogFiles registeredFiles, Long lastProcessedScn,
+                                                  Map<String, BigInteger> logFiles)
+            throws SQLException {
+        if (registeredFiles.isEmpty()) {
+            removeLogFilesFromMining(connection);
+        }
+
+        for (String file : registeredFiles.getFilesToRemove(logFiles)) {
+            LOGGER.trace("Removing log file {} from mining session", file);
+            executeCallableStatement(connection, SqlUtils.deleteLogFileStatement(file));
+            registeredFiles.removed(file);
+        }
+        for (Map.Entry<String, BigInteger> file : registeredFiles.getFilesToAdd(logFiles).entrySet()) {
+            LOGGER.trace("Adding log file {} to mining session", file.getKey());
+            executeCallableStatement(connection, SqlUtils.addLogFileStatement("DBMS_LOGMNR.ADDFILE", file.getKey()));
+            registeredFiles.added(file.getKey(), file.getValue());
+        }
+
+        LOGGER.debug("Last mined SCN: {}, Log file list to mine: {}\n", lastProcessedScn, logFiles.keySet());
+    }
+
+    /**
+     * Selects the online log files and the archive logs not duplicating one of them.
+     *
+     * @return the log files to mine, mapped to their next change
+     */
+    private static Map<String, BigInteger> selectLogFilesForMining(Long lastProcessedScn, Map<String, BigInteger> onlineLogFilesForMining,
+                                                                   Map<String, BigInteger> archivedLogFilesForMining) {
+        if (onlineLogFilesForMining.size() + archivedLogFilesForMining.size() == 0) {
+            throw new IllegalStateException("None of log files contains offset SCN: " + lastProcessedScn + ", re-snapshot is required.");
+        }
+
+        Map<String, BigInteger> logFiles = new LinkedHashMap<>(onlineLogFilesForMining);
+        // remove duplications
+        archivedLogFilesForMining.entrySet().stream()
+                .filter(e -> !onlineLogFilesForMining.values().contains(e.getValue()))
+                .forEach(e -> logFiles.put(e.getKey(), e.getValue()));
+        return logFiles;
     }
 
     /**
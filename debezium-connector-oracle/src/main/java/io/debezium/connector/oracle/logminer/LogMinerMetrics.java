@@ -8,9 +8,12 @@ package io.debezium.connector.oracle.logminer;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
@@ -30,6 +33,9 @@ public class LogMinerMetrics extends Metrics implements LogMinerMetricsMXBean {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LogMinerMetrics.class);
 
+    // upper bounds of the RAC flush latency buckets, the last bucket holds the longer flushes
+    private static final long[] RAC_FLUSH_LATENCY_BUCKETS_MS = { 1, 5, 10, 50, 100, 500, 1000 };
+
     private final AtomicLong currentScn = new AtomicLong();
     private final AtomicInteger logMinerQueryCount = new AtomicInteger();
     private final AtomicInteger totalCapturedDmlCount = new AtomicInteger();
@@ -46,6 +52,14 @@ public class LogMinerMetrics extends Metrics implements LogMinerMetricsMXBean {
     private final AtomicReference<Duration> totalStartLogMiningSessionDuration = new AtomicReference<>();
     private final AtomicReference<Duration> lastStartLogMiningSessionDuration = new AtomicReference<>();
     private final AtomicReference<Duration> maxStartingLogMiningSessionDuration = new AtomicReference<>();
+    private final AtomicLong miningSessionStartCount = new AtomicLong();
+    private final AtomicLong miningSessionRestartCount = new AtomicLong();
+    private final AtomicLong miningSessionPgaRestartCount = new AtomicLong();
+    private final AtomicLong miningSessionPgaMemory = new AtomicLong();
+    private final AtomicLong logWriterFlushCount = new AtomicLong();
+    private final AtomicLong logWriterFlushSkipCount = new AtomicLong();
+    private final AtomicLong racFlushFailureCount = new AtomicLong();
+    private final ConcurrentMap<String, AtomicLongArray> racFlushLatencyHistograms = new ConcurrentHashMap<>();
     private final AtomicReference<Duration> totalProcessingTime = new AtomicReference<>();
     private final AtomicReference<Duration> minBatchProcessingTime = new AtomicReference<>();
     private final AtomicReference<Duration> maxBatchProcessingTime = new AtomicReference<>();
@@ -59,8 +73,13 @@ public class LogMinerMetrics extends Metrics implements LogMinerMetricsMXBean {
 
     private final AtomicInteger batchSize = new AtomicInteger();
     private final AtomicLong millisecondToSleepBetweenMiningQuery = new AtomicLong();
+    private final AtomicReference<Double> observedRowsPerScn = new AtomicReference<>();
+    private final AtomicLong observedRowProcessingTime = new AtomicLong();
+    private final AtomicLong targetBatchRows = new AtomicLong();
 
     private final AtomicBoolean recordMiningHistory = new AtomicBoolean();
+    private final AtomicLong historyRecordsWritten = new AtomicLong();
+    private final AtomicLong historyRecordsDropped = new AtomicLong();
     private final AtomicInteger hoursToKeepTransaction = new AtomicInteger();
     private final AtomicLong networkConnectionProblemsCounter = new AtomicLong();
 
@@ -68,6 +87,7 @@ public class LogMinerMetrics extends Metrics implements LogMinerMetricsMXBean {
     private final int batchSizeMin;
     private final int batchSizeMax;
     private final int batchSizeDefault;
+    private final boolean batchSizeAdaptive;
 
     // constants for sleeping algorithm
     private final long sleepTimeMin;
@@ -89,6 +109,7 @@ public class LogMinerMetrics extends Metrics implements LogMinerMetricsMXBean {
         batchSizeDefault = connectorConfig.getLogMiningBatchSizeDefault();
         batchSizeMin = connectorConfig.getLogMiningBatchSizeMin();
         batchSizeMax = connectorConfig.getLogMiningBatchSizeMax();
+        batchSizeAdaptive = connectorConfig.isLogMiningBatchSizeAdaptive();
 
         sleepTimeDefault = connectorConfig.getLogMiningSleepTimeDefault().toMillis();
         sleepTimeMin = connectorConfig.getLogMiningSleepTimeMin().toMillis();
@@ -105,6 +126,9 @@ public class LogMinerMetrics extends Metrics implements LogMinerMetricsMXBean {
     public void reset() {
         batchSize.set(batchSizeDefault);
         millisecondToSleepBetweenMiningQuery.set(sleepTimeDefault);
+        observedRowsPerScn.set(0.0);
+        observedRowProcessingTime.set(0);
+        targetBatchRows.set(0);
         totalCapturedDmlCount.set(0);
         totalProcessedRows.set(0);
         maxDurationOfFetchingQuery.set(Duration.ZERO);
@@ -122,6 +146,16 @@ public class LogMinerMetrics extends Metrics implements LogMinerMetricsMXBean {
         totalStartLogMiningSessionDuration.set(Duration.ZERO);
         lastStartLogMiningSessionDuration.set(Duration.ZERO);
         maxStartingLogMiningSessionDuration.set(Duration.ZERO);
+        miningSessionStartCount.set(0);
+        miningSessionRestartCount.set(0);
+        miningSessionPgaRestartCount.set(0);
+        miningSessionPgaMemory.set(0);
+        logWriterFlushCount.set(0);
+        logWriterFlushSkipCount.set(0);
+        racFlushFailureCount.set(0);
+        racFlushLatencyHistograms.clear();
+        historyRecordsWritten.set(0);
+        historyRecordsDropped.set(0);
         totalProcessingTime.set(Duration.ZERO);
         minBatchProcessingTime.set(Duration.ZERO);
         maxBatchProcessingTime.set(Duration.ZERO);
@@ -284,11 +318,69 @@ public class LogMinerMetrics extends Metrics implements LogMinerMetricsMXBean {
         return millisecondToSleepBetweenMiningQuery.get();
     }
 
+    @Override
+    public boolean isBatchSizeAdaptive() {
+        return batchSizeAdaptive;
+    }
+
+    @Override
+    public double getObservedRowsPerScn() {
+        return observedRowsPerScn.get();
+    }
+
+    @Override
+    public long getObservedRowProcessingTimeInNanoseconds() {
+        return observedRowProcessingTime.get();
+    }
+
+    @Override
+    public long getTargetBatchRows() {
+        return targetBatchRows.get();
+    }
+
+    /**
+     * Applies a decision of the adaptive mining window.
+     *
+     * @param size the SCN interval of the next mining query
+     * @param sleepMilliseconds the time to sleep before the next mining query
+     * @param rowsPerScn the observed number of rows per SCN
+     * @param rowProcessingNanos the observed time to fetch and process a single row
+     * @param targetRows the number of rows the next mining query is sized for
+     */
+    void setMiningWindow(int size, long sleepMilliseconds, double rowsPerScn, long rowProcessingNanos, long targetRows) {
+        batchSize.set(size);
+        millisecondToSleepBetweenMiningQuery.set(sleepMilliseconds);
+        observedRowsPerScn.set(rowsPerScn);
+        observedRowProcessingTime.set(rowProcessingNanos);
+        targetBatchRows.set(targetRows);
+
+        LOGGER.debug("Updating mining window. Batch size {}. Sleep time {}. Rows per SCN {}. Row processing time {} ns. Target rows {}.",
+                size, sleepMilliseconds, rowsPerScn, rowProcessingNanos, targetRows);
+    }
+
     @Override
     public boolean getRecordMiningHistory() {
         return recordMiningHistory.get();
     }
 
+    @Override
+    public long getHistoryRecordsWritten() {
+        return historyRecordsWritten.get();
+    }
+
+    public void addHistoryRecordsWritten(long count) {
+        historyRecordsWritten.addAndGet(count);
+    }
+
+    @Override
+    public long getHistoryRecordsDropped() {
+        return historyRecordsDropped.get();
+    }
+
+    public void addHistoryRecordsDropped(long count) {
+        historyRecordsDropped.addAndGet(count);
+    }
+
     @Override
     public int getHoursToKeepTransactionInBuffer() {
         return hoursToKeepTransaction.get();
@@ -324,6 +416,93 @@ public class LogMinerMetrics extends Metrics implements LogMinerMetricsMXBean {
             maxStartingLogMiningSessionDuration.set(currentStartLogMiningSession);
         }
         totalStartLogMiningSessionDuration.accumulateAndGet(currentStartLogMiningSession, Duration::plus);
+        miningSessionStartCount.incrementAndGet();
+    }
+
+    @Override
+    public long getMiningSessionStartCount() {
+        return miningSessionStartCount.get();
+    }
+
+    @Override
+    public long getMiningSessionRestartCount() {
+        return miningSessionRestartCount.get();
+    }
+
+    public void incrementMiningSessionRestartCount() {
+        miningSessionRestartCount.incrementAndGet();
+    }
+
+    @Override
+    public long getMiningSessionPgaRestartCount() {
+        return miningSessionPgaRestartCount.get();
+    }
+
+    public void incrementMiningSessionPgaRestartCount() {
+        miningSessionPgaRestartCount.incrementAndGet();
+    }
+
+    @Override
+    public long getMiningSessionPgaMemoryInBytes() {
+        return miningSessionPgaMemory.get();
+    }
+
+    public void setMiningSessionPgaMemory(long bytes) {
+        miningSessionPgaMemory.set(bytes);
+    }
+
+    @Override
+    public long getLogWriterFlushCount() {
+        return logWriterFlushCount.get();
+    }
+
+    public void incrementLogWriterFlushCount() {
+        logWriterFlushCount.incrementAndGet();
+    }
+
+    @Override
+    public long getLogWriterFlushSkipCount() {
+        return logWriterFlushSkipCount.get();
+    }
+
+    public void incrementLogWriterFlushSkipCount() {
+        logWriterFlushSkipCount.incrementAndGet();
+    }
+
+    @Override
+    public long getRacFlushFailureCount() {
+        return racFlushFailureCount.get();
+    }
+
+    public void incrementRacFlushFailureCount() {
+        racFlushFailureCount.incrementAndGet();
+    }
+
+    @Override
+    public String[] getRacFlushLatencyHistograms() {
+        return racFlushLatencyHistograms.entrySet().stream()
+                .map(e -> e.getKey() + " | " + formatRacFlushLatencyHistogram(e.getValue()))
+                .sorted()
+                .toArray(String[]::new);
+    }
+
+    public void recordRacFlushLatency(String host, Duration latency) {
+        final long millis = latency.toMillis();
+        int bucket = 0;
+        while (bucket < RAC_FLUSH_LATENCY_BUCKETS_MS.length && millis > RAC_FLUSH_LATENCY_BUCKETS_MS[bucket]) {
+            bucket++;
+        }
+        racFlushLatencyHistograms.computeIfAbsent(host, h -> new AtomicLongArray(RAC_FLUSH_LATENCY_BUCKETS_MS.length + 1))
+                .incrementAndGet(bucket);
+    }
+
+    private static String formatRacFlushLatencyHistogram(AtomicLongArray histogram) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < RAC_FLUSH_LATENCY_BUCKETS_MS.length; i++) {
+            sb.append("<=").append(RAC_FLUSH_LATENCY_BUCKETS_MS[i]).append("ms=").append(histogram.get(i)).append(", ");
+        }
+        final long last = RAC_FLUSH_LATENCY_BUCKETS_MS[RAC_FLUSH_LATENCY_BUCKETS_MS.length - 1];
+        return sb.append('>').append(last).append("ms=").append(histogram.get(RAC_FLUSH_LATENCY_BUCKETS_MS.length)).toString();
     }
 
     @Override
@@ -431,7 +610,13 @@ public class LogMinerMetrics extends Metrics implements LogMinerMetricsMXBean {
                 ", switchCounter=" + switchCounter +
                 ", batchSize=" + batchSize +
                 ", millisecondToSleepBetweenMiningQuery=" + millisecondToSleepBetweenMiningQuery +
+                ", batchSizeAdaptive=" + batchSizeAdaptive +
+                ", observedRowsPerScn=" + observedRowsPerScn +
+                ", observedRowProcessingTime=" + observedRowProcessingTime +
+                ", targetBatchRows=" + targetBatchRows +
                 ", recordMiningHistory=" + recordMiningHistory +
+                ", historyRecordsWritten=" + historyRecordsWritten +
+                ", historyRecordsDropped=" + historyRecordsDropped +
                 ", hoursToKeepTransaction=" + hoursToKeepTransaction +
                 ", networkConnectionProblemsCounter" + networkConnectionProblemsCounter +
                 ", batchSizeDefault=" + batchSizeDefault +
@@ -445,6 +630,14 @@ public class LogMinerMetrics extends Metrics implements LogMinerMetricsMXBean {
                 ", totalStartLogMiningSessionDuration=" + totalStartLogMiningSessionDuration +
                 ", lastStartLogMiningSessionDuration=" + lastStartLogMiningSessionDuration +
                 ", maxStartLogMiningSessionDuration=" + maxStartingLogMiningSessionDuration +
+                ", miningSessionStartCount=" + miningSessionStartCount +
+                ", miningSessionRestartCount=" + miningSessionRestartCount +
+                ", miningSessionPgaRestartCount=" + miningSessionPgaRestartCount +
+                ", miningSessionPgaMemory=" + miningSessionPgaMemory +
+                ", logWriterFlushCount=" + logWriterFlushCount +
+                ", logWriterFlushSkipCount=" + logWriterFlushSkipCount +
+                ", racFlushFailureCount=" + racFlushFailureCount +
+                ", racFlushLatencyHistograms=" + racFlushLatencyHistograms +
                 ", totalProcessTime=" + totalProcessingTime +
                 ", minBatchProcessTime=" + minBatchProcessingTime +
                 ", maxBatchProcessTime=" + maxBatchProcessingTime +
@@ -113,11 +113,41 @@ public interface LogMinerMetricsMXBean {
 
     void changeBatchSize(boolean increment);
 
+    /**
+     * @return whether the batch size and sleep time are derived from the observed load rather than changed by fixed increments
+     */
+    boolean isBatchSizeAdaptive();
+
+    /**
+     * @return the number of rows per SCN observed by the adaptive mining window, {@code 0} if not yet observed
+     */
+    double getObservedRowsPerScn();
+
+    /**
+     * @return the time to fetch and process a single row observed by the adaptive mining window, {@code 0} if not yet observed
+     */
+    long getObservedRowProcessingTimeInNanoseconds();
+
+    /**
+     * @return the number of rows the adaptive mining window sized the next mining query for, {@code 0} if not yet sized
+     */
+    long getTargetBatchRows();
+
     /**
      * this flag indicates whether log mining is being recorded by {@link HistoryRecorder}
      */
     boolean getRecordMiningHistory();
 
+    /**
+     * @return the number of LogMiner entries written to the history tables by the {@link HistoryRecorder}
+     */
+    long getHistoryRecordsWritten();
+
+    /**
+     * @return the number of LogMiner entries the {@link HistoryRecorder} discarded rather than delaying the mining loop
+     */
+    long getHistoryRecordsDropped();
+
     /**
      * This represents the maximum number of entries processed per second from LogMiner sessions.
      * Entries include things such as DMLs, commits, rollbacks, etc.
@@ -167,6 +197,49 @@ public interface LogMinerMetricsMXBean {
      */
     long getMaxMiningSessionStartTimeInMilliseconds();
 
+    /**
+     * @return the number of log mining sessions started
+     */
+    long getMiningSessionStartCount();
+
+    /**
+     * @return the number of times a reused log mining session was restarted, due to a log switch or its PGA memory
+     */
+    long getMiningSessionRestartCount();
+
+    /**
+     * @return the number of times a reused log mining session was restarted because its PGA memory exceeded the limit
+     */
+    long getMiningSessionPgaRestartCount();
+
+    /**
+     * @return the PGA memory in bytes of the session of a reused log mining session when it was last checked
+     */
+    long getMiningSessionPgaMemoryInBytes();
+
+    /**
+     * @return the number of times the log writer buffer was flushed before a mining query
+     */
+    long getLogWriterFlushCount();
+
+    /**
+     * @return the number of times flushing the log writer buffer was skipped because the database was idle
+     */
+    long getLogWriterFlushSkipCount();
+
+    /**
+     * @return the number of times the log writer buffer of a RAC node failed to flush or timed out
+     */
+    long getRacFlushFailureCount();
+
+    /**
+     * Fetches the latency histogram of the log writer flushes of each RAC node.
+     * Each entry holds the node and the number of flushes per latency bucket, e.g. {@code NODE1 | <=1ms=10, <=5ms=2, ...}.
+     *
+     * @return array of the flush latency histograms of the RAC nodes
+     */
+    String[] getRacFlushLatencyHistograms();
+
     /**
      * @return the total number of milliseconds spent mining and processing results
      */
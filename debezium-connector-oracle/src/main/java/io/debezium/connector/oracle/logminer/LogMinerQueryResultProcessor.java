@@ -22,47 +22,56 @@ import io.debezium.connector.oracle.OracleOffsetContext;
 import io.debezium.connector.oracle.OracleValueConverters;
 import io.debezium.connector.oracle.logminer.parser.DmlParser;
 import io.debezium.connector.oracle.logminer.parser.DmlParserException;
+import io.debezium.connector.oracle.logminer.parser.LazyLogMinerDmlParser;
 import io.debezium.connector.oracle.logminer.parser.LogMinerDmlParser;
 import io.debezium.connector.oracle.logminer.parser.SimpleDmlParser;
 import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
-import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
-import io.debezium.util.Clock;
 
 /**
  * This class process entries obtained from LogMiner view.
  * It parses each entry.
- * On each DML it registers a callback in TransactionalBuffer.
+ * On each DML it registers the parsed entry in TransactionalBuffer.
  * On rollback it removes registered entries from TransactionalBuffer.
- * On commit it executes all registered callbacks, which dispatch ChangeRecords.
+ * On commit the TransactionalBuffer dispatches ChangeRecords for all registered entries.
  * This also calculates metrics
+ *
+ * When pipelining is enabled, rows are fetched and parsed on dedicated threads by a {@link LogMinerRowPipeline}
+ * while the calling thread buffers and dispatches them, always in the order of the result set. Configuring
+ * more than one DML parser thread implies pipelining.
+ *
+ * When parsing is deferred, DML rows are buffered with their redo SQL, which is parsed by the transactional buffer
+ * on commit using the parser of this processor.
  */
-class LogMinerQueryResultProcessor {
+class LogMinerQueryResultProcessor implements AutoCloseable {
 
     private final ChangeEventSourceContext context;
     private final LogMinerMetrics metrics;
     private final TransactionalBuffer transactionalBuffer;
-    private final DmlParser dmlParser;
+    private final ThreadLocal<DmlParser> dmlParser;
     private final OracleOffsetContext offsetContext;
     private final OracleDatabaseSchema schema;
     private final EventDispatcher<TableId> dispatcher;
     private final TransactionalBufferMetrics transactionalBufferMetrics;
     private final OracleConnectorConfig connectorConfig;
-    private final Clock clock;
     private final Logger LOGGER = LoggerFactory.getLogger(LogMinerQueryResultProcessor.class);
     private long currentOffsetScn = 0;
     private long currentOffsetCommitScn = 0;
     private long stuckScnCounter = 0;
     private HistoryRecorder historyRecorder;
+    private final LogMinerRowPipeline pipeline;
+    private final LogMinerRowDecoder rowDecoder;
+    private final boolean deferredParsing;
+    private boolean lastResultEmpty;
 
     LogMinerQueryResultProcessor(ChangeEventSourceContext context, OracleConnection jdbcConnection,
                                  OracleConnectorConfig connectorConfig, LogMinerMetrics metrics,
                                  TransactionalBuffer transactionalBuffer,
                                  OracleOffsetContext offsetContext, OracleDatabaseSchema schema,
                                  EventDispatcher<TableId> dispatcher,
-                                 Clock clock, HistoryRecorder historyRecorder) {
+                                 HistoryRecorder historyRecorder) {
         this.context = context;
         this.metrics = metrics;
         this.transactionalBuffer = transactionalBuffer;
@@ -70,10 +79,19 @@ class LogMinerQueryResultProcessor {
         this.schema = schema;
         this.dispatcher = dispatcher;
         this.transactionalBufferMetrics = transactionalBuffer.getMetrics();
-        this.clock = clock;
         this.historyRecorder = historyRecorder;
         this.connectorConfig = connectorConfig;
-        this.dmlParser = resolveParser(connectorConfig, jdbcConnection);
+        this.rowDecoder = new LogMinerRowDecoder(transactionalBufferMetrics, historyRecorder, connectorConfig.getLogMiningRedoSqlMaxSize(),
+                connectorConfig.getCatalogName());
+        // the legacy and lazy parsers keep state while parsing, each parsing thread therefore uses its own instance
+        this.dmlParser = ThreadLocal.withInitial(() -> resolveParser(connectorConfig, jdbcConnection));
+        this.deferredParsing = connectorConfig.isLogMiningDmlParserDeferred();
+        if (deferredParsing) {
+            transactionalBuffer.setDeferredDmlParser((redoSql, tableId, txId) -> parse(redoSql, schema, tableId, txId));
+        }
+        this.pipeline = connectorConfig.isLogMiningPipelineEnabled() || connectorConfig.getLogMiningDmlParserThreads() > 1
+                ? new LogMinerRowPipeline(connectorConfig, this::readRow, this::parseRow)
+                : null;
     }
 
     private static DmlParser resolveParser(OracleConnectorConfig connectorConfig, OracleConnection connection) {
@@ -81,6 +99,9 @@ class LogMinerQueryResultProcessor {
             OracleValueConverters converter = new OracleValueConverters(connectorConfig, connection);
             return new SimpleDmlParser(connectorConfig.getCatalogName(), converter);
         }
+        if (connectorConfig.getLogMiningDmlParser().equals(LogMiningDmlParser.LAZY)) {
+            return new LazyLogMinerDmlParser();
+        }
         return new LogMinerDmlParser();
     }
 
@@ -90,167 +111,245 @@ class LogMinerQueryResultProcessor {
      * @return number of processed DMLs from the given resultSet
      */
     int processResult(ResultSet resultSet) {
-        int dmlCounter = 0, insertCounter = 0, updateCounter = 0, deleteCounter = 0;
-        int commitCounter = 0;
-        int rollbackCounter = 0;
-        long rows = 0;
+        final BatchCounters counters = new BatchCounters();
+        lastResultEmpty = false;
         Instant startTime = Instant.now();
-        while (context.isRunning()) {
-            try {
-                Instant rsNextStart = Instant.now();
-                if (!resultSet.next()) {
-                    break;
-                }
-                rows++;
-                metrics.addCurrentResultSetNext(Duration.between(rsNextStart, Instant.now()));
-            }
-            catch (SQLException e) {
-                LogMinerHelper.logError(transactionalBufferMetrics, "Closed resultSet");
+        try {
+            final boolean completed = pipeline != null ? processPipelined(resultSet, counters) : processSerially(resultSet, counters);
+            if (!completed) {
                 return 0;
             }
+        }
+        catch (SQLException e) {
+            LogMinerHelper.logError(transactionalBufferMetrics, "Closed resultSet");
+            return 0;
+        }
+
+        Duration totalTime = Duration.between(startTime, Instant.now());
+        if (counters.dmlCounter > 0 || counters.commitCounter > 0 || counters.rollbackCounter > 0) {
+            metrics.setLastCapturedDmlCount(counters.dmlCounter);
+            metrics.setLastDurationOfBatchProcessing(totalTime);
 
-            Scn scn = RowMapper.getScn(transactionalBufferMetrics, resultSet);
-            String tableName = RowMapper.getTableName(transactionalBufferMetrics, resultSet);
-            String segOwner = RowMapper.getSegOwner(transactionalBufferMetrics, resultSet);
-            int operationCode = RowMapper.getOperationCode(transactionalBufferMetrics, resultSet);
-            Timestamp changeTime = RowMapper.getChangeTime(transactionalBufferMetrics, resultSet);
-            String txId = RowMapper.getTransactionId(transactionalBufferMetrics, resultSet);
-            String operation = RowMapper.getOperation(transactionalBufferMetrics, resultSet);
-            String userName = RowMapper.getUsername(transactionalBufferMetrics, resultSet);
-            boolean isDml = false;
-            if (operationCode == RowMapper.INSERT || operationCode == RowMapper.UPDATE || operationCode == RowMapper.DELETE) {
-                isDml = true;
+            warnStuckScn();
+            currentOffsetScn = offsetContext.getScn();
+            if (offsetContext.getCommitScn() != null) {
+                currentOffsetCommitScn = offsetContext.getCommitScn();
             }
-            String redoSql = RowMapper.getSqlRedo(transactionalBufferMetrics, resultSet, isDml, historyRecorder, scn, tableName, segOwner, operationCode, changeTime,
-                    txId);
+        }
 
-            LOGGER.trace("scn={}, operationCode={}, operation={}, table={}, segOwner={}, userName={}", scn, operationCode, operation, tableName, segOwner, userName);
+        LOGGER.debug("{} Rows, {} DMLs, {} Commits, {} Rollbacks, {} Inserts, {} Updates, {} Deletes. Processed in {} millis. " +
+                "Lag:{}. Offset scn:{}. Offset commit scn:{}. Active transactions:{}. Sleep time:{}",
+                counters.rows, counters.dmlCounter, counters.commitCounter, counters.rollbackCounter, counters.insertCounter,
+                counters.updateCounter, counters.deleteCounter, totalTime.toMillis(),
+                transactionalBufferMetrics.getLagFromSource(), offsetContext.getScn(), offsetContext.getCommitScn(),
+                transactionalBufferMetrics.getNumberOfActiveTransactions(), metrics.getMillisecondToSleepBetweenMiningQuery());
 
-            String logMessage = String.format("transactionId=%s, SCN=%s, table_name=%s, segOwner=%s, operationCode=%s, offsetSCN=%s, " +
-                    " commitOffsetSCN=%s", txId, scn, tableName, segOwner, operationCode, offsetContext.getScn(), offsetContext.getCommitScn());
+        metrics.addProcessedRows(counters.rows);
+        historyRecorder.flush();
+        lastResultEmpty = counters.rows == counters.unregisteredCounter;
+        return counters.dmlCounter;
+    }
 
-            if (scn == null) {
-                LogMinerHelper.logWarn(transactionalBufferMetrics, "Scn is null for {}", logMessage);
-                return 0;
-            }
+    /**
+     * Returns whether the last result set processed completely contained no changes, i.e. only the commits and rollbacks
+     * of transactions without captured changes, such as the one of the connector's own log writer flush.
+     */
+    boolean isLastResultEmpty() {
+        return lastResultEmpty;
+    }
 
-            // Commit
-            if (operationCode == RowMapper.COMMIT) {
-                if (transactionalBuffer.isTransactionRegistered(txId)) {
-                    historyRecorder.record(scn, tableName, segOwner, operationCode, changeTime, txId, 0, redoSql);
-                }
-                if (transactionalBuffer.commit(txId, scn, offsetContext, changeTime, context, logMessage, dispatcher)) {
-                    LOGGER.trace("COMMIT, {}", logMessage);
-                    commitCounter++;
-                }
-                continue;
+    @Override
+    public void close() {
+        if (pipeline != null) {
+            pipeline.close();
+        }
+    }
+
+    /**
+     * Reads, parses and processes each row on the calling thread.
+     *
+     * @return {@code false} if processing of the result set was aborted
+     */
+    private boolean processSerially(ResultSet resultSet, BatchCounters counters) throws SQLException {
+        while (context.isRunning()) {
+            final LogMinerEventRow row = readRow(resultSet);
+            if (row == null) {
+                break;
+            }
+            parseRow(row);
+            if (!processRow(row, counters)) {
+                return false;
             }
+        }
+        return true;
+    }
 
-            // Rollback
-            if (operationCode == RowMapper.ROLLBACK) {
-                if (transactionalBuffer.isTransactionRegistered(txId)) {
-                    historyRecorder.record(scn, tableName, segOwner, operationCode, changeTime, txId, 0, redoSql);
+    /**
+     * Processes rows on the calling thread while they are read and parsed by the pipeline.
+     *
+     * @return {@code false} if processing of the result set was aborted
+     */
+    private boolean processPipelined(ResultSet resultSet, BatchCounters counters) throws SQLException {
+        pipeline.start(resultSet);
+        try {
+            while (context.isRunning()) {
+                final LogMinerEventRow row = pipeline.take();
+                if (row == null) {
+                    break;
                 }
-                if (transactionalBuffer.rollback(txId, logMessage)) {
-                    LOGGER.trace("ROLLBACK, {}", logMessage);
-                    rollbackCounter++;
+                if (!processRow(row, counters)) {
+                    return false;
                 }
-                continue;
             }
+            return true;
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        finally {
+            // the result set must not be closed while the reader stage still uses it
+            pipeline.stop();
+        }
+    }
 
-            // DDL
-            if (operationCode == RowMapper.DDL) {
-                // todo: DDL operations are not yet supported during streaming while using LogMiner.
-                historyRecorder.record(scn, tableName, segOwner, operationCode, changeTime, txId, 0, redoSql);
-                LOGGER.info("DDL: {}, REDO_SQL: {}", logMessage, redoSql);
-                continue;
-            }
+    /**
+     * Reads the current row of the result set, including all continuation rows of its redo SQL.
+     *
+     * @return the row or {@code null} if the result set is exhausted
+     */
+    private LogMinerEventRow readRow(ResultSet resultSet) throws SQLException {
+        Instant rsNextStart = Instant.now();
+        if (!resultSet.next()) {
+            return null;
+        }
+        metrics.addCurrentResultSetNext(Duration.between(rsNextStart, Instant.now()));
 
-            // MISSING_SCN
-            if (operationCode == RowMapper.MISSING_SCN) {
-                historyRecorder.record(scn, tableName, segOwner, operationCode, changeTime, txId, 0, redoSql);
-                LogMinerHelper.logWarn(transactionalBufferMetrics, "Missing SCN,  {}", logMessage);
-                continue;
-            }
+        // rows are read by a single thread, the decoder holding the values of the current row is therefore shared
+        rowDecoder.decode(resultSet);
 
-            // DML
-            if (operationCode == RowMapper.INSERT || operationCode == RowMapper.DELETE || operationCode == RowMapper.UPDATE) {
-                final TableId tableId = RowMapper.getTableId(connectorConfig.getCatalogName(), resultSet);
+        return new LogMinerEventRow(rowDecoder.getScn(), rowDecoder.getTableName(), rowDecoder.getSegOwner(), rowDecoder.getOperationCode(),
+                rowDecoder.getChangeTime(), rowDecoder.getTransactionId(), rowDecoder.getOperation(), rowDecoder.getUserName(), rowDecoder.getRedoSql(),
+                rowDecoder.getTableId());
+    }
 
-                LOGGER.trace("DML,  {}, sql {}", logMessage, redoSql);
-                if (redoSql == null) {
-                    LOGGER.trace("Redo SQL was empty, DML operation skipped.");
-                    continue;
-                }
+    /**
+     * Parses the redo SQL of a DML row and attaches the resulting entry to the row.
+     */
+    private void parseRow(LogMinerEventRow row) {
+        if (deferredParsing || !row.isDml() || row.getScn() == null || row.getRedoSql() == null) {
+            return;
+        }
+        final LogMinerDmlEntry dmlEntry = parse(row.getRedoSql(), schema, row.getTableId(), row.getTransactionId());
+        dmlEntry.setObjectOwner(row.getSegOwner());
+        dmlEntry.setSourceTime(row.getChangeTime());
+        dmlEntry.setTransactionId(row.getTransactionId());
+        dmlEntry.setObjectName(row.getTableName());
+        dmlEntry.setScn(row.getScn());
+        row.setDmlEntry(dmlEntry);
+    }
 
-                dmlCounter++;
-                switch (operationCode) {
-                    case RowMapper.INSERT:
-                        insertCounter++;
-                        break;
-                    case RowMapper.UPDATE:
-                        updateCounter++;
-                        break;
-                    case RowMapper.DELETE:
-                        deleteCounter++;
-                        break;
-                }
+    /**
+     * Applies a single row to the transactional buffer.
+     *
+     * @return {@code false} if processing of the result set must be aborted
+     */
+    private boolean processRow(LogMinerEventRow row, BatchCounters counters) {
+        counters.rows++;
 
-                final LogMinerDmlEntry dmlEntry = parse(redoSql, schema, tableId, txId);
-                dmlEntry.setObjectOwner(segOwner);
-                dmlEntry.setSourceTime(changeTime);
-                dmlEntry.setTransactionId(txId);
-                dmlEntry.setObjectName(tableName);
-                dmlEntry.setScn(scn);
-
-                try {
-                    transactionalBuffer.registerCommitCallback(txId, scn, changeTime.toInstant(), (timestamp, smallestScn, commitScn, counter) -> {
-                        // update SCN in offset context only if processed SCN less than SCN among other transactions
-                        if (smallestScn == null || scn.compareTo(smallestScn) < 0) {
-                            offsetContext.setScn(scn.longValue());
-                            transactionalBufferMetrics.setOldestScn(scn.longValue());
-                        }
-                        offsetContext.setTransactionId(txId);
-                        offsetContext.setSourceTime(timestamp.toInstant());
-                        offsetContext.setTableId(tableId);
-                        if (counter == 0) {
-                            offsetContext.setCommitScn(commitScn.longValue());
-                        }
-                        Table table = schema.tableFor(tableId);
-                        LOGGER.trace("Processing DML event {} scn {}", dmlEntry.toString(), scn);
-
-                        dispatcher.dispatchDataChangeEvent(tableId,
-                                new LogMinerChangeRecordEmitter(offsetContext, dmlEntry, table, clock));
-                    });
+        final Scn scn = row.getScn();
+        final String tableName = row.getTableName();
+        final String segOwner = row.getSegOwner();
+        final int operationCode = row.getOperationCode();
+        final Timestamp changeTime = row.getChangeTime();
+        final String txId = row.getTransactionId();
+        final String redoSql = row.getRedoSql();
 
-                }
-                catch (Exception e) {
-                    LogMinerHelper.logError(transactionalBufferMetrics, "Following dmlEntry: {} cannot be dispatched due to the : {}", dmlEntry, e);
-                }
-            }
+        LOGGER.trace("scn={}, operationCode={}, operation={}, table={}, segOwner={}, userName={}", scn, operationCode, row.getOperation(), tableName, segOwner,
+                row.getUserName());
+
+        String logMessage = String.format("transactionId=%s, SCN=%s, table_name=%s, segOwner=%s, operationCode=%s, offsetSCN=%s, " +
+                " commitOffsetSCN=%s", txId, scn, tableName, segOwner, operationCode, offsetContext.getScn(), offsetContext.getCommitScn());
+
+        if (scn == null) {
+            LogMinerHelper.logWarn(transactionalBufferMetrics, "Scn is null for {}", logMessage);
+            return false;
         }
 
-        Duration totalTime = Duration.between(startTime, Instant.now());
-        if (dmlCounter > 0 || commitCounter > 0 || rollbackCounter > 0) {
-            metrics.setLastCapturedDmlCount(dmlCounter);
-            metrics.setLastDurationOfBatchProcessing(totalTime);
+        // Commit
+        if (operationCode == RowMapper.COMMIT) {
+            if (transactionalBuffer.isTransactionRegistered(txId)) {
+                historyRecorder.record(scn, tableName, segOwner, operationCode, changeTime, txId, 0, redoSql);
+            }
+            if (transactionalBuffer.commit(txId, scn, offsetContext, changeTime, context, logMessage, dispatcher)) {
+                LOGGER.trace("COMMIT, {}", logMessage);
+                counters.commitCounter++;
+            }
+            else {
+                counters.unregisteredCounter++;
+            }
+            return true;
+        }
 
-            warnStuckScn();
-            currentOffsetScn = offsetContext.getScn();
-            if (offsetContext.getCommitScn() != null) {
-                currentOffsetCommitScn = offsetContext.getCommitScn();
+        // Rollback
+        if (operationCode == RowMapper.ROLLBACK) {
+            if (transactionalBuffer.isTransactionRegistered(txId)) {
+                historyRecorder.record(scn, tableName, segOwner, operationCode, changeTime, txId, 0, redoSql);
+            }
+            if (transactionalBuffer.rollback(txId, logMessage)) {
+                LOGGER.trace("ROLLBACK, {}", logMessage);
+                counters.rollbackCounter++;
+            }
+            else {
+                counters.unregisteredCounter++;
             }
+            return true;
         }
 
-        LOGGER.debug("{} Rows, {} DMLs, {} Commits, {} Rollbacks, {} Inserts, {} Updates, {} Deletes. Processed in {} millis. " +
-                "Lag:{}. Offset scn:{}. Offset commit scn:{}. Active transactions:{}. Sleep time:{}",
-                rows, dmlCounter, commitCounter, rollbackCounter, insertCounter, updateCounter, deleteCounter, totalTime.toMillis(),
-                transactionalBufferMetrics.getLagFromSource(), offsetContext.getScn(), offsetContext.getCommitScn(),
-                transactionalBufferMetrics.getNumberOfActiveTransactions(), metrics.getMillisecondToSleepBetweenMiningQuery());
+        // DDL
+        if (operationCode == RowMapper.DDL) {
+            // todo: DDL operations are not yet supported during streaming while using LogMiner.
+            historyRecorder.record(scn, tableName, segOwner, operationCode, changeTime, txId, 0, redoSql);
+            LOGGER.info("DDL: {}, REDO_SQL: {}", logMessage, redoSql);
+            return true;
+        }
 
-        metrics.addProcessedRows(rows);
-        historyRecorder.flush();
-        return dmlCounter;
+        // MISSING_SCN
+        if (operationCode == RowMapper.MISSING_SCN) {
+            historyRecorder.record(scn, tableName, segOwner, operationCode, changeTime, txId, 0, redoSql);
+            LogMinerHelper.logWarn(transactionalBufferMetrics, "Missing SCN,  {}", logMessage);
+            return true;
+        }
+
+        // DML
+        if (row.isDml()) {
+            LOGGER.trace("DML,  {}, sql {}", logMessage, redoSql);
+            if (redoSql == null) {
+                LOGGER.trace("Redo SQL was empty, DML operation skipped.");
+                return true;
+            }
+
+            counters.dmlCounter++;
+            switch (operationCode) {
+                case RowMapper.INSERT:
+                    counters.insertCounter++;
+                    break;
+                case RowMapper.UPDATE:
+                    counters.updateCounter++;
+                    break;
+                case RowMapper.DELETE:
+                    counters.deleteCounter++;
+                    break;
+            }
+
+            if (deferredParsing) {
+                transactionalBuffer.registerDeferredDmlOperation(txId, scn, changeTime, row.getTableId(), redoSql);
+            }
+            else {
+                transactionalBuffer.registerDmlOperation(txId, scn, changeTime.toInstant(), row.getTableId(), row.getDmlEntry());
+            }
+        }
+        return true;
     }
 
     /**
@@ -280,18 +379,33 @@ class LogMinerQueryResultProcessor {
         LogMinerDmlEntry dmlEntry;
         try {
             Instant parseStart = Instant.now();
-            dmlEntry = dmlParser.parse(redoSql, schema.getTables(), tableId, txId);
+            dmlEntry = dmlParser.get().parse(redoSql, schema.getTables(), tableId, txId);
             metrics.addCurrentParseTime(Duration.between(parseStart, Instant.now()));
         }
         catch (DmlParserException e) {
             StringBuilder message = new StringBuilder();
             message.append("DML statement couldn't be parsed.");
             message.append(" Please open a Jira issue with the statement '").append(redoSql).append("'.");
-            if (LogMiningDmlParser.FAST.equals(connectorConfig.getLogMiningDmlParser())) {
+            if (!LogMiningDmlParser.LEGACY.equals(connectorConfig.getLogMiningDmlParser())) {
                 message.append(" You can set internal.log.mining.dml.parser='legacy' as a workaround until the parse error is fixed.");
             }
             throw new DmlParserException(message.toString(), e);
         }
         return dmlEntry;
     }
+
+    /**
+     * Counts the rows and operations of a single result set.
+     */
+    private static class BatchCounters {
+        private long rows;
+        private int dmlCounter;
+        private int insertCounter;
+        private int updateCounter;
+        private int deleteCounter;
+        private int commitCounter;
+        private int rollbackCounter;
+        // commits and rollbacks of transactions not registered in the buffer
+        private int unregisteredCounter;
+    }
 }
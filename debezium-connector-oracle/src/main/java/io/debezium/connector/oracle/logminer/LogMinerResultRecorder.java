@@ -0,0 +1,246 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * Captures the rows read from the LogMiner view to a local file, so that they can be replayed by a
+ * {@link LogMinerResultReplayer} without a database.
+ *
+ * The file starts with a header and holds the columns of each row in the order they are selected from
+ * the view, i.e. SCN, SQL_REDO, OPERATION_CODE, TIMESTAMP, XID, CSF, TABLE_NAME, SEG_OWNER, OPERATION and
+ * USERNAME, followed by a marker at the end of each result set. Continuation rows of a redo SQL are captured
+ * as rows of their own, just as the view returns them.
+ *
+ * Capturing is a diagnostic aid; if the file cannot be written, capturing stops with a warning while the
+ * captured result sets continue to be processed.
+ */
+@NotThreadSafe
+final class LogMinerResultRecorder implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogMinerResultRecorder.class);
+
+    static final int MAGIC = 0x444C4D52;
+    static final int VERSION = 1;
+    static final byte ROW = 1;
+    static final byte END_OF_RESULT = 2;
+
+    static final String[] COLUMN_NAMES = { "SCN", "SQL_REDO", "OPERATION_CODE", "TIMESTAMP", "XID", "CSF", "TABLE_NAME", "SEG_OWNER",
+            "OPERATION", "USERNAME" };
+
+    private final Path path;
+    private final DataOutputStream output;
+    private long rows;
+    private boolean failed;
+
+    private LogMinerResultRecorder(Path path, DataOutputStream output) {
+        this.path = path;
+        this.output = output;
+    }
+
+    /**
+     * Creates a recorder writing to the given file, replacing any previous capture.
+     *
+     * @param path the capture file
+     * @return the recorder
+     * @throws IOException if the file cannot be created
+     */
+    static LogMinerResultRecorder create(Path path) throws IOException {
+        final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        return new LogMinerResultRecorder(path, output);
+    }
+
+    /**
+     * Wraps a LogMiner result set, so that each row is captured when the result set is advanced to it. The end of
+     * the result set is captured once it is exhausted or closed.
+     *
+     * @param resultSet the result set of the LogMiner query
+     * @return the result set to be processed in place of the given one
+     */
+    ResultSet record(ResultSet resultSet) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ ResultSet.class },
+                new RecordingHandler(resultSet));
+    }
+
+    /**
+     * Captures a single row.
+     *
+     * @throws IOException if the row cannot be written
+     */
+    void recordRow(BigDecimal scn, String redoSql, int operationCode, Timestamp changeTime, byte[] transactionId, int csf,
+                   String tableName, String segOwner, String operation, String userName)
+            throws IOException {
+        output.writeByte(ROW);
+        writeString(scn != null ? scn.toPlainString() : null);
+        writeString(redoSql);
+        output.writeInt(operationCode);
+        output.writeBoolean(changeTime != null);
+        if (changeTime != null) {
+            output.writeLong(changeTime.getTime());
+            output.writeInt(changeTime.getNanos());
+        }
+        writeBytes(transactionId);
+        output.writeInt(csf);
+        writeString(tableName);
+        writeString(segOwner);
+        writeString(operation);
+        writeString(userName);
+        rows++;
+    }
+
+    /**
+     * Captures the end of the current result set.
+     *
+     * @throws IOException if the marker cannot be written
+     */
+    void endResult() throws IOException {
+        output.writeByte(END_OF_RESULT);
+        output.flush();
+    }
+
+    /**
+     * @return the number of rows captured so far
+     */
+    long getRows() {
+        return rows;
+    }
+
+    @Override
+    public void close() {
+        try {
+            output.close();
+        }
+        catch (IOException e) {
+            LOGGER.warn("Failed to close LogMiner capture file {}", path, e);
+        }
+        LOGGER.info("Captured {} LogMiner rows to {}", rows, path);
+    }
+
+    private void recordCurrentRow(ResultSet resultSet) throws SQLException {
+        if (failed) {
+            return;
+        }
+        try {
+            recordRow(resultSet.getBigDecimal(1), resultSet.getString(2), resultSet.getInt(3), resultSet.getTimestamp(4),
+                    resultSet.getBytes(5), resultSet.getInt(6), resultSet.getString(7), resultSet.getString(8),
+                    resultSet.getString(9), resultSet.getString(10));
+        }
+        catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void recordEndOfResult() {
+        if (failed) {
+            return;
+        }
+        try {
+            endResult();
+        }
+        catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void fail(IOException e) {
+        LOGGER.warn("Failed to write LogMiner capture file {}, capturing is stopped", path, e);
+        failed = true;
+    }
+
+    private void writeString(String value) throws IOException {
+        writeBytes(value != null ? value.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    private void writeBytes(byte[] value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        output.writeInt(value.length);
+        output.write(value);
+    }
+
+    static String readString(DataInput input) throws IOException {
+        final byte[] value = readBytes(input);
+        return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+    }
+
+    static byte[] readBytes(DataInput input) throws IOException {
+        final int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] value = new byte[length];
+        input.readFully(value);
+        return value;
+    }
+
+    /**
+     * Delegates to the recorded result set and captures each row it is advanced to.
+     */
+    private class RecordingHandler implements InvocationHandler {
+
+        private final ResultSet delegate;
+        private boolean ended;
+
+        RecordingHandler(ResultSet delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            final Object result;
+            try {
+                result = method.invoke(delegate, args);
+            }
+            catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            if (method.getName().equals("next") && method.getParameterCount() == 0) {
+                if ((Boolean) result) {
+                    recordCurrentRow(delegate);
+                }
+                else {
+                    end();
+                }
+            }
+            else if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                end();
+            }
+            return result;
+        }
+
+        private void end() {
+            if (!ended) {
+                ended = true;
+                recordEndOfResult();
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.Immutable;
+
+/**
+ * Replays the LogMiner result sets captured by a {@link LogMinerResultRecorder}.
+ *
+ * All rows of the capture are loaded into memory up front, so that the replayed result sets return them at full
+ * speed without any I/O, e.g. to drive a {@link LogMinerQueryResultProcessor} in a benchmark. The replayed result
+ * sets support the read-only accessors used when processing LogMiner results, by column index or label; any other
+ * operation fails with {@link SQLFeatureNotSupportedException}.
+ */
+@Immutable
+final class LogMinerResultReplayer {
+
+    private final List<Object[][]> results;
+
+    private LogMinerResultReplayer(List<Object[][]> results) {
+        this.results = results;
+    }
+
+    /**
+     * Loads a capture file.
+     *
+     * @param path the capture file
+     * @return the replayer
+     * @throws IOException if the file cannot be read
+     * @throws DebeziumException if the file is not a LogMiner capture
+     */
+    static LogMinerResultReplayer load(Path path) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (input.readInt() != LogMinerResultRecorder.MAGIC) {
+                throw new DebeziumException("File " + path + " is not a LogMiner capture");
+            }
+            final int version = input.readInt();
+            if (version != LogMinerResultRecorder.VERSION) {
+                throw new DebeziumException("Unsupported version " + version + " of LogMiner capture " + path);
+            }
+
+            final List<Object[][]> results = new ArrayList<>();
+            final List<Object[]> rows = new ArrayList<>();
+            while (true) {
+                final int marker = input.read();
+                if (marker == -1) {
+                    break;
+                }
+                if (marker == LogMinerResultRecorder.ROW) {
+                    rows.add(readRow(input));
+                }
+                else if (marker == LogMinerResultRecorder.END_OF_RESULT) {
+                    results.add(rows.toArray(new Object[rows.size()][]));
+                    rows.clear();
+                }
+                else {
+                    throw new DebeziumException("Unexpected marker " + marker + " in LogMiner capture " + path);
+                }
+            }
+            // a capture that was cut off still replays the rows of its last result set
+            if (!rows.isEmpty()) {
+                results.add(rows.toArray(new Object[rows.size()][]));
+            }
+            return new LogMinerResultReplayer(results);
+        }
+        catch (EOFException e) {
+            throw new DebeziumException("LogMiner capture " + path + " is truncated", e);
+        }
+    }
+
+    private static Object[] readRow(DataInputStream input) throws IOException {
+        final Object[] row = new Object[LogMinerResultRecorder.COLUMN_NAMES.length];
+        final String scn = LogMinerResultRecorder.readString(input);
+        row[0] = scn != null ? new BigDecimal(scn) : null;
+        row[1] = LogMinerResultRecorder.readString(input);
+        row[2] = input.readInt();
+        if (input.readBoolean()) {
+            final Timestamp changeTime = new Timestamp(input.readLong());
+            changeTime.setNanos(input.readInt());
+            row[3] = changeTime;
+        }
+        row[4] = LogMinerResultRecorder.readBytes(input);
+        row[5] = input.readInt();
+        row[6] = LogMinerResultRecorder.readString(input);
+        row[7] = LogMinerResultRecorder.readString(input);
+        row[8] = LogMinerResultRecorder.readString(input);
+        row[9] = LogMinerResultRecorder.readString(input);
+        return row;
+    }
+
+    /**
+     * @return the number of captured result sets
+     */
+    int getResultCount() {
+        return results.size();
+    }
+
+    /**
+     * @return the number of rows of all captured result sets
+     */
+    long getRowCount() {
+        long count = 0;
+        for (Object[][] rows : results) {
+            count += rows.length;
+        }
+        return count;
+    }
+
+    /**
+     * Returns a new result set replaying a captured result set from its first row.
+     *
+     * @param index the zero-based index of the captured result set
+     * @return the result set, positioned before its first row
+     */
+    ResultSet newResultSet(int index) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ ResultSet.class },
+                new ReplayingHandler(results.get(index)));
+    }
+
+    /**
+     * Serves the accessors of a result set from the captured rows.
+     */
+    private static class ReplayingHandler implements InvocationHandler {
+
+        private final Object[][] rows;
+        private int cursor = -1;
+        private boolean wasNull;
+        private boolean closed;
+        private int fetchSize;
+
+        ReplayingHandler(Object[][] rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next":
+                    return ++cursor < rows.length;
+                case "getObject":
+                    if (args.length == 1) {
+                        return value(args[0]);
+                    }
+                    break;
+                case "getString":
+                    final Object string = value(args[0]);
+                    return string != null ? string.toString() : null;
+                case "getInt":
+                    final Object integer = value(args[0]);
+                    return integer != null ? ((Number) integer).intValue() : 0;
+                case "getLong":
+                    final Object number = value(args[0]);
+                    return number != null ? ((Number) number).longValue() : 0L;
+                case "getBigDecimal":
+                    if (args.length == 1) {
+                        final Object decimal = value(args[0]);
+                        return decimal instanceof Number && !(decimal instanceof BigDecimal) ? new BigDecimal(decimal.toString()) : decimal;
+                    }
+                    break;
+                case "getTimestamp":
+                    if (args.length == 1) {
+                        return value(args[0]);
+                    }
+                    break;
+                case "getBytes":
+                    return value(args[0]);
+                case "wasNull":
+                    return wasNull;
+                case "findColumn":
+                    return findColumn((String) args[0]);
+                case "getFetchSize":
+                    return fetchSize;
+                case "setFetchSize":
+                    fetchSize = (Integer) args[0];
+                    return null;
+                case "getFetchDirection":
+                    return ResultSet.FETCH_FORWARD;
+                case "setFetchDirection":
+                    return null;
+                case "close":
+                    closed = true;
+                    return null;
+                case "isClosed":
+                    return closed;
+                case "isWrapperFor":
+                    return false;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "ReplayedResultSet{rows=" + rows.length + ", cursor=" + cursor + "}";
+                default:
+                    break;
+            }
+            throw new SQLFeatureNotSupportedException("Operation " + method.getName() + " is not supported by a replayed LogMiner result set");
+        }
+
+        private Object value(Object column) throws SQLException {
+            if (closed) {
+                throw new SQLException("Replayed result set is closed");
+            }
+            if (cursor < 0 || cursor >= rows.length) {
+                throw new SQLException("Replayed result set is not positioned on a row");
+            }
+            final int index = column instanceof String ? findColumn((String) column) : (Integer) column;
+            if (index < 1 || index > LogMinerResultRecorder.COLUMN_NAMES.length) {
+                throw new SQLException("Invalid column index " + index);
+            }
+            final Object value = rows[cursor][index - 1];
+            wasNull = value == null;
+            return value;
+        }
+
+        private static int findColumn(String label) throws SQLException {
+            for (int i = 0; i < LogMinerResultRecorder.COLUMN_NAMES.length; i++) {
+                if (LogMinerResultRecorder.COLUMN_NAMES[i].equalsIgnoreCase(label)) {
+                    return i + 1;
+                }
+            }
+            throw new SQLException("Unknown column " + label);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.relational.TableId;
+
+/**
+ * Decodes the rows of the LogMiner contents view in a single pass.
+ *
+ * Each column of a row is read exactly once, by its position and in the order of the columns of the mining query, and
+ * the values are kept by the decoder until the next row is decoded, so that a single decoder serves all rows of a
+ * result set. The continuation rows of the redo SQL are read as part of the row they continue, reading only their redo
+ * SQL and continuation flag. Unlike {@link RowMapper}, a failure to read a column is handled once for the whole row:
+ * it is logged, and the columns that were not read take the same defaults {@link RowMapper} uses.
+ *
+ * The transaction identifiers, owners, table names, operations, user names and table identifiers are canonicalized by
+ * a {@link CanonicalValueCache}, so that the rows of the same transaction or table share their values.
+ */
+@NotThreadSafe
+class LogMinerRowDecoder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogMinerRowDecoder.class);
+
+    private static final int SCN = 1;
+    private static final int SQL_REDO = 2;
+    private static final int OPERATION_CODE = 3;
+    private static final int CHANGE_TIME = 4;
+    private static final int TX_ID = 5;
+    private static final int CSF = 6;
+    private static final int TABLE_NAME = 7;
+    private static final int SEG_OWNER = 8;
+    private static final int OPERATION = 9;
+    private static final int USERNAME = 10;
+
+    private static final String[] COLUMN_NAMES = { null, "SCN", "SQL_REDO", "OPERATION_CODE", "CHANGE_TIME", "TX_ID", "CSF",
+            "TABLE_NAME", "SEG_OWNER", "OPERATION", "USERNAME" };
+
+    private final TransactionalBufferMetrics metrics;
+    private final HistoryRecorder historyRecorder;
+    private final long redoSqlMaxSize;
+    private final CanonicalValueCache valueCache;
+
+    private Scn scn;
+    private String redoSql;
+    private int operationCode;
+    private Timestamp changeTime;
+    private String transactionId;
+    private int csf;
+    private String tableName;
+    private String segOwner;
+    private String operation;
+    private String userName;
+    private TableId tableId;
+
+    /**
+     * @param metrics the metrics counting the errors
+     * @param historyRecorder the recorder of the rows of DML operations
+     * @param redoSqlMaxSize the maximum memory in bytes the redo SQL of a single operation may take
+     * @param catalogName the catalog name of the table identifiers
+     */
+    LogMinerRowDecoder(TransactionalBufferMetrics metrics, HistoryRecorder historyRecorder, long redoSqlMaxSize, String catalogName) {
+        this.metrics = metrics;
+        this.historyRecorder = historyRecorder;
+        this.redoSqlMaxSize = redoSqlMaxSize;
+        this.valueCache = new CanonicalValueCache(catalogName);
+    }
+
+    /**
+     * Decodes the current row of the result set, and its continuation rows if any, which are consumed.
+     *
+     * @param rs the result set, positioned on the row to decode
+     */
+    void decode(ResultSet rs) {
+        int column = SCN;
+        try {
+            scn = new Scn(rs.getBigDecimal(SCN));
+            column = SQL_REDO;
+            redoSql = rs.getString(SQL_REDO);
+            column = OPERATION_CODE;
+            operationCode = rs.getInt(OPERATION_CODE);
+            column = CHANGE_TIME;
+            changeTime = rs.getTimestamp(CHANGE_TIME);
+            column = TX_ID;
+            transactionId = valueCache.transactionId(rs.getBytes(TX_ID));
+            column = CSF;
+            csf = rs.getInt(CSF);
+            column = TABLE_NAME;
+            tableName = valueCache.string(rs.getString(TABLE_NAME));
+            column = SEG_OWNER;
+            segOwner = valueCache.string(rs.getString(SEG_OWNER));
+            column = OPERATION;
+            operation = valueCache.string(rs.getString(OPERATION));
+            column = USERNAME;
+            userName = valueCache.string(rs.getString(USERNAME));
+            tableId = LogMinerEventRow.isDml(operationCode) ? valueCache.tableId(segOwner, tableName) : null;
+
+            column = SQL_REDO;
+            if (redoSql != null) {
+                redoSql = assembleRedoSql(rs);
+            }
+        }
+        catch (SQLException e) {
+            LogMinerHelper.logError(metrics, "Cannot get {}. This entry from LogMiner will be lost due to the {}", COLUMN_NAMES[column], e);
+            applyDefaults(column);
+        }
+    }
+
+    Scn getScn() {
+        return scn;
+    }
+
+    String getRedoSql() {
+        return redoSql;
+    }
+
+    int getOperationCode() {
+        return operationCode;
+    }
+
+    Timestamp getChangeTime() {
+        return changeTime;
+    }
+
+    String getTransactionId() {
+        return transactionId;
+    }
+
+    String getTableName() {
+        return tableName;
+    }
+
+    String getSegOwner() {
+        return segOwner;
+    }
+
+    String getOperation() {
+        return operation;
+    }
+
+    String getUserName() {
+        return userName;
+    }
+
+    /**
+     * @return the identifier of the table of a DML operation, {@code null} for other operations
+     */
+    TableId getTableId() {
+        return tableId;
+    }
+
+    private String assembleRedoSql(ResultSet rs) throws SQLException {
+        final boolean isDml = LogMinerEventRow.isDml(operationCode);
+        if (isDml) {
+            historyRecorder.record(scn, tableName, segOwner, operationCode, changeTime, transactionId, csf, redoSql);
+        }
+        // 0 - indicates SQL_REDO is contained within the same row
+        // 1 - indicates that SQL_REDO is greater than 4000 bytes in size and is continued in the next row
+        if (csf == 0) {
+            return redoSql;
+        }
+        final RedoSqlAssembler assembler = new RedoSqlAssembler(redoSql, redoSqlMaxSize);
+        while (csf == 1) {
+            rs.next();
+            csf = rs.getInt(CSF);
+            if (assembler.isTruncated() && !isDml) {
+                // only skip the remaining rows of the operation
+                continue;
+            }
+            final String chunk = rs.getString(SQL_REDO);
+            if (isDml) {
+                historyRecorder.record(scn, tableName, segOwner, operationCode, changeTime, transactionId, csf, chunk);
+            }
+            assembler.append(chunk);
+        }
+        if (assembler.isTruncated()) {
+            LOGGER.warn("Redo SQL of transaction {} at SCN {} was truncated to {} characters due to the limit of {} bytes", transactionId, scn,
+                    assembler.length(), redoSqlMaxSize);
+        }
+        return assembler.toSql();
+    }
+
+    /**
+     * Applies the defaults of {@link RowMapper} to the column that failed and the columns not read after it.
+     */
+    private void applyDefaults(int failedColumn) {
+        if (failedColumn <= SCN) {
+            scn = Scn.INVALID;
+        }
+        if (failedColumn <= SQL_REDO) {
+            redoSql = "";
+        }
+        if (failedColumn <= OPERATION_CODE) {
+            operationCode = 0;
+        }
+        if (failedColumn <= CHANGE_TIME) {
+            changeTime = new Timestamp(Instant.now().getEpochSecond());
+        }
+        if (failedColumn <= TX_ID) {
+            transactionId = "";
+        }
+        if (failedColumn <= CSF) {
+            csf = 0;
+        }
+        if (failedColumn <= TABLE_NAME) {
+            tableName = "";
+        }
+        if (failedColumn <= SEG_OWNER) {
+            segOwner = "";
+        }
+        if (failedColumn <= OPERATION) {
+            operation = null;
+        }
+        if (failedColumn <= USERNAME) {
+            userName = null;
+        }
+        tableId = LogMinerEventRow.isDml(operationCode) ? valueCache.tableId(segOwner, tableName) : null;
+    }
+}
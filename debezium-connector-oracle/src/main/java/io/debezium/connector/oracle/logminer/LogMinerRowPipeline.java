@@ -0,0 +1,267 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.OracleConnector;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.util.Threads;
+
+/**
+ * Runs the fetch and parse steps of processing a LogMiner result set on dedicated threads, so that
+ * JDBC round trips, redo SQL parsing and the buffering and dispatching of events on the calling thread
+ * overlap. Each stage processes rows one at a time in the order they were read and hands them to the
+ * next stage through a bounded queue, so rows are returned by {@link #take()} in exactly the order of the
+ * result set.
+ *
+ * When more than one DML parser thread is configured, the parse stage hands DML rows to a pool of parser
+ * threads and queues the pending results in the order the rows were read. {@link #take()} waits for each
+ * result in turn, which reassembles the parsed rows in their original order.
+ *
+ * A failure of either stage is handed to the next stage as the last element of its queue, so all rows
+ * read before the failure are still returned by {@link #take()} before the failure is rethrown.
+ */
+class LogMinerRowPipeline implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogMinerRowPipeline.class);
+
+    private static final long POLL_INTERVAL_MS = 100;
+    private static final LogMinerEventRow END_OF_RESULT = new LogMinerEventRow(null, null, null, 0, null, null, null, null, null, null);
+    private static final LogMinerEventRow READ_FAILED = new LogMinerEventRow(null, null, null, 0, null, null, null, null, null, null);
+    private static final Future<LogMinerEventRow> END_OF_PARSED_RESULT = CompletableFuture.completedFuture(END_OF_RESULT);
+
+    private final ExecutorService executor;
+    private final BlockingQueue<LogMinerEventRow> fetchedRows;
+    private final BlockingQueue<Future<LogMinerEventRow>> parsedRows;
+    private final ExecutorService parserPool;
+    private final RowReader reader;
+    private final RowParser parser;
+
+    private volatile boolean running;
+    private volatile Throwable readFailure;
+    private Future<?> readerTask;
+    private Future<?> parserTask;
+
+    LogMinerRowPipeline(OracleConnectorConfig connectorConfig, RowReader reader, RowParser parser) {
+        this.executor = Threads.newFixedThreadPool(OracleConnector.class, connectorConfig.getLogicalName(), "logminer-pipeline", 2);
+        this.fetchedRows = new ArrayBlockingQueue<>(connectorConfig.getLogMiningPipelineQueueSize());
+        this.parsedRows = new ArrayBlockingQueue<>(connectorConfig.getLogMiningPipelineQueueSize());
+        this.parserPool = connectorConfig.getLogMiningDmlParserThreads() > 1
+                ? Threads.newFixedThreadPool(OracleConnector.class, connectorConfig.getLogicalName(), "logminer-dml-parser",
+                        connectorConfig.getLogMiningDmlParserThreads())
+                : null;
+        this.reader = reader;
+        this.parser = parser;
+    }
+
+    /**
+     * Starts reading and parsing the rows of the given result set.
+     *
+     * @param resultSet the LogMiner result set
+     */
+    void start(ResultSet resultSet) {
+        fetchedRows.clear();
+        parsedRows.clear();
+        readFailure = null;
+        running = true;
+        readerTask = executor.submit(() -> read(resultSet));
+        parserTask = executor.submit(this::parse);
+    }
+
+    /**
+     * Returns the next row of the result set, waiting for it to be read and parsed if necessary.
+     *
+     * @return the next row or {@code null} if all rows have been returned
+     * @throws SQLException if the reader stage failed to read from the result set, once all rows read
+     *                      before the failure have been returned
+     * @throws InterruptedException if interrupted while waiting
+     */
+    LogMinerEventRow take() throws SQLException, InterruptedException {
+        while (true) {
+            final Future<LogMinerEventRow> parsed = parsedRows.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            if (parsed != null) {
+                final LogMinerEventRow row = awaitParsed(parsed);
+                return row == END_OF_RESULT ? null : row;
+            }
+            if (parserTask.isDone() && parsedRows.isEmpty()) {
+                // the parse stage only ends without handing over an end or a failure when it was stopped
+                throw new DebeziumException("LogMiner pipeline was stopped before the end of the result");
+            }
+        }
+    }
+
+    /**
+     * Stops the stages of the current result set and waits until they have finished, after which the
+     * result set may be closed.
+     */
+    void stop() {
+        running = false;
+        awaitTermination(readerTask);
+        awaitTermination(parserTask);
+        fetchedRows.clear();
+        parsedRows.clear();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        executor.shutdownNow();
+        if (parserPool != null) {
+            parserPool.shutdownNow();
+        }
+    }
+
+    private void read(ResultSet resultSet) {
+        try {
+            LogMinerEventRow row;
+            while (running && (row = reader.read(resultSet)) != null) {
+                if (!put(fetchedRows, row)) {
+                    return;
+                }
+            }
+            put(fetchedRows, END_OF_RESULT);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (Throwable t) {
+            readFailure = t;
+            handOver(fetchedRows, READ_FAILED);
+        }
+    }
+
+    private void parse() {
+        try {
+            while (running) {
+                final LogMinerEventRow row = fetchedRows.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (row == null) {
+                    continue;
+                }
+                if (row == END_OF_RESULT) {
+                    put(parsedRows, END_OF_PARSED_RESULT);
+                    return;
+                }
+                if (row == READ_FAILED) {
+                    handOver(parsedRows, failed(readFailure));
+                    return;
+                }
+                if (!put(parsedRows, submitParse(row))) {
+                    return;
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (Throwable t) {
+            handOver(parsedRows, failed(t));
+        }
+    }
+
+    private Future<LogMinerEventRow> submitParse(LogMinerEventRow row) {
+        if (parserPool != null && row.isDml()) {
+            return parserPool.submit(() -> {
+                parser.parse(row);
+                return row;
+            });
+        }
+        parser.parse(row);
+        return CompletableFuture.completedFuture(row);
+    }
+
+    private static Future<LogMinerEventRow> failed(Throwable t) {
+        final CompletableFuture<LogMinerEventRow> failed = new CompletableFuture<>();
+        failed.completeExceptionally(t);
+        return failed;
+    }
+
+    private LogMinerEventRow awaitParsed(Future<LogMinerEventRow> parsed) throws SQLException, InterruptedException {
+        try {
+            return parsed.get();
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw asRuntimeException(e.getCause());
+        }
+    }
+
+    private static RuntimeException asRuntimeException(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        return new DebeziumException("Failed to process LogMiner result", t);
+    }
+
+    private <T> boolean put(BlockingQueue<T> queue, T element) throws InterruptedException {
+        while (running) {
+            if (queue.offer(element, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Hands a failure over to the next stage after the rows already queued, unless the pipeline is stopped.
+     */
+    private <T> void handOver(BlockingQueue<T> queue, T failure) {
+        try {
+            put(queue, failure);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitTermination(Future<?> task) {
+        if (task == null) {
+            return;
+        }
+        try {
+            task.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException e) {
+            LOGGER.debug("LogMiner pipeline stage failed", e);
+        }
+    }
+
+    /**
+     * Reads the next row of a result set.
+     */
+    @FunctionalInterface
+    interface RowReader {
+        /**
+         * @return the next row or {@code null} if the result set is exhausted
+         */
+        LogMinerEventRow read(ResultSet resultSet) throws SQLException;
+    }
+
+    /**
+     * Parses the redo SQL of a row, attaching the parsed entry to DML rows.
+     */
+    @FunctionalInterface
+    interface RowParser {
+        void parse(LogMinerEventRow row);
+    }
+}
@@ -9,18 +9,18 @@ import static io.debezium.connector.oracle.logminer.LogMinerHelper.buildDataDict
 import static io.debezium.connector.oracle.logminer.LogMinerHelper.checkSupplementalLogging;
 import static io.debezium.connector.oracle.logminer.LogMinerHelper.createFlushTable;
 import static io.debezium.connector.oracle.logminer.LogMinerHelper.endMining;
-import static io.debezium.connector.oracle.logminer.LogMinerHelper.flushLogWriter;
-import static io.debezium.connector.oracle.logminer.LogMinerHelper.getCurrentRedoLogFiles;
 import static io.debezium.connector.oracle.logminer.LogMinerHelper.getEndScn;
 import static io.debezium.connector.oracle.logminer.LogMinerHelper.getFirstOnlineLogScn;
 import static io.debezium.connector.oracle.logminer.LogMinerHelper.getLastScnToAbandon;
+import static io.debezium.connector.oracle.logminer.LogMinerHelper.getSessionPgaMemory;
 import static io.debezium.connector.oracle.logminer.LogMinerHelper.getTimeDifference;
-import static io.debezium.connector.oracle.logminer.LogMinerHelper.instantiateFlushConnections;
 import static io.debezium.connector.oracle.logminer.LogMinerHelper.logError;
+import static io.debezium.connector.oracle.logminer.LogMinerHelper.populateFilterTable;
 import static io.debezium.connector.oracle.logminer.LogMinerHelper.setNlsSessionParameters;
 import static io.debezium.connector.oracle.logminer.LogMinerHelper.setRedoLogFilesForMining;
 import static io.debezium.connector.oracle.logminer.LogMinerHelper.startLogMining;
 
+import java.nio.file.Paths;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -71,9 +71,13 @@ public class LogMinerStreamingChangeEventSource implements StreamingChangeEventS
     private final OracleTaskContext taskContext;
     private final ErrorHandler errorHandler;
     private final boolean isContinuousMining;
+    private final boolean reuseMiningSession;
+    private final boolean incrementalLogFiles;
+    private final RegisteredLogFiles registeredLogFiles = new RegisteredLogFiles();
 
     private OracleConnectorConfig connectorConfig;
     private LogMinerMetrics logMinerMetrics;
+    private RedoLogCatalog redoLogCatalog;
     private long startScn;
     private long endScn;
     private Duration archiveLogRetention;
@@ -90,13 +94,18 @@ public class LogMinerStreamingChangeEventSource implements StreamingChangeEventS
         this.connectorConfig = connectorConfig;
         this.strategy = connectorConfig.getLogMiningStrategy();
         this.isContinuousMining = connectorConfig.isContinuousMining();
+        // a continuous mining session without an end SCN would block the mining query until new redo is written
+        this.reuseMiningSession = connectorConfig.isLogMiningSessionReuse() && !isContinuousMining;
+        if (connectorConfig.isLogMiningSessionReuse() && isContinuousMining) {
+            LOGGER.warn("LogMiner sessions are not reused with continuous mining, a session is started for each mining query");
+        }
+        this.incrementalLogFiles = connectorConfig.isLogMiningLogFilesIncremental() && !isContinuousMining;
         this.errorHandler = errorHandler;
         this.taskContext = taskContext;
         this.jdbcConfiguration = JdbcConfiguration.adapt(jdbcConfig);
         this.isRac = connectorConfig.isRacSystem();
         if (this.isRac) {
             this.racHosts.addAll(connectorConfig.getRacNodes().stream().map(String::toUpperCase).collect(Collectors.toSet()));
-            instantiateFlushConnections(jdbcConfiguration, racHosts);
         }
         this.archiveLogRetention = connectorConfig.getLogMiningArchiveLogRetention();
     }
@@ -109,10 +118,11 @@ public class LogMinerStreamingChangeEventSource implements StreamingChangeEventS
      */
     @Override
     public void execute(ChangeEventSourceContext context) {
-        try (TransactionalBuffer transactionalBuffer = new TransactionalBuffer(taskContext, errorHandler)) {
+        try (TransactionalBuffer transactionalBuffer = new TransactionalBuffer(connectorConfig, schema, clock, taskContext, errorHandler)) {
             try {
                 // Perform registration
                 registerLogMinerMetrics();
+                redoLogCatalog = new RedoLogCatalog(logMinerMetrics);
 
                 long databaseTimeMs = getTimeDifference(jdbcConnection).toMillis();
                 LOGGER.trace("Current time {} ms, database difference {} ms", System.currentTimeMillis(), databaseTimeMs);
@@ -132,44 +142,102 @@ public class LogMinerStreamingChangeEventSource implements StreamingChangeEventS
                 initializeRedoLogsForMining(jdbcConnection, false, archiveLogRetention);
 
                 HistoryRecorder historyRecorder = connectorConfig.getLogMiningHistoryRecorder();
+                LogMinerResultRecorder resultRecorder = connectorConfig.getLogMiningResultCaptureFile() != null
+                        ? LogMinerResultRecorder.create(Paths.get(connectorConfig.getLogMiningResultCaptureFile()))
+                        : null;
 
                 try {
                     // todo: why can't OracleConnection be used rather than a Factory+JdbcConfiguration?
+                    historyRecorder.configure(connectorConfig);
                     historyRecorder.prepare(logMinerMetrics, jdbcConfiguration, connectorConfig.getLogMinerHistoryRetentionHours());
 
-                    final LogMinerQueryResultProcessor processor = new LogMinerQueryResultProcessor(context, jdbcConnection,
-                            connectorConfig, logMinerMetrics, transactionalBuffer, offsetContext, schema, dispatcher,
-                            clock, historyRecorder);
-
+                    populateFilterTable(jdbcConnection, connectorConfig);
                     final String query = SqlUtils.logMinerContentsQuery(connectorConfig, jdbcConnection.username());
-                    try (PreparedStatement miningView = jdbcConnection.connection().prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY,
-                            ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT)) {
-                        Set<String> currentRedoLogFiles = getCurrentRedoLogFiles(jdbcConnection, logMinerMetrics);
+
+                    try (LogMinerQueryResultProcessor processor = new LogMinerQueryResultProcessor(context, jdbcConnection,
+                            connectorConfig, logMinerMetrics, transactionalBuffer, offsetContext, schema, dispatcher,
+                            historyRecorder);
+                            RacLogWriterFlusher racFlusher = isRac
+                                    ? new RacLogWriterFlusher(connectorConfig, jdbcConfiguration, racHosts, logMinerMetrics)
+                                    : null;
+                            PreparedStatement miningView = jdbcConnection.connection().prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY,
+                                    ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT)) {
+                        redoLogCatalog.refresh(jdbcConnection);
+                        Set<String> currentRedoLogFiles = redoLogCatalog.getCurrentRedoLogFiles();
+                        AdaptiveMiningWindow miningWindow = connectorConfig.isLogMiningBatchSizeAdaptive()
+                                ? new AdaptiveMiningWindow(connectorConfig, logMinerMetrics)
+                                : null;
+
+                        LogWriterFlusher logWriterFlusher = new LogWriterFlusher(jdbcConnection, racFlusher,
+                                connectorConfig.getLogMiningFlushStrategy(), logMinerMetrics);
 
                         Stopwatch stopwatch = Stopwatch.reusable();
+                        boolean sessionStarted = false;
+                        long sessionEndScn = 0L;
+                        boolean previousQueryEmpty = false;
                         while (context.isRunning()) {
                             Instant start = Instant.now();
-                            endScn = getEndScn(jdbcConnection, startScn, logMinerMetrics, connectorConfig.getLogMiningBatchSizeDefault());
-                            flushLogWriter(jdbcConnection, jdbcConfiguration, isRac, racHosts);
+                            long currentScn = logWriterFlusher.flush(previousQueryEmpty);
+                            endScn = miningWindow != null
+                                    ? getEndScn(currentScn, startScn, logMinerMetrics, miningWindow)
+                                    : getEndScn(currentScn, startScn, logMinerMetrics, connectorConfig.getLogMiningBatchSizeDefault());
 
-                            Set<String> possibleNewCurrentLogFile = getCurrentRedoLogFiles(jdbcConnection, logMinerMetrics);
+                            redoLogCatalog.refresh(jdbcConnection);
+                            Set<String> possibleNewCurrentLogFile = redoLogCatalog.getCurrentRedoLogFiles();
                             if (!currentRedoLogFiles.equals(possibleNewCurrentLogFile)) {
                                 LOGGER.debug("Redo log switch detected, from {} to {}", currentRedoLogFiles, possibleNewCurrentLogFile);
 
-                                // This is the way to mitigate PGA leaks.
-                                // With one mining session, it grows and maybe there is another way to flush PGA.
-                                // At this point we use a new mining session
-                                LOGGER.trace("Ending log mining startScn={}, endScn={}, offsetContext.getScn={}, strategy={}, continuous={}",
-                                        startScn, endScn, offsetContext.getScn(), strategy, isContinuousMining);
-                                endMining(jdbcConnection);
+                                if (incrementalLogFiles) {
+                                    // the session keeps its log files, only the changed ones are removed and added,
+                                    // after which the session has to be started again
+                                    sessionStarted = false;
+                                }
+                                else {
+                                    // This is the way to mitigate PGA leaks.
+                                    // With one mining session, it grows and maybe there is another way to flush PGA.
+                                    // At this point we use a new mining session
+                                    LOGGER.trace("Ending log mining startScn={}, endScn={}, offsetContext.getScn={}, strategy={}, continuous={}",
+                                            startScn, endScn, offsetContext.getScn(), strategy, isContinuousMining);
+                                    endMining(jdbcConnection);
+                                    registeredLogFiles.clear();
+                                    if (sessionStarted) {
+                                        logMinerMetrics.incrementMiningSessionRestartCount();
+                                        sessionStarted = false;
+                                    }
+                                }
 
                                 initializeRedoLogsForMining(jdbcConnection, true, archiveLogRetention);
 
                                 abandonOldTransactionsIfExist(jdbcConnection, transactionalBuffer);
-                                currentRedoLogFiles = getCurrentRedoLogFiles(jdbcConnection, logMinerMetrics);
+                                redoLogCatalog.refresh(jdbcConnection);
+                                currentRedoLogFiles = redoLogCatalog.getCurrentRedoLogFiles();
+                            }
+                            else if ((sessionStarted || incrementalLogFiles) && !previousQueryEmpty && isSessionPgaLimitExceeded()) {
+                                // PGA only grows while the session returns rows, an empty query skips the V$MYSTAT lookup
+                                LOGGER.debug("Restarting the LogMiner session, its PGA memory of {} bytes exceeds the limit of {} bytes",
+                                        logMinerMetrics.getMiningSessionPgaMemoryInBytes(), connectorConfig.getLogMiningSessionMaxPga());
+                                endMining(jdbcConnection);
+                                registeredLogFiles.clear();
+                                logMinerMetrics.incrementMiningSessionRestartCount();
+                                logMinerMetrics.incrementMiningSessionPgaRestartCount();
+                                sessionStarted = false;
+
+                                initializeRedoLogsForMining(jdbcConnection, true, archiveLogRetention);
                             }
 
-                            startLogMining(jdbcConnection, startScn, endScn, strategy, isContinuousMining, logMinerMetrics);
+                            // a reused session is bounded by the SCN flushed to the redo logs when it was started, redo written
+                            // after that is only mined by a new session; within the bound each query selects the batch's SCN range.
+                            // Reuse therefore only applies while catching up, once caught up each query passes the bound.
+                            if (sessionStarted && endScn > sessionEndScn) {
+                                LOGGER.trace("Restarting the LogMiner session, end SCN {} passes the session's end SCN {}", endScn, sessionEndScn);
+                                logMinerMetrics.incrementMiningSessionRestartCount();
+                                sessionStarted = false;
+                            }
+                            if (!sessionStarted) {
+                                sessionEndScn = reuseMiningSession ? Math.max(currentScn, endScn) : endScn;
+                                startLogMining(jdbcConnection, startScn, sessionEndScn, strategy, isContinuousMining, logMinerMetrics);
+                                sessionStarted = reuseMiningSession;
+                            }
 
                             stopwatch.start();
                             miningView.setFetchSize(connectorConfig.getMaxQueueSize());
@@ -179,7 +247,15 @@ public class LogMinerStreamingChangeEventSource implements StreamingChangeEventS
                             try (ResultSet rs = miningView.executeQuery()) {
                                 Duration lastDurationOfBatchCapturing = stopwatch.stop().durations().statistics().getTotal();
                                 logMinerMetrics.setLastDurationOfBatchCapturing(lastDurationOfBatchCapturing);
-                                processor.processResult(rs);
+                                long processedRows = logMinerMetrics.getTotalProcessedRows();
+                                Instant processingStart = Instant.now();
+                                processor.processResult(resultRecorder != null ? resultRecorder.record(rs) : rs);
+                                // the commit of the log writer flush itself is always mined, so it does not count as a change
+                                previousQueryEmpty = processor.isLastResultEmpty();
+                                if (miningWindow != null) {
+                                    miningWindow.update(startScn, endScn, logMinerMetrics.getTotalProcessedRows() - processedRows,
+                                            lastDurationOfBatchCapturing, Duration.between(processingStart, Instant.now()));
+                                }
 
                                 startScn = endScn;
 
@@ -196,6 +272,9 @@ public class LogMinerStreamingChangeEventSource implements StreamingChangeEventS
                 }
                 finally {
                     historyRecorder.close();
+                    if (resultRecorder != null) {
+                        resultRecorder.close();
+                    }
                 }
             }
             catch (Throwable t) {
@@ -234,13 +313,19 @@ public class LogMinerStreamingChangeEventSource implements StreamingChangeEventS
         });
     }
 
+    private boolean isSessionPgaLimitExceeded() throws SQLException {
+        final long pgaMemory = getSessionPgaMemory(jdbcConnection);
+        logMinerMetrics.setMiningSessionPgaMemory(pgaMemory);
+        return pgaMemory > connectorConfig.getLogMiningSessionMaxPga();
+    }
+
     private void initializeRedoLogsForMining(OracleConnection connection, boolean postEndMiningSession, Duration archiveLogRetention) throws SQLException {
         if (!postEndMiningSession) {
             if (OracleConnectorConfig.LogMiningStrategy.CATALOG_IN_REDO.equals(strategy)) {
                 buildDataDictionary(connection);
             }
             if (!isContinuousMining) {
-                setRedoLogFilesForMining(connection, startScn, archiveLogRetention);
+                setRedoLogFilesForMining(connection, redoLogCatalog, registeredLogFiles, startScn, archiveLogRetention);
             }
         }
         else {
@@ -248,7 +333,7 @@ public class LogMinerStreamingChangeEventSource implements StreamingChangeEventS
                 if (OracleConnectorConfig.LogMiningStrategy.CATALOG_IN_REDO.equals(strategy)) {
                     buildDataDictionary(connection);
                 }
-                setRedoLogFilesForMining(connection, startScn, archiveLogRetention);
+                setRedoLogFilesForMining(connection, redoLogCatalog, registeredLogFiles, startScn, archiveLogRetention);
             }
         }
     }
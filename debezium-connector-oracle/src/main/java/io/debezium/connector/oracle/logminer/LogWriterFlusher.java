@@ -0,0 +1,91 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.CallableStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig.LogMiningFlushStrategy;
+
+/**
+ * Flushes the log writer buffer before each mining query, so that LogMiner reads the redo up to the current SCN.
+ *
+ * With {@link LogMiningFlushStrategy#ADAPTIVE}, the current SCN is read and the buffer is flushed by a single PL/SQL
+ * block, which also reads the SCN following its own commit. The flush is skipped when the previous mining query returned
+ * no changes, only the commit of the flush itself, and the current SCN still is the one following the last flush: no SCN
+ * was allocated since, so there is no redo to flush, and no redo is generated by the connector itself while the database
+ * is idle. On RAC, the buffers of all
+ * nodes are flushed with the SCN read, and never skipped.
+ */
+@NotThreadSafe
+class LogWriterFlusher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogWriterFlusher.class);
+
+    private final OracleConnection connection;
+    private final RacLogWriterFlusher racFlusher;
+    private final LogMiningFlushStrategy strategy;
+    private final LogMinerMetrics metrics;
+
+    private long scnAfterLastFlush = -1;
+
+    LogWriterFlusher(OracleConnection connection, RacLogWriterFlusher racFlusher, LogMiningFlushStrategy strategy, LogMinerMetrics metrics) {
+        this.connection = connection;
+        this.racFlusher = racFlusher;
+        this.strategy = strategy;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Flushes the log writer buffer unless the strategy allows to skip it.
+     *
+     * @param previousQueryEmpty whether the previous mining query returned no changes, see
+     *                           {@link LogMinerQueryResultProcessor#isLastResultEmpty()}
+     * @return the current SCN, up to which the redo was flushed
+     * @throws SQLException if anything unexpected happens
+     */
+    long flush(boolean previousQueryEmpty) throws SQLException {
+        if (strategy != LogMiningFlushStrategy.ADAPTIVE) {
+            final long currentScn = LogMinerHelper.getCurrentScn(connection);
+            LogMinerHelper.flushLogWriter(connection, racFlusher);
+            metrics.incrementLogWriterFlushCount();
+            return currentScn;
+        }
+
+        if (racFlusher != null) {
+            final long currentScn = LogMinerHelper.getCurrentScn(connection);
+            racFlusher.flush(currentScn);
+            metrics.incrementLogWriterFlushCount();
+            return currentScn;
+        }
+
+        if (previousQueryEmpty && scnAfterLastFlush != -1) {
+            final long currentScn = LogMinerHelper.getCurrentScn(connection);
+            if (currentScn == scnAfterLastFlush) {
+                LOGGER.trace("Skipping the log writer flush, the SCN {} did not change since the last flush", currentScn);
+                metrics.incrementLogWriterFlushSkipCount();
+                return currentScn;
+            }
+        }
+
+        try (CallableStatement statement = connection.connection(false).prepareCall(SqlUtils.FLUSH_LOG_WRITER)) {
+            statement.registerOutParameter(1, Types.BIGINT);
+            statement.registerOutParameter(2, Types.BIGINT);
+            statement.execute();
+            final long currentScn = statement.getLong(1);
+            scnAfterLastFlush = statement.getLong(2);
+            LOGGER.trace("Flushed the log writer buffer up to SCN {}", currentScn);
+            metrics.incrementLogWriterFlushCount();
+            return currentScn;
+        }
+    }
+}
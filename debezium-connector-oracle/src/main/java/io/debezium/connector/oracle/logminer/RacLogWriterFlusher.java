@@ -0,0 +1,266 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.ThreadSafe;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnector;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.jdbc.JdbcConfiguration;
+import io.debezium.util.Clock;
+import io.debezium.util.Metronome;
+import io.debezium.util.Threads;
+
+/**
+ * Flushes the log writer buffers of all RAC nodes concurrently, each over its own connection.
+ * Oracle RAC has one LogWriter per node (instance), we have to flush them all. The nodes are taken from the configuration,
+ * as not all nodes could be load balanced and a connection factory may return connections to the same instance.
+ *
+ * A node not flushed within the configured timeout is reconnected in the background, the other nodes keep their
+ * connections. The connection of a timed out node is only closed once its flush has completed, which its statement's
+ * query timeout bounds. Instead of sleeping for the interval Oracle takes to flush the buffer by itself, the flush waits at most
+ * that interval for the failed nodes to be flushed up to the requested SCN once reconnected.
+ */
+@ThreadSafe
+class RacLogWriterFlusher implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RacLogWriterFlusher.class);
+
+    // the log writer flushes its buffer by itself at least every 3 seconds
+    private static final Duration LOG_WRITER_FLUSH_INTERVAL = Duration.ofSeconds(3);
+    private static final Duration READINESS_POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final JdbcConfiguration config;
+    private final Set<String> hosts;
+    private final Duration timeout;
+    private final LogMinerMetrics metrics;
+    private final ConcurrentMap<String, OracleConnection> connections = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> flushedScns = new ConcurrentHashMap<>();
+    // the nodes being reconnected, mapped to the highest SCN they are to be flushed up to once reconnected
+    private final ConcurrentMap<String, Long> pendingScns = new ConcurrentHashMap<>();
+    private final ExecutorService flushPool;
+    private final ExecutorService reconnectPool;
+
+    RacLogWriterFlusher(OracleConnectorConfig connectorConfig, JdbcConfiguration config, Set<String> hosts, LogMinerMetrics metrics) {
+        if (hosts.isEmpty()) {
+            throw new IllegalArgumentException("No RAC node ip addresses were supplied in the configuration");
+        }
+        this.config = config;
+        this.hosts = hosts;
+        this.timeout = connectorConfig.getRacFlushTimeout();
+        this.metrics = metrics;
+        this.flushPool = Threads.newFixedThreadPool(OracleConnector.class, connectorConfig.getLogicalName(), "logminer-rac-flush", hosts.size());
+        this.reconnectPool = Threads.newFixedThreadPool(OracleConnector.class, connectorConfig.getLogicalName(), "logminer-rac-reconnect", 1);
+        for (String host : hosts) {
+            try {
+                connections.put(host, createFlushConnection(host));
+            }
+            catch (SQLException e) {
+                LOGGER.error("Cannot connect to RAC node {}", host, e);
+            }
+        }
+    }
+
+    /**
+     * Flushes the log writer buffers of all nodes up to the given SCN.
+     *
+     * @param currentScn the current SCN
+     */
+    void flush(long currentScn) {
+        final Instant startTime = Instant.now();
+
+        final Map<String, Future<?>> flushes = new LinkedHashMap<>();
+        final List<String> failedHosts = new ArrayList<>();
+        for (String host : hosts) {
+            if (pendingScns.computeIfPresent(host, (h, scn) -> Math.max(scn, currentScn)) != null) {
+                LOGGER.debug("RAC node {} is being reconnected, its flush is left to the background reconnection", host);
+                failedHosts.add(host);
+            }
+            else {
+                flushes.put(host, flushPool.submit(() -> {
+                    flushNode(host, currentScn);
+                    return null;
+                }));
+            }
+        }
+
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        for (Map.Entry<String, Future<?>> flush : flushes.entrySet()) {
+            final String host = flush.getKey();
+            try {
+                flush.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+            catch (TimeoutException e) {
+                LOGGER.warn("Flushing the Log Writer buffer of node {} did not complete within {}", host, timeout);
+                reconnect(host, currentScn, flush.getValue());
+                failedHosts.add(host);
+            }
+            catch (ExecutionException e) {
+                LOGGER.warn("Cannot flush Log Writer buffer of the node {} due to {}", host, e.getCause());
+                reconnect(host, currentScn, flush.getValue());
+                failedHosts.add(host);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        if (!failedHosts.isEmpty()) {
+            awaitFlushed(failedHosts, currentScn, startTime.plus(LOG_WRITER_FLUSH_INTERVAL));
+        }
+
+        LOGGER.trace("Flushing RAC Log Writers took {} ", Duration.between(startTime, Instant.now()));
+    }
+
+    @Override
+    public void close() {
+        flushPool.shutdownNow();
+        reconnectPool.shutdownNow();
+        for (OracleConnection connection : connections.values()) {
+            closeQuietly(connection);
+        }
+        connections.clear();
+    }
+
+    private void flushNode(String host, long scn) throws SQLException {
+        final OracleConnection connection = connections.get(host);
+        if (connection == null) {
+            throw new SQLException("Connection to the node " + host + " was not instantiated");
+        }
+
+        final Instant startTime = Instant.now();
+        LOGGER.trace("Flushing Log Writer buffer of node {}", host);
+        try (Statement statement = connection.connection(false).createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, timeout.getSeconds()));
+            statement.execute(SqlUtils.UPDATE_FLUSH_TABLE + scn);
+        }
+        connection.commit();
+        flushedScns.merge(host, scn, Math::max);
+        metrics.recordRacFlushLatency(host, Duration.between(startTime, Instant.now()));
+    }
+
+    private void reconnect(String host, long scn, Future<?> failedFlush) {
+        metrics.incrementRacFlushFailureCount();
+        // only the flushing thread starts reconnections and a node being reconnected is not flushed by it
+        if (pendingScns.putIfAbsent(host, scn) != null) {
+            pendingScns.computeIfPresent(host, (h, pendingScn) -> Math.max(pendingScn, scn));
+            return;
+        }
+        reconnectPool.submit(() -> {
+            boolean flushed = false;
+            try {
+                awaitCompletion(failedFlush);
+                final OracleConnection previous = connections.remove(host);
+                if (previous != null) {
+                    closeQuietly(previous);
+                }
+                connections.put(host, createFlushConnection(host));
+                LOGGER.info("Reconnected to RAC node {}", host);
+
+                // the node is flushed again if a higher SCN was requested in the meantime, removing the pending SCN
+                // hands the node back to the flushing thread
+                Long pendingScn;
+                do {
+                    pendingScn = pendingScns.get(host);
+                    flushNode(host, pendingScn);
+                } while (!pendingScns.remove(host, pendingScn));
+                flushed = true;
+            }
+            catch (SQLException e) {
+                LOGGER.error("Cannot reconnect to RAC node {}", host, e);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finally {
+                if (!flushed) {
+                    pendingScns.remove(host);
+                }
+            }
+        });
+    }
+
+    /**
+     * Waits until a failed flush has completed, a flush that timed out is still using its connection.
+     */
+    private static void awaitCompletion(Future<?> flush) throws InterruptedException {
+        try {
+            flush.get();
+        }
+        catch (ExecutionException e) {
+            // the failure has been reported by the flushing thread already
+        }
+    }
+
+    /**
+     * Waits until the failed nodes are flushed up to the given SCN once reconnected, at most until the log writer has
+     * flushed their buffers by itself.
+     */
+    private void awaitFlushed(List<String> failedHosts, long scn, Instant deadline) {
+        final Metronome metronome = Metronome.sleeper(READINESS_POLL_INTERVAL, Clock.system());
+        while (!isFlushed(failedHosts, scn)) {
+            if (!Instant.now().isBefore(deadline)) {
+                LOGGER.warn("Not all LogWriter buffers were flushed up to SCN {}, relying on Oracle having flushed the nodes {}",
+                        scn, failedHosts);
+                return;
+            }
+            try {
+                metronome.pause();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private boolean isFlushed(List<String> failedHosts, long scn) {
+        for (String host : failedHosts) {
+            final Long flushedScn = flushedScns.get(host);
+            if (flushedScn == null || flushedScn < scn) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private OracleConnection createFlushConnection(String host) throws SQLException {
+        JdbcConfiguration hostConfig = JdbcConfiguration.adapt(config.edit().with(JdbcConfiguration.DATABASE, host).build());
+        OracleConnection connection = new OracleConnection(hostConfig, () -> RacLogWriterFlusher.class.getClassLoader());
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private static void closeQuietly(OracleConnection connection) {
+        try {
+            connection.close();
+        }
+        catch (SQLException e) {
+            LOGGER.warn("Cannot close existing RAC flush connection", e);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.oracle.OracleConnection;
+
+/**
+ * Keeps the redo log groups, their members and the archive logs of the database, so that they are not listed from
+ * scratch on every mining iteration and log switch.
+ *
+ * Each refresh reads the few rows of {@code V$LOG}. Only when the sequence of a log thread changed, i.e. after a log
+ * switch, the members of the groups are read again and the archive logs are fetched by their record id, starting from
+ * the oldest cached one. Cached archive logs no longer available, e.g. deleted by RMAN, are dropped then, archive logs
+ * created since the last refresh are added. Archive logs entirely before the offset SCN are evicted, as the offset SCN
+ * never moves back. The catalog still has to be invalidated when adding one of its log files for mining fails, as a log
+ * may have been deleted since the last log switch.
+ */
+@NotThreadSafe
+class RedoLogCatalog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RedoLogCatalog.class);
+
+    private final LogMinerMetrics metrics;
+
+    private String maxScn;
+    private List<LogGroup> groups = new ArrayList<>();
+    private Map<Integer, Long> threadSequences = new HashMap<>();
+    private Map<Integer, TreeSet<String>> members = new HashMap<>();
+    private Set<String> currentRedoLogFiles = new HashSet<>();
+    private final TreeMap<Long, ArchivedLog> archivedLogs = new TreeMap<>();
+    private long lastArchivedLogRecid;
+    private Timestamp databaseTime;
+
+    RedoLogCatalog(LogMinerMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Reads the redo log groups and, after a log switch, their members and the new archive logs.
+     *
+     * @param connection container level database connection
+     * @throws SQLException if anything unexpected happens
+     */
+    void refresh(OracleConnection connection) throws SQLException {
+        if (maxScn == null) {
+            maxScn = LogMinerHelper.getDatabaseMaxScnValue(connection);
+        }
+
+        final List<LogGroup> polledGroups = new ArrayList<>();
+        final Map<Integer, Long> polledSequences = new HashMap<>();
+        try (PreparedStatement st = connection.connection(false).prepareStatement(SqlUtils.redoLogGroupsQuery());
+                ResultSet rs = st.executeQuery()) {
+            while (rs.next()) {
+                final LogGroup group = new LogGroup(rs.getInt(1), rs.getString(4), rs.getString(5), rs.getString(6));
+                polledGroups.add(group);
+                polledSequences.merge(rs.getInt(2), rs.getLong(3), Math::max);
+                databaseTime = rs.getTimestamp(7);
+            }
+        }
+        groups = polledGroups;
+
+        if (!polledSequences.equals(threadSequences)) {
+            LOGGER.trace("Log sequences changed from {} to {}, refreshing the redo log catalog", threadSequences, polledSequences);
+            threadSequences = polledSequences;
+            members = readMembers(connection);
+            readArchivedLogs(connection);
+            metrics.setSwitchCount(LogMinerHelper.getSwitchCount(connection));
+        }
+
+        final Set<String> currentFiles = new HashSet<>();
+        final Map<String, String> statuses = new LinkedHashMap<>();
+        for (LogGroup group : groups) {
+            for (String member : members.getOrDefault(group.group, new TreeSet<>())) {
+                statuses.put(member, group.status);
+                if ("CURRENT".equals(group.status)) {
+                    currentFiles.add(member);
+                }
+            }
+        }
+        currentRedoLogFiles = currentFiles;
+        LOGGER.trace(" Current Redo log fileNames: {} ", currentRedoLogFiles);
+
+        metrics.setRedoLogStatus(statuses);
+        metrics.setCurrentLogFileName(currentRedoLogFiles);
+    }
+
+    /**
+     * Drops all cached log files, the next refresh lists them from scratch.
+     */
+    void invalidate() {
+        threadSequences = new HashMap<>();
+        members = new HashMap<>();
+        archivedLogs.clear();
+        lastArchivedLogRecid = 0;
+    }
+
+    /**
+     * @return full name(s) of the CURRENT online redo log file(s) as of the last refresh, multiple for RAC systems
+     */
+    Set<String> getCurrentRedoLogFiles() {
+        return currentRedoLogFiles;
+    }
+
+    /**
+     * Returns the online log files, starting from the one which contains the offset SCN.
+     *
+     * @param offsetScn offset SCN
+     * @return map of the file name to the next change of each online log file
+     */
+    Map<String, BigInteger> getOnlineLogFilesForOffsetScn(long offsetScn) {
+        final BigInteger offset = BigInteger.valueOf(offsetScn);
+        final BigInteger max = new BigInteger(maxScn);
+        final Map<String, BigInteger> files = new HashMap<>();
+        for (LogGroup group : groups) {
+            final TreeSet<String> groupMembers = members.get(group.group);
+            if (group.nextChange == null || groupMembers == null || groupMembers.isEmpty()) {
+                continue;
+            }
+            final BigInteger nextChange = new BigInteger(group.nextChange);
+            if (nextChange.signum() > 0 && (nextChange.compareTo(offset) >= 0 || nextChange.equals(max))) {
+                LOGGER.trace("Online redo log {} with SCN range {} to {} to be added.", groupMembers.first(), group.firstChange, group.nextChange);
+                files.put(groupMembers.first(), nextChange);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Returns the archive logs containing changes after the offset SCN, evicting the ones out of the retention or
+     * before the offset SCN.
+     *
+     * @param offsetScn offset SCN
+     * @param archiveLogRetention duration that archive logs will be mined
+     * @return map of the file name to the next change of each archive log
+     */
+    Map<String, BigInteger> getArchivedLogFilesForOffsetScn(long offsetScn, Duration archiveLogRetention) {
+        final boolean retained = !archiveLogRetention.isNegative() && !archiveLogRetention.isZero();
+        final Timestamp oldestFirstTime = retained && databaseTime != null
+                ? Timestamp.from(databaseTime.toInstant().minus(Duration.ofHours(archiveLogRetention.toHours())))
+                : null;
+        final BigInteger offset = BigInteger.valueOf(offsetScn);
+
+        final Map<String, BigInteger> files = new HashMap<>();
+        for (Iterator<ArchivedLog> iterator = archivedLogs.values().iterator(); iterator.hasNext();) {
+            final ArchivedLog log = iterator.next();
+            if (oldestFirstTime != null && (log.firstTime == null || log.firstTime.before(oldestFirstTime))) {
+                // archive logs out of the retention never come back into it
+                iterator.remove();
+                continue;
+            }
+            final BigInteger nextChange = new BigInteger(log.nextChange != null ? log.nextChange : maxScn);
+            if (nextChange.compareTo(offset) <= 0) {
+                // the offset SCN only moves forward, the log is never mined again
+                iterator.remove();
+                continue;
+            }
+            LOGGER.trace("Archive log {} with next change {} to be added.", log.name, nextChange);
+            files.put(log.name, nextChange);
+        }
+        return files;
+    }
+
+    private static Map<Integer, TreeSet<String>> readMembers(OracleConnection connection) throws SQLException {
+        final Map<Integer, TreeSet<String>> groupMembers = new HashMap<>();
+        try (PreparedStatement st = connection.connection(false).prepareStatement(SqlUtils.redoLogMembersQuery());
+                ResultSet rs = st.executeQuery()) {
+            while (rs.next()) {
+                groupMembers.computeIfAbsent(rs.getInt(1), g -> new TreeSet<>()).add(rs.getString(2));
+            }
+        }
+        return groupMembers;
+    }
+
+    private void readArchivedLogs(OracleConnection connection) throws SQLException {
+        final long fromRecid = archivedLogs.isEmpty() ? lastArchivedLogRecid : Math.min(archivedLogs.firstKey() - 1, lastArchivedLogRecid);
+        final Set<Long> availableRecids = new HashSet<>();
+        int count = 0;
+        try (PreparedStatement st = connection.connection(false).prepareStatement(SqlUtils.archiveLogsSinceQuery())) {
+            st.setLong(1, fromRecid);
+            try (ResultSet rs = st.executeQuery()) {
+                while (rs.next()) {
+                    final long recid = rs.getLong(1);
+                    availableRecids.add(recid);
+                    if (recid > lastArchivedLogRecid) {
+                        archivedLogs.put(recid, new ArchivedLog(rs.getString(2), rs.getString(3), rs.getTimestamp(4)));
+                        count++;
+                    }
+                }
+            }
+        }
+        final int cached = archivedLogs.size();
+        archivedLogs.keySet().retainAll(availableRecids);
+        if (!archivedLogs.isEmpty()) {
+            lastArchivedLogRecid = Math.max(lastArchivedLogRecid, archivedLogs.lastKey());
+        }
+        LOGGER.trace("Read {} new archive logs, dropped {} archive logs no longer available, {} archive logs cached",
+                count, cached - archivedLogs.size(), archivedLogs.size());
+    }
+
+    private static class LogGroup {
+        private final int group;
+        private final String status;
+        private final String firstChange;
+        private final String nextChange;
+
+        LogGroup(int group, String status, String firstChange, String nextChange) {
+            this.group = group;
+            this.status = status;
+            this.firstChange = firstChange;
+            this.nextChange = nextChange;
+        }
+    }
+
+    private static class ArchivedLog {
+        private final String name;
+        private final String nextChange;
+        private final Timestamp firstTime;
+
+        ArchivedLog(String name, String nextChange, Timestamp firstTime) {
+            this.name = name;
+            this.nextChange = nextChange;
+            this.firstTime = firstTime;
+        }
+    }
+}
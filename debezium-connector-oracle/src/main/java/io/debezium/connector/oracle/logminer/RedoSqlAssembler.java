@@ -0,0 +1,88 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * Assembles the redo SQL of an operation that LogMiner splits across several rows.
+ *
+ * The chunks are only referenced while the rows are read, and copied once into a buffer of the exact final size when
+ * the redo SQL is requested, rather than into a buffer that grows and is copied with every chunk. The redo SQL is
+ * limited to a memory budget; the chunks exceeding it are dropped and the redo SQL is reported as truncated.
+ */
+@NotThreadSafe
+class RedoSqlAssembler {
+
+    private final List<String> chunks = new ArrayList<>();
+    private final long maxLength;
+    private int length;
+    private boolean truncated;
+
+    /**
+     * @param firstChunk the redo SQL of the first row of the operation, not null
+     * @param maxSizeInBytes the maximum memory in bytes the redo SQL may take
+     */
+    RedoSqlAssembler(String firstChunk, long maxSizeInBytes) {
+        // a string takes two bytes per character
+        this.maxLength = Math.max(maxSizeInBytes / Character.BYTES, firstChunk.length());
+        this.chunks.add(firstChunk);
+        this.length = firstChunk.length();
+    }
+
+    /**
+     * Appends the redo SQL of a continuation row, unless it would exceed the memory budget.
+     *
+     * @param chunk the redo SQL of the row, may be null
+     * @return {@code true} if the chunk was appended, {@code false} if the redo SQL is truncated
+     */
+    boolean append(String chunk) {
+        if (truncated) {
+            return false;
+        }
+        if (chunk == null) {
+            return true;
+        }
+        if (length + (long) chunk.length() > maxLength) {
+            truncated = true;
+            return false;
+        }
+        chunks.add(chunk);
+        length += chunk.length();
+        return true;
+    }
+
+    /**
+     * @return whether chunks were dropped because of the memory budget
+     */
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * @return the number of characters of the assembled redo SQL
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * @return the assembled redo SQL
+     */
+    String toSql() {
+        if (chunks.size() == 1) {
+            return chunks.get(0);
+        }
+        final StringBuilder sql = new StringBuilder(length);
+        for (String chunk : chunks) {
+            sql.append(chunk);
+        }
+        return sql.toString();
+    }
+}
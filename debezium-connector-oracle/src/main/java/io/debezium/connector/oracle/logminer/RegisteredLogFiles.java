@@ -0,0 +1,69 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * The log files registered with the LogMiner session, so that a log switch only adds and removes the files that changed.
+ *
+ * A file is identified by its name and its next change: an online redo log keeps its name when it is switched or reused,
+ * so it is registered again whenever its next change differs. Ending the LogMiner session drops all its log files, the
+ * registered files have to be cleared then.
+ */
+@NotThreadSafe
+class RegisteredLogFiles {
+
+    private final Map<String, BigInteger> files = new HashMap<>();
+
+    /**
+     * @param logFiles the log files to mine, mapped to their next change
+     * @return the registered files that are no longer to be mined or have changed since their registration
+     */
+    List<String> getFilesToRemove(Map<String, BigInteger> logFiles) {
+        return files.entrySet().stream()
+                .filter(e -> !e.getValue().equals(logFiles.get(e.getKey())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param logFiles the log files to mine, mapped to their next change
+     * @return the log files that are not registered yet
+     */
+    Map<String, BigInteger> getFilesToAdd(Map<String, BigInteger> logFiles) {
+        final Map<String, BigInteger> filesToAdd = new LinkedHashMap<>();
+        logFiles.forEach((name, nextChange) -> {
+            if (!nextChange.equals(files.get(name))) {
+                filesToAdd.put(name, nextChange);
+            }
+        });
+        return filesToAdd;
+    }
+
+    void added(String name, BigInteger nextChange) {
+        files.put(name, nextChange);
+    }
+
+    void removed(String name) {
+        files.remove(name);
+    }
+
+    void clear() {
+        files.clear();
+    }
+
+    boolean isEmpty() {
+        return files.isEmpty();
+    }
+}
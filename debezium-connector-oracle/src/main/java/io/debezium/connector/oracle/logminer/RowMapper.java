@@ -133,7 +133,8 @@ public class RowMapper {
     }
 
     /**
-     * It constructs REDO_SQL. If REDO_SQL  is in a few lines, it truncates after first 40_000 characters
+     * It constructs REDO_SQL. If REDO_SQL is in a few lines, the lines are assembled up to the given memory budget,
+     * and the remainder is skipped, so that the continuation lines are never processed as separate entries.
      * It also records LogMiner history info if isDml is true
      *
      * @param metrics metrics
@@ -146,19 +147,19 @@ public class RowMapper {
      * @param operationCode operation code
      * @param changeTime time of change
      * @param txId transaction ID
+     * @param maxSizeInBytes the maximum memory in bytes the redo SQL may take
      * @return the redo SQL
      */
     public static String getSqlRedo(TransactionalBufferMetrics metrics, ResultSet rs, boolean isDml,
                                     HistoryRecorder historyRecorder, Scn scn, String tableName,
-                                    String segOwner, int operationCode, Timestamp changeTime, String txId) {
-        int lobLimitCounter = 9; // todo : decide on approach ( XStream chunk option) and Lob limit
-        StringBuilder result = new StringBuilder(4000);
+                                    String segOwner, int operationCode, Timestamp changeTime, String txId,
+                                    long maxSizeInBytes) {
+        RedoSqlAssembler assembler = null;
         try {
             String redoSql = rs.getString(SQL_REDO);
             if (redoSql == null) {
                 return null;
             }
-            result = new StringBuilder(redoSql);
 
             int csf = rs.getInt(CSF);
             if (isDml) {
@@ -168,24 +169,33 @@ public class RowMapper {
             // 0 - indicates SQL_REDO is contained within the same row
             // 1 - indicates that either SQL_REDO is greater than 4000 bytes in size and is continued in
             // the next row returned by the ResultSet
+            if (csf == 0) {
+                return redoSql;
+            }
+            assembler = new RedoSqlAssembler(redoSql, maxSizeInBytes);
             while (csf == 1) {
                 rs.next();
-                if (lobLimitCounter-- == 0) {
-                    LOGGER.warn("LOB value was truncated due to the connector limitation of {} MB", 40);
-                    break;
-                }
-                result.append(rs.getString(SQL_REDO));
                 csf = rs.getInt(CSF);
+                if (assembler.isTruncated() && !isDml) {
+                    // only skip the remaining rows of the operation
+                    continue;
+                }
+                final String chunk = rs.getString(SQL_REDO);
                 if (isDml) {
-                    historyRecorder.record(scn, tableName, segOwner, operationCode, changeTime, txId, csf, rs.getString(SQL_REDO));
+                    historyRecorder.record(scn, tableName, segOwner, operationCode, changeTime, txId, csf, chunk);
                 }
+                assembler.append(chunk);
             }
-
+            if (assembler.isTruncated()) {
+                LOGGER.warn("Redo SQL of transaction {} at SCN {} was truncated to {} characters due to the limit of {} bytes", txId, scn,
+                        assembler.length(), maxSizeInBytes);
+            }
+            return assembler.toSql();
         }
         catch (SQLException e) {
             logError(metrics, e, "SQL_REDO");
+            return assembler != null ? assembler.toSql() : "";
         }
-        return result.toString();
     }
 
     private static void logError(TransactionalBufferMetrics metrics, SQLException e, String s) {
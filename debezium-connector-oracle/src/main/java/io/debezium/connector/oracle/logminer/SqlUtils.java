@@ -9,6 +9,8 @@ import java.io.IOException;
 import java.sql.SQLRecoverableException;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -17,6 +19,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleConnectorConfig.LogMiningQueryMode;
 import io.debezium.relational.TableId;
 import io.debezium.util.Strings;
 
@@ -57,6 +60,8 @@ public class SqlUtils {
     static final String BUILD_DICTIONARY = "BEGIN DBMS_LOGMNR_D.BUILD (options => DBMS_LOGMNR_D.STORE_IN_REDO_LOGS); END;";
     static final String CURRENT_TIMESTAMP = "SELECT CURRENT_TIMESTAMP FROM DUAL";
     static final String END_LOGMNR = "BEGIN SYS.DBMS_LOGMNR.END_LOGMNR(); END;";
+    static final String SESSION_PGA_MEMORY = "SELECT M.VALUE FROM V$MYSTAT M, V$STATNAME N " +
+            "WHERE M.STATISTIC# = N.STATISTIC# AND N.NAME = 'session pga memory'";
 
     /**
      * Querying V$LOGMNR_LOGS
@@ -81,6 +86,26 @@ public class SqlUtils {
     static final String CREATE_FLUSH_TABLE = "CREATE TABLE " + LOGMNR_FLUSH_TABLE + "(LAST_SCN NUMBER(19,0))";
     static final String INSERT_FLUSH_TABLE = "INSERT INTO " + LOGMNR_FLUSH_TABLE + " VALUES(0)";
     static final String UPDATE_FLUSH_TABLE = "UPDATE " + LOGMNR_FLUSH_TABLE + " SET LAST_SCN =";
+    // reads the current SCN, flushes the log writer buffer up to it and reads the SCN following the flush in one round trip
+    static final String FLUSH_LOG_WRITER = "DECLARE flush_scn NUMBER; BEGIN "
+            + "SELECT CURRENT_SCN INTO flush_scn FROM " + DATABASE_VIEW + "; "
+            + "UPDATE " + LOGMNR_FLUSH_TABLE + " SET LAST_SCN = flush_scn; "
+            + "COMMIT; "
+            + "? := flush_scn; "
+            + "SELECT CURRENT_SCN INTO flush_scn FROM " + DATABASE_VIEW + "; "
+            + "? := flush_scn; "
+            + "END;";
+
+    // table filter statements
+    static final String LOGMNR_FILTER_TABLE = "LOG_MINING_FILTER";
+    static final String CREATE_FILTER_TABLE = "CREATE GLOBAL TEMPORARY TABLE " + LOGMNR_FILTER_TABLE
+            + "(OWNER VARCHAR2(128), TABLE_NAME VARCHAR2(128)) ON COMMIT PRESERVE ROWS";
+    static final String DELETE_FILTER_TABLE = "DELETE FROM " + LOGMNR_FILTER_TABLE;
+    static final String INSERT_FILTER_TABLE = "INSERT INTO " + LOGMNR_FILTER_TABLE + "(OWNER, TABLE_NAME) VALUES (?, ?)";
+
+    // Oracle limits the number of expressions of an IN-list (ORA-01795), larger table lists use the filter table
+    static final int MAX_IN_LIST_SIZE = 1000;
+    private static final String REGEX_METACHARACTERS = "[](){}*+?|^$";
 
     // history recording statements
     static final String LOGMNR_HISTORY_TEMP_TABLE = "LOG_MINING_TEMP";
@@ -153,6 +178,19 @@ public class SqlUtils {
                 " GROUP BY F.GROUP#, L.NEXT_CHANGE#, L.FIRST_CHANGE# ORDER BY 3", LOG_VIEW, LOGFILE_VIEW);
     }
 
+    static String redoLogGroupsQuery() {
+        return String.format("SELECT GROUP#, THREAD#, SEQUENCE#, STATUS, FIRST_CHANGE#, NEXT_CHANGE#, SYSDATE FROM %s", LOG_VIEW);
+    }
+
+    static String redoLogMembersQuery() {
+        return String.format("SELECT GROUP#, MEMBER FROM %s", LOGFILE_VIEW);
+    }
+
+    static String archiveLogsSinceQuery() {
+        return String.format("SELECT RECID, NAME, NEXT_CHANGE#, FIRST_TIME FROM %s " +
+                "WHERE RECID > ? AND NAME IS NOT NULL AND ARCHIVED = 'YES' AND STATUS = 'A' ORDER BY RECID", ARCHIVED_LOG_VIEW);
+    }
+
     /**
      * Obtain the query to be used to fetch archive logs.
      *
@@ -192,14 +230,22 @@ public class SqlUtils {
         }
         return "BEGIN sys.dbms_logmnr.start_logmnr(" +
                 "startScn => '" + startScn + "', " +
-                "endScn => '" + endScn + "', " +
+                (endScn != null ? "endScn => '" + endScn + "', " : "") +
                 "OPTIONS => " + miningStrategy +
                 " + DBMS_LOGMNR.NO_ROWID_IN_STMT);" +
                 "END;";
     }
 
     /**
-     * This is the query from the LogMiner view to get changes.
+     * Returns the query of the mining view.
+     *
+     * Only the captured rows leave the database: DML rows are filtered by the schema and table include or exclude lists,
+     * and all rows, including commits, rollbacks and DDL, are limited to the SCN range of the query. The range excludes
+     * its start and includes its end SCN, the next range starting at the end SCN of the previous one, so that a row at
+     * the end SCN of a range is returned exactly once. Names of the lists that are not regular expressions are
+     * compared by IN-lists rather than by {@code REGEXP_LIKE}, and table lists exceeding {@link #MAX_IN_LIST_SIZE} names
+     * are compared against the {@link #LOGMNR_FILTER_TABLE}, see {@link #logMinerFilterTableEntries(OracleConnectorConfig)}.
+     * With {@link LogMiningQueryMode#MINIMAL}, the columns that are not processed are fetched as {@code NULL}.
      *
      * The query uses the following columns from the view:
      * <pre>
@@ -216,22 +262,29 @@ public class SqlUtils {
      * </pre>
      *
      * @param connectorConfig the connector configuration
-     * @param logMinerUser log mining session user name
-     * @return the query
+     * @param logMinerUser the user of the connector
+     * @return the query, with the exclusive start and the inclusive end SCN as parameters
      */
     static String logMinerContentsQuery(OracleConnectorConfig connectorConfig, String logMinerUser) {
         StringBuilder query = new StringBuilder();
-        query.append("SELECT SCN, SQL_REDO, OPERATION_CODE, TIMESTAMP, XID, CSF, TABLE_NAME, SEG_OWNER, OPERATION, USERNAME ");
+        if (connectorConfig.getLogMiningQueryMode() == LogMiningQueryMode.MINIMAL) {
+            // the columns keep their positions, the values that are not processed are not transferred
+            query.append("SELECT SCN, CASE WHEN OPERATION_CODE IN (1,2,3,5) THEN SQL_REDO END AS SQL_REDO, OPERATION_CODE, TIMESTAMP, XID, CSF, ");
+            query.append("TABLE_NAME, SEG_OWNER, NULL AS OPERATION, NULL AS USERNAME ");
+        }
+        else {
+            query.append("SELECT SCN, SQL_REDO, OPERATION_CODE, TIMESTAMP, XID, CSF, TABLE_NAME, SEG_OWNER, OPERATION, USERNAME ");
+        }
         query.append("FROM ").append(LOGMNR_CONTENTS_VIEW).append(" ");
-        query.append("WHERE OPERATION_CODE IN (1,2,3,5) ");
-        query.append("AND SCN > ? ");
-        query.append("AND SCN < ? ");
-        query.append("AND TABLE_NAME != '").append(LOGMNR_FLUSH_TABLE).append("' ");
+        query.append("WHERE SCN > ? ");
+        query.append("AND SCN <= ? ");
+        query.append("AND ((OPERATION_CODE IN (1,2,3,5) ");
+        query.append("AND TABLE_NAME != '").append(LOGMNR_FLUSH_TABLE).append("'");
 
         // There are some common schemas that we automatically ignore when building the filter predicates
         // and we pull that same list of schemas in here and apply those exclusions in the generated SQL.
         if (!OracleConnectorConfig.EXCLUDED_SCHEMAS.isEmpty()) {
-            query.append("AND SEG_OWNER NOT IN (");
+            query.append(" AND SEG_OWNER NOT IN (");
             for (Iterator<String> i = OracleConnectorConfig.EXCLUDED_SCHEMAS.iterator(); i.hasNext();) {
                 String excludedSchema = i.next();
                 query.append("'").append(excludedSchema.toUpperCase()).append("'");
@@ -239,71 +292,192 @@ public class SqlUtils {
                     query.append(",");
                 }
             }
-            query.append(") ");
+            query.append(")");
         }
 
         String schemaPredicate = buildSchemaPredicate(connectorConfig);
         if (!Strings.isNullOrEmpty(schemaPredicate)) {
-            query.append("AND ").append(schemaPredicate).append(" ");
+            query.append(" AND ").append(schemaPredicate);
         }
 
         String tablePredicate = buildTablePredicate(connectorConfig);
         if (!Strings.isNullOrEmpty(tablePredicate)) {
-            query.append("AND ").append(tablePredicate).append(" ");
+            query.append(" AND ").append(tablePredicate);
         }
 
+        query.append(") ");
         query.append("OR (OPERATION_CODE IN (5,34) AND USERNAME NOT IN ('SYS','SYSTEM','").append(logMinerUser.toUpperCase()).append("')) ");
-        query.append("OR (OPERATION_CODE IN (7,36))");
+        query.append("OR (OPERATION_CODE IN (7,36)))");
 
         return query.toString();
     }
 
+    /**
+     * Returns the tables the mining query compares against the {@link #LOGMNR_FILTER_TABLE}.
+     *
+     * @param connectorConfig the connector configuration
+     * @return the tables of the table include or exclude list, or an empty list if the mining query does not use the
+     * filter table
+     */
+    static List<TableId> logMinerFilterTableEntries(OracleConnectorConfig connectorConfig) {
+        final List<TableId> tables = new ArrayList<>();
+        resolveTablePatterns(connectorConfig, tables, new ArrayList<>());
+        return tables.size() > MAX_IN_LIST_SIZE ? tables : Collections.emptyList();
+    }
+
     private static String buildSchemaPredicate(OracleConnectorConfig connectorConfig) {
-        StringBuilder predicate = new StringBuilder();
         if (Strings.isNullOrEmpty(connectorConfig.schemaIncludeList())) {
             if (!Strings.isNullOrEmpty(connectorConfig.schemaExcludeList())) {
-                List<Pattern> patterns = Strings.listOfRegex(connectorConfig.schemaExcludeList(), 0);
-                predicate.append("(").append(listOfPatternsToSql(patterns, "SEG_OWNER", true)).append(")");
+                return buildSchemaPredicate(Strings.listOfRegex(connectorConfig.schemaExcludeList(), 0), true);
             }
+            return "";
         }
-        else {
-            List<Pattern> patterns = Strings.listOfRegex(connectorConfig.schemaIncludeList(), 0);
-            predicate.append("(").append(listOfPatternsToSql(patterns, "SEG_OWNER", false)).append(")");
+        return buildSchemaPredicate(Strings.listOfRegex(connectorConfig.schemaIncludeList(), 0), false);
+    }
+
+    private static String buildSchemaPredicate(List<Pattern> patterns, boolean applyNot) {
+        final List<String> schemas = new ArrayList<>();
+        final List<Pattern> expressions = new ArrayList<>();
+        for (Pattern pattern : patterns) {
+            final List<String> names = resolveLiteralNames(pattern);
+            if (names != null && names.size() == 1) {
+                schemas.add(quote(names.get(0)));
+            }
+            else {
+                expressions.add(pattern);
+            }
         }
-        return predicate.toString();
+        final List<String> terms = new ArrayList<>();
+        addInListTerms(terms, "UPPER(SEG_OWNER)", schemas, applyNot);
+        addRegExpLikeTerms(terms, "SEG_OWNER", expressions, applyNot);
+        return combine(terms, applyNot);
     }
 
     private static String buildTablePredicate(OracleConnectorConfig connectorConfig) {
-        StringBuilder predicate = new StringBuilder();
+        final List<TableId> tables = new ArrayList<>();
+        final List<Pattern> expressions = new ArrayList<>();
+        final Boolean applyNot = resolveTablePatterns(connectorConfig, tables, expressions);
+        if (applyNot == null) {
+            return "";
+        }
+        final List<String> terms = new ArrayList<>();
+        if (tables.size() > MAX_IN_LIST_SIZE) {
+            terms.add("(UPPER(SEG_OWNER),UPPER(TABLE_NAME)) " + (applyNot ? "NOT IN" : "IN") + " (SELECT OWNER,TABLE_NAME FROM "
+                    + LOGMNR_FILTER_TABLE + ")");
+        }
+        else {
+            final List<String> pairs = new ArrayList<>(tables.size());
+            for (TableId table : tables) {
+                pairs.add("(" + quote(table.schema()) + "," + quote(table.table()) + ")");
+            }
+            addInListTerms(terms, "(UPPER(SEG_OWNER),UPPER(TABLE_NAME))", pairs, applyNot);
+        }
+        addRegExpLikeTerms(terms, "SEG_OWNER || '.' || TABLE_NAME", expressions, applyNot);
+        return combine(terms, applyNot);
+    }
+
+    /**
+     * Splits the patterns of the table include or exclude list into the tables they match exactly and the regular
+     * expressions.
+     *
+     * @return {@code true} for an exclude list, {@code false} for an include list, {@code null} if neither is set
+     */
+    private static Boolean resolveTablePatterns(OracleConnectorConfig connectorConfig, List<TableId> tables, List<Pattern> expressions) {
+        final List<Pattern> patterns;
+        final boolean applyNot;
         if (Strings.isNullOrEmpty(connectorConfig.tableIncludeList())) {
-            if (!Strings.isNullOrEmpty(connectorConfig.tableExcludeList())) {
-                List<Pattern> patterns = Strings.listOfRegex(connectorConfig.tableExcludeList(), 0);
-                predicate.append("(").append(listOfPatternsToSql(patterns, "SEG_OWNER || '.' || TABLE_NAME", true)).append(")");
+            if (Strings.isNullOrEmpty(connectorConfig.tableExcludeList())) {
+                return null;
             }
+            patterns = Strings.listOfRegex(connectorConfig.tableExcludeList(), 0);
+            applyNot = true;
         }
         else {
-            List<Pattern> patterns = Strings.listOfRegex(connectorConfig.tableIncludeList(), 0);
-            predicate.append("(").append(listOfPatternsToSql(patterns, "SEG_OWNER || '.' || TABLE_NAME", false)).append(")");
+            patterns = Strings.listOfRegex(connectorConfig.tableIncludeList(), 0);
+            applyNot = false;
+        }
+        for (Pattern pattern : patterns) {
+            final List<String> names = resolveLiteralNames(pattern);
+            if (names != null && names.size() == 2) {
+                tables.add(new TableId(null, names.get(0), names.get(1)));
+            }
+            else {
+                expressions.add(pattern);
+            }
         }
-        return predicate.toString();
+        return applyNot;
     }
 
-    private static String listOfPatternsToSql(List<Pattern> patterns, String columnName, boolean applyNot) {
-        StringBuilder predicate = new StringBuilder();
-        for (Iterator<Pattern> i = patterns.iterator(); i.hasNext();) {
-            Pattern pattern = i.next();
-            if (applyNot) {
-                predicate.append("NOT ");
+    /**
+     * Returns the names a pattern matches exactly, case-insensitively as {@code REGEXP_LIKE} would.
+     *
+     * A dot, escaped or not, separates the names, as an unescaped dot only matches the separator of the owner and the
+     * table name, which cannot contain dots themselves unless quoted.
+     *
+     * @return the upper case names separated by dots, or {@code null} if the pattern is a regular expression
+     */
+    static List<String> resolveLiteralNames(Pattern pattern) {
+        String text = pattern.pattern();
+        if (text.startsWith("^")) {
+            text = text.substring(1);
+        }
+        if (text.endsWith("$") && !text.endsWith("\\$")) {
+            text = text.substring(0, text.length() - 1);
+        }
+        final List<String> names = new ArrayList<>();
+        final StringBuilder name = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                if (++i == text.length() || Character.isLetterOrDigit(text.charAt(i))) {
+                    // a character class such as \d or \w
+                    return null;
+                }
+                c = text.charAt(i);
+            }
+            else if (REGEX_METACHARACTERS.indexOf(c) >= 0) {
+                return null;
+            }
+            if (c == '.') {
+                if (name.length() == 0) {
+                    return null;
+                }
+                names.add(name.toString().toUpperCase());
+                name.setLength(0);
             }
+            else {
+                name.append(c);
+            }
+        }
+        if (name.length() == 0) {
+            return null;
+        }
+        names.add(name.toString().toUpperCase());
+        return names;
+    }
+
+    private static void addInListTerms(List<String> terms, String expression, List<String> values, boolean applyNot) {
+        for (int i = 0; i < values.size(); i += MAX_IN_LIST_SIZE) {
+            final List<String> chunk = values.subList(i, Math.min(values.size(), i + MAX_IN_LIST_SIZE));
+            terms.add(expression + (applyNot ? " NOT IN (" : " IN (") + String.join(",", chunk) + ")");
+        }
+    }
+
+    private static void addRegExpLikeTerms(List<String> terms, String columnName, List<Pattern> patterns, boolean applyNot) {
+        for (Pattern pattern : patterns) {
             // NOTE: The REGEXP_LIKE operator was added in Oracle 10g (10.1.0.0.0)
             final String text = resolveRegExpLikePattern(pattern);
-            predicate.append("REGEXP_LIKE(").append(columnName).append(",'").append(text).append("','i')");
-            if (i.hasNext()) {
-                // Exclude lists imply combining them via AND, Include lists imply combining them via OR?
-                predicate.append(applyNot ? " AND " : " OR ");
-            }
+            terms.add((applyNot ? "NOT " : "") + "REGEXP_LIKE(" + columnName + ",'" + text + "','i')");
         }
-        return predicate.toString();
+    }
+
+    private static String combine(List<String> terms, boolean applyNot) {
+        // Exclude lists imply combining them via AND, Include lists imply combining them via OR
+        return "(" + String.join(applyNot ? " AND " : " OR ", terms) + ")";
+    }
+
+    private static String quote(String value) {
+        return "'" + value.replace("'", "''") + "'";
     }
 
     private static String resolveRegExpLikePattern(Pattern pattern) {
@@ -0,0 +1,70 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import io.debezium.util.Strings;
+
+/**
+ * Partitions the table include list across multiple tasks, each running its own LogMiner session over its own tables.
+ *
+ * Only an include list naming every table exactly can be partitioned: two regular expressions may match the same
+ * table, which would then be captured by two tasks. A table is assigned to a partition by the hash of its upper case
+ * {@code <schema>.<table>} name modulo the number of partitions, so that its partition, and with it its offsets and
+ * schema history, only depends on its name and the number of partitions. Adding or removing other tables, or listing
+ * them in another order, does not move it. A table listed twice is assigned once.
+ */
+public final class TableIncludeListPartitioner {
+
+    private TableIncludeListPartitioner() {
+    }
+
+    /**
+     * @param tableIncludeList the table include list of the connector
+     * @param partitionCount the number of partitions
+     * @return the table include list of each partition by its index, partitions without tables are omitted
+     * @throws IllegalArgumentException if the list is empty or an entry is a regular expression
+     */
+    public static Map<Integer, String> partition(String tableIncludeList, int partitionCount) {
+        if (Strings.isNullOrEmpty(tableIncludeList)) {
+            throw new IllegalArgumentException("Multiple connector tasks require a table include list to be partitioned");
+        }
+
+        final Map<String, String> tables = new LinkedHashMap<>();
+        for (Pattern pattern : Strings.listOfRegex(tableIncludeList, 0)) {
+            final List<String> names = SqlUtils.resolveLiteralNames(pattern);
+            if (names == null || names.size() != 2) {
+                throw new IllegalArgumentException("The table include list entry '" + pattern.pattern() + "' does not name a " +
+                        "single table, only a list of <schema>.<table> names can be partitioned across multiple connector tasks");
+            }
+            tables.putIfAbsent(String.join(".", names), pattern.pattern());
+        }
+
+        final Map<Integer, List<String>> partitions = new TreeMap<>();
+        for (Map.Entry<String, String> table : tables.entrySet()) {
+            partitions.computeIfAbsent(partitionOf(table.getKey(), partitionCount), p -> new ArrayList<>()).add(table.getValue());
+        }
+
+        final Map<Integer, String> includeLists = new TreeMap<>();
+        for (Map.Entry<Integer, List<String>> partition : partitions.entrySet()) {
+            includeLists.put(partition.getKey(), String.join(",", partition.getValue()));
+        }
+        return includeLists;
+    }
+
+    /**
+     * {@link String#hashCode()} is specified, so that the partition of a table is the same on every JVM.
+     */
+    static int partitionOf(String tableName, int partitionCount) {
+        return Math.floorMod(tableName.hashCode(), partitionCount);
+    }
+}
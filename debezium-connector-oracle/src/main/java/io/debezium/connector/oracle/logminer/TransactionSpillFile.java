@@ -0,0 +1,139 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.annotation.NotThreadSafe;
+
+/**
+ * A local segment file holding the DML events of a single transaction that were spilled
+ * from the {@link TransactionalBuffer}. Events are appended in the order they were registered
+ * and are read back in the same order, which is the SCN order of the transaction.
+ *
+ * The file is deleted when this segment is closed. Files left behind by a connector that was not shut down cleanly
+ * are deleted by {@link #deleteStale(Path, String)} when the connector's buffer is created again.
+ */
+@NotThreadSafe
+final class TransactionSpillFile implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransactionSpillFile.class);
+
+    private static final String PREFIX = "logminer-transaction-";
+    private static final String SUFFIX = ".spill";
+
+    private final Path path;
+    private int events;
+    private long bytes;
+
+    private TransactionSpillFile(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Creates a new, empty segment file.
+     *
+     * @param directory the directory to create the file in
+     * @param owner the logical name of the connector the file belongs to
+     * @return the segment
+     * @throws IOException if the file cannot be created
+     */
+    static TransactionSpillFile create(Path directory, String owner) throws IOException {
+        Files.createDirectories(directory);
+        return new TransactionSpillFile(Files.createTempFile(directory, PREFIX + owner + "-", SUFFIX));
+    }
+
+    /**
+     * Deletes the segment files of the given connector that are left in the directory, which only happens when the
+     * connector was not shut down cleanly. Files of other connectors sharing the directory are kept.
+     *
+     * @param directory the directory the files were created in
+     * @param owner the logical name of the connector the files belong to
+     */
+    static void deleteStale(Path directory, String owner) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + owner + "-*" + SUFFIX)) {
+            for (Path file : files) {
+                LOGGER.info("Deleting stale transaction spill file {}", file);
+                Files.deleteIfExists(file);
+            }
+        }
+        catch (IOException e) {
+            LOGGER.warn("Failed to delete stale transaction spill files in {}", directory, e);
+        }
+    }
+
+    /**
+     * Appends already encoded events to the end of the segment.
+     *
+     * @param data the encoded events
+     * @param length the number of valid bytes in {@code data}
+     * @param count the number of events contained in {@code data}
+     * @throws IOException if the file cannot be written
+     */
+    void append(byte[] data, int length, int count) throws IOException {
+        try (OutputStream stream = Files.newOutputStream(path, StandardOpenOption.APPEND)) {
+            stream.write(data, 0, length);
+        }
+        events += count;
+        bytes += length;
+    }
+
+    /**
+     * Opens the segment for reading its events in the order they were appended.
+     *
+     * @return the input positioned at the first event, to be closed by the caller
+     * @throws IOException if the file cannot be opened
+     */
+    DataInputStream open() throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+    }
+
+    /**
+     * @return the number of events held by this segment
+     */
+    int getEvents() {
+        return events;
+    }
+
+    /**
+     * @return the number of bytes written to this segment
+     */
+    long getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public void close() {
+        try {
+            Files.deleteIfExists(path);
+        }
+        catch (IOException e) {
+            LOGGER.warn("Failed to delete transaction spill file {}", path, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionSpillFile{" +
+                "path=" + path +
+                ", events=" + events +
+                ", bytes=" + bytes +
+                '}';
+    }
+}
@@ -5,33 +5,65 @@
  */
 package io.debezium.connector.oracle.logminer;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicLong;
 
-import org.apache.kafka.connect.errors.DataException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.debezium.DebeziumException;
 import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleConnectorConfig.LogMiningDmlParser;
+import io.debezium.connector.oracle.OracleDatabaseSchema;
 import io.debezium.connector.oracle.OracleOffsetContext;
 import io.debezium.connector.oracle.OracleTaskContext;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
 import io.debezium.pipeline.source.spi.ChangeEventSource;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.util.Clock;
 
 /**
  * Buffer that stores transactions and related callbacks that will be executed when a transaction commits or discarded
  * when a transaction has been rolled back.
  *
+ * DML events are kept as compact binary records, see {@link DmlEventSerializer}, and are only turned back into change
+ * events when their transaction commits.
+ *
+ * When spilling is enabled, the DML events of a transaction are written to a local segment file once the transaction
+ * or the whole buffer exceeds its configured memory threshold. Spilled events are streamed back from disk in SCN order
+ * when the transaction commits, so heap usage stays bounded regardless of the transaction size. Spilling is not supported
+ * with the legacy DML parser: the values it converts have no dedicated encoding and would stay on the heap, see
+ * {@link DmlEventSerializer}. Segment files left behind by a previous run of the connector are deleted on creation.
+ *
+ * When parsing is deferred, DML events are buffered with their raw redo SQL, which is parsed by the registered
+ * {@link DeferredDmlParser} only when the transaction commits. Events of transactions that are rolled back or
+ * abandoned are therefore never parsed.
+ *
+ * Transactions are additionally indexed by their first SCN, so that the smallest SCN of all buffered transactions
+ * and the transactions to abandon are found without visiting every buffered transaction.
+ *
  * @author Andrey Pustovetov
  */
 @NotThreadSafe
@@ -40,29 +72,75 @@ public final class TransactionalBuffer implements AutoCloseable {
     private static final Logger LOGGER = LoggerFactory.getLogger(TransactionalBuffer.class);
 
     private final Map<String, Transaction> transactions;
+    private final NavigableMap<Scn, Set<String>> transactionsByFirstScn;
     private final ErrorHandler errorHandler;
     private final Set<String> abandonedTransactionIds;
     private final Set<String> rolledBackTransactionIds;
     private final TransactionalBufferMetrics metrics;
+    private final OracleDatabaseSchema schema;
+    private final Clock clock;
+    private final boolean spillEnabled;
+    private final Path spillDirectory;
+    private final String spillOwner;
+    private final long transactionMemoryThreshold;
+    private final long bufferMemoryThreshold;
+    private final DmlEventSerializer serializer;
 
     private Scn lastCommittedScn;
+    private long bufferMemorySize;
+    private DeferredDmlParser deferredDmlParser;
 
     /**
-     * Constructor to create a new instance.
+     * Constructor to create a new instance that only supports commit callbacks.
      *
      * @param taskContext the task context
      * @param errorHandler the connector error handler
      */
     TransactionalBuffer(OracleTaskContext taskContext, ErrorHandler errorHandler) {
+        this(null, null, Clock.system(), taskContext, errorHandler);
+    }
+
+    /**
+     * Constructor to create a new instance.
+     *
+     * @param connectorConfig the connector configuration, may be {@code null} if spilling is not used
+     * @param schema the database schema used to resolve tables of buffered DML events
+     * @param clock the clock used by emitted change records
+     * @param taskContext the task context
+     * @param errorHandler the connector error handler
+     */
+    TransactionalBuffer(OracleConnectorConfig connectorConfig, OracleDatabaseSchema schema, Clock clock,
+                        OracleTaskContext taskContext, ErrorHandler errorHandler) {
         this.transactions = new HashMap<>();
+        this.transactionsByFirstScn = new TreeMap<>();
         this.errorHandler = errorHandler;
         this.lastCommittedScn = Scn.ZERO;
         this.abandonedTransactionIds = new HashSet<>();
         this.rolledBackTransactionIds = new HashSet<>();
+        this.schema = schema;
+        this.clock = clock;
+        this.serializer = new DmlEventSerializer();
+        this.spillEnabled = connectorConfig != null && connectorConfig.isLogMiningBufferSpillEnabled() && isSpillSupported(connectorConfig);
+        this.spillDirectory = spillEnabled ? Paths.get(connectorConfig.getLogMiningBufferSpillDirectory()) : null;
+        this.spillOwner = spillEnabled ? connectorConfig.getLogicalName() : null;
+        this.transactionMemoryThreshold = spillEnabled ? connectorConfig.getLogMiningBufferTransactionMemoryThreshold() : Long.MAX_VALUE;
+        this.bufferMemoryThreshold = spillEnabled ? connectorConfig.getLogMiningBufferMemoryThreshold() : Long.MAX_VALUE;
 
         // create metrics and register them
         this.metrics = new TransactionalBufferMetrics(taskContext);
         this.metrics.register(LOGGER);
+
+        if (spillEnabled) {
+            TransactionSpillFile.deleteStale(spillDirectory, spillOwner);
+        }
+    }
+
+    private static boolean isSpillSupported(OracleConnectorConfig connectorConfig) {
+        if (LogMiningDmlParser.LEGACY.equals(connectorConfig.getLogMiningDmlParser())) {
+            LOGGER.warn("Spilling transactions to disk is not supported with the legacy DML parser and is disabled");
+            return false;
+        }
+        return true;
     }
 
     /**
@@ -79,6 +157,15 @@ public final class TransactionalBuffer implements AutoCloseable {
         return new HashSet<>(rolledBackTransactionIds);
     }
 
+    /**
+     * Sets the parser used to parse the redo SQL of deferred DML operations when their transaction commits.
+     *
+     * @param deferredDmlParser the parser
+     */
+    void setDeferredDmlParser(DeferredDmlParser deferredDmlParser) {
+        this.deferredDmlParser = deferredDmlParser;
+    }
+
     /**
      * Registers callback to execute when transaction commits.
      *
@@ -88,31 +175,165 @@ public final class TransactionalBuffer implements AutoCloseable {
      * @param callback      callback to execute when transaction commits
      */
     void registerCommitCallback(String transactionId, Scn scn, Instant changeTime, CommitCallback callback) {
+        Transaction transaction = registerTransactionEvent(transactionId, scn, changeTime);
+        if (transaction != null) {
+            transaction.commitCallbacks.add(callback);
+        }
+    }
+
+    /**
+     * Registers a parsed DML operation that is dispatched as a change event when the transaction commits.
+     *
+     * @param transactionId transaction identifier
+     * @param scn           SCN
+     * @param changeTime    time of DML parsing completion
+     * @param tableId       the table the operation was applied to
+     * @param dmlEntry      the parsed DML operation
+     */
+    void registerDmlOperation(String transactionId, Scn scn, Instant changeTime, TableId tableId, LogMinerDmlEntry dmlEntry) {
+        Transaction transaction = registerTransactionEvent(transactionId, scn, changeTime);
+        if (transaction != null) {
+            final int sizeBefore = transaction.events.size();
+            try {
+                serializer.write(transaction.output, transaction.dictionary, tableId, dmlEntry, transaction.references);
+            }
+            catch (IOException e) {
+                throw new DebeziumException("Failed to buffer DML operation of transaction " + transactionId, e);
+            }
+            eventBuffered(transaction, sizeBefore);
+        }
+    }
+
+    /**
+     * Registers an unparsed DML operation whose redo SQL is parsed by the {@link DeferredDmlParser} and dispatched
+     * as a change event when the transaction commits.
+     *
+     * @param transactionId transaction identifier
+     * @param scn           SCN
+     * @param changeTime    time the operation was applied to the database
+     * @param tableId       the table the operation was applied to
+     * @param redoSql       the redo SQL of the operation
+     */
+    void registerDeferredDmlOperation(String transactionId, Scn scn, Timestamp changeTime, TableId tableId, String redoSql) {
+        Transaction transaction = registerTransactionEvent(transactionId, scn, changeTime.toInstant());
+        if (transaction != null) {
+            final int sizeBefore = transaction.events.size();
+            try {
+                serializer.writeDeferred(transaction.output, transaction.dictionary, tableId, scn, changeTime, redoSql);
+            }
+            catch (IOException e) {
+                throw new DebeziumException("Failed to buffer DML operation of transaction " + transactionId, e);
+            }
+            transaction.deferredEvents++;
+            metrics.incrementDeferredDmlCounter();
+            eventBuffered(transaction, sizeBefore);
+        }
+    }
+
+    /**
+     * Accounts for an event just encoded into the in-memory events of the given transaction, spilling if necessary.
+     *
+     * @param transaction the transaction
+     * @param sizeBefore the size of the in-memory events before the event was encoded
+     */
+    private void eventBuffered(Transaction transaction, int sizeBefore) {
+        transaction.events.eventCount++;
+
+        final int size = transaction.events.size() - sizeBefore;
+        transaction.memorySize += size;
+        bufferMemorySize += size;
+
+        if (spillEnabled) {
+            if (transaction.memorySize >= transactionMemoryThreshold) {
+                spill(transaction);
+            }
+            if (bufferMemorySize >= bufferMemoryThreshold) {
+                spillLargestTransactions();
+            }
+        }
+        metrics.setBufferMemoryUsage(bufferMemorySize);
+    }
+
+    private Transaction registerTransactionEvent(String transactionId, Scn scn, Instant changeTime) {
         if (abandonedTransactionIds.contains(transactionId)) {
             LogMinerHelper.logWarn(metrics, "Captured DML for abandoned transaction {}, ignored", transactionId);
-            return;
+            return null;
         }
         // this should never happen
         if (rolledBackTransactionIds.contains(transactionId)) {
             LogMinerHelper.logWarn(metrics, "Captured DML for rolled-back transaction {}, ignored", transactionId);
-            return;
+            return null;
         }
 
-        transactions.computeIfAbsent(transactionId, s -> new Transaction(scn));
+        Transaction transaction = transactions.get(transactionId);
+        if (transaction == null) {
+            transaction = new Transaction(transactionId, scn, serializer.dictionary());
+            transactions.put(transactionId, transaction);
+            transactionsByFirstScn.computeIfAbsent(scn, s -> new HashSet<>()).add(transactionId);
+            metrics.incrementScnIndexUpdates();
+        }
+        transaction.lastScn = scn;
 
         metrics.setActiveTransactions(transactions.size());
         metrics.incrementRegisteredDmlCounter();
         metrics.calculateLagMetrics(changeTime);
 
-        Transaction transaction = transactions.get(transactionId);
-        if (transaction != null) {
-            transaction.commitCallbacks.add(callback);
+        return transaction;
+    }
+
+    /**
+     * Moves the encoded in-memory events of the given transaction to its segment file.
+     *
+     * @param transaction the transaction to spill
+     */
+    private void spill(Transaction transaction) {
+        final EventBuffer events = transaction.events;
+        if (events.eventCount == 0) {
+            return;
+        }
+
+        try {
+            if (transaction.spillFile == null) {
+                transaction.spillFile = TransactionSpillFile.create(spillDirectory, spillOwner);
+                metrics.incrementSpilledTransactions();
+            }
+            transaction.spillFile.append(events.buffer(), events.size(), events.eventCount);
+        }
+        catch (IOException e) {
+            throw new DebeziumException("Failed to spill transaction " + transaction.transactionId + " to " + spillDirectory, e);
+        }
+
+        LOGGER.debug("Spilled {} events ({} bytes) of transaction {} to {}", events.eventCount, events.size(), transaction.transactionId,
+                transaction.spillFile);
+        metrics.addSpilledDml(events.eventCount, events.size());
+
+        bufferMemorySize -= transaction.memorySize;
+        transaction.memorySize = 0;
+        transaction.resetEvents();
+    }
+
+    /**
+     * Spills the transactions with the largest heap footprint until the buffer is below its memory threshold.
+     */
+    private void spillLargestTransactions() {
+        List<Transaction> candidates = new ArrayList<>();
+        for (Transaction transaction : transactions.values()) {
+            if (transaction.memorySize > 0) {
+                candidates.add(transaction);
+            }
+        }
+        candidates.sort(Comparator.comparingLong((Transaction transaction) -> transaction.memorySize).reversed());
+        for (Transaction candidate : candidates) {
+            if (bufferMemorySize < bufferMemoryThreshold) {
+                break;
+            }
+            spill(candidate);
         }
     }
 
     /**
-     * Commits a transaction by looking up the transaction in the buffer and if exists, all registered callbacks
-     * will be executed in chronological order, emitting events for each followed by a transaction commit event.
+     * Commits a transaction by looking up the transaction in the buffer and if exists, all registered DML operations
+     * and callbacks will be processed in chronological order, emitting events for each followed by a transaction commit event.
      *
      * @param transactionId transaction identifier
      * @param scn           SCN of the commit.
@@ -127,7 +348,7 @@ public final class TransactionalBuffer implements AutoCloseable {
                    ChangeEventSource.ChangeEventSourceContext context, String debugMessage, EventDispatcher dispatcher) {
 
         Instant start = Instant.now();
-        Transaction transaction = transactions.remove(transactionId);
+        Transaction transaction = removeTransaction(transactionId);
         if (transaction == null) {
             return false;
         }
@@ -142,22 +363,32 @@ public final class TransactionalBuffer implements AutoCloseable {
             LogMinerHelper.logWarn(metrics,
                     "Transaction {} was already processed, ignore. Committed SCN in offset is {}, commit SCN of the transaction is {}, last committed SCN is {}",
                     transactionId, offsetContext.getCommitScn(), scn, lastCommittedScn);
+            transaction.close();
             metrics.setActiveTransactions(transactions.size());
             return false;
         }
 
-        List<CommitCallback> commitCallbacks = transaction.commitCallbacks;
         LOGGER.trace("COMMIT, {}, smallest SCN: {}", debugMessage, smallestScn);
-        commit(context, offsetContext, start, commitCallbacks, timestamp, smallestScn, scn, dispatcher);
+        commit(context, offsetContext, start, transaction, timestamp, smallestScn, scn, dispatcher);
 
         return true;
     }
 
     private void commit(ChangeEventSource.ChangeEventSourceContext context, OracleOffsetContext offsetContext, Instant start,
-                        List<CommitCallback> commitCallbacks, Timestamp timestamp, Scn smallestScn, Scn scn, EventDispatcher<?> dispatcher) {
+                        Transaction transaction, Timestamp timestamp, Scn smallestScn, Scn scn, EventDispatcher<TableId> dispatcher) {
+        final int eventCount = transaction.getNumberOfEvents();
         try {
-            int counter = commitCallbacks.size();
-            for (CommitCallback callback : commitCallbacks) {
+            // DML events are dispatched in registration order, spilled events first, followed by any callbacks
+            int counter = eventCount;
+            try (DmlEventReader reader = new DmlEventReader(transaction)) {
+                while (reader.hasNext()) {
+                    if (!context.isRunning()) {
+                        return;
+                    }
+                    dispatchDmlEvent(reader.next(), transaction.transactionId, offsetContext, timestamp, smallestScn, scn, --counter, dispatcher);
+                }
+            }
+            for (CommitCallback callback : transaction.commitCallbacks) {
                 if (!context.isRunning()) {
                     return;
                 }
@@ -166,7 +397,7 @@ public final class TransactionalBuffer implements AutoCloseable {
 
             lastCommittedScn = Scn.fromLong(scn.longValue());
 
-            if (!commitCallbacks.isEmpty()) {
+            if (eventCount > 0) {
                 dispatcher.dispatchTransactionCommittedEvent(offsetContext);
             }
         }
@@ -178,15 +409,75 @@ public final class TransactionalBuffer implements AutoCloseable {
             errorHandler.setProducerThrowable(e);
         }
         finally {
+            transaction.close();
             metrics.incrementCommittedTransactions();
             metrics.setActiveTransactions(transactions.size());
-            metrics.incrementCommittedDmlCounter(commitCallbacks.size());
+            metrics.incrementCommittedDmlCounter(eventCount);
             metrics.setCommittedScn(scn.longValue());
             metrics.setOffsetScn(offsetContext.getScn());
             metrics.setLastCommitDuration(Duration.between(start, Instant.now()).toMillis());
         }
     }
 
+    private void dispatchDmlEvent(DmlEvent event, String transactionId, OracleOffsetContext offsetContext, Timestamp timestamp,
+                                  Scn smallestScn, Scn commitScn, int counter, EventDispatcher<TableId> dispatcher)
+            throws InterruptedException {
+        final LogMinerDmlEntry dmlEntry = event.isDeferred() ? parseDeferred(event, transactionId) : event.getEntry();
+        final Scn scn = dmlEntry.getScn();
+
+        // update SCN in offset context only if processed SCN less than SCN among other transactions
+        if (smallestScn == null || scn.compareTo(smallestScn) < 0) {
+            offsetContext.setScn(scn.longValue());
+            metrics.setOldestScn(scn.longValue());
+        }
+        offsetContext.setTransactionId(dmlEntry.getTransactionId());
+        offsetContext.setSourceTime(timestamp.toInstant());
+        offsetContext.setTableId(event.getTableId());
+        if (counter == 0) {
+            offsetContext.setCommitScn(commitScn.longValue());
+        }
+        Table table = schema.tableFor(event.getTableId());
+        LOGGER.trace("Processing DML event {} scn {}", dmlEntry, scn);
+
+        dispatcher.dispatchDataChangeEvent(event.getTableId(),
+                new LogMinerChangeRecordEmitter(offsetContext, dmlEntry, table, schema.getColumnPositionIndex(table), clock));
+    }
+
+    private LogMinerDmlEntry parseDeferred(DmlEvent event, String transactionId) {
+        final TableId tableId = event.getTableId();
+        final LogMinerDmlEntry dmlEntry = deferredDmlParser.parse(event.getRedoSql(), tableId, transactionId);
+        dmlEntry.setObjectOwner(tableId.schema());
+        dmlEntry.setSourceTime(event.getChangeTime());
+        dmlEntry.setTransactionId(transactionId);
+        dmlEntry.setObjectName(tableId.table());
+        dmlEntry.setScn(event.getScn());
+        metrics.incrementDeferredDmlParseCounter();
+        return dmlEntry;
+    }
+
+    /**
+     * Removes a transaction from the buffer, releasing its share of the buffer memory.
+     *
+     * @param transactionId transaction identifier
+     * @return the removed transaction or {@code null} if the transaction is not buffered
+     */
+    private Transaction removeTransaction(String transactionId) {
+        Transaction transaction = transactions.remove(transactionId);
+        if (transaction != null) {
+            Set<String> transactionIds = transactionsByFirstScn.get(transaction.firstScn);
+            transactionIds.remove(transactionId);
+            if (transactionIds.isEmpty()) {
+                transactionsByFirstScn.remove(transaction.firstScn);
+            }
+            metrics.incrementScnIndexUpdates();
+            metrics.setScnIndexSize(transactionsByFirstScn.size());
+
+            bufferMemorySize -= transaction.memorySize;
+            metrics.setBufferMemoryUsage(bufferMemorySize);
+        }
+        return transaction;
+    }
+
     /**
      * Clears registered callbacks for given transaction identifier.
      *
@@ -200,7 +491,8 @@ public final class TransactionalBuffer implements AutoCloseable {
         if (transaction != null) {
             LOGGER.debug("Transaction rolled back: {}", debugMessage);
 
-            transactions.remove(transactionId);
+            removeTransaction(transactionId).close();
+            metrics.addSkippedDmlParses(transaction.deferredEvents);
             abandonedTransactionIds.remove(transactionId);
             rolledBackTransactionIds.add(transactionId);
 
@@ -235,18 +527,20 @@ public final class TransactionalBuffer implements AutoCloseable {
         if (threshold.compareTo(smallestScn) < 0) {
             threshold = smallestScn;
         }
-        Iterator<Map.Entry<String, Transaction>> iter = transactions.entrySet().iterator();
-        while (iter.hasNext()) {
-            Map.Entry<String, Transaction> transaction = iter.next();
-            if (transaction.getValue().firstScn.compareTo(threshold) <= 0) {
-                LogMinerHelper.logWarn(metrics, "Following long running transaction {} will be abandoned and ignored: {} ", transaction.getKey(),
-                        transaction.getValue().toString());
-                abandonedTransactionIds.add(transaction.getKey());
-                iter.remove();
-
-                metrics.addAbandonedTransactionId(transaction.getKey());
-                metrics.setActiveTransactions(transactions.size());
-            }
+
+        // only the transactions started at or below the threshold are visited
+        List<String> transactionIds = new ArrayList<>();
+        transactionsByFirstScn.headMap(threshold, true).values().forEach(transactionIds::addAll);
+        for (String transactionId : transactionIds) {
+            Transaction transaction = removeTransaction(transactionId);
+            LogMinerHelper.logWarn(metrics, "Following long running transaction {} will be abandoned and ignored: {} ", transactionId,
+                    transaction.toString());
+            abandonedTransactionIds.add(transactionId);
+            transaction.close();
+            metrics.addSkippedDmlParses(transaction.deferredEvents);
+
+            metrics.addAbandonedTransactionId(transactionId);
+            metrics.setActiveTransactions(transactions.size());
         }
     }
 
@@ -255,12 +549,9 @@ public final class TransactionalBuffer implements AutoCloseable {
     }
 
     private Scn calculateSmallestScn() {
-        Scn scn = transactions.isEmpty() ? null
-                : transactions.values()
-                        .stream()
-                        .map(transaction -> transaction.firstScn)
-                        .min(Scn::compareTo)
-                        .orElseThrow(() -> new DataException("Cannot calculate smallest SCN"));
+        Scn scn = transactionsByFirstScn.isEmpty() ? null : transactionsByFirstScn.firstKey();
+        metrics.incrementScnIndexLookups();
+        metrics.setScnIndexSize(transactionsByFirstScn.size());
         metrics.setOldestScn(scn == null ? -1 : scn.longValue());
         return scn;
     }
@@ -292,7 +583,10 @@ public final class TransactionalBuffer implements AutoCloseable {
 
     @Override
     public void close() {
+        transactions.values().forEach(Transaction::close);
         transactions.clear();
+        transactionsByFirstScn.clear();
+        bufferMemorySize = 0;
 
         if (this.metrics != null) {
             // if metrics registered, unregister them
@@ -316,17 +610,124 @@ public final class TransactionalBuffer implements AutoCloseable {
         void execute(Timestamp timestamp, Scn smallestScn, Scn commitScn, int callbackNumber) throws InterruptedException;
     }
 
+    /**
+     * Parses the redo SQL of DML operations whose parsing was deferred until their transaction commits.
+     */
+    @FunctionalInterface
+    interface DeferredDmlParser {
+
+        /**
+         * Parses a DML operation.
+         *
+         * @param redoSql       the redo SQL of the operation
+         * @param tableId       the table the operation was applied to
+         * @param transactionId the transaction identifier
+         * @return the parsed DML operation
+         */
+        LogMinerDmlEntry parse(String redoSql, TableId tableId, String transactionId);
+    }
+
+    /**
+     * Reads the DML events of a transaction in registration order, first from its segment file if the
+     * transaction was spilled, followed by the events still held in memory.
+     */
+    private final class DmlEventReader implements AutoCloseable {
+
+        private final Transaction transaction;
+        private DataInputStream input;
+        private int remaining;
+        private boolean inMemory;
+
+        private DmlEventReader(Transaction transaction) throws IOException {
+            this.transaction = transaction;
+            if (transaction.spillFile != null) {
+                this.input = transaction.spillFile.open();
+                this.remaining = transaction.spillFile.getEvents();
+            }
+            else {
+                openInMemoryEvents();
+            }
+        }
+
+        private boolean hasNext() throws IOException {
+            if (remaining == 0 && !inMemory) {
+                input.close();
+                openInMemoryEvents();
+            }
+            return remaining > 0;
+        }
+
+        private DmlEvent next() throws IOException {
+            remaining--;
+            return serializer.read(input, transaction.dictionary, transaction.transactionId, transaction.references);
+        }
+
+        private void openInMemoryEvents() {
+            final EventBuffer events = transaction.events;
+            this.input = new DataInputStream(new ByteArrayInputStream(events.buffer(), 0, events.size()));
+            this.remaining = events.eventCount;
+            this.inMemory = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+    }
+
+    /**
+     * Growable byte array holding the encoded events of a transaction.
+     */
+    private static final class EventBuffer extends ByteArrayOutputStream {
+
+        private int eventCount;
+
+        private byte[] buffer() {
+            return buf;
+        }
+    }
+
     @NotThreadSafe
-    private static final class Transaction {
+    private static final class Transaction implements AutoCloseable {
 
+        private final String transactionId;
         private final Scn firstScn;
         private Scn lastScn;
         private final List<CommitCallback> commitCallbacks;
-
-        private Transaction(Scn firstScn) {
+        private final List<Object> references;
+        private final DmlEventSerializer.Dictionary dictionary;
+        private EventBuffer events;
+        private DataOutputStream output;
+        private TransactionSpillFile spillFile;
+        private long memorySize;
+        private int deferredEvents;
+
+        private Transaction(String transactionId, Scn firstScn, DmlEventSerializer.Dictionary dictionary) {
+            this.transactionId = transactionId;
             this.firstScn = firstScn;
             this.commitCallbacks = new ArrayList<>();
+            this.references = new ArrayList<>();
+            this.dictionary = dictionary;
             this.lastScn = firstScn;
+            resetEvents();
+        }
+
+        private void resetEvents() {
+            // a new buffer releases the capacity grown by a spilled transaction
+            this.events = new EventBuffer();
+            this.output = new DataOutputStream(events);
+        }
+
+        private int getNumberOfEvents() {
+            return (spillFile != null ? spillFile.getEvents() : 0) + events.eventCount + commitCallbacks.size();
+        }
+
+        @Override
+        public void close() {
+            if (spillFile != null) {
+                spillFile.close();
+                spillFile = null;
+            }
         }
 
         @Override
@@ -334,6 +735,9 @@ public final class TransactionalBuffer implements AutoCloseable {
             return "Transaction{" +
                     "firstScn=" + firstScn +
                     ", lastScn=" + lastScn +
+                    ", events=" + getNumberOfEvents() +
+                    ", memorySize=" + memorySize +
+                    ", spillFile=" + spillFile +
                     '}';
         }
     }
@@ -45,6 +45,16 @@ public class TransactionalBufferMetrics extends Metrics implements Transactional
     private final AtomicInteger errorCounter = new AtomicInteger();
     private final AtomicInteger warningCounter = new AtomicInteger();
     private final AtomicInteger scnFreezeCounter = new AtomicInteger();
+    private final AtomicLong bufferMemoryUsage = new AtomicLong();
+    private final AtomicLong spilledTransactions = new AtomicLong();
+    private final AtomicLong spilledDmlCounter = new AtomicLong();
+    private final AtomicLong spilledBytes = new AtomicLong();
+    private final AtomicInteger scnIndexSize = new AtomicInteger();
+    private final AtomicLong scnIndexLookups = new AtomicLong();
+    private final AtomicLong scnIndexUpdates = new AtomicLong();
+    private final AtomicLong deferredDmlCounter = new AtomicLong();
+    private final AtomicLong deferredDmlParseCounter = new AtomicLong();
+    private final AtomicLong skippedDmlParseCounter = new AtomicLong();
 
     TransactionalBufferMetrics(CdcSourceTaskContext taskContext) {
         super(taskContext, "log-miner-transactional-buffer");
@@ -152,6 +162,43 @@ public class TransactionalBufferMetrics extends Metrics implements Transactional
         scnFreezeCounter.incrementAndGet();
     }
 
+    void setBufferMemoryUsage(long bytes) {
+        bufferMemoryUsage.set(bytes);
+    }
+
+    void incrementSpilledTransactions() {
+        spilledTransactions.incrementAndGet();
+    }
+
+    void addSpilledDml(int counter, long bytes) {
+        spilledDmlCounter.getAndAdd(counter);
+        spilledBytes.getAndAdd(bytes);
+    }
+
+    void setScnIndexSize(int size) {
+        scnIndexSize.set(size);
+    }
+
+    void incrementScnIndexLookups() {
+        scnIndexLookups.incrementAndGet();
+    }
+
+    void incrementScnIndexUpdates() {
+        scnIndexUpdates.incrementAndGet();
+    }
+
+    void incrementDeferredDmlCounter() {
+        deferredDmlCounter.incrementAndGet();
+    }
+
+    void incrementDeferredDmlParseCounter() {
+        deferredDmlParseCounter.incrementAndGet();
+    }
+
+    void addSkippedDmlParses(int counter) {
+        skippedDmlParseCounter.getAndAdd(counter);
+    }
+
     // implemented getters
     @Override
     public Long getOldestScn() {
@@ -242,6 +289,56 @@ public class TransactionalBufferMetrics extends Metrics implements Transactional
         return maxCommitDuration.get();
     }
 
+    @Override
+    public long getBufferMemoryUsage() {
+        return bufferMemoryUsage.get();
+    }
+
+    @Override
+    public long getNumberOfSpilledTransactions() {
+        return spilledTransactions.get();
+    }
+
+    @Override
+    public long getSpilledDmlCount() {
+        return spilledDmlCounter.get();
+    }
+
+    @Override
+    public long getSpilledBytes() {
+        return spilledBytes.get();
+    }
+
+    @Override
+    public int getScnIndexSize() {
+        return scnIndexSize.get();
+    }
+
+    @Override
+    public long getScnIndexLookups() {
+        return scnIndexLookups.get();
+    }
+
+    @Override
+    public long getScnIndexUpdates() {
+        return scnIndexUpdates.get();
+    }
+
+    @Override
+    public long getDeferredDmlCount() {
+        return deferredDmlCounter.get();
+    }
+
+    @Override
+    public long getDeferredDmlParseCount() {
+        return deferredDmlParseCounter.get();
+    }
+
+    @Override
+    public long getSkippedDmlParseCount() {
+        return skippedDmlParseCounter.get();
+    }
+
     @Override
     public void reset() {
         maxLagFromTheSource.set(Duration.ZERO);
@@ -257,6 +354,14 @@ public class TransactionalBufferMetrics extends Metrics implements Transactional
         errorCounter.set(0);
         warningCounter.set(0);
         scnFreezeCounter.set(0);
+        spilledTransactions.set(0);
+        spilledDmlCounter.set(0);
+        spilledBytes.set(0);
+        scnIndexLookups.set(0);
+        scnIndexUpdates.set(0);
+        deferredDmlCounter.set(0);
+        deferredDmlParseCounter.set(0);
+        skippedDmlParseCounter.set(0);
     }
 
     @Override
@@ -279,6 +384,16 @@ public class TransactionalBufferMetrics extends Metrics implements Transactional
                 ", errorCounter=" + errorCounter.get() +
                 ", warningCounter=" + warningCounter.get() +
                 ", scnFreezeCounter=" + scnFreezeCounter.get() +
+                ", bufferMemoryUsage=" + bufferMemoryUsage.get() +
+                ", spilledTransactions=" + spilledTransactions.get() +
+                ", spilledDmlCounter=" + spilledDmlCounter.get() +
+                ", spilledBytes=" + spilledBytes.get() +
+                ", scnIndexSize=" + scnIndexSize.get() +
+                ", scnIndexLookups=" + scnIndexLookups.get() +
+                ", scnIndexUpdates=" + scnIndexUpdates.get() +
+                ", deferredDmlCounter=" + deferredDmlCounter.get() +
+                ", deferredDmlParseCounter=" + deferredDmlParseCounter.get() +
+                ", skippedDmlParseCounter=" + skippedDmlParseCounter.get() +
                 '}';
     }
 }
@@ -140,4 +140,74 @@ public interface TransactionalBufferMetricsMXBean {
      * @return milliseconds
      */
     Long getMaxCommitDuration();
+
+    /**
+     * Get the number of bytes used by encoded events held in memory
+     *
+     * @return number of bytes
+     */
+    long getBufferMemoryUsage();
+
+    /**
+     * Get the number of transactions that had events spilled to disk
+     *
+     * @return number of spilled transactions
+     */
+    long getNumberOfSpilledTransactions();
+
+    /**
+     * Get the number of DML events that were spilled to disk
+     *
+     * @return number of spilled DML events
+     */
+    long getSpilledDmlCount();
+
+    /**
+     * Get the number of bytes written to transaction spill files
+     *
+     * @return number of bytes
+     */
+    long getSpilledBytes();
+
+    /**
+     * Get the number of distinct first SCNs in the index used to find the oldest buffered transaction
+     *
+     * @return number of indexed SCNs
+     */
+    int getScnIndexSize();
+
+    /**
+     * Get the number of times the oldest SCN was looked up in the index, once per commit and abandonment
+     *
+     * @return number of lookups
+     */
+    long getScnIndexLookups();
+
+    /**
+     * Get the number of insertions into and removals from the SCN index
+     *
+     * @return number of updates
+     */
+    long getScnIndexUpdates();
+
+    /**
+     * Get the number of DML events that were buffered with their redo SQL still unparsed
+     *
+     * @return number of deferred DML events
+     */
+    long getDeferredDmlCount();
+
+    /**
+     * Get the number of deferred DML events that were parsed when their transaction committed
+     *
+     * @return number of parsed deferred DML events
+     */
+    long getDeferredDmlParseCount();
+
+    /**
+     * Get the number of deferred DML events that were never parsed because their transaction was rolled back or abandoned
+     *
+     * @return number of skipped parses
+     */
+    long getSkippedDmlParseCount();
 }
@@ -0,0 +1,710 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.debezium.DebeziumException;
+import io.debezium.annotation.NotThreadSafe;
+import io.debezium.connector.oracle.ColumnPositionIndex;
+import io.debezium.connector.oracle.ColumnPositionIndexCache;
+import io.debezium.connector.oracle.logminer.valueholder.LazyLogMinerColumnValue;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerColumnValue;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntryImpl;
+import io.debezium.data.Envelope;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+
+/**
+ * A variant of the {@link LogMinerDmlParser} that scans the redo SQL once and only records the offsets
+ * of column names and values, rather than copying every token out of the statement.
+ *
+ * Column names are resolved through a small cache, so that the names of a table are only copied the
+ * first time they are seen. Column values are returned as {@link LazyLogMinerColumnValue} instances
+ * that refer to the redo SQL and are only copied when their data is requested.
+ *
+ * When the table of the statement is known, column names are looked up in the table straight from the
+ * redo SQL and values are placed by the position of their column, as done by the {@link LogMinerDmlParser}.
+ *
+ * The parser accepts the same syntax and produces the same column names and values as the
+ * {@link LogMinerDmlParser}. It reuses its offset buffers between calls and must therefore not be
+ * shared between threads.
+ */
+@NotThreadSafe
+public class LazyLogMinerDmlParser implements DmlParser {
+
+    private static final String SINGLE_QUOTE = "'";
+    private static final String NULL = "NULL";
+    private static final String INSERT_INTO = "insert into ";
+    private static final String UPDATE = "update ";
+    private static final String DELETE_FROM = "delete from ";
+    private static final String AND = "and ";
+    private static final String OR = "or ";
+    private static final String SET = " set ";
+    private static final String WHERE = " where ";
+    private static final String VALUES = " values ";
+    private static final String IS_NULL = "IS NULL";
+    // Use by Oracle for specific data types that cannot be represented in SQL
+    private static final String UNSUPPORTED = "Unsupported";
+    private static final String UNSUPPORTED_TYPE = "Unsupported Type";
+
+    private static final int INSERT_INTO_LENGTH = INSERT_INTO.length();
+    private static final int UPDATE_LENGTH = UPDATE.length();
+    private static final int DELETE_FROM_LENGTH = DELETE_FROM.length();
+    private static final int VALUES_LENGTH = VALUES.length();
+    private static final int SET_LENGTH = SET.length();
+    private static final int WHERE_LENGTH = WHERE.length();
+
+    private final Offsets newColumnNames = new Offsets();
+    private final Offsets newColumnValues = new Offsets();
+    private final Offsets oldColumnNames = new Offsets();
+    private final Offsets oldColumnValues = new Offsets();
+    private final ColumnNameCache columnNameCache = new ColumnNameCache();
+    private final ColumnPositionIndexCache columnPositionIndexes = new ColumnPositionIndexCache();
+    private String[] newNames = new String[64];
+
+    @Override
+    public LogMinerDmlEntry parse(String sql, Tables tables, TableId tableId, String txId) {
+        if (sql != null && sql.length() > 0) {
+            final ColumnPositionIndex columnIndex = tables != null && tableId != null
+                    ? columnPositionIndexes.get(tables.forTable(tableId))
+                    : null;
+            switch (sql.charAt(0)) {
+                case 'i':
+                    return parseInsert(sql, columnIndex);
+                case 'u':
+                    return parseUpdate(sql, columnIndex);
+                case 'd':
+                    return parseDelete(sql, columnIndex);
+            }
+        }
+        throw new DmlParserException("Unknown supported SQL '" + sql + "'");
+    }
+
+    /**
+     * Parse an {@code INSERT} SQL statement.
+     *
+     * @param sql the sql statement
+     * @param columnIndex the column positions of the table, {@code null} if not known
+     * @return the parsed DML entry record
+     */
+    private LogMinerDmlEntry parseInsert(String sql, ColumnPositionIndex columnIndex) {
+        try {
+            newColumnNames.clear();
+            newColumnValues.clear();
+
+            // advance beyond "insert into "
+            int index = INSERT_INTO_LENGTH;
+
+            // parse table
+            index = parseTableName(sql, index);
+
+            // capture column names
+            index = parseColumnListClause(sql, index, newColumnNames);
+
+            // capture values
+            parseColumnValuesClause(sql, index, newColumnValues);
+
+            if (newColumnNames.size() != newColumnValues.size()) {
+                throw new DmlParserException("Columns: " + newColumnNames.size() + ", Values: " + newColumnValues.size());
+            }
+
+            if (columnIndex != null) {
+                LogMinerColumnValue[] newValues = toValuesByPosition(sql, columnIndex, newColumnNames, newColumnValues, true);
+                if (newValues != null) {
+                    return new LogMinerDmlEntryImpl(Envelope.Operation.CREATE, columnIndex.getTable(), newValues, null);
+                }
+            }
+
+            List<LogMinerColumnValue> newValues = new ArrayList<>(newColumnNames.size());
+            for (int i = 0; i < newColumnNames.size(); ++i) {
+                newValues.add(createColumnValue(sql, columnName(sql, newColumnNames, i), newColumnValues, i, true));
+            }
+
+            return new LogMinerDmlEntryImpl(Envelope.Operation.CREATE, newValues, Collections.emptyList());
+        }
+        catch (Exception e) {
+            throw new DmlParserException("Failed to parse insert DML: '" + sql + "'", e);
+        }
+    }
+
+    /**
+     * Parse an {@code UPDATE} SQL statement.
+     *
+     * @param sql the sql statement
+     * @param columnIndex the column positions of the table, {@code null} if not known
+     * @return the parsed DML entry record
+     */
+    private LogMinerDmlEntry parseUpdate(String sql, ColumnPositionIndex columnIndex) {
+        try {
+            newColumnNames.clear();
+            newColumnValues.clear();
+            oldColumnNames.clear();
+            oldColumnValues.clear();
+
+            // advance beyond "update "
+            int index = UPDATE_LENGTH;
+
+            // parse table
+            index = parseTableName(sql, index);
+
+            // parse set
+            index = parseSetClause(sql, index, newColumnNames, newColumnValues);
+
+            // parse where
+            parseWhereClause(sql, index, oldColumnNames, oldColumnValues);
+
+            if (columnIndex != null) {
+                LogMinerColumnValue[] oldValues = toValuesByPosition(sql, columnIndex, oldColumnNames, oldColumnValues, false);
+                if (oldValues != null) {
+                    // columns of the where clause keep their old value unless changed by the set clause
+                    LogMinerColumnValue[] newValues = oldValues.clone();
+                    for (int j = 0; j < newColumnNames.size(); ++j) {
+                        int position = columnIndex.positionOf(sql, newColumnNames.start(j), newColumnNames.end(j));
+                        if (position >= 0 && oldValues[position] != null) {
+                            newValues[position] = createColumnValue(sql, columnIndex.nameAt(position), newColumnValues, j, true);
+                        }
+                    }
+                    return new LogMinerDmlEntryImpl(Envelope.Operation.UPDATE, columnIndex.getTable(), newValues, oldValues);
+                }
+            }
+
+            List<LogMinerColumnValue> oldValues = new ArrayList<>(oldColumnNames.size());
+            for (int i = 0; i < oldColumnNames.size(); ++i) {
+                oldValues.add(createColumnValue(sql, columnName(sql, oldColumnNames, i), oldColumnValues, i, false));
+            }
+
+            if (newNames.length < newColumnNames.size()) {
+                newNames = new String[newColumnNames.size()];
+            }
+            for (int j = 0; j < newColumnNames.size(); ++j) {
+                newNames[j] = columnName(sql, newColumnNames, j);
+            }
+
+            List<LogMinerColumnValue> newValues = new ArrayList<>(newColumnNames.size());
+            for (LogMinerColumnValue oldValue : oldValues) {
+                boolean found = false;
+                for (int j = 0; j < newColumnNames.size(); ++j) {
+                    // names are shared through the cache, so that equal names are usually the same instance
+                    if (newNames[j].equals(oldValue.getColumnName())) {
+                        newValues.add(createColumnValue(sql, newNames[j], newColumnValues, j, true));
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    newValues.add(oldValue);
+                }
+            }
+
+            return new LogMinerDmlEntryImpl(Envelope.Operation.UPDATE, newValues, oldValues);
+        }
+        catch (Exception e) {
+            throw new DmlParserException("Failed to parse update DML: '" + sql + "'", e);
+        }
+    }
+
+    /**
+     * Parses a SQL {@code DELETE} statement.
+     *
+     * @param sql the sql statement
+     * @param columnIndex the column positions of the table, {@code null} if not known
+     * @return the parsed DML entry record
+     */
+    private LogMinerDmlEntry parseDelete(String sql, ColumnPositionIndex columnIndex) {
+        try {
+            oldColumnNames.clear();
+            oldColumnValues.clear();
+
+            // advance beyond "delete from "
+            int index = DELETE_FROM_LENGTH;
+
+            // parse table
+            index = parseTableName(sql, index);
+
+            // parse where
+            parseWhereClause(sql, index, oldColumnNames, oldColumnValues);
+
+            if (columnIndex != null) {
+                LogMinerColumnValue[] oldValues = toValuesByPosition(sql, columnIndex, oldColumnNames, oldColumnValues, true);
+                if (oldValues != null) {
+                    return new LogMinerDmlEntryImpl(Envelope.Operation.DELETE, columnIndex.getTable(), null, oldValues);
+                }
+            }
+
+            List<LogMinerColumnValue> oldValues = new ArrayList<>(oldColumnNames.size());
+            for (int i = 0; i < oldColumnNames.size(); ++i) {
+                oldValues.add(createColumnValue(sql, columnName(sql, oldColumnNames, i), oldColumnValues, i, true));
+            }
+
+            return new LogMinerDmlEntryImpl(Envelope.Operation.DELETE, Collections.emptyList(), oldValues);
+        }
+        catch (Exception e) {
+            throw new DmlParserException("Failed to parse delete DML: '" + sql + "'", e);
+        }
+    }
+
+    /**
+     * Parses a table-name in the SQL clause
+     *
+     * @param sql the sql statement
+     * @param index the index into the sql statement to begin parsing
+     * @return the index into the sql string where the table name ended
+     */
+    private int parseTableName(String sql, int index) {
+        boolean inQuote = false;
+
+        for (; index < sql.length(); ++index) {
+            char c = sql.charAt(index);
+            if (c == '"') {
+                if (inQuote) {
+                    inQuote = false;
+                    continue;
+                }
+                inQuote = true;
+            }
+            else if (c == ' ' || c == '(' && !inQuote) {
+                break;
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Parse an {@code INSERT} statement's column-list clause.
+     *
+     * @param sql the sql statement
+     * @param start the index into the sql statement to begin parsing
+     * @param columnNames the offsets that will be populated with the column names
+     * @return the index into the sql string where the column-list clause ended
+     */
+    private int parseColumnListClause(String sql, int start, Offsets columnNames) {
+        int index = start;
+        boolean inQuote = false;
+        for (; index < sql.length(); ++index) {
+            char c = sql.charAt(index);
+            if (c == '(' && !inQuote) {
+                start = index + 1;
+            }
+            else if (c == ')' && !inQuote) {
+                index++;
+                break;
+            }
+            else if (c == '"') {
+                if (inQuote) {
+                    inQuote = false;
+                    columnNames.add(start + 1, index);
+                    start = index + 2;
+                    continue;
+                }
+                inQuote = true;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Parse an {@code INSERT} statement's column-values clause.
+     *
+     * @param sql the sql statement
+     * @param start the index into the sql statement to begin parsing
+     * @param columnValues the offsets that will be populated with the column values
+     * @return the index into the sql string where the column-values clause ended
+     */
+    private int parseColumnValuesClause(String sql, int start, Offsets columnValues) {
+        int index = start;
+        int nested = 0;
+        boolean inQuote = false;
+        boolean inValues = false;
+
+        // verify entering values-clause
+        if (!sql.startsWith(VALUES, index)) {
+            throw new DebeziumException("Failed to parse DML: " + sql);
+        }
+        index += VALUES_LENGTH;
+
+        for (; index < sql.length(); ++index) {
+            char c = sql.charAt(index);
+            if (c == '(' && !inQuote && !inValues) {
+                inValues = true;
+                start = index + 1;
+            }
+            else if (c == '(' && !inQuote) {
+                nested++;
+            }
+            else if (c == '\'') {
+                if (inQuote) {
+                    inQuote = false;
+                    continue;
+                }
+                inQuote = true;
+            }
+            else if (!inQuote && (c == ',' || c == ')')) {
+                if (c == ')' && nested != 0) {
+                    nested--;
+                    continue;
+                }
+                if (c == ',' && nested != 0) {
+                    continue;
+                }
+                int valueStart = start;
+                int valueEnd = index;
+                if (sql.startsWith(SINGLE_QUOTE, valueStart) && valueEnd - valueStart > 1 && sql.charAt(valueEnd - 1) == '\'') {
+                    // if the value is single-quoted at the start/end, clear the quotes.
+                    valueStart++;
+                    valueEnd--;
+                }
+                if (regionEquals(sql, valueStart, valueEnd, UNSUPPORTED_TYPE)) {
+                    columnValues.addNull();
+                }
+                else {
+                    columnValues.add(valueStart, valueEnd);
+                }
+                start = index + 1;
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Parse an {@code UPDATE} statement's {@code SET} clause.
+     *
+     * @param sql the sql statement
+     * @param start the index into the sql statement to begin parsing
+     * @param columnNames the offsets of the changed column names that will be populated
+     * @param columnValues the offsets of the changed column values that will be populated
+     * @return the index into the sql string where the set-clause ended
+     */
+    private int parseSetClause(String sql, int start, Offsets columnNames, Offsets columnValues) {
+        boolean inDoubleQuote = false;
+        boolean inSingleQuote = false;
+        boolean inColumnName = true;
+        boolean inColumnValue = false;
+        boolean inSpecial = false;
+        int nested = 0;
+
+        // verify entering set-clause
+        if (!sql.startsWith(SET, start)) {
+            throw new DebeziumException("Failed to parse DML: " + sql);
+        }
+        start += SET_LENGTH;
+
+        int index = start;
+        for (; index < sql.length(); ++index) {
+            char c = sql.charAt(index);
+            char lookAhead = (index + 1 < sql.length()) ? sql.charAt(index + 1) : 0;
+            if (c == '"' && inColumnName) {
+                // Set clause column names are double-quoted
+                if (inDoubleQuote) {
+                    inDoubleQuote = false;
+                    columnNames.add(start + 1, index);
+                    start = index + 1;
+                    inColumnName = false;
+                    continue;
+                }
+                inDoubleQuote = true;
+                start = index;
+            }
+            else if (c == '=' && !inColumnName && !inColumnValue) {
+                inColumnValue = true;
+                // Oracle SQL generated is always ' = ', skipping following space
+                index += 1;
+                start = index + 1;
+            }
+            else if (c == '\'' && inColumnValue && nested == 0) {
+                // Set clause single-quoted column value
+                if (inSingleQuote) {
+                    inSingleQuote = false;
+                    columnValues.add(start + 1, index);
+                    start = index + 1;
+                    inColumnValue = false;
+                    inColumnName = false;
+                    continue;
+                }
+                inSingleQuote = true;
+                start = index;
+            }
+            else if (c == ',' && !inColumnValue && !inColumnName) {
+                // Set clause uses ', ' skip following space
+                inColumnName = true;
+                index += 1;
+                start = index;
+            }
+            else if (inColumnValue && !inSingleQuote) {
+                if (!inSpecial) {
+                    start = index;
+                    inSpecial = true;
+                }
+                // characters as a part of the value
+                if (c == '(') {
+                    nested++;
+                }
+                else if (c == ')' && nested > 0) {
+                    nested--;
+                }
+                else if ((c == ',' || c == ' ') && nested == 0) {
+                    if (regionEquals(sql, start, index, NULL) || regionEquals(sql, start, index, UNSUPPORTED_TYPE)) {
+                        columnValues.addNull();
+                        start = index + 1;
+                        inColumnValue = false;
+                        inSpecial = false;
+                        inColumnName = true;
+                        continue;
+                    }
+                    else if (regionEquals(sql, start, index, UNSUPPORTED)) {
+                        continue;
+                    }
+                    columnValues.add(start, index);
+                    start = index + 1;
+                    inColumnValue = false;
+                    inSpecial = false;
+                    inColumnName = true;
+                }
+            }
+            else if (!inDoubleQuote && !inSingleQuote) {
+                if (c == 'w' && lookAhead == 'h' && sql.startsWith(WHERE, index - 1)) {
+                    index -= 1;
+                    break;
+                }
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Parses a {@code WHERE} clause populates the provided column names and values offsets.
+     *
+     * @param sql the sql statement
+     * @param start the index into the sql statement to begin parsing
+     * @param columnNames the offsets of the column names parsed from the clause
+     * @param columnValues the offsets of the column values parsed from the clause
+     * @return the index into the sql string to continue parsing
+     */
+    private int parseWhereClause(String sql, int start, Offsets columnNames, Offsets columnValues) {
+        int nested = 0;
+        boolean inColumnName = true;
+        boolean inColumnValue = false;
+        boolean inDoubleQuote = false;
+        boolean inSingleQuote = false;
+        boolean inSpecial = false;
+
+        // verify entering where-clause
+        if (!sql.startsWith(WHERE, start)) {
+            throw new DebeziumException("Failed to parse DML: " + sql);
+        }
+        start += WHERE_LENGTH;
+
+        int index = start;
+        for (; index < sql.length(); ++index) {
+            char c = sql.charAt(index);
+            char lookAhead = (index + 1 < sql.length()) ? sql.charAt(index + 1) : 0;
+            if (c == '"' && inColumnName) {
+                // Where clause column names are double-quoted
+                if (inDoubleQuote) {
+                    inDoubleQuote = false;
+                    columnNames.add(start + 1, index);
+                    start = index + 1;
+                    inColumnName = false;
+                    continue;
+                }
+                inDoubleQuote = true;
+                start = index;
+            }
+            else if (c == '=' && !inColumnName && !inColumnValue) {
+                inColumnValue = true;
+                // Oracle SQL generated is always ' = ', skipping following space
+                index += 1;
+                start = index + 1;
+            }
+            else if (c == 'I' && !inColumnName && !inColumnValue) {
+                if (sql.startsWith(IS_NULL, index)) {
+                    columnValues.addNull();
+                    index += 6;
+                    start = index;
+                    continue;
+                }
+            }
+            else if (c == '\'' && inColumnValue && nested == 0) {
+                // Where clause single-quoted column value
+                if (inSingleQuote) {
+                    inSingleQuote = false;
+                    columnValues.add(start + 1, index);
+                    start = index + 1;
+                    inColumnValue = false;
+                    inColumnName = false;
+                    continue;
+                }
+                inSingleQuote = true;
+                start = index;
+            }
+            else if (inColumnValue && !inSingleQuote) {
+                if (!inSpecial) {
+                    start = index;
+                    inSpecial = true;
+                }
+                if (c == '(') {
+                    nested++;
+                }
+                else if (c == ')' && nested > 0) {
+                    nested--;
+                }
+                else if ((c == ';' || c == ' ') && nested == 0) {
+                    if (regionEquals(sql, start, index, NULL) || regionEquals(sql, start, index, UNSUPPORTED_TYPE)) {
+                        columnValues.addNull();
+                        start = index + 1;
+                        inColumnValue = false;
+                        inSpecial = false;
+                        inColumnName = true;
+                        continue;
+                    }
+                    else if (regionEquals(sql, start, index, UNSUPPORTED)) {
+                        continue;
+                    }
+                    columnValues.add(start, index);
+                    start = index + 1;
+                    inColumnValue = false;
+                    inSpecial = false;
+                    inColumnName = true;
+                }
+            }
+            else if (!inColumnValue && !inColumnName) {
+                if (c == 'a' && lookAhead == 'n' && sql.startsWith(AND, index)) {
+                    index += 3;
+                    start = index;
+                    inColumnName = true;
+                }
+                else if (c == 'o' && lookAhead == 'r' && sql.startsWith(OR, index)) {
+                    index += 2;
+                    start = index;
+                    inColumnName = true;
+                }
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Places the values at the given offsets by the position of their column, taking the column names from the table.
+     *
+     * @return the values indexed by position, or {@code null} if a column is not part of the table
+     */
+    private static LogMinerColumnValue[] toValuesByPosition(String sql, ColumnPositionIndex columnIndex, Offsets columnNames,
+                                                            Offsets columnValues, boolean nullLiteral) {
+        final LogMinerColumnValue[] values = new LogMinerColumnValue[columnIndex.size()];
+        for (int i = 0; i < columnNames.size(); ++i) {
+            final int position = columnIndex.positionOf(sql, columnNames.start(i), columnNames.end(i));
+            if (position < 0) {
+                return null;
+            }
+            values[position] = createColumnValue(sql, columnIndex.nameAt(position), columnValues, i, nullLiteral);
+        }
+        return values;
+    }
+
+    private String columnName(String sql, Offsets columnNames, int index) {
+        return columnNameCache.get(sql, columnNames.start(index), columnNames.end(index));
+    }
+
+    /**
+     * Creates a column value referring to the value at the given position of the offsets.
+     *
+     * @param sql the sql statement
+     * @param columnName the column name
+     * @param columnValues the offsets of the column values
+     * @param index the position of the value in the offsets
+     * @param nullLiteral whether a value spelled {@code NULL} is a null value, as done by the {@link LogMinerDmlParser}
+     *                    for all values except the old values of an update
+     * @return the column value
+     */
+    private static LogMinerColumnValue createColumnValue(String sql, String columnName, Offsets columnValues, int index,
+                                                         boolean nullLiteral) {
+        final int start = columnValues.start(index);
+        final int end = columnValues.end(index);
+        if (start == Offsets.NULL || (nullLiteral && regionEquals(sql, start, end, NULL))) {
+            return new LazyLogMinerColumnValue(columnName, null, 0, 0);
+        }
+        return new LazyLogMinerColumnValue(columnName, sql, start, end);
+    }
+
+    private static boolean regionEquals(String sql, int start, int end, String text) {
+        return end - start == text.length() && sql.startsWith(text, start);
+    }
+
+    /**
+     * A growable list of start and end offsets into the redo SQL, reused between statements.
+     */
+    private static final class Offsets {
+
+        private static final int NULL = -1;
+
+        private int[] offsets = new int[64];
+        private int size;
+
+        void add(int start, int end) {
+            if (size * 2 == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[size * 2] = start;
+            offsets[size * 2 + 1] = end;
+            size++;
+        }
+
+        void addNull() {
+            add(NULL, NULL);
+        }
+
+        int start(int index) {
+            if (index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return offsets[index * 2];
+        }
+
+        int end(int index) {
+            return offsets[index * 2 + 1];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+
+    /**
+     * A fixed-size cache of column names, so that the name of a column is only copied out of the redo SQL
+     * the first time it is seen. A name evicts the previous name of the same slot.
+     */
+    private static final class ColumnNameCache {
+
+        private static final int SIZE = 1024;
+
+        private final String[] names = new String[SIZE];
+
+        String get(String sql, int start, int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + sql.charAt(i);
+            }
+            final int slot = (hash ^ (hash >>> 16)) & (SIZE - 1);
+            final String name = names[slot];
+            if (name != null && name.length() == end - start && sql.startsWith(name, start)) {
+                return name;
+            }
+            return names[slot] = sql.substring(start, end);
+        }
+    }
+}
@@ -10,6 +10,8 @@ import java.util.Collections;
 import java.util.List;
 
 import io.debezium.DebeziumException;
+import io.debezium.connector.oracle.ColumnPositionIndex;
+import io.debezium.connector.oracle.ColumnPositionIndexCache;
 import io.debezium.connector.oracle.logminer.valueholder.LogMinerColumnValue;
 import io.debezium.connector.oracle.logminer.valueholder.LogMinerColumnValueImpl;
 import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
@@ -45,6 +47,10 @@ import io.debezium.relational.Tables;
  * The new value for {@code C1} would be {@code TO_TIMESTAMP('2020-02-02 00:00:00', 'YYYY-MM-DD HH24:MI:SS')}.
  * The old value for {@code C1} would be {@code TO_TIMESTAMP('2020-02-01 00:00:00', 'YYYY-MM-DD HH24:MI:SS')}.
  *
+ * When the table of the statement is known, the values are placed by the position of their column in the
+ * table, see {@link LogMinerDmlEntry#getTable()}, which also avoids matching the {@code SET} and {@code WHERE}
+ * clauses of an update by name.
+ *
  * @author Chris Cranford
  */
 public class LogMinerDmlParser implements DmlParser {
@@ -71,16 +77,21 @@ public class LogMinerDmlParser implements DmlParser {
     private static final int SET_LENGTH = SET.length();
     private static final int WHERE_LENGTH = WHERE.length();
 
+    private final ColumnPositionIndexCache columnPositionIndexes = new ColumnPositionIndexCache();
+
     @Override
     public LogMinerDmlEntry parse(String sql, Tables tables, TableId tableId, String txId) {
         if (sql != null && sql.length() > 0) {
+            final ColumnPositionIndex columnIndex = tables != null && tableId != null
+                    ? columnPositionIndexes.get(tables.forTable(tableId))
+                    : null;
             switch (sql.charAt(0)) {
                 case 'i':
-                    return parseInsert(sql);
+                    return parseInsert(sql, columnIndex);
                 case 'u':
-                    return parseUpdate(sql);
+                    return parseUpdate(sql, columnIndex);
                 case 'd':
-                    return parseDelete(sql);
+                    return parseDelete(sql, columnIndex);
             }
         }
         throw new DmlParserException("Unknown supported SQL '" + sql + "'");
@@ -90,9 +101,10 @@ public class LogMinerDmlParser implements DmlParser {
      * Parse an {@code INSERT} SQL statement.
      *
      * @param sql the sql statement
+     * @param columnIndex the column positions of the table, {@code null} if not known
      * @return the parsed DML entry record or {@code null} if the SQL was not parsed
      */
-    private LogMinerDmlEntry parseInsert(String sql) {
+    private LogMinerDmlEntry parseInsert(String sql, ColumnPositionIndex columnIndex) {
         try {
             // advance beyond "insert into "
             int index = INSERT_INTO_LENGTH;
@@ -112,6 +124,13 @@ public class LogMinerDmlParser implements DmlParser {
                 throw new DmlParserException("Columns: " + columnNames + ", Values: " + columnValues);
             }
 
+            if (columnIndex != null) {
+                LogMinerColumnValue[] newValues = toValuesByPosition(columnIndex, columnNames, columnValues, true);
+                if (newValues != null) {
+                    return new LogMinerDmlEntryImpl(Envelope.Operation.CREATE, columnIndex.getTable(), newValues, null);
+                }
+            }
+
             List<LogMinerColumnValue> newValues = new ArrayList<>(columnNames.size());
             for (int i = 0; i < columnNames.size(); ++i) {
                 newValues.add(createColumnValue(columnNames.get(i), columnValues.get(i)));
@@ -128,9 +147,10 @@ public class LogMinerDmlParser implements DmlParser {
      * Parse an {@code UPDATE} SQL statement.
      *
      * @param sql the sql statement
+     * @param columnIndex the column positions of the table, {@code null} if not known
      * @return the parsed DML entry record or {@code null} if the SQL was not parsed
      */
-    private LogMinerDmlEntry parseUpdate(String sql) {
+    private LogMinerDmlEntry parseUpdate(String sql, ColumnPositionIndex columnIndex) {
         try {
             // advance beyond "update "
             int index = UPDATE_LENGTH;
@@ -148,6 +168,21 @@ public class LogMinerDmlParser implements DmlParser {
             List<String> oldColumnValues = new ArrayList<>();
             parseWhereClause(sql, index, oldColumnNames, oldColumnValues);
 
+            if (columnIndex != null) {
+                LogMinerColumnValue[] oldValues = toValuesByPosition(columnIndex, oldColumnNames, oldColumnValues, false);
+                if (oldValues != null) {
+                    // columns of the where clause keep their old value unless changed by the set clause
+                    LogMinerColumnValue[] newValues = oldValues.clone();
+                    for (int j = 0; j < newColumnNames.size(); ++j) {
+                        int position = columnIndex.positionOf(newColumnNames.get(j));
+                        if (position >= 0 && oldValues[position] != null) {
+                            newValues[position] = createColumnValue(newColumnNames.get(j), newColumnValues.get(j));
+                        }
+                    }
+                    return new LogMinerDmlEntryImpl(Envelope.Operation.UPDATE, columnIndex.getTable(), newValues, oldValues);
+                }
+            }
+
             List<LogMinerColumnValue> oldValues = new ArrayList<>(oldColumnNames.size());
             for (int i = 0; i < oldColumnNames.size(); ++i) {
                 LogMinerColumnValue value = new LogMinerColumnValueImpl(oldColumnNames.get(i), 0);
@@ -181,9 +216,10 @@ public class LogMinerDmlParser implements DmlParser {
      * Parses a SQL {@code DELETE} statement.
      *
      * @param sql the sql statement
+     * @param columnIndex the column positions of the table, {@code null} if not known
      * @return the parsed DML entry record or {@code null} if the SQL was not parsed
      */
-    private LogMinerDmlEntry parseDelete(String sql) {
+    private LogMinerDmlEntry parseDelete(String sql, ColumnPositionIndex columnIndex) {
         try {
             // advance beyond "delete from "
             int index = DELETE_FROM_LENGTH;
@@ -196,6 +232,13 @@ public class LogMinerDmlParser implements DmlParser {
             List<String> columnValues = new ArrayList<>();
             parseWhereClause(sql, index, columnNames, columnValues);
 
+            if (columnIndex != null) {
+                LogMinerColumnValue[] oldValues = toValuesByPosition(columnIndex, columnNames, columnValues, true);
+                if (oldValues != null) {
+                    return new LogMinerDmlEntryImpl(Envelope.Operation.DELETE, columnIndex.getTable(), null, oldValues);
+                }
+            }
+
             List<LogMinerColumnValue> oldValues = new ArrayList<>(columnNames.size());
             for (int i = 0; i < columnNames.size(); ++i) {
                 oldValues.add(createColumnValue(columnNames.get(i), columnValues.get(i)));
@@ -560,6 +603,35 @@ public class LogMinerDmlParser implements DmlParser {
         return text;
     }
 
+    /**
+     * Places the given values by the position of their column.
+     *
+     * @param columnIndex the column positions of the table
+     * @param columnNames the column names
+     * @param columnValues the column values
+     * @param nullLiteral whether a value spelled {@code NULL} is a null value, which is the case for all values
+     *                    except the old values of an update
+     * @return the values indexed by position, or {@code null} if a column is not part of the table
+     */
+    private static LogMinerColumnValue[] toValuesByPosition(ColumnPositionIndex columnIndex, List<String> columnNames,
+                                                            List<String> columnValues, boolean nullLiteral) {
+        LogMinerColumnValue[] values = new LogMinerColumnValue[columnIndex.size()];
+        for (int i = 0; i < columnNames.size(); ++i) {
+            int position = columnIndex.positionOf(columnNames.get(i));
+            if (position < 0) {
+                return null;
+            }
+            if (nullLiteral) {
+                values[position] = createColumnValue(columnNames.get(i), columnValues.get(i));
+            }
+            else {
+                values[position] = new LogMinerColumnValueImpl(columnNames.get(i), 0);
+                values[position].setColumnData(columnValues.get(i));
+            }
+        }
+        return values;
+    }
+
     /**
      * Helper method to create a {@link LogMinerColumnValue} from a column name/value pair.
      *
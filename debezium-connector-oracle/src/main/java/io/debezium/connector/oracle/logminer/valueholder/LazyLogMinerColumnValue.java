@@ -0,0 +1,125 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer.valueholder;
+
+import java.util.Objects;
+
+import io.debezium.connector.oracle.antlr.listener.ParserUtils;
+
+/**
+ * A column value that refers to a region of the redo SQL it was parsed from. The value is only
+ * copied out of the redo SQL when it is first requested, and is normalized the same way as values
+ * stored by {@link LogMinerColumnValueImpl}.
+ */
+public class LazyLogMinerColumnValue implements LogMinerColumnValue {
+
+    private final String columnName;
+    private String source;
+    private int start;
+    private int end;
+    private Object columnData;
+
+    /**
+     * Creates a column value referring to the given region of the source.
+     *
+     * @param columnName the column name
+     * @param source the redo SQL, {@code null} for a null value
+     * @param start the start index of the value in the source, inclusive
+     * @param end the end index of the value in the source, exclusive
+     */
+    public LazyLogMinerColumnValue(String columnName, String source, int start, int end) {
+        this.columnName = columnName;
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public Object getColumnData() {
+        if (source != null) {
+            columnData = ParserUtils.replaceDoubleBackSlashes(source.substring(start, end));
+            source = null;
+        }
+        return columnData;
+    }
+
+    @Override
+    public String getColumnName() {
+        return columnName;
+    }
+
+    @Override
+    public void setColumnData(Object columnData) {
+        source = null;
+        if (columnData instanceof String) {
+            this.columnData = ParserUtils.replaceDoubleBackSlashes((String) columnData);
+        }
+        else {
+            this.columnData = columnData;
+        }
+    }
+
+    /**
+     * @return whether the value has been copied out of the redo SQL or was never backed by it
+     */
+    public boolean isMaterialized() {
+        return source == null;
+    }
+
+    /**
+     * @return the redo SQL holding the value, {@code null} once the value has been materialized
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @return the start index of the value in the redo SQL, inclusive
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * @return the end index of the value in the redo SQL, exclusive
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * @return whether the region of the redo SQL is exactly the column data, i.e. needs no unescaping
+     */
+    public boolean isVerbatim() {
+        if (source == null) {
+            return false;
+        }
+        for (int i = start; i < end - 1; i++) {
+            if (source.charAt(i) == '\\' && source.charAt(i + 1) == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        LazyLogMinerColumnValue that = (LazyLogMinerColumnValue) o;
+        return Objects.equals(columnName, that.columnName) &&
+                Objects.equals(getColumnData(), that.getColumnData());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(columnName, getColumnData());
+    }
+}
@@ -24,6 +24,19 @@ public class LogMinerColumnValueImpl implements LogMinerColumnValue {
         this.columnType = columnType;
     }
 
+    /**
+     * Creates a column value whose data has already been normalized, such as one restored from the transactional buffer.
+     *
+     * @param columnName the column name
+     * @param columnData the column data, stored as-is
+     * @param columnType the column type
+     */
+    public LogMinerColumnValueImpl(String columnName, Object columnData, int columnType) {
+        this.columnName = columnName;
+        this.columnData = columnData;
+        this.columnType = columnType;
+    }
+
     @Override
     public Object getColumnData() {
         return columnData;
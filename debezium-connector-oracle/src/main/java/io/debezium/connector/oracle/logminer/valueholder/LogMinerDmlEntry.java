@@ -10,6 +10,7 @@ import java.util.List;
 
 import io.debezium.connector.oracle.logminer.Scn;
 import io.debezium.data.Envelope;
+import io.debezium.relational.Table;
 
 public interface LogMinerDmlEntry {
     /**
@@ -26,6 +27,26 @@ public interface LogMinerDmlEntry {
      */
     List<LogMinerColumnValue> getNewValues();
 
+    /**
+     * @return the table version the values are indexed by position for, or {@code null} if the values
+     * are only known by column name
+     */
+    Table getTable();
+
+    /**
+     * @return old values indexed by the zero-based position of their column in {@link #getTable()}, with
+     * {@code null} for columns without a value, or {@code null} if there are no old values or the values are
+     * only known by column name
+     */
+    LogMinerColumnValue[] getOldValuesByPosition();
+
+    /**
+     * @return new values indexed by the zero-based position of their column in {@link #getTable()}, with
+     * {@code null} for columns without a value, or {@code null} if there are no new values or the values are
+     * only known by column name
+     */
+    LogMinerColumnValue[] getNewValuesByPosition();
+
     /**
      * this getter
      * @return Envelope.Operation enum
@@ -6,11 +6,14 @@
 package io.debezium.connector.oracle.logminer.valueholder;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 import io.debezium.connector.oracle.logminer.Scn;
 import io.debezium.data.Envelope;
+import io.debezium.relational.Table;
 
 /**
  * This class holds one parsed DML LogMiner record details
@@ -21,6 +24,9 @@ public class LogMinerDmlEntryImpl implements LogMinerDmlEntry {
     private Envelope.Operation commandType;
     private List<LogMinerColumnValue> newLmColumnValues;
     private List<LogMinerColumnValue> oldLmColumnValues;
+    private Table table;
+    private LogMinerColumnValue[] newValuesByPosition;
+    private LogMinerColumnValue[] oldValuesByPosition;
     private String objectOwner;
     private String objectName;
     private Timestamp sourceTime;
@@ -33,6 +39,22 @@ public class LogMinerDmlEntryImpl implements LogMinerDmlEntry {
         this.oldLmColumnValues = oldLmColumnValues;
     }
 
+    /**
+     * Creates an entry whose values are indexed by the position of their column in the given table.
+     *
+     * @param commandType the operation
+     * @param table the table version the values are positioned for
+     * @param newValuesByPosition the new values with {@code null} for columns without a value, {@code null} if there are none
+     * @param oldValuesByPosition the old values with {@code null} for columns without a value, {@code null} if there are none
+     */
+    public LogMinerDmlEntryImpl(Envelope.Operation commandType, Table table, LogMinerColumnValue[] newValuesByPosition,
+                                LogMinerColumnValue[] oldValuesByPosition) {
+        this.commandType = commandType;
+        this.table = table;
+        this.newValuesByPosition = newValuesByPosition;
+        this.oldValuesByPosition = oldValuesByPosition;
+    }
+
     @Override
     public Envelope.Operation getCommandType() {
         return commandType;
@@ -40,14 +62,35 @@ public class LogMinerDmlEntryImpl implements LogMinerDmlEntry {
 
     @Override
     public List<LogMinerColumnValue> getOldValues() {
+        if (oldLmColumnValues == null && table != null) {
+            oldLmColumnValues = toList(oldValuesByPosition);
+        }
         return oldLmColumnValues;
     }
 
     @Override
     public List<LogMinerColumnValue> getNewValues() {
+        if (newLmColumnValues == null && table != null) {
+            newLmColumnValues = toList(newValuesByPosition);
+        }
         return newLmColumnValues;
     }
 
+    @Override
+    public Table getTable() {
+        return table;
+    }
+
+    @Override
+    public LogMinerColumnValue[] getOldValuesByPosition() {
+        return oldValuesByPosition;
+    }
+
+    @Override
+    public LogMinerColumnValue[] getNewValuesByPosition() {
+        return newValuesByPosition;
+    }
+
     @Override
     public String getTransactionId() {
         return transactionId;
@@ -108,12 +151,25 @@ public class LogMinerDmlEntryImpl implements LogMinerDmlEntry {
         }
         LogMinerDmlEntryImpl that = (LogMinerDmlEntryImpl) o;
         return commandType == that.commandType &&
-                Objects.equals(newLmColumnValues, that.newLmColumnValues) &&
-                Objects.equals(oldLmColumnValues, that.oldLmColumnValues);
+                Objects.equals(getNewValues(), that.getNewValues()) &&
+                Objects.equals(getOldValues(), that.getOldValues());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(commandType, newLmColumnValues, oldLmColumnValues);
+        return Objects.hash(commandType, getNewValues(), getOldValues());
+    }
+
+    private static List<LogMinerColumnValue> toList(LogMinerColumnValue[] valuesByPosition) {
+        if (valuesByPosition == null) {
+            return Collections.emptyList();
+        }
+        final List<LogMinerColumnValue> values = new ArrayList<>(valuesByPosition.length);
+        for (LogMinerColumnValue value : valuesByPosition) {
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
     }
 }
@@ -6,6 +6,7 @@
 package io.debezium.connector.oracle.xstream;
 
 import io.debezium.connector.oracle.BaseChangeRecordEmitter;
+import io.debezium.connector.oracle.ColumnPositionIndex;
 import io.debezium.data.Envelope.Operation;
 import io.debezium.pipeline.spi.OffsetContext;
 import io.debezium.relational.Table;
@@ -24,7 +25,11 @@ public class XStreamChangeRecordEmitter extends BaseChangeRecordEmitter<ColumnVa
     private final RowLCR lcr;
 
     public XStreamChangeRecordEmitter(OffsetContext offset, RowLCR lcr, Table table, Clock clock) {
-        super(offset, table, clock);
+        this(offset, lcr, table, null, clock);
+    }
+
+    public XStreamChangeRecordEmitter(OffsetContext offset, RowLCR lcr, Table table, ColumnPositionIndex columnPositionIndex, Clock clock) {
+        super(offset, table, columnPositionIndex, clock);
         this.lcr = lcr;
     }
 
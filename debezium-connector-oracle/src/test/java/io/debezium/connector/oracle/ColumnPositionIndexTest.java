@@ -0,0 +1,54 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.sql.Types;
+
+import org.junit.Test;
+
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+
+public class ColumnPositionIndexTest {
+
+    @Test
+    public void shouldResolveColumnPositions() {
+        final Table table = table(200);
+        final ColumnPositionIndex index = new ColumnPositionIndex(table);
+
+        assertThat(index.getTable()).isSameAs(table);
+        assertThat(index.size()).isEqualTo(200);
+        for (int i = 0; i < 200; i++) {
+            assertThat(index.positionOf("C" + i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    public void shouldResolveColumnNamesDifferingInCase() {
+        final ColumnPositionIndex index = new ColumnPositionIndex(table(3));
+
+        assertThat(index.positionOf("c2")).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotResolveUnknownColumns() {
+        final ColumnPositionIndex index = new ColumnPositionIndex(table(3));
+
+        assertThat(index.positionOf("C3")).isEqualTo(-1);
+    }
+
+    private static Table table(int columnCount) {
+        final TableEditor editor = Table.editor().tableId(new TableId("ORCLPDB1", "DEBEZIUM", "TEST"));
+        for (int i = 0; i < columnCount; i++) {
+            editor.addColumn(Column.editor().name("C" + i).type("VARCHAR2").jdbcType(Types.VARCHAR).create());
+        }
+        return editor.create();
+    }
+}
@@ -8,6 +8,7 @@ package io.debezium.connector.oracle;
 import static org.fest.assertions.Assertions.assertThat;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.kafka.common.config.Config;
@@ -18,6 +19,8 @@ import org.apache.kafka.connect.connector.Connector;
 import org.junit.Before;
 import org.junit.Test;
 
+import io.debezium.relational.history.KafkaDatabaseHistory;
+
 public class OracleConnectorTest {
     OracleConnector connector;
 
@@ -48,6 +51,72 @@ public class OracleConnectorTest {
         assertConfigDefIsValid(connector, OracleConnectorConfig.ALL_FIELDS);
     }
 
+    @Test
+    public void shouldStartSingleTaskWithConnectorConfiguration() {
+        Map<String, String> config = logMinerConfig("DEBEZIUM.CUSTOMER,DEBEZIUM.ORDERS");
+        connector.start(config);
+
+        assertThat(connector.taskConfigs(1)).containsExactly(config);
+    }
+
+    @Test
+    public void shouldPartitionTableIncludeListAcrossTasks() {
+        connector.start(logMinerConfig("DEBEZIUM.CUSTOMER,DEBEZIUM\\.ORDERS,debezium.customer,DEBEZIUM.ITEMS"));
+
+        List<Map<String, String>> taskConfigs = connector.taskConfigs(2);
+        assertThat(taskConfigs).hasSize(2);
+        assertThat(taskConfigs.get(0).get(OracleConnectorConfig.TABLE_INCLUDE_LIST.name())).isEqualTo("DEBEZIUM\\.ORDERS");
+        assertThat(taskConfigs.get(0).get(OracleConnectorConfig.LOG_MINING_TABLE_PARTITION.name())).isEqualTo("0");
+        assertThat(taskConfigs.get(0).get(OracleConnectorConfig.LOG_MINING_TABLE_PARTITIONS.name())).isEqualTo("2");
+        assertThat(taskConfigs.get(0).get(KafkaDatabaseHistory.TOPIC.name())).isEqualTo("history-0");
+        assertThat(taskConfigs.get(1).get(OracleConnectorConfig.TABLE_INCLUDE_LIST.name())).isEqualTo("DEBEZIUM.CUSTOMER,DEBEZIUM.ITEMS");
+        assertThat(taskConfigs.get(1).get(OracleConnectorConfig.LOG_MINING_TABLE_PARTITION.name())).isEqualTo("1");
+        assertThat(taskConfigs.get(1).get(OracleConnectorConfig.LOG_MINING_TABLE_PARTITIONS.name())).isEqualTo("2");
+        assertThat(taskConfigs.get(1).get(KafkaDatabaseHistory.TOPIC.name())).isEqualTo("history-1");
+
+        // partitions without tables are not started
+        taskConfigs = connector.taskConfigs(5);
+        assertThat(taskConfigs).hasSize(2);
+        assertThat(taskConfigs.get(0).get(OracleConnectorConfig.LOG_MINING_TABLE_PARTITION.name())).isEqualTo("2");
+        assertThat(taskConfigs.get(1).get(OracleConnectorConfig.LOG_MINING_TABLE_PARTITION.name())).isEqualTo("4");
+    }
+
+    @Test
+    public void shouldKeepTablesInTheirPartitionWhenTheIncludeListChanges() {
+        connector.start(logMinerConfig("DEBEZIUM.ORDERS,DEBEZIUM.CUSTOMER"));
+        List<Map<String, String>> taskConfigs = connector.taskConfigs(2);
+        assertThat(taskConfigs.get(0).get(OracleConnectorConfig.TABLE_INCLUDE_LIST.name())).isEqualTo("DEBEZIUM.ORDERS");
+        assertThat(taskConfigs.get(1).get(OracleConnectorConfig.TABLE_INCLUDE_LIST.name())).isEqualTo("DEBEZIUM.CUSTOMER");
+
+        connector.start(logMinerConfig("DEBEZIUM.ITEMS,DEBEZIUM.CUSTOMER,DEBEZIUM.ORDERS"));
+        taskConfigs = connector.taskConfigs(2);
+        assertThat(taskConfigs.get(0).get(OracleConnectorConfig.TABLE_INCLUDE_LIST.name())).isEqualTo("DEBEZIUM.ORDERS");
+        assertThat(taskConfigs.get(1).get(OracleConnectorConfig.TABLE_INCLUDE_LIST.name())).isEqualTo("DEBEZIUM.ITEMS,DEBEZIUM.CUSTOMER");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotPartitionTableIncludeListWithRegularExpressions() {
+        connector.start(logMinerConfig("DEBEZIUM.CUSTOMER,DEBEZIUM\\..*"));
+        connector.taskConfigs(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotStartMultipleTasksWithXStream() {
+        Map<String, String> config = logMinerConfig("DEBEZIUM.CUSTOMER,DEBEZIUM.ORDERS");
+        config.put(OracleConnectorConfig.CONNECTOR_ADAPTER.name(), "xstream");
+        connector.start(config);
+        connector.taskConfigs(2);
+    }
+
+    private static Map<String, String> logMinerConfig(String tableIncludeList) {
+        Map<String, String> config = new HashMap<>();
+        config.put(OracleConnectorConfig.SERVER_NAME.name(), "server1");
+        config.put(OracleConnectorConfig.CONNECTOR_ADAPTER.name(), "logminer");
+        config.put(OracleConnectorConfig.TABLE_INCLUDE_LIST.name(), tableIncludeList);
+        config.put(KafkaDatabaseHistory.TOPIC.name(), "history");
+        return config;
+    }
+
     protected static void assertConfigDefIsValid(Connector connector, io.debezium.config.Field.Set fields) {
         ConfigDef configDef = connector.config();
         assertThat(configDef).isNotNull();
@@ -0,0 +1,101 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mockito;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot.AdapterName;
+
+@SkipWhenAdapterNameIsNot(value = AdapterName.LOGMINER)
+public class AdaptiveMiningWindowTest {
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    private LogMinerMetrics metrics;
+    private AdaptiveMiningWindow miningWindow;
+
+    @Before
+    public void before() {
+        CdcSourceTaskContext taskContext = mock(CdcSourceTaskContext.class);
+        Mockito.when(taskContext.getConnectorName()).thenReturn("connector name");
+        Mockito.when(taskContext.getConnectorType()).thenReturn("connector type");
+
+        final OracleConnectorConfig connectorConfig = new OracleConnectorConfig(Configuration.create()
+                .with(OracleConnectorConfig.LOG_MINING_BATCH_SIZE_ADAPTIVE, true)
+                .build());
+        metrics = new LogMinerMetrics(taskContext, connectorConfig);
+        miningWindow = new AdaptiveMiningWindow(connectorConfig, metrics);
+    }
+
+    @Test
+    public void shouldShrinkWindowToTargetRows() {
+        assertThat(metrics.isBatchSizeAdaptive()).isTrue();
+        assertThat(miningWindow.getEndScn(0, 1_000_000)).isEqualTo(20_000);
+
+        // 5 rows per SCN, 5 microseconds per row
+        miningWindow.update(0, 20_000, 100_000, Duration.ofMillis(200), Duration.ofMillis(300));
+        assertThat(metrics.getObservedRowsPerScn()).isEqualTo(5.0);
+        assertThat(metrics.getObservedRowProcessingTimeInNanoseconds()).isEqualTo(5_000);
+        assertThat(metrics.getTargetBatchRows()).isEqualTo(10_000);
+        assertThat(metrics.getBatchSize()).isEqualTo(2_000);
+        assertThat(metrics.getMillisecondToSleepBetweenMiningQuery()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldLimitRowsToTargetDuration() {
+        assertThat(miningWindow.getEndScn(0, 1_000_000)).isEqualTo(20_000);
+
+        // 1 row per SCN, 1 millisecond per row
+        miningWindow.update(0, 20_000, 20_000, Duration.ofSeconds(5), Duration.ofSeconds(15));
+        assertThat(metrics.getTargetBatchRows()).isEqualTo(1_000);
+        assertThat(metrics.getBatchSize()).isEqualTo(1_000);
+    }
+
+    @Test
+    public void shouldGrowWindowGradually() {
+        assertThat(miningWindow.getEndScn(0, 1_000_000)).isEqualTo(20_000);
+
+        miningWindow.update(0, 20_000, 20, Duration.ofMillis(10), Duration.ofMillis(10));
+        assertThat(metrics.getBatchSize()).isEqualTo(40_000);
+
+        assertThat(miningWindow.getEndScn(20_000, 1_000_000)).isEqualTo(60_000);
+        miningWindow.update(20_000, 60_000, 0, Duration.ofMillis(10), Duration.ZERO);
+        assertThat(metrics.getBatchSize()).isEqualTo(80_000);
+
+        assertThat(miningWindow.getEndScn(60_000, 1_000_000)).isEqualTo(140_000);
+        miningWindow.update(60_000, 140_000, 0, Duration.ofMillis(10), Duration.ZERO);
+        assertThat(metrics.getBatchSize()).isEqualTo(100_000);
+    }
+
+    @Test
+    public void shouldSleepForRemainderOfTargetDurationWhenCaughtUp() {
+        assertThat(miningWindow.getEndScn(0, 500)).isEqualTo(500);
+
+        miningWindow.update(0, 500, 50, Duration.ofMillis(100), Duration.ofMillis(100));
+        assertThat(metrics.getMillisecondToSleepBetweenMiningQuery()).isEqualTo(800);
+        assertThat(metrics.getTargetBatchRows()).isEqualTo(250);
+        assertThat(metrics.getBatchSize()).isEqualTo(2_500);
+
+        assertThat(miningWindow.getEndScn(500, 100_000)).isEqualTo(3_000);
+        miningWindow.update(500, 3_000, 250, Duration.ofMillis(500), Duration.ofMillis(500));
+        assertThat(metrics.getMillisecondToSleepBetweenMiningQuery()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot.AdapterName;
+import io.debezium.relational.TableId;
+import io.debezium.util.HexConverter;
+
+@SkipWhenAdapterNameIsNot(value = AdapterName.LOGMINER)
+public class CanonicalValueCacheTest {
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    private final CanonicalValueCache cache = new CanonicalValueCache("ORCLPDB1", 2, 2, 2);
+
+    @Test
+    public void shouldReturnCanonicalTransactionId() {
+        final String transactionId = cache.transactionId(new byte[]{ 10, 11 });
+        assertThat(transactionId).isEqualTo(HexConverter.convertToHexString(new byte[]{ 10, 11 }));
+        assertThat(cache.transactionId(new byte[]{ 10, 11 })).isSameAs(transactionId);
+        assertThat(cache.transactionId(new byte[]{ 10, 12 })).isEqualTo(HexConverter.convertToHexString(new byte[]{ 10, 12 }));
+    }
+
+    @Test
+    public void shouldReturnCanonicalString() {
+        final String owner = cache.string(new String("DEBEZIUM"));
+        assertThat(cache.string(new String("DEBEZIUM"))).isSameAs(owner);
+        assertThat(cache.string(null)).isNull();
+    }
+
+    @Test
+    public void shouldReturnCanonicalTableId() {
+        final TableId tableId = cache.tableId("DEBEZIUM", "TEST");
+        assertThat(tableId).isEqualTo(new TableId("ORCLPDB1", "DEBEZIUM", "TEST"));
+        assertThat(cache.tableId("DEBEZIUM", "TEST")).isSameAs(tableId);
+        assertThat(cache.tableId("OTHER", "TEST")).isEqualTo(new TableId("ORCLPDB1", "OTHER", "TEST"));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedValues() {
+        final String first = cache.string(new String("FIRST"));
+        final String second = cache.string(new String("SECOND"));
+        // accessing the first value makes the second one the least recently used
+        assertThat(cache.string(new String("FIRST"))).isSameAs(first);
+        cache.string("THIRD");
+
+        assertThat(cache.string(new String("FIRST"))).isSameAs(first);
+        assertThat(cache.string(new String("SECOND"))).isNotSameAs(second);
+    }
+}
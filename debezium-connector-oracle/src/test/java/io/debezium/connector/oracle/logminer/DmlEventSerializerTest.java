@@ -0,0 +1,202 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot.AdapterName;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerColumnValue;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerColumnValueImpl;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntryImpl;
+import io.debezium.data.Envelope;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+
+@SkipWhenAdapterNameIsNot(value = AdapterName.LOGMINER)
+public class DmlEventSerializerTest {
+
+    private static final TableId TABLE_ID = new TableId("ORCLPDB1", "DEBEZIUM", "TEST");
+    private static final String TRANSACTION_ID = "transaction";
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    @Test
+    public void testRoundTripOfUpdate() throws Exception {
+        final Object unencodable = new Object();
+        final StringBuilder largeValue = new StringBuilder();
+        for (int i = 0; i < 70_000; i++) {
+            largeValue.append('x');
+        }
+
+        final LogMinerDmlEntry entry = new LogMinerDmlEntryImpl(Envelope.Operation.UPDATE,
+                Arrays.asList(value("ID", "1"), value("DATA", largeValue.toString()), value("AMOUNT", new BigDecimal("12.345")),
+                        value("OBJ", unencodable)),
+                Arrays.asList(value("ID", "1"), value("DATA", null), value("AMOUNT", 7L), value("OBJ", "été")));
+        entry.setScn(Scn.fromLong(42L));
+        entry.setSourceTime(new Timestamp(1_000L));
+
+        final DmlEventSerializer serializer = new DmlEventSerializer();
+        final DmlEventSerializer.Dictionary dictionary = serializer.dictionary();
+        final List<Object> references = new ArrayList<>();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            serializer.write(output, dictionary, TABLE_ID, entry, references);
+            serializer.write(output, dictionary, TABLE_ID, entry, references);
+        }
+        assertThat(references).hasSize(2);
+
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            for (int i = 0; i < 2; i++) {
+                final DmlEvent event = serializer.read(input, dictionary, TRANSACTION_ID, references);
+                assertThat(event.getTableId()).isEqualTo(TABLE_ID);
+
+                final LogMinerDmlEntry restored = event.getEntry();
+                assertThat(restored.getCommandType()).isEqualTo(Envelope.Operation.UPDATE);
+                assertThat(restored.getScn()).isEqualTo(Scn.fromLong(42L));
+                assertThat(restored.getSourceTime()).isEqualTo(new Timestamp(1_000L));
+                assertThat(restored.getTransactionId()).isEqualTo(TRANSACTION_ID);
+                assertThat(restored.getObjectOwner()).isEqualTo("DEBEZIUM");
+                assertThat(restored.getObjectName()).isEqualTo("TEST");
+                assertThat(restored.getNewValues()).isEqualTo(entry.getNewValues());
+                assertThat(restored.getOldValues()).isEqualTo(entry.getOldValues());
+                assertThat(restored.getNewValues().get(3).getColumnData()).isSameAs(unencodable);
+            }
+            assertThat(input.available()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void testRoundTripOfInsertWithoutOldValues() throws Exception {
+        final LogMinerDmlEntry entry = new LogMinerDmlEntryImpl(Envelope.Operation.CREATE,
+                Collections.singletonList(value("ID", "1")), Collections.emptyList());
+
+        final DmlEventSerializer serializer = new DmlEventSerializer();
+        final DmlEventSerializer.Dictionary dictionary = serializer.dictionary();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            serializer.write(output, dictionary, TABLE_ID, entry, Collections.emptyList());
+        }
+
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final LogMinerDmlEntry restored = serializer.read(input, dictionary, TRANSACTION_ID, Collections.emptyList()).getEntry();
+            assertThat(restored.getCommandType()).isEqualTo(Envelope.Operation.CREATE);
+            assertThat(restored.getScn()).isNull();
+            assertThat(restored.getSourceTime()).isNull();
+            assertThat(restored.getNewValues()).isEqualTo(entry.getNewValues());
+            assertThat(restored.getOldValues()).isEmpty();
+        }
+    }
+
+    @Test
+    public void testRoundTripOfValuesByPosition() throws Exception {
+        final Table table = Table.editor()
+                .tableId(TABLE_ID)
+                .addColumn(Column.editor().name("ID").type("NUMBER").jdbcType(Types.NUMERIC).create())
+                .addColumn(Column.editor().name("DATA").type("VARCHAR2").jdbcType(Types.VARCHAR).create())
+                .addColumn(Column.editor().name("AMOUNT").type("NUMBER").jdbcType(Types.NUMERIC).create())
+                .create();
+        final LogMinerDmlEntry entry = new LogMinerDmlEntryImpl(Envelope.Operation.DELETE, table, null,
+                new LogMinerColumnValue[]{ value("ID", "1"), null, value("AMOUNT", "7") });
+
+        final DmlEventSerializer serializer = new DmlEventSerializer();
+        final DmlEventSerializer.Dictionary dictionary = serializer.dictionary();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            serializer.write(output, dictionary, TABLE_ID, entry, Collections.emptyList());
+        }
+
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final LogMinerDmlEntry restored = serializer.read(input, dictionary, TRANSACTION_ID, Collections.emptyList()).getEntry();
+            assertThat(restored.getCommandType()).isEqualTo(Envelope.Operation.DELETE);
+            assertThat(restored.getTable()).isSameAs(table);
+            assertThat(restored.getNewValuesByPosition()).isNull();
+            assertThat(restored.getNewValues()).isEmpty();
+            assertThat(restored.getOldValuesByPosition()).hasSize(3);
+            assertThat(restored.getOldValuesByPosition()[0].getColumnData()).isEqualTo("1");
+            assertThat(restored.getOldValuesByPosition()[1]).isNull();
+            assertThat(restored.getOldValuesByPosition()[2].getColumnName()).isEqualTo("AMOUNT");
+            assertThat(restored.getOldValuesByPosition()[2].getColumnData()).isEqualTo("7");
+            assertThat(restored.getOldValues()).isEqualTo(entry.getOldValues());
+        }
+    }
+
+    @Test
+    public void testRoundTripOfDeferredEvent() throws Exception {
+        final DmlEventSerializer serializer = new DmlEventSerializer();
+        final DmlEventSerializer.Dictionary dictionary = serializer.dictionary();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            serializer.writeDeferred(output, dictionary, TABLE_ID, Scn.fromLong(42L), new Timestamp(1_000L), "insert into \"DEBEZIUM\".\"TEST\"");
+        }
+
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final DmlEvent event = serializer.read(input, dictionary, TRANSACTION_ID, Collections.emptyList());
+            assertThat(event.isDeferred()).isTrue();
+            assertThat(event.getEntry()).isNull();
+            assertThat(event.getTableId()).isEqualTo(TABLE_ID);
+            assertThat(event.getScn()).isEqualTo(Scn.fromLong(42L));
+            assertThat(event.getChangeTime()).isEqualTo(new Timestamp(1_000L));
+            assertThat(event.getRedoSql()).isEqualTo("insert into \"DEBEZIUM\".\"TEST\"");
+        }
+    }
+
+    @Test
+    public void testNewDictionaryOnceTableVersionIsSuperseded() throws Exception {
+        final Table table = Table.editor()
+                .tableId(TABLE_ID)
+                .addColumn(Column.editor().name("ID").type("NUMBER").jdbcType(Types.NUMERIC).create())
+                .create();
+        final Table alteredTable = table.edit()
+                .addColumn(Column.editor().name("DATA").type("VARCHAR2").jdbcType(Types.VARCHAR).create())
+                .create();
+
+        final DmlEventSerializer serializer = new DmlEventSerializer();
+        final DmlEventSerializer.Dictionary dictionary = serializer.dictionary();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            serializer.write(output, dictionary, TABLE_ID, new LogMinerDmlEntryImpl(Envelope.Operation.DELETE, table, null,
+                    new LogMinerColumnValue[]{ value("ID", "1") }), Collections.emptyList());
+            assertThat(serializer.dictionary()).isSameAs(dictionary);
+
+            serializer.write(output, dictionary, TABLE_ID, new LogMinerDmlEntryImpl(Envelope.Operation.DELETE, alteredTable, null,
+                    new LogMinerColumnValue[]{ value("ID", "2"), value("DATA", "x") }), Collections.emptyList());
+        }
+        assertThat(serializer.dictionary()).isNotSameAs(dictionary);
+
+        // the events of the open transaction are still read with its own dictionary
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(serializer.read(input, dictionary, TRANSACTION_ID, Collections.emptyList()).getEntry().getTable()).isSameAs(table);
+            assertThat(serializer.read(input, dictionary, TRANSACTION_ID, Collections.emptyList()).getEntry().getTable()).isSameAs(alteredTable);
+        }
+    }
+
+    private static LogMinerColumnValue value(String columnName, Object data) {
+        final LogMinerColumnValue value = new LogMinerColumnValueImpl(columnName, 0);
+        value.setColumnData(data);
+        return value;
+    }
+}
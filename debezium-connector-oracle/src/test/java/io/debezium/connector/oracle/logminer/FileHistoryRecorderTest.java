@@ -0,0 +1,127 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mockito;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.common.CdcSourceTaskContext;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot.AdapterName;
+import io.debezium.util.Testing;
+
+@SkipWhenAdapterNameIsNot(value = AdapterName.LOGMINER)
+public class FileHistoryRecorderTest {
+
+    private static final Instant START = Instant.parse("2021-01-01T00:00:00Z");
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    private Path directory;
+    private OracleConnectorConfig connectorConfig;
+    private LogMinerMetrics metrics;
+
+    @Before
+    public void before() throws IOException {
+        directory = Files.createTempDirectory("logminer-history");
+
+        CdcSourceTaskContext taskContext = mock(CdcSourceTaskContext.class);
+        Mockito.when(taskContext.getConnectorName()).thenReturn("connector name");
+        Mockito.when(taskContext.getConnectorType()).thenReturn("connector type");
+
+        connectorConfig = new OracleConnectorConfig(Configuration.create()
+                .with(OracleConnectorConfig.SERVER_NAME, "server1")
+                .with(OracleConnectorConfig.LOG_MINING_HISTORY_RECORDER_FILE_DIRECTORY, directory.toString())
+                .with(OracleConnectorConfig.LOG_MINING_HISTORY_RECORDER_FILE_SEGMENT_SIZE, 1024)
+                .with(OracleConnectorConfig.LOG_MINING_HISTORY_RECORDER_BATCH_SIZE, 3)
+                .build());
+        metrics = new LogMinerMetrics(taskContext, connectorConfig);
+    }
+
+    @After
+    public void after() {
+        Testing.Files.delete(directory);
+    }
+
+    @Test
+    public void shouldReplayRecordedHistory() throws Exception {
+        final List<HistoryEntry> recorded = new ArrayList<>();
+        try (FileHistoryRecorder recorder = new FileHistoryRecorder()) {
+            recorder.configure(connectorConfig);
+            recorder.prepare(metrics, null, 0);
+            for (int i = 0; i < 50; i++) {
+                final HistoryEntry entry = entry(i);
+                recorded.add(entry);
+                recorder.record(entry.getScn(), entry.getTableName(), entry.getSegOwner(), entry.getOperationCode(),
+                        entry.getChangeTime(), entry.getTransactionId(), entry.getCsf(), entry.getRedoSql());
+            }
+            recorder.flush();
+        }
+        assertThat(metrics.getHistoryRecordsWritten()).isEqualTo(50);
+        assertThat(metrics.getHistoryRecordsDropped()).isEqualTo(0);
+        assertThat(HistorySegment.list(directory).size()).isGreaterThan(1);
+
+        final FileHistoryReader reader = new FileHistoryReader(directory);
+
+        final List<HistoryEntry> byScn = new ArrayList<>();
+        reader.readScnRange(Scn.fromLong(1010L), Scn.fromLong(1019L), byScn::add);
+        assertThat(byScn).isEqualTo(recorded.subList(10, 20));
+
+        final List<HistoryEntry> byTime = new ArrayList<>();
+        reader.readTimeRange(START.plusSeconds(40).plusNanos(1001), START.plusSeconds(44).plusNanos(1000), byTime::add);
+        assertThat(byTime).isEqualTo(recorded.subList(41, 45));
+
+        final List<HistoryEntry> byTransaction = new ArrayList<>();
+        reader.readTransaction("tx3", byTransaction::add);
+        assertThat(byTransaction).hasSize(10);
+        for (HistoryEntry entry : byTransaction) {
+            assertThat(entry.getTransactionId()).isEqualTo("tx3");
+        }
+    }
+
+    @Test
+    public void shouldDeleteSegmentsOutsideOfRetention() throws Exception {
+        final long now = System.currentTimeMillis();
+        HistorySegment.create(directory, 0, 1024, now - Duration.ofHours(3).toMillis()).close();
+        HistorySegment.create(directory, 1, 1024, now - Duration.ofMinutes(30).toMillis()).close();
+
+        try (FileHistoryRecorder recorder = new FileHistoryRecorder()) {
+            recorder.configure(connectorConfig);
+            recorder.prepare(metrics, null, 2);
+        }
+
+        final List<Path> segments = HistorySegment.list(directory);
+        assertThat(segments).hasSize(2);
+        assertThat(HistorySegment.sequenceOf(segments.get(0))).isEqualTo(1);
+        assertThat(HistorySegment.sequenceOf(segments.get(1))).isEqualTo(2);
+    }
+
+    private static HistoryEntry entry(int i) {
+        final Timestamp changeTime = Timestamp.from(START.plusSeconds(i).plusNanos(1000));
+        final String redoSql = i % 5 == 0 ? null : "insert into \"DEBEZIUM\".\"TEST\"(\"ID\") values ('" + i + "');";
+        return new HistoryEntry(Scn.fromLong(1000L + i), "TEST", "DEBEZIUM", RowMapper.INSERT, changeTime, "tx" + (i % 5), 0, redoSql);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.connector.oracle.OracleConnectorConfig.LogMiningHistoryOverflowPolicy;
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot.AdapterName;
+
+@SkipWhenAdapterNameIsNot(value = AdapterName.LOGMINER)
+public class HistoryBufferTest {
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    @Test
+    public void shouldDropNewestElementWhenFull() {
+        final HistoryBuffer<Integer> buffer = new HistoryBuffer<>(2, LogMiningHistoryOverflowPolicy.DROP_NEWEST, Duration.ZERO);
+        assertThat(buffer.add(1)).isEqualTo(0);
+        assertThat(buffer.add(2)).isEqualTo(0);
+        assertThat(buffer.add(3)).isEqualTo(1);
+        assertThat(buffer.size()).isEqualTo(2);
+
+        final List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained, 10)).isEqualTo(2);
+        assertThat(drained).containsExactly(1, 2);
+        assertThat(buffer.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldDropOldestElementWhenFull() {
+        final HistoryBuffer<Integer> buffer = new HistoryBuffer<>(2, LogMiningHistoryOverflowPolicy.DROP_OLDEST, Duration.ZERO);
+        assertThat(buffer.add(1)).isEqualTo(0);
+        assertThat(buffer.add(2)).isEqualTo(0);
+        assertThat(buffer.add(3)).isEqualTo(1);
+        assertThat(buffer.size()).isEqualTo(2);
+
+        final List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained, 10)).isEqualTo(2);
+        assertThat(drained).containsExactly(2, 3);
+    }
+
+    @Test
+    public void shouldDrainInBatches() {
+        final HistoryBuffer<Integer> buffer = new HistoryBuffer<>(10, LogMiningHistoryOverflowPolicy.DROP_NEWEST, Duration.ZERO);
+        for (int i = 0; i < 5; i++) {
+            buffer.add(i);
+        }
+
+        final List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained, 3)).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2);
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(buffer.add(5)).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldDropNewestElementAfterWaitingInVain() {
+        final HistoryBuffer<Integer> buffer = new HistoryBuffer<>(1, LogMiningHistoryOverflowPolicy.WAIT, Duration.ofMillis(50));
+        buffer.add(1);
+
+        final long start = System.nanoTime();
+        assertThat(buffer.add(2)).isEqualTo(1);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(50);
+        assertThat(buffer.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldAddElementOnceDrainedWhileWaiting() throws Exception {
+        final HistoryBuffer<Integer> buffer = new HistoryBuffer<>(1, LogMiningHistoryOverflowPolicy.WAIT, Duration.ofSeconds(30));
+        buffer.add(1);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CountDownLatch waiting = new CountDownLatch(1);
+            final Future<Integer> dropped = executor.submit(() -> {
+                waiting.countDown();
+                return buffer.add(2);
+            });
+            waiting.await();
+
+            final List<Integer> drained = new ArrayList<>();
+            while (drained.isEmpty()) {
+                buffer.drain(drained, 1);
+            }
+            assertThat(dropped.get(30, TimeUnit.SECONDS)).isEqualTo(0);
+            assertThat(buffer.drain(drained, 1)).isEqualTo(1);
+            assertThat(drained).containsExactly(1, 2);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldNeverExceedCapacityWithConcurrentProducers() throws Exception {
+        final int capacity = 100;
+        final HistoryBuffer<Integer> buffer = new HistoryBuffer<>(capacity, LogMiningHistoryOverflowPolicy.DROP_OLDEST, Duration.ZERO);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Integer>> producers = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                producers.add(executor.submit(() -> {
+                    int dropped = 0;
+                    for (int i = 0; i < 10_000; i++) {
+                        dropped += buffer.add(i);
+                        assertThat(buffer.size()).isLessThanOrEqualTo(capacity);
+                    }
+                    return dropped;
+                }));
+            }
+            int dropped = 0;
+            for (Future<Integer> producer : producers) {
+                dropped += producer.get(30, TimeUnit.SECONDS);
+            }
+
+            final List<Integer> drained = new ArrayList<>();
+            buffer.drain(drained, Integer.MAX_VALUE);
+            assertThat(drained.size()).isEqualTo(capacity);
+            assertThat(dropped).isEqualTo(4 * 10_000 - capacity);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.sql.Types;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.debezium.connector.oracle.logminer.parser.LazyLogMinerDmlParser;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlParser;
+import io.debezium.connector.oracle.logminer.valueholder.LazyLogMinerColumnValue;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerColumnValue;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
+
+/**
+ * Verifies that the {@link LazyLogMinerDmlParser} produces the same entries as the {@link LogMinerDmlParser}.
+ */
+public class LazyLogMinerDmlParserTest {
+
+    private LogMinerDmlParser fastDmlParser;
+    private LazyLogMinerDmlParser lazyDmlParser;
+
+    @Before
+    public void beforeEach() throws Exception {
+        fastDmlParser = new LogMinerDmlParser();
+        lazyDmlParser = new LazyLogMinerDmlParser();
+    }
+
+    @Test
+    public void testParsingInsert() throws Exception {
+        assertSameEntry("insert into \"DEBEZIUM\".\"TEST\"(\"ID\",\"NAME\",\"TS\",\"UT\",\"DATE\",\"UT2\",\"C1\",\"C2\") values " +
+                "('1','Acme',TO_TIMESTAMP('2020-02-01 00:00:00.'),Unsupported Type," +
+                "TO_DATE('2020-02-01 00:00:00', 'YYYY-MM-DD HH24:MI:SS'),Unsupported Type,NULL,NULL);");
+    }
+
+    @Test
+    public void testParsingUpdate() throws Exception {
+        assertSameEntry("update \"DEBEZIUM\".\"TEST\" " +
+                "set \"NAME\" = 'Bob', \"TS\" = TO_TIMESTAMP('2020-02-02 00:00:00.'), \"UT\" = Unsupported Type, " +
+                "\"DATE\" = TO_DATE('2020-02-02 00:00:00', 'YYYY-MM-DD HH24:MI:SS'), \"UT2\" = Unsupported Type, " +
+                "\"C1\" = NULL where \"ID\" = '1' and \"NAME\" = 'Acme' and \"TS\" = TO_TIMESTAMP('2020-02-01 00:00:00.') and " +
+                "\"UT\" = Unsupported Type and \"DATE\" = TO_DATE('2020-02-01 00:00:00', 'YYYY-MM-DD HH24:MI:SS') and " +
+                "\"UT2\" = Unsupported Type and \"C1\" = NULL and \"IS\" IS NULL and \"IS2\" IS NULL;");
+    }
+
+    @Test
+    public void testParsingDelete() throws Exception {
+        assertSameEntry("delete from \"DEBEZIUM\".\"TEST\" " +
+                "where \"ID\" = '1' and \"NAME\" = 'Acme' and \"TS\" = TO_TIMESTAMP('2020-02-01 00:00:00.') and " +
+                "\"UT\" = Unsupported Type and \"DATE\" = TO_DATE('2020-02-01 00:00:00', 'YYYY-MM-DD HH24:MI:SS') and " +
+                "\"IS\" IS NULL and \"IS2\" IS NULL;");
+    }
+
+    @Test
+    public void testParsingQuotedAndEscapedValues() throws Exception {
+        assertSameEntry("insert into \"DEBEZIUM\".\"TEST\"(\"ID\",\"DATA\",\"PATH\",\"TEXT\") values " +
+                "('2','NULL','C:\\\\\\\\temp','it''s');");
+        assertSameEntry("update \"DEBEZIUM\".\"TEST\" set \"DATA\" = 'NULL', \"PATH\" = 'C:\\\\\\\\tmp' " +
+                "where \"ID\" = '2' and \"DATA\" = NULL and \"PATH\" = 'C:\\\\\\\\temp';");
+    }
+
+    @Test
+    public void testValuesAreOnlyCopiedWhenRequested() throws Exception {
+        final LogMinerDmlEntry entry = lazyDmlParser.parse("insert into \"DEBEZIUM\".\"TEST\"(\"ID\",\"PATH\") values " +
+                "('1','C:\\\\\\\\temp');", null, null, null);
+
+        final LazyLogMinerColumnValue id = (LazyLogMinerColumnValue) entry.getNewValues().get(0);
+        assertThat(id.isMaterialized()).isFalse();
+        assertThat(id.isVerbatim()).isTrue();
+        assertThat(id.getColumnData()).isEqualTo("1");
+        assertThat(id.isMaterialized()).isTrue();
+
+        final LazyLogMinerColumnValue path = (LazyLogMinerColumnValue) entry.getNewValues().get(1);
+        assertThat(path.isVerbatim()).isFalse();
+        assertThat(path.getColumnData()).isEqualTo("C:\\\\temp");
+    }
+
+    @Test
+    public void testParsingByColumnPosition() throws Exception {
+        final TableId tableId = new TableId("ORCLPDB1", "DEBEZIUM", "TEST");
+        final TableEditor editor = Table.editor().tableId(tableId);
+        for (String name : new String[]{ "PATH", "DATA", "ID" }) {
+            editor.addColumn(Column.editor().name(name).type("VARCHAR2").jdbcType(Types.VARCHAR).create());
+        }
+        final Tables tables = new Tables();
+        tables.overwriteTable(editor.create());
+
+        final String[] statements = {
+                "insert into \"DEBEZIUM\".\"TEST\"(\"ID\",\"DATA\",\"PATH\") values ('2','NULL','C:\\\\\\\\temp');",
+                "update \"DEBEZIUM\".\"TEST\" set \"DATA\" = 'x' where \"ID\" = '2' and \"DATA\" = NULL and \"PATH\" IS NULL;",
+                "delete from \"DEBEZIUM\".\"TEST\" where \"ID\" = '2' and \"DATA\" = 'x' and \"PATH\" = 'C:\\\\\\\\temp';"
+        };
+        for (String sql : statements) {
+            final LogMinerDmlEntry expected = fastDmlParser.parse(sql, tables, tableId, null);
+            final LogMinerDmlEntry actual = lazyDmlParser.parse(sql, tables, tableId, null);
+            assertThat(actual.getTable()).isSameAs(expected.getTable());
+            assertSameValues(actual.getOldValues(), expected.getOldValues());
+            assertSameValues(actual.getNewValues(), expected.getNewValues());
+        }
+    }
+
+    private void assertSameEntry(String sql) {
+        final LogMinerDmlEntry expected = fastDmlParser.parse(sql, null, null, null);
+        final LogMinerDmlEntry actual = lazyDmlParser.parse(sql, null, null, null);
+        assertThat(actual.getCommandType()).isEqualTo(expected.getCommandType());
+        assertSameValues(actual.getOldValues(), expected.getOldValues());
+        assertSameValues(actual.getNewValues(), expected.getNewValues());
+    }
+
+    private static void assertSameValues(List<LogMinerColumnValue> actual, List<LogMinerColumnValue> expected) {
+        assertThat(actual).hasSize(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).getColumnName()).isEqualTo(expected.get(i).getColumnName());
+            assertThat(actual.get(i).getColumnData()).isEqualTo(expected.get(i).getColumnData());
+        }
+    }
+}
@@ -7,13 +7,21 @@ package io.debezium.connector.oracle.logminer;
 
 import static org.fest.assertions.Assertions.assertThat;
 
+import java.sql.Types;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import io.debezium.connector.oracle.logminer.parser.LogMinerDmlParser;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerColumnValue;
 import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
 import io.debezium.data.Envelope.Operation;
 import io.debezium.doc.FixFor;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import io.debezium.relational.Tables;
 
 /**
  * @author Chris Cranford
@@ -133,4 +141,38 @@ public class LogMinerDmlParserTest {
         assertThat(entry.getOldValues().get(6).getColumnData()).isNull();
         assertThat(entry.getNewValues()).isEmpty();
     }
+
+    @Test
+    public void testParsingUpdateByColumnPosition() throws Exception {
+        final TableId tableId = new TableId(CATALOG_NAME, SCHEMA_NAME, "TEST");
+        final TableEditor editor = Table.editor().tableId(tableId);
+        for (String name : new String[]{ "NAME", "ID", "C1", "IS" }) {
+            editor.addColumn(Column.editor().name(name).type("VARCHAR2").jdbcType(Types.VARCHAR).create());
+        }
+        final Tables tables = new Tables();
+        // the tables keep a copy of the table, which is the instance the parsed entry refers to
+        tables.overwriteTable(editor.create());
+
+        String sql = "update \"DEBEZIUM\".\"TEST\" set \"NAME\" = 'Bob', \"C1\" = NULL " +
+                "where \"ID\" = '1' and \"NAME\" = 'Acme' and \"C1\" = 'x' and \"IS\" IS NULL;";
+
+        LogMinerDmlEntry entry = fastDmlParser.parse(sql, tables, tableId, null);
+        assertThat(entry.getCommandType()).isEqualTo(Operation.UPDATE);
+        assertThat(entry.getTable()).isSameAs(tables.forTable(tableId));
+
+        LogMinerColumnValue[] oldValues = entry.getOldValuesByPosition();
+        assertThat(oldValues).hasSize(4);
+        assertThat(oldValues[0].getColumnName()).isEqualTo("NAME");
+        assertThat(oldValues[0].getColumnData()).isEqualTo("Acme");
+        assertThat(oldValues[1].getColumnData()).isEqualTo("1");
+        assertThat(oldValues[2].getColumnData()).isEqualTo("x");
+        assertThat(oldValues[3].getColumnData()).isNull();
+
+        LogMinerColumnValue[] newValues = entry.getNewValuesByPosition();
+        assertThat(newValues).hasSize(4);
+        assertThat(newValues[0].getColumnData()).isEqualTo("Bob");
+        assertThat(newValues[1].getColumnData()).isEqualTo("1");
+        assertThat(newValues[2].getColumnData()).isNull();
+        assertThat(newValues[3].getColumnData()).isNull();
+    }
 }
@@ -139,4 +139,49 @@ public class LogMinerMetricsTest {
         LogMinerMetrics metrics = new LogMinerMetrics(taskContext, connectorConfig);
         assertThat(metrics.getHoursToKeepTransactionInBuffer()).isEqualTo(3);
     }
+
+    @Test
+    public void testMiningSessionMetrics() {
+        CdcSourceTaskContext taskContext = getSourceTaskContext();
+        final OracleConnectorConfig connectorConfig = new OracleConnectorConfig(Configuration.create().build());
+        LogMinerMetrics metrics = new LogMinerMetrics(taskContext, connectorConfig);
+
+        metrics.addCurrentMiningSessionStart(Duration.ofMillis(100));
+        metrics.addCurrentMiningSessionStart(Duration.ofMillis(300));
+        assertThat(metrics.getMiningSessionStartCount()).isEqualTo(2);
+        assertThat(metrics.getTotalMiningSessionStartTimeInMilliseconds()).isEqualTo(400);
+        assertThat(metrics.getMaxMiningSessionStartTimeInMilliseconds()).isEqualTo(300);
+
+        metrics.incrementMiningSessionRestartCount();
+        metrics.incrementMiningSessionRestartCount();
+        metrics.incrementMiningSessionPgaRestartCount();
+        metrics.setMiningSessionPgaMemory(1024L);
+        assertThat(metrics.getMiningSessionRestartCount()).isEqualTo(2);
+        assertThat(metrics.getMiningSessionPgaRestartCount()).isEqualTo(1);
+        assertThat(metrics.getMiningSessionPgaMemoryInBytes()).isEqualTo(1024L);
+
+        metrics.reset();
+        assertThat(metrics.getMiningSessionStartCount()).isEqualTo(0);
+        assertThat(metrics.getMiningSessionRestartCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testRacFlushMetrics() {
+        CdcSourceTaskContext taskContext = getSourceTaskContext();
+        final OracleConnectorConfig connectorConfig = new OracleConnectorConfig(Configuration.create().build());
+        LogMinerMetrics metrics = new LogMinerMetrics(taskContext, connectorConfig);
+
+        metrics.recordRacFlushLatency("NODE1", Duration.ofMillis(1));
+        metrics.recordRacFlushLatency("NODE1", Duration.ofMillis(7));
+        metrics.recordRacFlushLatency("NODE2", Duration.ofSeconds(2));
+        metrics.incrementRacFlushFailureCount();
+        assertThat(metrics.getRacFlushFailureCount()).isEqualTo(1);
+        assertThat(metrics.getRacFlushLatencyHistograms()).containsOnly(
+                "NODE1 | <=1ms=1, <=5ms=0, <=10ms=1, <=50ms=0, <=100ms=0, <=500ms=0, <=1000ms=0, >1000ms=0",
+                "NODE2 | <=1ms=0, <=5ms=0, <=10ms=0, <=50ms=0, <=100ms=0, <=500ms=0, <=1000ms=0, >1000ms=1");
+
+        metrics.reset();
+        assertThat(metrics.getRacFlushFailureCount()).isEqualTo(0);
+        assertThat(metrics.getRacFlushLatencyHistograms()).isEmpty();
+    }
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnector;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleConnectorConfig.LogMiningFlushStrategy;
+import io.debezium.connector.oracle.OracleDatabaseSchema;
+import io.debezium.connector.oracle.OracleOffsetContext;
+import io.debezium.connector.oracle.OracleTaskContext;
+import io.debezium.connector.oracle.OracleTopicSelector;
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot.AdapterName;
+import io.debezium.connector.oracle.xstream.LcrPosition;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.ErrorHandler;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.txmetadata.TransactionContext;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.MemoryDatabaseHistory;
+import io.debezium.util.Clock;
+import io.debezium.util.SchemaNameAdjuster;
+
+@SkipWhenAdapterNameIsNot(value = AdapterName.LOGMINER)
+public class LogMinerQueryResultProcessorTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogMinerQueryResultProcessorTest.class);
+
+    private static final TableId TABLE_ID = new TableId("ORCLPDB1", "DEBEZIUM", "TEST");
+    private static final Timestamp TIMESTAMP = new Timestamp(1000L);
+    private static final byte[] XID = { 1, 2 };
+    private static final byte[] FLUSH_XID = { 3, 4 };
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    private OracleConnectorConfig connectorConfig;
+    private OracleOffsetContext offsetContext;
+    private EventDispatcher<TableId> dispatcher;
+    private TransactionalBuffer transactionalBuffer;
+    private LogMinerQueryResultProcessor processor;
+    private List<Object[]> redo;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void before() {
+        connectorConfig = new OracleConnectorConfig(Configuration.create()
+                .with(OracleConnectorConfig.SERVER_NAME, "server1")
+                .with(OracleConnectorConfig.PDB_NAME, "ORCLPDB1")
+                .with(OracleConnectorConfig.DATABASE_HISTORY, MemoryDatabaseHistory.class.getName())
+                .build());
+        OracleDatabaseSchema schema = new OracleDatabaseSchema(connectorConfig, SchemaNameAdjuster.create(LOGGER),
+                OracleTopicSelector.defaultSelector(connectorConfig), null);
+        schema.getTables().overwriteTable(Table.editor()
+                .tableId(TABLE_ID)
+                .addColumn(Column.editor().name("ID").type("NUMBER").jdbcType(Types.NUMERIC).create())
+                .setPrimaryKeyNames("ID")
+                .create());
+
+        ChangeEventQueue<DataChangeEvent> queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                .pollInterval(Duration.of(100, ChronoUnit.MILLIS))
+                .maxBatchSize(10)
+                .maxQueueSize(100)
+                .build();
+        OracleTaskContext taskContext = mock(OracleTaskContext.class);
+        when(taskContext.getConnectorName()).thenReturn("connector name");
+        when(taskContext.getConnectorType()).thenReturn("connector type");
+
+        transactionalBuffer = new TransactionalBuffer(connectorConfig, schema, Clock.system(), taskContext,
+                new ErrorHandler(OracleConnector.class, "server1", queue));
+        offsetContext = new OracleOffsetContext(connectorConfig, 0L, null, (LcrPosition) null, false, true, new TransactionContext());
+        dispatcher = mock(EventDispatcher.class);
+        processor = new LogMinerQueryResultProcessor(() -> true, null, connectorConfig, mock(LogMinerMetrics.class), transactionalBuffer,
+                offsetContext, schema, dispatcher, mock(HistoryRecorder.class));
+        redo = new ArrayList<>();
+    }
+
+    @After
+    public void after() {
+        processor.close();
+        transactionalBuffer.close();
+    }
+
+    @Test
+    public void shouldCommitTransactionWhoseCommitIsAtTheEndScnOfTheWindow() throws Exception {
+        redo.add(row(10L, RowMapper.INSERT, "insert into \"DEBEZIUM\".\"TEST\"(\"ID\") values ('1');"));
+        redo.add(row(20L, RowMapper.COMMIT, null));
+
+        assertThat(processor.processResult(mine(0L, 20L))).isEqualTo(1);
+        assertThat(transactionalBuffer.isEmpty()).isTrue();
+        verify(dispatcher, times(1)).dispatchDataChangeEvent(any(TableId.class), any(ChangeRecordEmitter.class));
+        assertThat(offsetContext.getCommitScn()).isEqualTo(20L);
+
+        // the next window starts after the end SCN of the previous one
+        processor.processResult(mine(20L, 40L));
+        verify(dispatcher, times(1)).dispatchDataChangeEvent(any(TableId.class), any(ChangeRecordEmitter.class));
+    }
+
+    @Test
+    public void shouldReportResultWithOnlyTheFlushCommitAsEmpty() throws Exception {
+        redo.add(row(10L, RowMapper.INSERT, "insert into \"DEBEZIUM\".\"TEST\"(\"ID\") values ('1');"));
+        redo.add(row(20L, RowMapper.COMMIT, null));
+        redo.add(row(30L, RowMapper.COMMIT, null, FLUSH_XID));
+
+        processor.processResult(mine(0L, 10L));
+        assertThat(processor.isLastResultEmpty()).isFalse();
+
+        processor.processResult(mine(10L, 20L));
+        assertThat(processor.isLastResultEmpty()).isFalse();
+
+        processor.processResult(mine(20L, 30L));
+        assertThat(processor.isLastResultEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldSkipFlushAfterWindowWithOnlyTheFlushCommit() throws Exception {
+        // the flush commits at SCN 101, after which the current SCN of an idle database stays at 102
+        final OracleConnection connection = mock(OracleConnection.class);
+        final Connection conn = mock(Connection.class);
+        final CallableStatement flushStatement = mock(CallableStatement.class);
+        final Statement statement = mock(Statement.class);
+        final ResultSet currentScn = mock(ResultSet.class);
+        when(connection.connection(false)).thenReturn(conn);
+        when(conn.prepareCall(SqlUtils.FLUSH_LOG_WRITER)).thenReturn(flushStatement);
+        when(flushStatement.getLong(1)).thenReturn(100L);
+        when(flushStatement.getLong(2)).thenReturn(102L);
+        when(conn.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(currentScn);
+        when(currentScn.next()).thenReturn(true);
+        when(currentScn.getLong(1)).thenReturn(102L);
+        final LogWriterFlusher flusher = new LogWriterFlusher(connection, null, LogMiningFlushStrategy.ADAPTIVE, mock(LogMinerMetrics.class));
+        redo.add(row(101L, RowMapper.COMMIT, null, FLUSH_XID));
+
+        final long endScn = flusher.flush(false);
+        processor.processResult(mine(90L, 102L));
+        flusher.flush(processor.isLastResultEmpty());
+
+        assertThat(endScn).isEqualTo(100L);
+        verify(flushStatement, times(1)).execute();
+    }
+
+    /**
+     * Returns the rows the mining query selects for the given window, which excludes its start and includes its end SCN.
+     */
+    private ResultSet mine(long startScn, long endScn) throws SQLException {
+        assertThat(SqlUtils.logMinerContentsQuery(connectorConfig, "USER")).contains("WHERE SCN > ? AND SCN <= ? ");
+        final List<Object[]> rows = new ArrayList<>();
+        for (Object[] row : redo) {
+            final long scn = ((BigDecimal) row[0]).longValue();
+            if (scn > startScn && scn <= endScn) {
+                rows.add(row);
+            }
+        }
+        return resultSet(rows);
+    }
+
+    private static Object[] row(long scn, int operationCode, String redoSql) {
+        return row(scn, operationCode, redoSql, XID);
+    }
+
+    private static Object[] row(long scn, int operationCode, String redoSql, byte[] transactionId) {
+        return new Object[]{ BigDecimal.valueOf(scn), redoSql, operationCode, TIMESTAMP, transactionId, 0,
+                redoSql != null ? TABLE_ID.table() : null, redoSql != null ? TABLE_ID.schema() : null, null, "USER" };
+    }
+
+    private static ResultSet resultSet(List<Object[]> rows) throws SQLException {
+        final ResultSet rs = mock(ResultSet.class);
+        final int[] current = { -1 };
+        when(rs.next()).thenAnswer(it -> ++current[0] < rows.size());
+        when(rs.getBigDecimal(anyInt())).thenAnswer(it -> rows.get(current[0])[(Integer) it.getArguments()[0] - 1]);
+        when(rs.getString(anyInt())).thenAnswer(it -> rows.get(current[0])[(Integer) it.getArguments()[0] - 1]);
+        when(rs.getInt(anyInt())).thenAnswer(it -> rows.get(current[0])[(Integer) it.getArguments()[0] - 1]);
+        when(rs.getTimestamp(anyInt())).thenAnswer(it -> rows.get(current[0])[(Integer) it.getArguments()[0] - 1]);
+        when(rs.getBytes(anyInt())).thenAnswer(it -> rows.get(current[0])[(Integer) it.getArguments()[0] - 1]);
+        return rs;
+    }
+}
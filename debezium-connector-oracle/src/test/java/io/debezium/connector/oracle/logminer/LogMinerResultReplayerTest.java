@@ -0,0 +1,149 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot.AdapterName;
+import io.debezium.util.HexConverter;
+
+@SkipWhenAdapterNameIsNot(value = AdapterName.LOGMINER)
+public class LogMinerResultReplayerTest {
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    private Path captureFile;
+    private TransactionalBufferMetrics metrics;
+
+    @Before
+    public void before() throws IOException {
+        captureFile = Files.createTempFile("logminer-capture", ".bin");
+        metrics = mock(TransactionalBufferMetrics.class);
+    }
+
+    @After
+    public void after() throws IOException {
+        Files.deleteIfExists(captureFile);
+    }
+
+    @Test
+    public void shouldReplayRecordedResultSets() throws Exception {
+        final Timestamp changeTime = new Timestamp(1000L);
+        changeTime.setNanos(123456789);
+        final byte[] txId = new byte[]{ 1, 2, 3 };
+
+        final ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getBigDecimal(1)).thenReturn(new BigDecimal("1001"), new BigDecimal("1002"));
+        when(rs.getString(2)).thenReturn("insert into \"DEBEZIUM\".\"TEST\"(\"ID\") values ('1');", "commit");
+        when(rs.getInt(3)).thenReturn(RowMapper.INSERT, RowMapper.COMMIT);
+        when(rs.getTimestamp(4)).thenReturn(changeTime);
+        when(rs.getBytes(5)).thenReturn(txId);
+        when(rs.getInt(6)).thenReturn(0);
+        when(rs.getString(7)).thenReturn("TEST", (String) null);
+        when(rs.getString(8)).thenReturn("DEBEZIUM", (String) null);
+        when(rs.getString(9)).thenReturn("INSERT", "COMMIT");
+        when(rs.getString(10)).thenReturn("DEBEZIUM");
+
+        try (LogMinerResultRecorder recorder = LogMinerResultRecorder.create(captureFile)) {
+            final ResultSet recording = recorder.record(rs);
+            while (recording.next()) {
+                RowMapper.getScn(metrics, recording);
+            }
+            recording.close();
+            assertThat(recorder.getRows()).isEqualTo(2);
+
+            // a second, empty result set
+            recorder.record(mock(ResultSet.class)).close();
+        }
+
+        final LogMinerResultReplayer replayer = LogMinerResultReplayer.load(captureFile);
+        assertThat(replayer.getResultCount()).isEqualTo(2);
+        assertThat(replayer.getRowCount()).isEqualTo(2);
+
+        final ResultSet replayed = replayer.newResultSet(0);
+        assertThat(replayed.next()).isTrue();
+        assertThat(RowMapper.getScn(metrics, replayed)).isEqualTo(Scn.fromLong(1001L));
+        assertThat(RowMapper.getSqlRedo(metrics, replayed, true, new NeverHistoryRecorder(), null, null, null, 0, null, null, Long.MAX_VALUE))
+                .isEqualTo("insert into \"DEBEZIUM\".\"TEST\"(\"ID\") values ('1');");
+        assertThat(RowMapper.getOperationCode(metrics, replayed)).isEqualTo(RowMapper.INSERT);
+        assertThat(RowMapper.getChangeTime(metrics, replayed)).isEqualTo(changeTime);
+        assertThat(RowMapper.getTransactionId(metrics, replayed)).isEqualTo(HexConverter.convertToHexString(txId));
+        assertThat(RowMapper.getTableName(metrics, replayed)).isEqualTo("TEST");
+        assertThat(RowMapper.getSegOwner(metrics, replayed)).isEqualTo("DEBEZIUM");
+        assertThat(RowMapper.getOperation(metrics, replayed)).isEqualTo("INSERT");
+        assertThat(RowMapper.getUsername(metrics, replayed)).isEqualTo("DEBEZIUM");
+
+        assertThat(replayed.next()).isTrue();
+        assertThat(RowMapper.getOperationCode(metrics, replayed)).isEqualTo(RowMapper.COMMIT);
+        assertThat(replayed.getString("TABLE_NAME")).isNull();
+        assertThat(replayed.wasNull()).isTrue();
+        assertThat(replayed.next()).isFalse();
+
+        assertThat(replayer.newResultSet(1).next()).isFalse();
+    }
+
+    @Test
+    public void shouldReplayRedoSqlContinuationRows() throws Exception {
+        try (LogMinerResultRecorder recorder = LogMinerResultRecorder.create(captureFile)) {
+            recorder.recordRow(BigDecimal.ONE, "insert into \"DEBEZIUM\".\"TEST\"(\"ID\",\"DATA\") values ('1','a", RowMapper.INSERT,
+                    new Timestamp(1000L), new byte[]{ 1 }, 1, "TEST", "DEBEZIUM", "INSERT", "DEBEZIUM");
+            recorder.recordRow(BigDecimal.ONE, "b');", RowMapper.INSERT, new Timestamp(1000L), new byte[]{ 1 }, 0, "TEST", "DEBEZIUM",
+                    "INSERT", "DEBEZIUM");
+            recorder.endResult();
+        }
+
+        final ResultSet replayed = LogMinerResultReplayer.load(captureFile).newResultSet(0);
+        assertThat(replayed.next()).isTrue();
+        assertThat(RowMapper.getSqlRedo(metrics, replayed, false, new NeverHistoryRecorder(), null, null, null, 0, null, null, Long.MAX_VALUE))
+                .isEqualTo("insert into \"DEBEZIUM\".\"TEST\"(\"ID\",\"DATA\") values ('1','ab');");
+        assertThat(replayed.next()).isFalse();
+    }
+
+    @Test
+    public void shouldRejectUnsupportedOperations() throws Exception {
+        try (LogMinerResultRecorder recorder = LogMinerResultRecorder.create(captureFile)) {
+            recorder.endResult();
+        }
+
+        final ResultSet replayed = LogMinerResultReplayer.load(captureFile).newResultSet(0);
+        try {
+            replayed.updateString(1, "value");
+            fail("Replayed result sets should be read-only");
+        }
+        catch (SQLFeatureNotSupportedException e) {
+            // expected
+        }
+        try {
+            replayed.getString(1);
+            fail("Replayed result sets should not return values before the first row");
+        }
+        catch (SQLException e) {
+            // expected
+        }
+    }
+}
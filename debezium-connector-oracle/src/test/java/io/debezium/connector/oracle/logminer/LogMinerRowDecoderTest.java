@@ -0,0 +1,163 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mockito;
+
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot.AdapterName;
+import io.debezium.relational.TableId;
+
+@SkipWhenAdapterNameIsNot(value = AdapterName.LOGMINER)
+public class LogMinerRowDecoderTest {
+
+    private static final long REDO_SQL_MAX_SIZE = 16L * 1024 * 1024;
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    private ResultSet rs;
+    private TransactionalBufferMetrics metrics;
+    private HistoryRecorder historyRecorder;
+    private LogMinerRowDecoder decoder;
+
+    @Before
+    public void before() {
+        rs = mock(ResultSet.class);
+        metrics = mock(TransactionalBufferMetrics.class);
+        historyRecorder = mock(HistoryRecorder.class);
+        decoder = new LogMinerRowDecoder(metrics, historyRecorder, REDO_SQL_MAX_SIZE, "ORCLPDB1");
+    }
+
+    @Test
+    public void shouldReadEachColumnOnce() throws SQLException {
+        mockRow(RowMapper.INSERT, "insert into \"DEBEZIUM\".\"TEST\"(\"ID\") values ('1');", 0);
+
+        decoder.decode(rs);
+
+        assertThat(decoder.getScn()).isEqualTo(Scn.fromLong(100L));
+        assertThat(decoder.getRedoSql()).isEqualTo("insert into \"DEBEZIUM\".\"TEST\"(\"ID\") values ('1');");
+        assertThat(decoder.getOperationCode()).isEqualTo(RowMapper.INSERT);
+        assertThat(decoder.getChangeTime()).isEqualTo(new Timestamp(1000L));
+        assertThat(decoder.getTransactionId()).isEqualTo("0102");
+        assertThat(decoder.getTableName()).isEqualTo("TEST");
+        assertThat(decoder.getSegOwner()).isEqualTo("DEBEZIUM");
+        assertThat(decoder.getOperation()).isEqualTo("INSERT");
+        assertThat(decoder.getUserName()).isEqualTo("USER");
+
+        verify(rs).getBigDecimal(1);
+        verify(rs).getString(2);
+        verify(rs).getInt(3);
+        verify(rs).getTimestamp(4);
+        verify(rs).getBytes(5);
+        verify(rs).getInt(6);
+        verify(rs).getString(7);
+        verify(rs).getString(8);
+        verify(rs).getString(9);
+        verify(rs).getString(10);
+        verifyNoMoreInteractions(rs);
+        verify(historyRecorder).record(decoder.getScn(), "TEST", "DEBEZIUM", RowMapper.INSERT, new Timestamp(1000L), "0102", 0,
+                decoder.getRedoSql());
+    }
+
+    @Test
+    public void shouldReadContinuationRows() throws SQLException {
+        mockRow(RowMapper.INSERT, "insert ", 1);
+        Mockito.when(rs.getString(2)).thenReturn("insert ", "into ", "\"TEST\"");
+        Mockito.when(rs.getInt(6)).thenReturn(1, 1, 0);
+
+        decoder.decode(rs);
+
+        assertThat(decoder.getRedoSql()).isEqualTo("insert into \"TEST\"");
+        verify(rs, times(2)).next();
+        verify(rs, times(3)).getString(2);
+        verify(rs, times(3)).getInt(6);
+        verify(rs).getString(7);
+        verify(historyRecorder, times(3)).record(Mockito.any(), Mockito.anyString(), Mockito.anyString(), Mockito.anyInt(), Mockito.any(),
+                Mockito.anyString(), Mockito.anyInt(), Mockito.anyString());
+    }
+
+    @Test
+    public void shouldShareValuesOfRepeatedRows() throws SQLException {
+        mockRow(RowMapper.INSERT, "insert ", 0);
+        decoder.decode(rs);
+        final String transactionId = decoder.getTransactionId();
+        final String tableName = decoder.getTableName();
+        final TableId tableId = decoder.getTableId();
+        assertThat(tableId).isEqualTo(new TableId("ORCLPDB1", "DEBEZIUM", "TEST"));
+
+        Mockito.when(rs.getBytes(5)).thenReturn(new byte[]{ 1, 2 });
+        Mockito.when(rs.getString(7)).thenReturn(new String("TEST"));
+        decoder.decode(rs);
+
+        assertThat(decoder.getTransactionId()).isSameAs(transactionId);
+        assertThat(decoder.getTableName()).isSameAs(tableName);
+        assertThat(decoder.getTableId()).isSameAs(tableId);
+    }
+
+    @Test
+    public void shouldNotRecordHistoryOfNonDmlRows() throws SQLException {
+        mockRow(RowMapper.COMMIT, "commit;", 0);
+
+        decoder.decode(rs);
+
+        assertThat(decoder.getRedoSql()).isEqualTo("commit;");
+        assertThat(decoder.getTableId()).isNull();
+        verifyNoMoreInteractions(historyRecorder);
+    }
+
+    @Test
+    public void shouldApplyDefaultsToColumnsNotRead() throws SQLException {
+        mockRow(RowMapper.INSERT, "insert ", 0);
+        Mockito.when(rs.getBytes(5)).thenThrow(SQLException.class);
+
+        decoder.decode(rs);
+
+        assertThat(decoder.getScn()).isEqualTo(Scn.fromLong(100L));
+        assertThat(decoder.getOperationCode()).isEqualTo(RowMapper.INSERT);
+        assertThat(decoder.getTransactionId()).isEqualTo("");
+        assertThat(decoder.getTableName()).isEqualTo("");
+        assertThat(decoder.getSegOwner()).isEqualTo("");
+        assertThat(decoder.getOperation()).isNull();
+        assertThat(decoder.getUserName()).isNull();
+        verify(metrics).incrementErrorCounter();
+        verifyNoMoreInteractions(historyRecorder);
+    }
+
+    private void mockRow(int operationCode, String redoSql, int csf) throws SQLException {
+        Mockito.when(rs.next()).thenReturn(true);
+        Mockito.when(rs.getBigDecimal(1)).thenReturn(new BigDecimal(100));
+        Mockito.when(rs.getString(2)).thenReturn(redoSql);
+        Mockito.when(rs.getInt(3)).thenReturn(operationCode);
+        Mockito.when(rs.getTimestamp(4)).thenReturn(new Timestamp(1000L));
+        Mockito.when(rs.getBytes(5)).thenReturn(new byte[]{ 1, 2 });
+        Mockito.when(rs.getInt(6)).thenReturn(csf);
+        Mockito.when(rs.getString(7)).thenReturn("TEST");
+        Mockito.when(rs.getString(8)).thenReturn("DEBEZIUM");
+        Mockito.when(rs.getString(9)).thenReturn(operation(operationCode));
+        Mockito.when(rs.getString(10)).thenReturn("USER");
+    }
+
+    private static String operation(int operationCode) {
+        return operationCode == RowMapper.COMMIT ? "COMMIT" : "INSERT";
+    }
+}
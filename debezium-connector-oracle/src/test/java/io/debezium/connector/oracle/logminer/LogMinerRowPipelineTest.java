@@ -0,0 +1,203 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot.AdapterName;
+import io.debezium.connector.oracle.logminer.parser.DmlParserException;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntryImpl;
+import io.debezium.connector.oracle.util.TestHelper;
+import io.debezium.data.Envelope;
+
+@SkipWhenAdapterNameIsNot(value = AdapterName.LOGMINER)
+public class LogMinerRowPipelineTest {
+
+    private static final int ROWS = 1_000;
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    private LogMinerRowPipeline pipeline;
+
+    @After
+    public void after() {
+        if (pipeline != null) {
+            pipeline.close();
+        }
+    }
+
+    @Test
+    public void shouldReturnParsedRowsInReadOrder() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        pipeline = new LogMinerRowPipeline(config(), resultSet -> counter.get() < ROWS ? row(counter.getAndIncrement()) : null,
+                row -> row.setDmlEntry(new LogMinerDmlEntryImpl(Envelope.Operation.CREATE, null, null)));
+
+        pipeline.start(null);
+        for (int i = 0; i < ROWS; i++) {
+            final LogMinerEventRow row = pipeline.take();
+            assertThat(row.getScn()).isEqualTo(Scn.fromLong((long) i));
+            assertThat(row.getDmlEntry()).isNotNull();
+        }
+        assertThat(pipeline.take()).isNull();
+        pipeline.stop();
+    }
+
+    @Test
+    public void shouldReassembleRowsParsedInParallelInReadOrder() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        pipeline = new LogMinerRowPipeline(config(4), resultSet -> counter.get() < ROWS ? row(counter.getAndIncrement()) : null, row -> {
+            if (row.getScn().longValue() % 7 == 0) {
+                // delay some rows so that later rows finish parsing first
+                Thread.yield();
+            }
+            row.setDmlEntry(new LogMinerDmlEntryImpl(Envelope.Operation.CREATE, null, null));
+        });
+
+        pipeline.start(null);
+        for (int i = 0; i < ROWS; i++) {
+            final LogMinerEventRow row = pipeline.take();
+            assertThat(row.getScn()).isEqualTo(Scn.fromLong((long) i));
+            assertThat(row.getDmlEntry()).isNotNull();
+        }
+        assertThat(pipeline.take()).isNull();
+        pipeline.stop();
+    }
+
+    @Test
+    public void shouldRethrowParallelParseFailureAfterPrecedingRows() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        pipeline = new LogMinerRowPipeline(config(4), resultSet -> row(counter.getAndIncrement()), row -> {
+            if (row.getScn().longValue() == 5) {
+                throw new DmlParserException("failure");
+            }
+        });
+
+        pipeline.start(null);
+        for (int i = 0; i < 5; i++) {
+            assertThat(pipeline.take().getScn()).isEqualTo(Scn.fromLong((long) i));
+        }
+        try {
+            pipeline.take();
+            fail("Expected the parse failure to be rethrown");
+        }
+        catch (DmlParserException e) {
+            assertThat(e.getMessage()).isEqualTo("failure");
+        }
+        pipeline.stop();
+    }
+
+    @Test
+    public void shouldRethrowParseFailureAfterPrecedingRows() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        pipeline = new LogMinerRowPipeline(config(), resultSet -> row(counter.getAndIncrement()), row -> {
+            if (row.getScn().longValue() == 5) {
+                throw new DmlParserException("failure");
+            }
+        });
+
+        pipeline.start(null);
+        for (int i = 0; i < 5; i++) {
+            assertThat(pipeline.take().getScn()).isEqualTo(Scn.fromLong((long) i));
+        }
+        try {
+            pipeline.take();
+            fail("Expected the parse failure to be rethrown");
+        }
+        catch (DmlParserException e) {
+            assertThat(e.getMessage()).isEqualTo("failure");
+        }
+        pipeline.stop();
+    }
+
+    @Test
+    public void shouldRethrowReadFailure() throws Exception {
+        pipeline = new LogMinerRowPipeline(config(), resultSet -> {
+            throw new SQLException("closed");
+        }, row -> {
+        });
+
+        pipeline.start(null);
+        try {
+            pipeline.take();
+            fail("Expected the read failure to be rethrown");
+        }
+        catch (SQLException e) {
+            assertThat(e.getMessage()).isEqualTo("closed");
+        }
+        pipeline.stop();
+    }
+
+    @Test
+    public void shouldReturnRowsReadBeforeReadFailure() throws Exception {
+        final int rowsBeforeFailure = 10;
+        final AtomicInteger counter = new AtomicInteger();
+        final CountDownLatch failed = new CountDownLatch(1);
+        pipeline = new LogMinerRowPipeline(config(1, 2 * rowsBeforeFailure), resultSet -> {
+            if (counter.get() < rowsBeforeFailure) {
+                return row(counter.getAndIncrement());
+            }
+            failed.countDown();
+            throw new SQLException("closed");
+        }, row -> {
+            // rows are only parsed once the reader has failed, so that they are still queued when it fails
+            try {
+                failed.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        pipeline.start(null);
+        for (int i = 0; i < rowsBeforeFailure; i++) {
+            assertThat(pipeline.take().getScn()).isEqualTo(Scn.fromLong((long) i));
+        }
+        try {
+            pipeline.take();
+            fail("Expected the read failure to be rethrown");
+        }
+        catch (SQLException e) {
+            assertThat(e.getMessage()).isEqualTo("closed");
+        }
+        pipeline.stop();
+    }
+
+    private static OracleConnectorConfig config() {
+        return config(1);
+    }
+
+    private static OracleConnectorConfig config(int parserThreads) {
+        return config(parserThreads, 2);
+    }
+
+    private static OracleConnectorConfig config(int parserThreads, int queueSize) {
+        return new OracleConnectorConfig(Configuration.create()
+                .with(OracleConnectorConfig.SERVER_NAME, TestHelper.SERVER_NAME)
+                .with(OracleConnectorConfig.LOG_MINING_PIPELINE_QUEUE_SIZE, queueSize)
+                .with(OracleConnectorConfig.LOG_MINING_DML_PARSER_THREADS, parserThreads)
+                .build());
+    }
+
+    private static LogMinerEventRow row(long scn) {
+        return new LogMinerEventRow(Scn.fromLong(scn), "TEST", "DEBEZIUM", RowMapper.INSERT, null, "tx", "INSERT", "user", "insert", null);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleConnectorConfig.LogMiningFlushStrategy;
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot.AdapterName;
+
+@SkipWhenAdapterNameIsNot(value = AdapterName.LOGMINER)
+public class LogWriterFlusherTest {
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    private OracleConnection connection;
+    private CallableStatement flushStatement;
+    private ResultSet currentScn;
+    private LogMinerMetrics metrics;
+    private LogWriterFlusher flusher;
+
+    @Before
+    public void before() throws SQLException {
+        connection = mock(OracleConnection.class);
+        Connection conn = mock(Connection.class);
+        when(connection.connection(false)).thenReturn(conn);
+
+        flushStatement = mock(CallableStatement.class);
+        when(conn.prepareCall(SqlUtils.FLUSH_LOG_WRITER)).thenReturn(flushStatement);
+        when(flushStatement.getLong(1)).thenReturn(100L);
+        when(flushStatement.getLong(2)).thenReturn(102L);
+
+        Statement statement = mock(Statement.class);
+        currentScn = mock(ResultSet.class);
+        when(conn.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(currentScn);
+        when(currentScn.next()).thenReturn(true);
+
+        metrics = mock(LogMinerMetrics.class);
+        flusher = new LogWriterFlusher(connection, null, LogMiningFlushStrategy.ADAPTIVE, metrics);
+    }
+
+    @Test
+    public void shouldFlushAndReadScnInOneRoundTrip() throws SQLException {
+        assertThat(flusher.flush(false)).isEqualTo(100L);
+
+        verify(flushStatement).execute();
+        verify(metrics).incrementLogWriterFlushCount();
+    }
+
+    @Test
+    public void shouldSkipFlushWhenIdle() throws SQLException {
+        flusher.flush(true);
+        when(currentScn.getLong(1)).thenReturn(102L);
+
+        assertThat(flusher.flush(true)).isEqualTo(102L);
+
+        verify(flushStatement, times(1)).execute();
+        verify(metrics).incrementLogWriterFlushSkipCount();
+    }
+
+    @Test
+    public void shouldFlushWhenScnChanged() throws SQLException {
+        flusher.flush(true);
+        when(currentScn.getLong(1)).thenReturn(105L);
+
+        flusher.flush(true);
+
+        verify(flushStatement, times(2)).execute();
+        verify(metrics, times(2)).incrementLogWriterFlushCount();
+    }
+
+    @Test
+    public void shouldFlushWhenPreviousQueryReturnedRows() throws SQLException {
+        flusher.flush(true);
+
+        flusher.flush(false);
+
+        verify(flushStatement, times(2)).execute();
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.connector.oracle.OracleConnection;
+import io.debezium.connector.oracle.OracleDatabaseVersion;
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot.AdapterName;
+
+@SkipWhenAdapterNameIsNot(value = AdapterName.LOGMINER)
+public class RedoLogCatalogTest {
+
+    private static final String MAX_SCN = "18446744073709551615";
+    private static final Timestamp NOW = Timestamp.valueOf("2021-01-01 12:00:00");
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    private OracleConnection connection;
+    private PreparedStatement membersStatement;
+    private PreparedStatement archiveStatement;
+    private Object[][] groups;
+    private Object[][] archivedLogs;
+    private RedoLogCatalog catalog;
+
+    @Before
+    public void before() throws SQLException {
+        connection = mock(OracleConnection.class);
+        Connection conn = mock(Connection.class);
+        when(connection.connection(false)).thenReturn(conn);
+        when(connection.getOracleVersion())
+                .thenReturn(OracleDatabaseVersion.parse("Oracle Database 12c Enterprise Edition Release 12.2.0.1.0 - 64bit Production"));
+
+        groups = new Object[][]{
+                { 1, 1, 10L, "CURRENT", "100", MAX_SCN, NOW },
+                { 2, 1, 9L, "INACTIVE", "50", "100", NOW }
+        };
+        archivedLogs = new Object[][]{
+                { 1L, "/arch_9.arc", "100", NOW }
+        };
+
+        PreparedStatement groupsStatement = mock(PreparedStatement.class);
+        when(conn.prepareStatement(SqlUtils.redoLogGroupsQuery())).thenReturn(groupsStatement);
+        when(groupsStatement.executeQuery()).thenAnswer(it -> resultSet(groups));
+
+        membersStatement = mock(PreparedStatement.class);
+        when(conn.prepareStatement(SqlUtils.redoLogMembersQuery())).thenReturn(membersStatement);
+        when(membersStatement.executeQuery()).thenAnswer(it -> resultSet(new Object[][]{
+                { 1, "/redo01b.log" },
+                { 1, "/redo01a.log" },
+                { 2, "/redo02a.log" }
+        }));
+
+        archiveStatement = mock(PreparedStatement.class);
+        when(conn.prepareStatement(SqlUtils.archiveLogsSinceQuery())).thenReturn(archiveStatement);
+        when(archiveStatement.executeQuery()).thenAnswer(it -> resultSet(archivedLogs));
+
+        catalog = new RedoLogCatalog(mock(LogMinerMetrics.class));
+    }
+
+    @Test
+    public void shouldResolveLogFilesForOffsetScn() throws SQLException {
+        catalog.refresh(connection);
+
+        assertThat(catalog.getCurrentRedoLogFiles()).containsOnly("/redo01a.log", "/redo01b.log");
+
+        Map<String, BigInteger> onlineLogs = catalog.getOnlineLogFilesForOffsetScn(60L);
+        assertThat(onlineLogs.size()).isEqualTo(2);
+        assertThat(onlineLogs.get("/redo01a.log")).isEqualTo(new BigInteger(MAX_SCN));
+        assertThat(onlineLogs.get("/redo02a.log")).isEqualTo(BigInteger.valueOf(100L));
+        assertThat(catalog.getOnlineLogFilesForOffsetScn(150L).keySet()).containsOnly("/redo01a.log");
+
+        Map<String, BigInteger> archivedLogFiles = catalog.getArchivedLogFilesForOffsetScn(60L, Duration.ofHours(0L));
+        assertThat(archivedLogFiles.get("/arch_9.arc")).isEqualTo(BigInteger.valueOf(100L));
+        assertThat(catalog.getArchivedLogFilesForOffsetScn(100L, Duration.ofHours(0L))).isEmpty();
+    }
+
+    @Test
+    public void shouldNotListLogFilesAgainWithoutLogSwitch() throws SQLException {
+        catalog.refresh(connection);
+        catalog.refresh(connection);
+        catalog.refresh(connection);
+
+        verify(membersStatement, times(1)).executeQuery();
+        verify(archiveStatement, times(1)).executeQuery();
+    }
+
+    @Test
+    public void shouldFetchArchiveLogsFromOldestCachedAfterLogSwitch() throws SQLException {
+        archivedLogs = new Object[][]{
+                { 5L, "/arch_9.arc", "100", NOW }
+        };
+        catalog.refresh(connection);
+
+        logSwitch();
+        archivedLogs = new Object[][]{
+                { 5L, "/arch_9.arc", "100", NOW },
+                { 6L, "/arch_10.arc", "200", NOW }
+        };
+        catalog.refresh(connection);
+
+        verify(archiveStatement).setLong(1, 0L);
+        verify(archiveStatement).setLong(1, 4L);
+        assertThat(catalog.getCurrentRedoLogFiles()).containsOnly("/redo02a.log");
+        assertThat(catalog.getArchivedLogFilesForOffsetScn(60L, Duration.ofHours(0L)).keySet()).containsOnly("/arch_9.arc", "/arch_10.arc");
+    }
+
+    @Test
+    public void shouldDropArchiveLogsNoLongerAvailableAfterLogSwitch() throws SQLException {
+        catalog.refresh(connection);
+
+        // the archive log of sequence 9 was deleted
+        logSwitch();
+        archivedLogs = new Object[][]{
+                { 2L, "/arch_10.arc", "200", NOW }
+        };
+        catalog.refresh(connection);
+
+        assertThat(catalog.getArchivedLogFilesForOffsetScn(60L, Duration.ofHours(0L)).keySet()).containsOnly("/arch_10.arc");
+    }
+
+    @Test
+    public void shouldEvictArchiveLogsBeforeOffsetScn() throws SQLException {
+        archivedLogs = new Object[][]{
+                { 1L, "/arch_9.arc", "100", NOW },
+                { 2L, "/arch_10.arc", "200", NOW }
+        };
+        catalog.refresh(connection);
+
+        assertThat(catalog.getArchivedLogFilesForOffsetScn(150L, Duration.ofHours(0L)).keySet()).containsOnly("/arch_10.arc");
+
+        logSwitch();
+        catalog.refresh(connection);
+
+        verify(archiveStatement).setLong(1, 1L);
+        assertThat(catalog.getArchivedLogFilesForOffsetScn(60L, Duration.ofHours(0L)).keySet()).containsOnly("/arch_10.arc");
+    }
+
+    @Test
+    public void shouldExcludeArchiveLogsOutOfRetention() throws SQLException {
+        archivedLogs = new Object[][]{
+                { 1L, "/arch_8.arc", "80", Timestamp.valueOf("2021-01-01 09:00:00") },
+                { 2L, "/arch_9.arc", "100", Timestamp.valueOf("2021-01-01 11:30:00") }
+        };
+        catalog.refresh(connection);
+
+        assertThat(catalog.getArchivedLogFilesForOffsetScn(60L, Duration.ofHours(1L)).keySet()).containsOnly("/arch_9.arc");
+    }
+
+    private void logSwitch() {
+        groups = new Object[][]{
+                { 1, 1, 10L, "ACTIVE", "100", "200", NOW },
+                { 2, 1, 11L, "CURRENT", "200", MAX_SCN, NOW }
+        };
+    }
+
+    private static ResultSet resultSet(Object[][] rows) throws SQLException {
+        final ResultSet rs = mock(ResultSet.class);
+        final int[] current = { -1 };
+        when(rs.next()).thenAnswer(it -> ++current[0] < rows.length);
+        when(rs.getString(anyInt())).thenAnswer(it -> rows[current[0]][(Integer) it.getArguments()[0] - 1]);
+        when(rs.getInt(anyInt())).thenAnswer(it -> rows[current[0]][(Integer) it.getArguments()[0] - 1]);
+        when(rs.getLong(anyInt())).thenAnswer(it -> rows[current[0]][(Integer) it.getArguments()[0] - 1]);
+        when(rs.getTimestamp(anyInt())).thenAnswer(it -> rows[current[0]][(Integer) it.getArguments()[0] - 1]);
+        return rs;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
+import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot.AdapterName;
+
+@SkipWhenAdapterNameIsNot(value = AdapterName.LOGMINER)
+public class RegisteredLogFilesTest {
+
+    private static final BigInteger MAX_SCN = new BigInteger("18446744073709551615");
+
+    @Rule
+    public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
+
+    @Test
+    public void shouldAddAllFilesWhenNoneRegistered() {
+        RegisteredLogFiles registeredFiles = new RegisteredLogFiles();
+        Map<String, BigInteger> logFiles = logFiles("redo01", MAX_SCN, "redo02", BigInteger.valueOf(100L));
+
+        assertThat(registeredFiles.getFilesToRemove(logFiles)).isEmpty();
+        assertThat(registeredFiles.getFilesToAdd(logFiles)).isEqualTo(logFiles);
+    }
+
+    @Test
+    public void shouldOnlyApplyChangedFilesOnLogSwitch() {
+        RegisteredLogFiles registeredFiles = new RegisteredLogFiles();
+        registeredFiles.added("redo01", MAX_SCN);
+        registeredFiles.added("redo02", BigInteger.valueOf(100L));
+        registeredFiles.added("arch01", BigInteger.valueOf(50L));
+
+        // redo01 was switched, redo02 was reused as the current log and arch01 is below the offset
+        Map<String, BigInteger> logFiles = logFiles("redo01", BigInteger.valueOf(200L), "redo02", MAX_SCN);
+        logFiles.put("arch02", BigInteger.valueOf(100L));
+
+        assertThat(registeredFiles.getFilesToRemove(logFiles)).containsOnly("redo01", "redo02", "arch01");
+        assertThat(registeredFiles.getFilesToAdd(logFiles)).isEqualTo(logFiles);
+
+        registeredFiles.clear();
+        registeredFiles.added("redo01", BigInteger.valueOf(200L));
+        registeredFiles.added("redo02", MAX_SCN);
+        logFiles.remove("arch02");
+
+        assertThat(registeredFiles.getFilesToRemove(logFiles)).isEmpty();
+        assertThat(registeredFiles.getFilesToAdd(logFiles)).isEmpty();
+    }
+
+    @Test
+    public void shouldForgetRemovedFiles() {
+        RegisteredLogFiles registeredFiles = new RegisteredLogFiles();
+        registeredFiles.added("arch01", BigInteger.valueOf(50L));
+        registeredFiles.removed("arch01");
+
+        assertThat(registeredFiles.isEmpty()).isTrue();
+    }
+
+    private static Map<String, BigInteger> logFiles(String name1, BigInteger nextChange1, String name2, BigInteger nextChange2) {
+        Map<String, BigInteger> logFiles = new HashMap<>();
+        logFiles.put(name1, nextChange1);
+        logFiles.put(name2, nextChange2);
+        return logFiles;
+    }
+}
@@ -33,6 +33,9 @@ import io.debezium.relational.TableId;
 
 @SkipWhenAdapterNameIsNot(value = AdapterName.LOGMINER)
 public class RowMapperTest {
+
+    private static final long REDO_SQL_MAX_SIZE = 16L * 1024 * 1024;
+
     private ResultSet rs;
     private TransactionalBufferMetrics metrics;
 
@@ -120,42 +123,58 @@ public class RowMapperTest {
     public void testSqlRedo() throws SQLException {
         Mockito.when(rs.getInt(6)).thenReturn(0);
         Mockito.when(rs.getString(2)).thenReturn("short_sql");
-        String sql = RowMapper.getSqlRedo(metrics, rs, false, null, Scn.ONE, "", "", 1, null, "");
+        String sql = RowMapper.getSqlRedo(metrics, rs, false, null, Scn.ONE, "", "", 1, null, "", REDO_SQL_MAX_SIZE);
         assertThat(sql.equals("short_sql")).isTrue();
         verify(rs).getInt(6);
         verify(rs).getString(2);
 
         Mockito.when(rs.getInt(6)).thenReturn(1).thenReturn(0);
         Mockito.when(rs.getString(2)).thenReturn("long").thenReturn("_sql");
-        sql = RowMapper.getSqlRedo(metrics, rs, false, null, Scn.ONE, "", "", 1, null, "");
+        sql = RowMapper.getSqlRedo(metrics, rs, false, null, Scn.ONE, "", "", 1, null, "", REDO_SQL_MAX_SIZE);
         assertThat(sql.equals("long_sql")).isTrue();
         verify(rs, times(3)).getInt(6);
         verify(rs, times(3)).getString(2);
 
-        // test super large DML
+        // test super large DML, 15 rows of which 10 fit into 80,000 bytes
         char[] chars = new char[4000];
         Arrays.fill(chars, 'a');
         Mockito.when(rs.getString(2)).thenReturn(new String(chars));
-        Mockito.when(rs.getInt(6)).thenReturn(1);
-        sql = RowMapper.getSqlRedo(metrics, rs, false, null, Scn.ONE, "", "", 1, null, "");
+        Integer[] continued = new Integer[14];
+        Arrays.fill(continued, 1);
+        continued[13] = 0;
+        Mockito.when(rs.getInt(6)).thenReturn(1, continued);
+        sql = RowMapper.getSqlRedo(metrics, rs, false, null, Scn.ONE, "", "", 1, null, "", 80_000);
         assertThat(sql.length()).isEqualTo(40_000);
-        verify(rs, times(13)).getInt(6);
-        verify(rs, times(13)).getString(2);
+        // the remaining rows of the operation are skipped without reading their redo SQL
+        verify(rs, times(18)).getInt(6);
+        verify(rs, times(14)).getString(2);
 
         Mockito.when(rs.getInt(6)).thenReturn(0);
         Mockito.when(rs.getString(2)).thenReturn(null);
-        sql = RowMapper.getSqlRedo(metrics, rs, false, null, Scn.ONE, "", "", 1, null, "");
+        sql = RowMapper.getSqlRedo(metrics, rs, false, null, Scn.ONE, "", "", 1, null, "", REDO_SQL_MAX_SIZE);
         assertThat(sql).isNull();
-        verify(rs, times(13)).getInt(6);
-        verify(rs, times(14)).getString(2);
+        verify(rs, times(18)).getInt(6);
+        verify(rs, times(15)).getString(2);
 
         Mockito.when(rs.getInt(6)).thenReturn(0);
         Mockito.when(rs.getString(2)).thenThrow(SQLException.class);
-        sql = RowMapper.getSqlRedo(metrics, rs, false, null, Scn.ONE, "", "", 1, null, "");
+        sql = RowMapper.getSqlRedo(metrics, rs, false, null, Scn.ONE, "", "", 1, null, "", REDO_SQL_MAX_SIZE);
         assertThat(sql.equals("")).isTrue();
-        verify(rs, times(13)).getInt(6);
-        verify(rs, times(15)).getString(2);
+        verify(rs, times(18)).getInt(6);
+        verify(rs, times(16)).getString(2);
+
+    }
 
+    @Test
+    public void testSqlRedoRecordsTruncatedRowsOfDml() throws SQLException {
+        HistoryRecorder historyRecorder = Mockito.mock(HistoryRecorder.class);
+        Mockito.when(rs.getString(2)).thenReturn("12345", "67890", "abcde");
+        Mockito.when(rs.getInt(6)).thenReturn(1, 1, 0);
+        String sql = RowMapper.getSqlRedo(metrics, rs, true, historyRecorder, Scn.ONE, "TABLE", "SCHEMA", 1, null, "tx", 20);
+        assertThat(sql).isEqualTo("1234567890");
+        verify(historyRecorder, times(3)).record(Mockito.eq(Scn.ONE), Mockito.eq("TABLE"), Mockito.eq("SCHEMA"), Mockito.eq(1),
+                Mockito.any(), Mockito.eq("tx"), Mockito.anyInt(), Mockito.anyString());
+        verify(rs, times(3)).getString(2);
     }
 
     @Test
@@ -13,6 +13,7 @@ import java.sql.SQLRecoverableException;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Iterator;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -20,6 +21,7 @@ import org.junit.rules.TestRule;
 import org.mockito.Mockito;
 
 import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleConnectorConfig.LogMiningQueryMode;
 import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
 import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
 import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot.AdapterName;
@@ -34,13 +36,13 @@ public class SqlUtilsTest {
 
     private static final String LOG_MINER_CONTENT_QUERY_TEMPLATE = "SELECT SCN, SQL_REDO, OPERATION_CODE, TIMESTAMP, " +
             "XID, CSF, TABLE_NAME, SEG_OWNER, OPERATION, USERNAME " +
-            "FROM V$LOGMNR_CONTENTS WHERE OPERATION_CODE IN (1,2,3,5) AND SCN > ? AND SCN < ? " +
-            "AND TABLE_NAME != '" + SqlUtils.LOGMNR_FLUSH_TABLE + "' " +
+            "FROM V$LOGMNR_CONTENTS WHERE SCN > ? AND SCN <= ? " +
+            "AND ((OPERATION_CODE IN (1,2,3,5) AND TABLE_NAME != '" + SqlUtils.LOGMNR_FLUSH_TABLE + "'" +
             "${systemTablePredicate}" +
             "${schemaPredicate}" +
-            "${tablePredicate}" +
+            "${tablePredicate}) " +
             "OR (OPERATION_CODE IN (5,34) AND USERNAME NOT IN ('SYS','SYSTEM','${user}')) " +
-            "OR (OPERATION_CODE IN (7,36))";
+            "OR (OPERATION_CODE IN (7,36)))";
 
     private static final String USERNAME = "USERNAME";
 
@@ -66,7 +68,7 @@ public class SqlUtilsTest {
         Mockito.when(config.tableIncludeList()).thenReturn(null);
         Mockito.when(config.tableExcludeList()).thenReturn(null);
 
-        String schema = "AND (REGEXP_LIKE(SEG_OWNER,'^SCHEMA1$','i') OR REGEXP_LIKE(SEG_OWNER,'^SCHEMA2$','i')) ";
+        String schema = " AND (UPPER(SEG_OWNER) IN ('SCHEMA1','SCHEMA2'))";
 
         String result = SqlUtils.logMinerContentsQuery(config, USERNAME);
         assertThat(result).isEqualTo(resolveLogMineryContentQueryFromTemplate(schema, null));
@@ -81,7 +83,7 @@ public class SqlUtilsTest {
         Mockito.when(config.tableIncludeList()).thenReturn(null);
         Mockito.when(config.tableExcludeList()).thenReturn(null);
 
-        String schema = "AND (NOT REGEXP_LIKE(SEG_OWNER,'^SCHEMA1$','i') AND NOT REGEXP_LIKE(SEG_OWNER,'^SCHEMA2$','i')) ";
+        String schema = " AND (UPPER(SEG_OWNER) NOT IN ('SCHEMA1','SCHEMA2'))";
 
         String result = SqlUtils.logMinerContentsQuery(config, USERNAME);
         assertThat(result).isEqualTo(resolveLogMineryContentQueryFromTemplate(schema, null));
@@ -96,8 +98,7 @@ public class SqlUtilsTest {
         Mockito.when(config.tableIncludeList()).thenReturn("DEBEZIUM\\.TABLEA,DEBEZIUM\\.TABLEB");
         Mockito.when(config.tableExcludeList()).thenReturn(null);
 
-        String table = "AND (REGEXP_LIKE(SEG_OWNER || '.' || TABLE_NAME,'^DEBEZIUM\\.TABLEA$','i') " +
-                "OR REGEXP_LIKE(SEG_OWNER || '.' || TABLE_NAME,'^DEBEZIUM\\.TABLEB$','i')) ";
+        String table = " AND ((UPPER(SEG_OWNER),UPPER(TABLE_NAME)) IN (('DEBEZIUM','TABLEA'),('DEBEZIUM','TABLEB')))";
 
         String result = SqlUtils.logMinerContentsQuery(config, USERNAME);
         assertThat(result).isEqualTo(resolveLogMineryContentQueryFromTemplate(null, table));
@@ -112,8 +113,7 @@ public class SqlUtilsTest {
         Mockito.when(config.tableIncludeList()).thenReturn(null);
         Mockito.when(config.tableExcludeList()).thenReturn("DEBEZIUM\\.TABLEA,DEBEZIUM\\.TABLEB");
 
-        String table = "AND (NOT REGEXP_LIKE(SEG_OWNER || '.' || TABLE_NAME,'^DEBEZIUM\\.TABLEA$','i') " +
-                "AND NOT REGEXP_LIKE(SEG_OWNER || '.' || TABLE_NAME,'^DEBEZIUM\\.TABLEB$','i')) ";
+        String table = " AND ((UPPER(SEG_OWNER),UPPER(TABLE_NAME)) NOT IN (('DEBEZIUM','TABLEA'),('DEBEZIUM','TABLEB')))";
 
         String result = SqlUtils.logMinerContentsQuery(config, USERNAME);
         assertThat(result).isEqualTo(resolveLogMineryContentQueryFromTemplate(null, table));
@@ -128,9 +128,8 @@ public class SqlUtilsTest {
         Mockito.when(config.tableIncludeList()).thenReturn("DEBEZIUM\\.TABLEA,DEBEZIUM\\.TABLEB");
         Mockito.when(config.tableExcludeList()).thenReturn(null);
 
-        String schema = "AND (REGEXP_LIKE(SEG_OWNER,'^SCHEMA1$','i') OR REGEXP_LIKE(SEG_OWNER,'^SCHEMA2$','i')) ";
-        String table = "AND (REGEXP_LIKE(SEG_OWNER || '.' || TABLE_NAME,'^DEBEZIUM\\.TABLEA$','i') " +
-                "OR REGEXP_LIKE(SEG_OWNER || '.' || TABLE_NAME,'^DEBEZIUM\\.TABLEB$','i')) ";
+        String schema = " AND (UPPER(SEG_OWNER) IN ('SCHEMA1','SCHEMA2'))";
+        String table = " AND ((UPPER(SEG_OWNER),UPPER(TABLE_NAME)) IN (('DEBEZIUM','TABLEA'),('DEBEZIUM','TABLEB')))";
 
         String result = SqlUtils.logMinerContentsQuery(config, USERNAME);
         assertThat(result).isEqualTo(resolveLogMineryContentQueryFromTemplate(schema, table));
@@ -145,9 +144,8 @@ public class SqlUtilsTest {
         Mockito.when(config.tableIncludeList()).thenReturn(null);
         Mockito.when(config.tableExcludeList()).thenReturn("DEBEZIUM\\.TABLEA,DEBEZIUM\\.TABLEB");
 
-        String schema = "AND (NOT REGEXP_LIKE(SEG_OWNER,'^SCHEMA1$','i') AND NOT REGEXP_LIKE(SEG_OWNER,'^SCHEMA2$','i')) ";
-        String table = "AND (NOT REGEXP_LIKE(SEG_OWNER || '.' || TABLE_NAME,'^DEBEZIUM\\.TABLEA$','i') " +
-                "AND NOT REGEXP_LIKE(SEG_OWNER || '.' || TABLE_NAME,'^DEBEZIUM\\.TABLEB$','i')) ";
+        String schema = " AND (UPPER(SEG_OWNER) NOT IN ('SCHEMA1','SCHEMA2'))";
+        String table = " AND ((UPPER(SEG_OWNER),UPPER(TABLE_NAME)) NOT IN (('DEBEZIUM','TABLEA'),('DEBEZIUM','TABLEB')))";
 
         String result = SqlUtils.logMinerContentsQuery(config, USERNAME);
         assertThat(result).isEqualTo(resolveLogMineryContentQueryFromTemplate(schema, table));
@@ -162,14 +160,90 @@ public class SqlUtilsTest {
         Mockito.when(config.tableIncludeList()).thenReturn("DEBEZIUM\\.TABLEA,DEBEZIUM\\.TABLEB");
         Mockito.when(config.tableExcludeList()).thenReturn(null);
 
-        String schema = "AND (NOT REGEXP_LIKE(SEG_OWNER,'^SCHEMA1$','i') AND NOT REGEXP_LIKE(SEG_OWNER,'^SCHEMA2$','i')) ";
-        String table = "AND (REGEXP_LIKE(SEG_OWNER || '.' || TABLE_NAME,'^DEBEZIUM\\.TABLEA$','i') " +
-                "OR REGEXP_LIKE(SEG_OWNER || '.' || TABLE_NAME,'^DEBEZIUM\\.TABLEB$','i')) ";
+        String schema = " AND (UPPER(SEG_OWNER) NOT IN ('SCHEMA1','SCHEMA2'))";
+        String table = " AND ((UPPER(SEG_OWNER),UPPER(TABLE_NAME)) IN (('DEBEZIUM','TABLEA'),('DEBEZIUM','TABLEB')))";
 
         String result = SqlUtils.logMinerContentsQuery(config, USERNAME);
         assertThat(result).isEqualTo(resolveLogMineryContentQueryFromTemplate(schema, table));
     }
 
+    @Test
+    public void testLogMinerQueryIncludesTheEndScnForAllOperations() {
+        OracleConnectorConfig config = mock(OracleConnectorConfig.class);
+
+        // the next query starts after the end SCN, a commit at the end SCN is only returned by this query
+        String result = SqlUtils.logMinerContentsQuery(config, USERNAME);
+        assertThat(result).contains("WHERE SCN > ? AND SCN <= ? AND (");
+        assertThat(result).endsWith("OR (OPERATION_CODE IN (7,36)))");
+    }
+
+    @Test
+    public void testLogMinerQueryWithMinimalColumns() {
+        OracleConnectorConfig config = mock(OracleConnectorConfig.class);
+        Mockito.when(config.getLogMiningQueryMode()).thenReturn(LogMiningQueryMode.MINIMAL);
+
+        String result = SqlUtils.logMinerContentsQuery(config, USERNAME);
+        String expected = resolveLogMineryContentQueryFromTemplate(null, null).replace(
+                "SELECT SCN, SQL_REDO, OPERATION_CODE, TIMESTAMP, XID, CSF, TABLE_NAME, SEG_OWNER, OPERATION, USERNAME ",
+                "SELECT SCN, CASE WHEN OPERATION_CODE IN (1,2,3,5) THEN SQL_REDO END AS SQL_REDO, OPERATION_CODE, TIMESTAMP, XID, CSF, " +
+                        "TABLE_NAME, SEG_OWNER, NULL AS OPERATION, NULL AS USERNAME ");
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    public void testLogMinerQueryWithRegularExpressions() {
+        OracleConnectorConfig config = mock(OracleConnectorConfig.class);
+        Mockito.when(config.schemaIncludeList()).thenReturn("SCHEMA1,SCHEMA[0-9]+");
+        Mockito.when(config.schemaExcludeList()).thenReturn(null);
+        Mockito.when(config.tableIncludeList()).thenReturn("DEBEZIUM.TABLEA,DEBEZIUM\\.TABLE_.*");
+        Mockito.when(config.tableExcludeList()).thenReturn(null);
+
+        String schema = " AND (UPPER(SEG_OWNER) IN ('SCHEMA1') OR REGEXP_LIKE(SEG_OWNER,'^SCHEMA[0-9]+$','i'))";
+        String table = " AND ((UPPER(SEG_OWNER),UPPER(TABLE_NAME)) IN (('DEBEZIUM','TABLEA')) " +
+                "OR REGEXP_LIKE(SEG_OWNER || '.' || TABLE_NAME,'^DEBEZIUM\\.TABLE_.*$','i'))";
+
+        String result = SqlUtils.logMinerContentsQuery(config, USERNAME);
+        assertThat(result).isEqualTo(resolveLogMineryContentQueryFromTemplate(schema, table));
+        assertThat(SqlUtils.logMinerFilterTableEntries(config)).isEmpty();
+    }
+
+    @Test
+    public void testLogMinerQueryWithTableExcludesAndRegularExpressions() {
+        OracleConnectorConfig config = mock(OracleConnectorConfig.class);
+        Mockito.when(config.schemaIncludeList()).thenReturn(null);
+        Mockito.when(config.schemaExcludeList()).thenReturn(null);
+        Mockito.when(config.tableIncludeList()).thenReturn(null);
+        Mockito.when(config.tableExcludeList()).thenReturn("^debezium\\.tablea$,DEBEZIUM\\.\\w+_LOG");
+
+        String table = " AND ((UPPER(SEG_OWNER),UPPER(TABLE_NAME)) NOT IN (('DEBEZIUM','TABLEA')) " +
+                "AND NOT REGEXP_LIKE(SEG_OWNER || '.' || TABLE_NAME,'^DEBEZIUM\\.\\w+_LOG$','i'))";
+
+        String result = SqlUtils.logMinerContentsQuery(config, USERNAME);
+        assertThat(result).isEqualTo(resolveLogMineryContentQueryFromTemplate(null, table));
+    }
+
+    @Test
+    public void testLogMinerQueryWithFilterTable() {
+        StringBuilder tables = new StringBuilder();
+        for (int i = 0; i <= SqlUtils.MAX_IN_LIST_SIZE; i++) {
+            tables.append(i == 0 ? "" : ",").append("DEBEZIUM\\.TABLE").append(i);
+        }
+        OracleConnectorConfig config = mock(OracleConnectorConfig.class);
+        Mockito.when(config.schemaIncludeList()).thenReturn(null);
+        Mockito.when(config.schemaExcludeList()).thenReturn(null);
+        Mockito.when(config.tableIncludeList()).thenReturn(tables.toString());
+        Mockito.when(config.tableExcludeList()).thenReturn(null);
+
+        String table = " AND ((UPPER(SEG_OWNER),UPPER(TABLE_NAME)) IN (SELECT OWNER,TABLE_NAME FROM " + SqlUtils.LOGMNR_FILTER_TABLE + "))";
+
+        String result = SqlUtils.logMinerContentsQuery(config, USERNAME);
+        assertThat(result).isEqualTo(resolveLogMineryContentQueryFromTemplate(null, table));
+
+        List<TableId> entries = SqlUtils.logMinerFilterTableEntries(config);
+        assertThat(entries).hasSize(SqlUtils.MAX_IN_LIST_SIZE + 1);
+        assertThat(entries.get(0)).isEqualTo(new TableId(null, "DEBEZIUM", "TABLE0"));
+    }
+
     @Test
     public void testStatements() {
         SqlUtils.setRac(false);
@@ -196,6 +270,11 @@ public class SqlUtilsTest {
                 "OPTIONS => DBMS_LOGMNR.DICT_FROM_REDO_LOGS + DBMS_LOGMNR.DDL_DICT_TRACKING  + DBMS_LOGMNR.NO_ROWID_IN_STMT);END;";
         assertThat(result).isEqualTo(expected);
 
+        result = SqlUtils.startLogMinerStatement(10L, null, OracleConnectorConfig.LogMiningStrategy.ONLINE_CATALOG, false);
+        expected = "BEGIN sys.dbms_logmnr.start_logmnr(startScn => '10', " +
+                "OPTIONS => DBMS_LOGMNR.DICT_FROM_ONLINE_CATALOG  + DBMS_LOGMNR.NO_ROWID_IN_STMT);END;";
+        assertThat(result).isEqualTo(expected);
+
         result = SqlUtils.truncateTableStatement("table_name");
         expected = "TRUNCATE TABLE table_name";
         assertThat(result).isEqualTo(expected);
@@ -322,7 +401,7 @@ public class SqlUtilsTest {
 
         if (!OracleConnectorConfig.EXCLUDED_SCHEMAS.isEmpty()) {
             StringBuilder systemPredicate = new StringBuilder();
-            systemPredicate.append("AND SEG_OWNER NOT IN (");
+            systemPredicate.append(" AND SEG_OWNER NOT IN (");
             for (Iterator<String> i = OracleConnectorConfig.EXCLUDED_SCHEMAS.iterator(); i.hasNext();) {
                 String excludedSchema = i.next();
                 systemPredicate.append("'").append(excludedSchema.toUpperCase()).append("'");
@@ -330,7 +409,7 @@ public class SqlUtilsTest {
                     systemPredicate.append(",");
                 }
             }
-            systemPredicate.append(") ");
+            systemPredicate.append(")");
             query = query.replace("${systemTablePredicate}", systemPredicate.toString());
         }
         else {
@@ -10,19 +10,26 @@ import static io.debezium.config.CommonConnectorConfig.DEFAULT_MAX_QUEUE_SIZE;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.rules.TestRule;
 import org.mockito.Mockito;
 
@@ -30,16 +37,25 @@ import io.debezium.config.Configuration;
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.connector.oracle.OracleConnector;
 import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleDatabaseSchema;
 import io.debezium.connector.oracle.OracleOffsetContext;
 import io.debezium.connector.oracle.OracleTaskContext;
 import io.debezium.connector.oracle.junit.SkipTestDependingOnAdapterNameRule;
 import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot;
 import io.debezium.connector.oracle.junit.SkipWhenAdapterNameIsNot.AdapterName;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerColumnValue;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerColumnValueImpl;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntryImpl;
 import io.debezium.connector.oracle.xstream.LcrPosition;
+import io.debezium.data.Envelope;
 import io.debezium.pipeline.DataChangeEvent;
 import io.debezium.pipeline.ErrorHandler;
 import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
 import io.debezium.pipeline.txmetadata.TransactionContext;
+import io.debezium.relational.TableId;
+import io.debezium.util.Clock;
 
 /**
  * @author Andrey Pustovetov
@@ -57,6 +73,7 @@ public class TransactionalBufferTest {
     private static final Scn OTHER_SCN = Scn.fromLong(10L);
     private static final Scn LARGEST_SCN = Scn.fromLong(100L);
     private static final Timestamp TIMESTAMP = new Timestamp(System.currentTimeMillis());
+    private static final TableId TABLE_ID = new TableId("ORCLPDB1", "DEBEZIUM", "TEST");
     private static final Configuration config = new Configuration() {
         @Override
         public Set<String> keys() {
@@ -80,6 +97,9 @@ public class TransactionalBufferTest {
     @Rule
     public TestRule skipRule = new SkipTestDependingOnAdapterNameRule();
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Before
     public void before() {
         ChangeEventQueue<DataChangeEvent> queue = new ChangeEventQueue.Builder<DataChangeEvent>()
@@ -232,6 +252,24 @@ public class TransactionalBufferTest {
         assertThat(transactionalBuffer.isEmpty()).isEqualTo(false);
     }
 
+    @Test
+    public void testAbandoningOnlyTransactionsUpToThreshold() {
+        transactionalBuffer.registerCommitCallback(TRANSACTION_ID, SCN, Instant.now(), (timestamp, smallestScn, commitScn, counter) -> {
+        });
+        transactionalBuffer.registerCommitCallback(OTHER_TRANSACTION_ID, OTHER_SCN, Instant.now(), (timestamp, smallestScn, commitScn, counter) -> {
+        });
+        transactionalBuffer.registerCommitCallback("third_transaction", LARGEST_SCN, Instant.now(), (timestamp, smallestScn, commitScn, counter) -> {
+        });
+        offsetContext = new OracleOffsetContext(connectorConfig, SCN.longValue(), SCN.longValue(), (LcrPosition) null, false, true, new TransactionContext());
+        transactionalBuffer.abandonLongTransactions(OTHER_SCN.longValue(), offsetContext);
+
+        assertThat(transactionalBuffer.isTransactionRegistered(TRANSACTION_ID)).isFalse();
+        assertThat(transactionalBuffer.isTransactionRegistered(OTHER_TRANSACTION_ID)).isFalse();
+        assertThat(transactionalBuffer.isTransactionRegistered("third_transaction")).isTrue();
+        assertThat(metrics.getAbandonedTransactionIds()).containsOnly(TRANSACTION_ID, OTHER_TRANSACTION_ID);
+        assertThat(metrics.getScnIndexSize()).isEqualTo(1);
+    }
+
     @Test
     public void testTransactionDump() {
         transactionalBuffer.registerCommitCallback(TRANSACTION_ID, SCN, Instant.now(), (timestamp, smallestScn, commitScn, counter) -> {
@@ -244,6 +282,157 @@ public class TransactionalBufferTest {
         assertThat(transactionalBuffer.toString()).contains(String.valueOf(OTHER_SCN));
     }
 
+    @Test
+    public void testSpilledTransactionIsDispatchedInScnOrderOnCommit() throws Exception {
+        Path spillDirectory = temporaryFolder.getRoot().toPath();
+        recreateBufferWithSpilling(spillDirectory);
+
+        List<Long> dispatchedScns = new ArrayList<>();
+        EventDispatcher<TableId> tableDispatcher = mock(EventDispatcher.class);
+        Mockito.when(tableDispatcher.dispatchDataChangeEvent(Mockito.any(TableId.class), Mockito.any(ChangeRecordEmitter.class)))
+                .thenAnswer(it -> dispatchedScns.add(offsetContext.getScn()));
+
+        for (long i = 1; i <= 5; i++) {
+            transactionalBuffer.registerDmlOperation(TRANSACTION_ID, Scn.fromLong(i), Instant.now(), TABLE_ID, createInsert(i));
+        }
+        assertThat(metrics.getNumberOfSpilledTransactions()).isEqualTo(1);
+        assertThat(metrics.getSpilledDmlCount()).isEqualTo(5);
+        assertThat(metrics.getBufferMemoryUsage()).isEqualTo(0);
+        assertThat(countFiles(spillDirectory)).isEqualTo(1);
+
+        offsetContext = new OracleOffsetContext(connectorConfig, SCN.longValue(), SCN.longValue(), null, false, true, new TransactionContext());
+        transactionalBuffer.commit(TRANSACTION_ID, Scn.fromLong(6L), offsetContext, TIMESTAMP, () -> true, MESSAGE, tableDispatcher);
+
+        assertThat(dispatchedScns).isEqualTo(Arrays.asList(1L, 2L, 3L, 4L, 5L));
+        assertThat(offsetContext.getCommitScn()).isEqualTo(6L);
+        assertThat(transactionalBuffer.isEmpty()).isTrue();
+        assertThat(countFiles(spillDirectory)).isEqualTo(0);
+    }
+
+    @Test
+    public void testSpilledTransactionIsDeletedOnRollback() throws Exception {
+        Path spillDirectory = temporaryFolder.getRoot().toPath();
+        recreateBufferWithSpilling(spillDirectory);
+
+        transactionalBuffer.registerDmlOperation(TRANSACTION_ID, SCN, Instant.now(), TABLE_ID, createInsert(1L));
+        assertThat(countFiles(spillDirectory)).isEqualTo(1);
+
+        transactionalBuffer.rollback(TRANSACTION_ID, "");
+        assertThat(transactionalBuffer.isEmpty()).isTrue();
+        assertThat(countFiles(spillDirectory)).isEqualTo(0);
+    }
+
+    @Test
+    public void testStaleSpillFilesAreDeletedOnCreation() throws Exception {
+        Path spillDirectory = temporaryFolder.getRoot().toPath();
+        Files.createFile(spillDirectory.resolve("logminer-transaction-" + SERVER_NAME + "-1.spill"));
+        Files.createFile(spillDirectory.resolve("logminer-transaction-other-1.spill"));
+
+        recreateBufferWithSpilling(spillDirectory);
+
+        // files of other connectors sharing the directory are kept
+        assertThat(countFiles(spillDirectory)).isEqualTo(1);
+        assertThat(Files.exists(spillDirectory.resolve("logminer-transaction-other-1.spill"))).isTrue();
+    }
+
+    @Test
+    public void testTransactionIsNotSpilledWithLegacyParser() throws Exception {
+        Path spillDirectory = temporaryFolder.getRoot().toPath();
+        recreateBuffer(new OracleConnectorConfig(spillingConfig(spillDirectory)
+                .with(OracleConnectorConfig.LOG_MINING_DML_PARSER, "legacy")
+                .build()));
+
+        transactionalBuffer.registerDmlOperation(TRANSACTION_ID, SCN, Instant.now(), TABLE_ID, createInsert(1L));
+
+        assertThat(metrics.getNumberOfSpilledTransactions()).isEqualTo(0);
+        assertThat(countFiles(spillDirectory)).isEqualTo(0);
+    }
+
+    @Test
+    public void testDeferredDmlIsParsedOnCommit() throws Exception {
+        recreateBuffer(connectorConfig);
+        List<String> parsedRedoSql = new ArrayList<>();
+        transactionalBuffer.setDeferredDmlParser((redoSql, tableId, txId) -> {
+            parsedRedoSql.add(redoSql);
+            return new LogMinerDmlEntryImpl(Envelope.Operation.CREATE, Collections.emptyList(), Collections.emptyList());
+        });
+
+        List<Long> dispatchedScns = new ArrayList<>();
+        EventDispatcher<TableId> tableDispatcher = mock(EventDispatcher.class);
+        Mockito.when(tableDispatcher.dispatchDataChangeEvent(Mockito.any(TableId.class), Mockito.any(ChangeRecordEmitter.class)))
+                .thenAnswer(it -> dispatchedScns.add(offsetContext.getScn()));
+
+        transactionalBuffer.registerDeferredDmlOperation(TRANSACTION_ID, Scn.fromLong(1L), TIMESTAMP, TABLE_ID, "insert 1");
+        transactionalBuffer.registerDmlOperation(TRANSACTION_ID, Scn.fromLong(2L), Instant.now(), TABLE_ID, createInsert(2L));
+        transactionalBuffer.registerDeferredDmlOperation(TRANSACTION_ID, Scn.fromLong(3L), TIMESTAMP, TABLE_ID, "insert 3");
+        assertThat(parsedRedoSql).isEmpty();
+        assertThat(metrics.getDeferredDmlCount()).isEqualTo(2);
+
+        offsetContext = new OracleOffsetContext(connectorConfig, SCN.longValue(), SCN.longValue(), null, false, true, new TransactionContext());
+        transactionalBuffer.commit(TRANSACTION_ID, Scn.fromLong(4L), offsetContext, TIMESTAMP, () -> true, MESSAGE, tableDispatcher);
+
+        assertThat(parsedRedoSql).isEqualTo(Arrays.asList("insert 1", "insert 3"));
+        assertThat(dispatchedScns).isEqualTo(Arrays.asList(1L, 2L, 3L));
+        assertThat(metrics.getDeferredDmlParseCount()).isEqualTo(2);
+        assertThat(metrics.getSkippedDmlParseCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testDeferredDmlIsNotParsedOnRollback() {
+        recreateBuffer(connectorConfig);
+        transactionalBuffer.setDeferredDmlParser((redoSql, tableId, txId) -> {
+            throw new AssertionError("Rolled back DML must not be parsed");
+        });
+
+        transactionalBuffer.registerDeferredDmlOperation(TRANSACTION_ID, SCN, TIMESTAMP, TABLE_ID, "insert 1");
+        transactionalBuffer.registerDeferredDmlOperation(TRANSACTION_ID, SCN, TIMESTAMP, TABLE_ID, "insert 2");
+        transactionalBuffer.registerDeferredDmlOperation(OTHER_TRANSACTION_ID, OTHER_SCN, TIMESTAMP, TABLE_ID, "insert 3");
+        transactionalBuffer.rollback(TRANSACTION_ID, "");
+        offsetContext = new OracleOffsetContext(connectorConfig, SCN.longValue(), SCN.longValue(), null, false, true, new TransactionContext());
+        transactionalBuffer.abandonLongTransactions(OTHER_SCN.longValue(), offsetContext);
+
+        assertThat(transactionalBuffer.isEmpty()).isTrue();
+        assertThat(metrics.getDeferredDmlParseCount()).isEqualTo(0);
+        assertThat(metrics.getSkippedDmlParseCount()).isEqualTo(3);
+    }
+
+    private void recreateBufferWithSpilling(Path spillDirectory) {
+        recreateBuffer(new OracleConnectorConfig(spillingConfig(spillDirectory).build()));
+    }
+
+    private static Configuration.Builder spillingConfig(Path spillDirectory) {
+        return Configuration.create()
+                .with(OracleConnectorConfig.SERVER_NAME, SERVER_NAME)
+                .with(OracleConnectorConfig.LOG_MINING_BUFFER_SPILL_ENABLED, true)
+                .with(OracleConnectorConfig.LOG_MINING_BUFFER_SPILL_DIRECTORY, spillDirectory.toString())
+                .with(OracleConnectorConfig.LOG_MINING_BUFFER_TRANSACTION_MEMORY_THRESHOLD, 1);
+    }
+
+    private void recreateBuffer(OracleConnectorConfig bufferConfig) {
+        transactionalBuffer.close();
+        transactionalBuffer = new TransactionalBuffer(bufferConfig, mock(OracleDatabaseSchema.class), Clock.system(), taskContext, errorHandler);
+        metrics = transactionalBuffer.getMetrics();
+    }
+
+    private static LogMinerDmlEntry createInsert(long id) {
+        LogMinerColumnValue value = new LogMinerColumnValueImpl("ID", 0);
+        value.setColumnData(String.valueOf(id));
+
+        LogMinerDmlEntry entry = new LogMinerDmlEntryImpl(Envelope.Operation.CREATE, Collections.singletonList(value), Collections.emptyList());
+        entry.setScn(Scn.fromLong(id));
+        entry.setTransactionId(TRANSACTION_ID);
+        entry.setObjectOwner(TABLE_ID.schema());
+        entry.setObjectName(TABLE_ID.table());
+        entry.setSourceTime(TIMESTAMP);
+        return entry;
+    }
+
+    private static long countFiles(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
     private void commitTransaction(TransactionalBuffer.CommitCallback commitCallback) {
         transactionalBuffer.registerCommitCallback(TRANSACTION_ID, SCN, Instant.now(), commitCallback);
         offsetContext = new OracleOffsetContext(connectorConfig, SCN.longValue(), SCN.longValue(), null, false, true, new TransactionContext());
@@ -0,0 +1,309 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleDatabaseSchema;
+import io.debezium.connector.oracle.OracleErrorHandler;
+import io.debezium.connector.oracle.OracleOffsetContext;
+import io.debezium.connector.oracle.OracleTaskContext;
+import io.debezium.connector.oracle.OracleTopicSelector;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlParser;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerColumnValue;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
+import io.debezium.connector.oracle.xstream.LcrPosition;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.pipeline.txmetadata.TransactionContext;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.MemoryDatabaseHistory;
+import io.debezium.util.Clock;
+import io.debezium.util.SchemaNameAdjuster;
+
+/**
+ * Measures processing LogMiner results end to end, i.e. parsing, buffering and dispatching, by replaying
+ * captured result sets into the {@link LogMinerQueryResultProcessor}, without a database.
+ *
+ * Captures are written by a connector configured with {@code internal.log.mining.result.capture.file} and
+ * replayed by passing their path as {@code captureFile}. Without a capture file, a synthetic capture of
+ * interleaved transactions, 10% of them rolled back, is generated. The tables of the replayed DML are derived
+ * from their redo SQL, with all columns being {@code VARCHAR2}.
+ *
+ * Every benchmark invocation replays all result sets of the capture into a new transactional buffer and
+ * processor, so the time per invocation divided by the number of rows of the capture, which is logged on
+ * setup, is the time per row. Committed events are dispatched to a dispatcher that only materializes their
+ * column values. For example
+ *
+ * <pre>
+ *     java -jar target/debezium-microbenchmark-oracle.jar LogMinerQueryResultProcessorPerf -p captureFile=/tmp/capture.bin
+ * </pre>
+ *
+ * The benchmark resides in the package of the processor, as the processor is not part of the connector's public API.
+ */
+public class LogMinerQueryResultProcessorPerf {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogMinerQueryResultProcessorPerf.class);
+
+    private static final String CATALOG_NAME = "ORCLPDB1";
+    private static final int SYNTHETIC_RESULTS = 10;
+    private static final int SYNTHETIC_TRANSACTIONS_PER_RESULT = 100;
+    private static final int SYNTHETIC_OPEN_TRANSACTIONS = 10;
+    private static final int SYNTHETIC_DMLS_PER_TRANSACTION = 10;
+    private static final int SYNTHETIC_COLUMN_COUNT = 10;
+
+    @State(Scope.Thread)
+    public static class ReplayState {
+
+        @Param({ "" })
+        public String captureFile;
+
+        @Param({ "fast", "lazy" })
+        public String parser;
+
+        @Param({ "false", "true" })
+        public boolean deferred;
+
+        @Param({ "false", "true" })
+        public boolean pipeline;
+
+        private OracleConnectorConfig connectorConfig;
+        private OracleDatabaseSchema schema;
+        private OracleTaskContext taskContext;
+        private ChangeEventQueue<DataChangeEvent> queue;
+        private ConsumingDispatcher dispatcher;
+        private LogMinerMetrics metrics;
+        private LogMinerResultReplayer replayer;
+
+        private TransactionalBuffer buffer;
+        private LogMinerQueryResultProcessor processor;
+
+        @Setup(Level.Trial)
+        public void doSetup() throws IOException, SQLException {
+            connectorConfig = new OracleConnectorConfig(Configuration.create()
+                    .with(OracleConnectorConfig.SERVER_NAME, "server1")
+                    .with(OracleConnectorConfig.DATABASE_NAME, CATALOG_NAME)
+                    .with(OracleConnectorConfig.DATABASE_HISTORY, MemoryDatabaseHistory.class.getName())
+                    .with(OracleConnectorConfig.LOG_MINING_DML_PARSER, parser)
+                    .with(OracleConnectorConfig.LOG_MINING_DML_PARSER_DEFERRED, deferred)
+                    .with(OracleConnectorConfig.LOG_MINING_PIPELINE_ENABLED, pipeline)
+                    .build());
+            schema = new OracleDatabaseSchema(connectorConfig, SchemaNameAdjuster.create(LOGGER),
+                    OracleTopicSelector.defaultSelector(connectorConfig), null);
+            taskContext = new OracleTaskContext(connectorConfig, schema);
+            queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                    .pollInterval(connectorConfig.getPollInterval())
+                    .maxBatchSize(connectorConfig.getMaxBatchSize())
+                    .maxQueueSize(connectorConfig.getMaxQueueSize())
+                    .build();
+            dispatcher = new ConsumingDispatcher(connectorConfig, schema, queue);
+            metrics = new LogMinerMetrics(taskContext, connectorConfig);
+
+            if (captureFile.isEmpty()) {
+                final Path path = Files.createTempFile("logminer-capture", ".bin");
+                try {
+                    writeSyntheticCapture(path);
+                    replayer = LogMinerResultReplayer.load(path);
+                }
+                finally {
+                    Files.deleteIfExists(path);
+                }
+            }
+            else {
+                replayer = LogMinerResultReplayer.load(Paths.get(captureFile));
+            }
+            registerTables();
+            LOGGER.info("Replaying {} rows in {} result sets", replayer.getRowCount(), replayer.getResultCount());
+        }
+
+        @Setup(Level.Invocation)
+        public void doSetupInvocation() {
+            // committed transactions cannot be committed again, each replay therefore starts with a new buffer
+            buffer = new TransactionalBuffer(connectorConfig, schema, Clock.system(), taskContext,
+                    new OracleErrorHandler(connectorConfig.getLogicalName(), queue));
+            final OracleOffsetContext offsetContext = new OracleOffsetContext(connectorConfig, 1L, 1L, (LcrPosition) null, false, true,
+                    new TransactionContext());
+            processor = new LogMinerQueryResultProcessor(() -> true, null, connectorConfig, metrics, buffer, offsetContext, schema,
+                    dispatcher, new NeverHistoryRecorder());
+        }
+
+        @TearDown(Level.Invocation)
+        public void doTearDownInvocation() {
+            processor.close();
+            buffer.close();
+        }
+
+        /**
+         * Replays all captured result sets.
+         *
+         * @return the number of column values dispatched so far
+         */
+        long replay() throws SQLException {
+            for (int i = 0; i < replayer.getResultCount(); i++) {
+                try (ResultSet resultSet = replayer.newResultSet(i)) {
+                    processor.processResult(resultSet);
+                }
+            }
+            return dispatcher.consumed;
+        }
+
+        /**
+         * Registers a table for every table modified by the captured DML, with the columns named by its redo SQL.
+         */
+        private void registerTables() throws SQLException {
+            final TransactionalBufferMetrics bufferMetrics = new TransactionalBufferMetrics(taskContext);
+            final LogMinerDmlParser dmlParser = new LogMinerDmlParser();
+            final Map<TableId, Set<String>> columnNames = new LinkedHashMap<>();
+            for (int i = 0; i < replayer.getResultCount(); i++) {
+                try (ResultSet resultSet = replayer.newResultSet(i)) {
+                    while (resultSet.next()) {
+                        final int operationCode = RowMapper.getOperationCode(bufferMetrics, resultSet);
+                        if (!LogMinerEventRow.isDml(operationCode)) {
+                            continue;
+                        }
+                        final TableId tableId = RowMapper.getTableId(CATALOG_NAME, resultSet);
+                        final String redoSql = RowMapper.getSqlRedo(bufferMetrics, resultSet, false, null, null, null, null, 0, null, null,
+                                connectorConfig.getLogMiningRedoSqlMaxSize());
+                        final LogMinerDmlEntry entry = dmlParser.parse(redoSql, null, tableId, null);
+                        final Set<String> names = columnNames.computeIfAbsent(tableId, id -> new LinkedHashSet<>());
+                        for (LogMinerColumnValue value : entry.getNewValues()) {
+                            names.add(value.getColumnName());
+                        }
+                        for (LogMinerColumnValue value : entry.getOldValues()) {
+                            names.add(value.getColumnName());
+                        }
+                    }
+                }
+            }
+
+            for (Map.Entry<TableId, Set<String>> table : columnNames.entrySet()) {
+                final TableEditor editor = Table.editor().tableId(table.getKey());
+                for (String name : table.getValue()) {
+                    editor.addColumn(Column.editor().name(name).type("VARCHAR2").jdbcType(Types.VARCHAR).create());
+                }
+                schema.getTables().overwriteTable(editor.create());
+            }
+        }
+
+        private static void writeSyntheticCapture(Path path) throws IOException {
+            final Random random = new Random(42);
+            final String insert = insertStatement();
+            final Timestamp changeTime = new Timestamp(System.currentTimeMillis());
+            long scn = 2;
+            long transactionCounter = 0;
+
+            try (LogMinerResultRecorder recorder = LogMinerResultRecorder.create(path)) {
+                for (int result = 0; result < SYNTHETIC_RESULTS; result++) {
+                    // each result set holds complete transactions, interleaved the way concurrent transactions appear in the redo log
+                    for (int group = 0; group < SYNTHETIC_TRANSACTIONS_PER_RESULT / SYNTHETIC_OPEN_TRANSACTIONS; group++) {
+                        final byte[][] transactionIds = new byte[SYNTHETIC_OPEN_TRANSACTIONS][];
+                        for (int i = 0; i < SYNTHETIC_OPEN_TRANSACTIONS; i++) {
+                            transactionIds[i] = ByteBuffer.allocate(8).putLong(transactionCounter++).array();
+                        }
+                        for (int dml = 0; dml < SYNTHETIC_DMLS_PER_TRANSACTION; dml++) {
+                            for (byte[] transactionId : transactionIds) {
+                                recorder.recordRow(BigDecimal.valueOf(scn++), insert, RowMapper.INSERT, changeTime, transactionId, 0,
+                                        "TEST", "DEBEZIUM", "INSERT", "DEBEZIUM");
+                            }
+                        }
+                        for (byte[] transactionId : transactionIds) {
+                            final boolean rollback = random.nextInt(100) < 10;
+                            recorder.recordRow(BigDecimal.valueOf(scn++), rollback ? "rollback" : "commit",
+                                    rollback ? RowMapper.ROLLBACK : RowMapper.COMMIT, changeTime, transactionId, 0, null, null,
+                                    rollback ? "ROLLBACK" : "COMMIT", "DEBEZIUM");
+                        }
+                    }
+                    recorder.endResult();
+                }
+            }
+        }
+
+        private static String insertStatement() {
+            final StringBuilder sb = new StringBuilder("insert into \"DEBEZIUM\".\"TEST\"(\"ID\"");
+            for (int i = 0; i < SYNTHETIC_COLUMN_COUNT; ++i) {
+                sb.append(",\"COL").append(i).append("\"");
+            }
+            sb.append(") values ('1'");
+            for (int i = 0; i < SYNTHETIC_COLUMN_COUNT; ++i) {
+                sb.append(",'value of column ").append(i).append("'");
+            }
+            return sb.append(");").toString();
+        }
+    }
+
+    /**
+     * Dispatches committed events by only materializing their column values.
+     */
+    private static final class ConsumingDispatcher extends EventDispatcher<TableId> {
+
+        private long consumed;
+
+        ConsumingDispatcher(OracleConnectorConfig connectorConfig, OracleDatabaseSchema schema, ChangeEventQueue<DataChangeEvent> queue) {
+            super(connectorConfig, OracleTopicSelector.defaultSelector(connectorConfig), schema, queue,
+                    connectorConfig.getTableFilters().dataCollectionFilter(), DataChangeEvent::new, null, SchemaNameAdjuster.create(LOGGER));
+        }
+
+        @Override
+        public boolean dispatchDataChangeEvent(TableId dataCollectionId, ChangeRecordEmitter changeRecordEmitter) {
+            final LogMinerChangeRecordEmitter emitter = (LogMinerChangeRecordEmitter) changeRecordEmitter;
+            consumed += emitter.getNewColumnValues().length + emitter.getOldColumnValues().length;
+            return true;
+        }
+
+        @Override
+        public void dispatchTransactionCommittedEvent(OffsetContext offset) {
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public long replayCapture(ReplayState state) throws SQLException {
+        return state.replay();
+    }
+}
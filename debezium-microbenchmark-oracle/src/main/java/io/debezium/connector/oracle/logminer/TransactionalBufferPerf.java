@@ -0,0 +1,315 @@
+/*
+ * Copyright Debezium Authors.
+ *
+ * Licensed under the Apache Software License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.debezium.connector.oracle.logminer;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.debezium.config.Configuration;
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.connector.oracle.OracleConnectorConfig;
+import io.debezium.connector.oracle.OracleDatabaseSchema;
+import io.debezium.connector.oracle.OracleErrorHandler;
+import io.debezium.connector.oracle.OracleOffsetContext;
+import io.debezium.connector.oracle.OracleTaskContext;
+import io.debezium.connector.oracle.OracleTopicSelector;
+import io.debezium.connector.oracle.logminer.parser.LogMinerDmlParser;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
+import io.debezium.connector.oracle.xstream.LcrPosition;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.pipeline.EventDispatcher;
+import io.debezium.pipeline.source.spi.ChangeEventSource.ChangeEventSourceContext;
+import io.debezium.pipeline.source.spi.EventMetadataProvider;
+import io.debezium.pipeline.spi.ChangeRecordEmitter;
+import io.debezium.pipeline.spi.OffsetContext;
+import io.debezium.pipeline.txmetadata.TransactionContext;
+import io.debezium.relational.Column;
+import io.debezium.relational.Table;
+import io.debezium.relational.TableEditor;
+import io.debezium.relational.TableId;
+import io.debezium.relational.history.MemoryDatabaseHistory;
+import io.debezium.schema.DataCollectionId;
+import io.debezium.util.Clock;
+import io.debezium.util.SchemaNameAdjuster;
+
+/**
+ * Measures the {@link TransactionalBuffer} on a synthetic stream of LogMiner events, without a database.
+ *
+ * The stream keeps {@code openTransactions} transactions open at any time and interleaves their events the way
+ * concurrent transactions appear in the redo log. Each transaction registers {@code dmlsPerTransaction} inserts
+ * and then either commits or, for {@code rollbackPercent} percent of the transactions, rolls back, after which
+ * a new transaction takes its place. If {@code abandonInterval} is not zero, the oldest transactions are abandoned
+ * every that many events. With {@code deferred}, the inserts are buffered unparsed and parsed on commit.
+ *
+ * Every benchmark invocation processes a single event of the stream, i.e. a DML, commit or rollback, so the
+ * throughput is reported in events per second. Committed events are dispatched to a dispatcher that only
+ * materializes their column values. Run with {@code -prof gc} to also report the allocation per event, e.g.
+ *
+ * <pre>
+ *     java -jar target/debezium-microbenchmark-oracle.jar TransactionalBufferPerf -prof gc -p openTransactions=1000
+ * </pre>
+ *
+ * The benchmark resides in the package of the buffer, as the buffer is not part of the connector's public API.
+ */
+public class TransactionalBufferPerf {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransactionalBufferPerf.class);
+
+    private static final TableId TABLE_ID = new TableId("ORCLPDB1", "DEBEZIUM", "TEST");
+    private static final int COLUMN_COUNT = 10;
+
+    @State(Scope.Thread)
+    public static class BufferState {
+
+        @Param({ "1", "100", "1000" })
+        public int openTransactions;
+
+        @Param({ "1", "10", "100" })
+        public int dmlsPerTransaction;
+
+        @Param({ "0", "10", "50" })
+        public int rollbackPercent;
+
+        @Param({ "0", "10000" })
+        public int abandonInterval;
+
+        @Param({ "false", "true" })
+        public boolean deferred;
+
+        private TransactionalBuffer buffer;
+        private ConsumingDispatcher dispatcher;
+        private OracleOffsetContext offsetContext;
+        private ChangeEventSourceContext context;
+        private LogMinerDmlEntry dmlEntry;
+        private String redoSql;
+        private Timestamp changeTime;
+        private Random random;
+
+        private String[] transactionIds;
+        private int[] remainingDmls;
+        private long[] firstScns;
+        private boolean[] rollbacks;
+        private long transactionCounter;
+        private long scn;
+        private long events;
+        private int slot;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            final OracleConnectorConfig connectorConfig = new OracleConnectorConfig(Configuration.create()
+                    .with(OracleConnectorConfig.SERVER_NAME, "server1")
+                    .with(OracleConnectorConfig.DATABASE_HISTORY, MemoryDatabaseHistory.class.getName())
+                    .build());
+            final OracleDatabaseSchema schema = new OracleDatabaseSchema(connectorConfig, SchemaNameAdjuster.create(LOGGER),
+                    OracleTopicSelector.defaultSelector(connectorConfig), null);
+            schema.getTables().overwriteTable(table());
+
+            final ChangeEventQueue<DataChangeEvent> queue = new ChangeEventQueue.Builder<DataChangeEvent>()
+                    .pollInterval(connectorConfig.getPollInterval())
+                    .maxBatchSize(connectorConfig.getMaxBatchSize())
+                    .maxQueueSize(connectorConfig.getMaxQueueSize())
+                    .build();
+
+            buffer = new TransactionalBuffer(connectorConfig, schema, Clock.system(), new OracleTaskContext(connectorConfig, schema),
+                    new OracleErrorHandler(connectorConfig.getLogicalName(), queue));
+            dispatcher = new ConsumingDispatcher(connectorConfig, schema, queue);
+            offsetContext = new OracleOffsetContext(connectorConfig, 1L, 1L, (LcrPosition) null, false, true, new TransactionContext());
+            context = () -> true;
+
+            final LogMinerDmlParser parser = new LogMinerDmlParser();
+            redoSql = insertStatement();
+            dmlEntry = parser.parse(redoSql, schema.getTables(), TABLE_ID, null);
+            buffer.setDeferredDmlParser((sql, tableId, transactionId) -> parser.parse(sql, schema.getTables(), tableId, transactionId));
+            changeTime = new Timestamp(System.currentTimeMillis());
+            random = new Random(42);
+
+            transactionIds = new String[openTransactions];
+            remainingDmls = new int[openTransactions];
+            firstScns = new long[openTransactions];
+            rollbacks = new boolean[openTransactions];
+            scn = 1;
+            for (int i = 0; i < openTransactions; i++) {
+                startTransaction(i);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void doTearDown() {
+            buffer.close();
+        }
+
+        /**
+         * Processes the next event of the stream.
+         *
+         * @return the number of column values dispatched so far
+         */
+        long next() {
+            final int current = slot;
+            slot = (slot + 1) % openTransactions;
+            scn++;
+
+            if (remainingDmls[current] > 0) {
+                registerDml(current);
+            }
+            else {
+                endTransaction(current);
+                startTransaction(current);
+            }
+
+            if (abandonInterval > 0 && ++events % abandonInterval == 0) {
+                abandonOldestTransactions();
+            }
+            return dispatcher.consumed;
+        }
+
+        private void startTransaction(int index) {
+            transactionIds[index] = "tx" + transactionCounter++;
+            remainingDmls[index] = dmlsPerTransaction;
+            firstScns[index] = 0;
+            rollbacks[index] = random.nextInt(100) < rollbackPercent;
+        }
+
+        private void registerDml(int index) {
+            final Scn dmlScn = Scn.fromLong(scn);
+            if (deferred) {
+                buffer.registerDeferredDmlOperation(transactionIds[index], dmlScn, changeTime, TABLE_ID, redoSql);
+            }
+            else {
+                dmlEntry.setScn(dmlScn);
+                buffer.registerDmlOperation(transactionIds[index], dmlScn, changeTime.toInstant(), TABLE_ID, dmlEntry);
+            }
+            if (firstScns[index] == 0) {
+                firstScns[index] = scn;
+            }
+            remainingDmls[index]--;
+        }
+
+        private void endTransaction(int index) {
+            if (rollbacks[index]) {
+                buffer.rollback(transactionIds[index], "");
+            }
+            else {
+                buffer.commit(transactionIds[index], Scn.fromLong(scn), offsetContext, changeTime, context, "", dispatcher);
+            }
+        }
+
+        private void abandonOldestTransactions() {
+            long oldestScn = Long.MAX_VALUE;
+            for (long firstScn : firstScns) {
+                if (firstScn != 0 && firstScn < oldestScn) {
+                    oldestScn = firstScn;
+                }
+            }
+            if (oldestScn == Long.MAX_VALUE) {
+                return;
+            }
+            buffer.abandonLongTransactions(oldestScn, offsetContext);
+            for (int i = 0; i < openTransactions; i++) {
+                if (firstScns[i] != 0 && !buffer.isTransactionRegistered(transactionIds[i])) {
+                    startTransaction(i);
+                }
+            }
+        }
+
+        private static Table table() {
+            final TableEditor editor = Table.editor().tableId(TABLE_ID);
+            editor.addColumn(Column.editor().name("ID").type("NUMBER").jdbcType(Types.NUMERIC).create());
+            for (int i = 0; i < COLUMN_COUNT; i++) {
+                editor.addColumn(Column.editor().name("COL" + i).type("VARCHAR2").jdbcType(Types.VARCHAR).create());
+            }
+            return editor.setPrimaryKeyNames("ID").create();
+        }
+
+        private static String insertStatement() {
+            final StringBuilder sb = new StringBuilder("insert into \"DEBEZIUM\".\"TEST\"(\"ID\"");
+            for (int i = 0; i < COLUMN_COUNT; ++i) {
+                sb.append(",\"COL").append(i).append("\"");
+            }
+            sb.append(") values ('1'");
+            for (int i = 0; i < COLUMN_COUNT; ++i) {
+                sb.append(",'value of column ").append(i).append("'");
+            }
+            return sb.append(");").toString();
+        }
+    }
+
+    /**
+     * Dispatches committed events by only materializing their column values.
+     */
+    private static final class ConsumingDispatcher extends EventDispatcher<TableId> {
+
+        private long consumed;
+
+        ConsumingDispatcher(OracleConnectorConfig connectorConfig, OracleDatabaseSchema schema, ChangeEventQueue<DataChangeEvent> queue) {
+            super(connectorConfig, OracleTopicSelector.defaultSelector(connectorConfig), schema, queue,
+                    connectorConfig.getTableFilters().dataCollectionFilter(), DataChangeEvent::new, new NoEventMetadataProvider(),
+                    SchemaNameAdjuster.create(LOGGER));
+        }
+
+        @Override
+        public boolean dispatchDataChangeEvent(TableId dataCollectionId, ChangeRecordEmitter changeRecordEmitter) {
+            final LogMinerChangeRecordEmitter emitter = (LogMinerChangeRecordEmitter) changeRecordEmitter;
+            consumed += emitter.getNewColumnValues().length + emitter.getOldColumnValues().length;
+            return true;
+        }
+
+        @Override
+        public void dispatchTransactionCommittedEvent(OffsetContext offset) {
+        }
+    }
+
+    /**
+     * The dispatcher requires a metadata provider, which is only used for the transaction metadata not emitted here.
+     */
+    private static final class NoEventMetadataProvider implements EventMetadataProvider {
+
+        @Override
+        public Instant getEventTimestamp(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return null;
+        }
+
+        @Override
+        public Map<String, String> getEventSourcePosition(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return null;
+        }
+
+        @Override
+        public String getTransactionId(DataCollectionId source, OffsetContext offset, Object key, Struct value) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Fork(value = 1)
+    @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+    public long processEvent(BufferState state) {
+        return state.next();
+    }
+}
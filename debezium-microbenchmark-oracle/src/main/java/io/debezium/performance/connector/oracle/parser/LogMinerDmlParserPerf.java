@@ -19,13 +19,25 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
 
 import io.debezium.connector.oracle.logminer.parser.DmlParser;
+import io.debezium.connector.oracle.logminer.parser.LazyLogMinerDmlParser;
 import io.debezium.connector.oracle.logminer.parser.LogMinerDmlParser;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerColumnValue;
+import io.debezium.connector.oracle.logminer.valueholder.LogMinerDmlEntry;
 
 /**
  * A basic test to determine the performance of the new LogMiner DML parser for Oracle.
  *
+ * The {@code parser} parameter compares the {@code fast} parser with its {@code lazy} variant. Because the lazy
+ * parser defers copying values, {@code materialize} additionally reads every column value of the parsed entry, as
+ * the change event emitter would. Run with {@code -prof gc} to compare the allocation rate of both parsers, e.g.
+ *
+ * <pre>
+ *     java -jar target/debezium-microbenchmark-oracle.jar LogMinerDmlParserPerf -prof gc
+ * </pre>
+ *
  * @author Chris Cranford
  */
 public class LogMinerDmlParserPerf {
@@ -41,9 +53,15 @@ public class LogMinerDmlParserPerf {
         @Param({ "1", "2", "5", "10", "20", "50" })
         public int columnCount;
 
+        @Param({ "fast", "lazy" })
+        public String parser;
+
+        @Param({ "false", "true" })
+        public boolean materialize;
+
         @Setup(Level.Trial)
         public void doSetup() {
-            dmlParser = new LogMinerDmlParser();
+            dmlParser = "lazy".equals(parser) ? new LazyLogMinerDmlParser() : new LogMinerDmlParser();
             this.insertDml = insertStatement();
             this.updateDml = updateStatement();
             this.deleteDml = deleteStatement();
@@ -100,8 +118,8 @@ public class LogMinerDmlParserPerf {
     @Fork(value = 1)
     @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
-    public void testInserts(ParserState state) {
-        state.dmlParser.parse(state.insertDml, null, null, state.txId);
+    public void testInserts(ParserState state, Blackhole blackhole) {
+        consume(state, state.dmlParser.parse(state.insertDml, null, null, state.txId), blackhole);
     }
 
     @Benchmark
@@ -110,8 +128,8 @@ public class LogMinerDmlParserPerf {
     @Fork(value = 1)
     @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
-    public void testUpdates(ParserState state) {
-        state.dmlParser.parse(state.deleteDml, null, null, state.txId);
+    public void testUpdates(ParserState state, Blackhole blackhole) {
+        consume(state, state.dmlParser.parse(state.updateDml, null, null, state.txId), blackhole);
     }
 
     @Benchmark
@@ -120,7 +138,19 @@ public class LogMinerDmlParserPerf {
     @Fork(value = 1)
     @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
-    public void testDeletes(ParserState state) {
-        state.dmlParser.parse(state.deleteDml, null, null, state.txId);
+    public void testDeletes(ParserState state, Blackhole blackhole) {
+        consume(state, state.dmlParser.parse(state.deleteDml, null, null, state.txId), blackhole);
+    }
+
+    private static void consume(ParserState state, LogMinerDmlEntry entry, Blackhole blackhole) {
+        if (state.materialize) {
+            for (LogMinerColumnValue value : entry.getNewValues()) {
+                blackhole.consume(value.getColumnData());
+            }
+            for (LogMinerColumnValue value : entry.getOldValues()) {
+                blackhole.consume(value.getColumnData());
+            }
+        }
+        blackhole.consume(entry);
     }
 }